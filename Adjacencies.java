@@ -0,0 +1,98 @@
+/** Class Adjacencies holds the board topologies that ship with the game: the classic 8-neighbor square
+ *  grid, a wrap-around (toroidal) grid, a hexagonal grid and a knight-move grid. Any other topology can
+ *  be built from a list of row/column offsets with offsets().
+ *
+ *  @version October 19th, 2026
+ */
+
+final class Adjacencies {
+
+   /** The 8 surrounding cells (horizontal, vertical and diagonal). */
+   private static final int[][] KING_MOVES = {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+
+   /** The 8 cells a chess knight can jump to. */
+   private static final int[][] KNIGHT_MOVES = {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}};
+
+   /** Hex neighbors for even rows when odd rows are shifted half a cell to the right ("odd-r" layout). */
+   private static final int[][] HEX_EVEN_ROW = {{-1, -1}, {-1, 0}, {0, -1}, {0, 1}, {1, -1}, {1, 0}};
+
+   /** Hex neighbors for odd rows in the "odd-r" layout. */
+   private static final int[][] HEX_ODD_ROW = {{-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, 0}, {1, 1}};
+
+   /** The classic board: every cell touches the (up to) 8 cells around it. */
+   static final Adjacency SQUARE = offsets(KING_MOVES, false);
+
+   /** The square grid with edges wrapped around, so every cell has exactly 8 neighbors. */
+   static final Adjacency TOROIDAL = offsets(KING_MOVES, true);
+
+   /** Hexagonal cells laid out in rows, with odd rows shifted half a cell to the right. */
+   static final Adjacency HEX = new Adjacency() {
+      @Override
+      public int[] neighborsOf(int row, int col, int rows, int cols) {
+         return collect(row % 2 == 0 ? HEX_EVEN_ROW : HEX_ODD_ROW, row, col, rows, cols, false);
+      }
+   };
+
+   /** Each step is a chess knight's move. */
+   static final Adjacency KNIGHT = offsets(KNIGHT_MOVES, false);
+
+
+   /** The class only holds constants and factories. */
+   private Adjacencies() {
+   }
+
+
+   /** offsets() builds a custom topology from a list of {row, col} steps.
+    *
+    *  @param deltas - The steps a path may take, as {rowOffset, colOffset} pairs.
+    *  @param wrap - If true, steps off one edge of the board come back on the opposite edge.
+    *  @throws IllegalArgumentException if deltas is null or any step is not a pair.
+    *  @return adjacency - the topology.
+    */
+   static Adjacency offsets(int[][] deltas, final boolean wrap) {
+
+      if (deltas == null) {
+         throw new IllegalArgumentException("deltas cannot be null");
+      }
+
+      final int[][] steps = new int[deltas.length][];
+      for (int i = 0; i < deltas.length; i++) {
+         if (deltas[i] == null || deltas[i].length != 2) {
+            throw new IllegalArgumentException("each delta must be a {row, col} pair");
+         }
+         steps[i] = deltas[i].clone();
+      }
+
+      return new Adjacency() {
+         @Override
+         public int[] neighborsOf(int row, int col, int rows, int cols) {
+            return collect(steps, row, col, rows, cols, wrap);
+         }
+      };
+   }
+
+
+   /** collect() applies a list of steps to one cell, dropping (or wrapping) the ones that leave the board.
+    *
+    *  @return neighbors - the row-major indexes of the cells reached.
+    */
+   private static int[] collect(int[][] steps, int row, int col, int rows, int cols, boolean wrap) {
+      int[] neighbors = new int[steps.length];
+      int k = 0;
+      for (int[] step : steps) {
+         int r = row + step[0];
+         int c = col + step[1];
+         if (wrap) {
+            r = Math.floorMod(r, rows);
+            c = Math.floorMod(c, cols);
+         }
+         else if (r < 0 || r >= rows || c < 0 || c >= cols) {
+            continue;
+         }
+         neighbors[k] = r * cols + c;
+         k++;
+      }
+      return java.util.Arrays.copyOf(neighbors, k);
+   }
+
+}
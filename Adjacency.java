@@ -0,0 +1,21 @@
+/**
+ * Defines which cells of an R x C board count as neighbors, i.e. which cells a path may step to next.
+ * An Adjacency is only consulted once per board, when it is compiled into a NeighborTable; the solver
+ * itself never calls it, so a topology may be as slow or as clever as it likes.
+ *
+ * @version October 19th, 2026
+ */
+public interface Adjacency {
+    /**
+     * Lists the neighbors of one cell.
+     * 
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @param rows The number of rows on the board.
+     * @param cols The number of columns on the board.
+     * @return the row-major indexes of every neighbor of (row, col). Out of range
+     *     indexes, duplicates and the cell itself are ignored by the compiler.
+     */
+    int[] neighborsOf(int row, int col, int rows, int cols);
+
+}
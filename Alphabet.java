@@ -0,0 +1,218 @@
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+/** Class Alphabet is the set of letters a language's boards and lexicons are spelled with, and the rules
+ *  for getting words into it. Every letter has a small dense code (0 to size() - 1), which is all the trie,
+ *  the boards and the solvers ever look at, so a Turkish or Spanish game is searched exactly like an
+ *  English one. Codes follow the letters' char order, which keeps them in the same order as the sorted
+ *  words (the trie depends on that).
+ *
+ *  Text comes in through fold(), once, when a word list is loaded or a tile or word is entered: it is
+ *  upper-cased with the language's own rules (Turkish "i" becomes a dotted capital I, German sharp s
+ *  becomes "SS"), and any accent the alphabet has no letter for is dropped (a Spanish E with an acute
+ *  accent becomes a plain "E"). Each alphabet also carries the language's letter frequencies, for
+ *  generating boards that look like the language.
+ *
+ *  Alphabets are immutable and shared; use the presets or forLanguage().
+ *
+ *  @version October 19th, 2026
+ */
+
+final class Alphabet {
+
+   /** The most letters an alphabet may have (a trie node keeps its children as bits of a long). */
+   static final int MAX_SIZE = 64;
+
+   /** English: A - Z. */
+   static final Alphabet ENGLISH = new Alphabet("en", Locale.ROOT, "ABCDEFGHIJKLMNOPQRSTUVWXYZ", new double[] {
+      8.2, 1.5, 2.8, 4.3, 12.7, 2.2, 2.0, 6.1, 7.0, 0.15, 0.77, 4.0, 2.4,
+      6.7, 7.5, 1.9, 0.095, 6.0, 6.3, 9.1, 2.8, 0.98, 2.4, 0.15, 2.0, 0.074});
+
+   /** German: A - Z and the umlauts A, O and U (sharp s is spelled "SS", as in upper case). */
+   static final Alphabet GERMAN = new Alphabet("de", Locale.GERMAN,
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZ\u00C4\u00D6\u00DC", new double[] {
+      6.51, 1.89, 3.06, 5.08, 17.40, 1.66, 3.01, 4.76, 7.55, 0.27, 1.21, 3.44, 2.53,
+      9.78, 2.51, 0.79, 0.02, 7.00, 7.27, 6.15, 4.35, 0.67, 1.89, 0.03, 0.04, 1.13, 0.54, 0.30, 0.65});
+
+   /** Spanish: A - Z and N with tilde (other accents are dropped). */
+   static final Alphabet SPANISH = new Alphabet("es", new Locale("es"),
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZ\u00D1", new double[] {
+      11.5, 2.2, 4.0, 5.0, 12.2, 0.7, 1.8, 0.7, 6.2, 0.5, 0.01, 5.0, 3.2,
+      6.7, 8.7, 2.5, 0.9, 6.9, 8.0, 4.6, 2.9, 0.9, 0.02, 0.2, 0.9, 0.5, 0.3});
+
+   /** Turkish: the 29 letters, with dotted and dotless I kept apart and no Q, W or X. */
+   static final Alphabet TURKISH = new Alphabet("tr", new Locale("tr"),
+      "ABCDEFGHIJKLMNOPRSTUVYZ\u00C7\u00D6\u00DC\u011E\u0130\u015E", new double[] {
+      11.92, 2.84, 0.96, 4.71, 8.91, 0.46, 1.25, 1.21, 5.11, 0.03, 4.68, 5.92, 3.75,
+      7.49, 2.48, 0.89, 6.72, 3.01, 3.01, 3.24, 0.96, 3.33, 1.50, 1.16, 0.78, 1.85, 1.13, 8.60, 1.78});
+
+   private final String language;
+   private final Locale locale;
+
+   /** The letters in code order. */
+   private final char[] letters;
+
+   /** codes[c - lowest] is the code of char c, or Lexicon.NO_LETTER. */
+   private final char lowest;
+   private final byte[] codes;
+
+   /** cumulative[code] is the share of text made up of the letters up to and including code. */
+   private final double[] cumulative;
+
+
+   /** Constructor for Alphabet.
+    *
+    *  @param languageIn - The language tag, e.g. "en".
+    *  @param localeIn - The locale whose case rules fold() uses.
+    *  @param lettersIn - The upper case letters, in any order.
+    *  @param frequencies - How common each letter of lettersIn is, in the same order (any scale).
+    */
+   private Alphabet(String languageIn, Locale localeIn, String lettersIn, double[] frequencies) {
+      if (lettersIn.length() > MAX_SIZE || frequencies.length != lettersIn.length()) {
+         throw new IllegalArgumentException("An alphabet needs at most " + MAX_SIZE
+            + " letters, each with a frequency");
+      }
+      language = languageIn;
+      locale = localeIn;
+      letters = lettersIn.toCharArray();
+      Arrays.sort(letters);
+
+      lowest = letters[0];
+      codes = new byte[letters[letters.length - 1] - lowest + 1];
+      Arrays.fill(codes, (byte) Lexicon.NO_LETTER);
+      for (int code = 0; code < letters.length; code++) {
+         codes[letters[code] - lowest] = (byte) code;
+      }
+
+      double total = 0;
+      for (double frequency : frequencies) {
+         total += frequency;
+      }
+      cumulative = new double[letters.length];
+      for (int i = 0; i < frequencies.length; i++) {
+         cumulative[code(lettersIn.charAt(i))] = frequencies[i] / total;
+      }
+      for (int code = 1; code < cumulative.length; code++) {
+         cumulative[code] += cumulative[code - 1];
+      }
+      cumulative[cumulative.length - 1] = 1.0;
+   }
+
+
+   /** forLanguage() looks up the alphabet for a language.
+    *
+    *  @param tag - A language tag such as "de" or "tr-TR" (only the language part is used).
+    *  @throws IllegalArgumentException if there is no alphabet for the language.
+    *  @return alphabet - the language's alphabet.
+    */
+   static Alphabet forLanguage(String tag) {
+      if (tag == null) {
+         throw new IllegalArgumentException("Language cannot be null");
+      }
+      String language = Locale.forLanguageTag(tag.replace('_', '-')).getLanguage();
+      for (Alphabet alphabet : new Alphabet[] {ENGLISH, GERMAN, SPANISH, TURKISH}) {
+         if (alphabet.language.equals(language)) {
+            return alphabet;
+         }
+      }
+      throw new IllegalArgumentException("No alphabet for language " + tag);
+   }
+
+
+   /** code() converts a folded character into its letter code.
+    *
+    *  @param letter - An upper case letter.
+    *  @return code - the letter code, or Lexicon.NO_LETTER if the character is not in the alphabet.
+    */
+   int code(char letter) {
+      int index = letter - lowest;
+      return index >= 0 && index < codes.length ? codes[index] : Lexicon.NO_LETTER;
+   }
+
+
+   /** letter() returns the letter with a code. */
+   char letter(int code) {
+      return letters[code];
+   }
+
+
+   /** size() returns the number of letters. */
+   int size() {
+      return letters.length;
+   }
+
+
+   /** language() returns the language tag, e.g. "en". */
+   String language() {
+      return language;
+   }
+
+
+   /** locale() returns the locale whose case rules fold() uses. */
+   Locale locale() {
+      return locale;
+   }
+
+
+   /** frequency() returns the share of the language's text made up of a letter (the shares add up to 1). */
+   double frequency(int code) {
+      return code == 0 ? cumulative[0] : cumulative[code] - cumulative[code - 1];
+   }
+
+
+   /** draw() picks a letter at random, as often as it turns up in the language.
+    *
+    *  @param random - The source of randomness.
+    *  @return code - the code of the letter drawn.
+    */
+   int draw(Random random) {
+      int index = Arrays.binarySearch(cumulative, random.nextDouble());
+      return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+   }
+
+
+   /** fold() brings text into the alphabet: upper case by the language's rules, with accents the alphabet
+    *  has no letter for taken off. Characters that are still not letters (digits, "?", ...) are kept, so
+    *  callers can tell the text is not a word.
+    *
+    *  @param text - The text, in any case.
+    *  @return folded - the text as the lexicon and boards spell it.
+    */
+   String fold(String text) {
+      String upper = text.toUpperCase(locale);
+      int i = 0;
+      while (i < upper.length() && code(upper.charAt(i)) >= 0) {
+         i++;
+      }
+      if (i == upper.length()) {
+         return upper;
+      }
+
+      StringBuilder folded = new StringBuilder(upper.length());
+      folded.append(upper, 0, i);
+      for (; i < upper.length(); i++) {
+         char c = upper.charAt(i);
+         if (code(c) >= 0 || c < 0x80) {
+            folded.append(c);
+            continue;
+         }
+         String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+         for (int j = 0; j < decomposed.length(); j++) {
+            char part = decomposed.charAt(j);
+            if (Character.getType(part) != Character.NON_SPACING_MARK) {
+               folded.append(part);
+            }
+         }
+      }
+      return folded.toString();
+   }
+
+
+   @Override
+   public String toString() {
+      return language + " (" + new String(letters) + ")";
+   }
+
+}
@@ -0,0 +1,154 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+
+public class AlphabetTest {
+
+   /** A test of each language's case folding and letter codes. */
+   @Test public void foldTest() {
+      // Turkish keeps dotted and dotless I apart; the root locale does not
+      assertEquals("\u0130STANBUL", Alphabet.TURKISH.fold("istanbul"));
+      assertEquals("ILIK", Alphabet.TURKISH.fold("\u0131l\u0131k"));
+      assertEquals("ISTANBUL", Alphabet.ENGLISH.fold("istanbul"));
+
+      assertEquals("STRASSE", Alphabet.GERMAN.fold("stra\u00DFe"));
+      assertEquals("GR\u00DCN", Alphabet.GERMAN.fold("gr\u00FCn"));
+      assertEquals(28, Alphabet.GERMAN.code('\u00DC'));
+      assertEquals(Lexicon.NO_LETTER, Alphabet.ENGLISH.code('\u00DC'));
+
+      assertEquals("CANCION", Alphabet.SPANISH.fold("canci\u00F3n"));
+      assertEquals("NI\u00D1O", Alphabet.SPANISH.fold("ni\u00F1o"));
+      assertEquals("CAFE", Alphabet.ENGLISH.fold("caf\u00E9"));
+      assertEquals("R2D2", Alphabet.ENGLISH.fold("r2d2"));
+
+      for (Alphabet alphabet : new Alphabet[] {Alphabet.ENGLISH, Alphabet.GERMAN, Alphabet.SPANISH, Alphabet.TURKISH}) {
+         assertSame(alphabet, Alphabet.forLanguage(alphabet.language()));
+         for (int code = 0; code < alphabet.size(); code++) {
+            assertEquals(code, alphabet.code(alphabet.letter(code)));
+            assertTrue(code == 0 || alphabet.letter(code - 1) < alphabet.letter(code));
+         }
+      }
+      assertSame(Alphabet.TURKISH, Alphabet.forLanguage("tr-TR"));
+      assertEquals(29, Alphabet.TURKISH.size());
+      try {
+         Alphabet.forLanguage("xx");
+         fail("expected IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e) {
+      }
+   }
+
+
+   /** A test that the solvers agree on a German board with umlauts, re-encoding a packed (English) one. */
+   @Test public void solverTest() {
+      Lexicon german = Lexicon.of(Arrays.asList("GR\u00DCN", "GR\u00DCNE", "\u00DCBER", "RUND", "UND", "\u00D6L",
+         "NEU", "REGEN"), Alphabet.GERMAN);
+      assertSame(Alphabet.GERMAN, german.alphabet());
+      assertTrue(german.contains("\u00DCBER"));
+
+      // G R U-umlaut / E N B / O-umlaut L E
+      String[] tiles = {"g", "r", "\u00FC", "e", "n", "b", "\u00F6", "l", "e"};
+      Board board = new Board(tiles, 3, 3, Alphabet.GERMAN);
+      assertEquals(Alphabet.GERMAN.code('\u00DC'), board.code(2));
+      assertEquals("U", new Board(tiles, 3, 3).tile(2));
+      PackedBoard packed = PackedBoard.of(tiles, 3, 3);
+      assertEquals(Lexicon.NO_LETTER, packed.code(2));
+      assertEquals(board.code(2), Board.inAlphabet(packed, Alphabet.GERMAN).code(2));
+
+      NeighborTable neighbors = NeighborTable.compile(Adjacencies.SQUARE, 3, 3);
+      BitSet expected = new BitSet();
+      for (String word : new String[] {"GR\u00DCN", "GR\u00DCNE", "\u00D6L"}) {
+         expected.set(german.ordinalOf(word));
+      }
+      assertEquals(expected, new BoardSolver(german, board, neighbors).solve(2));
+      assertEquals(expected, new BitboardSolver(german, packed, neighbors).solve(2));
+      assertEquals(expected, new WordDrivenSolver(german, packed, neighbors).solve(2));
+      assertEquals(expected, SolvePlanner.solve(german, board, neighbors, 2, SolvePlanner.Strategy.AUTO));
+      assertEquals(1, new PathCounter(board, neighbors).count("GR\u00DCN"));
+
+      // boards posted to the server, and rebuilt from a dormant game's packed board, keep their umlauts
+      Map<String, String> params = Collections.singletonMap("board", String.join(",", tiles));
+      assertEquals(board.code(2), GameServer.fixedBoard(params, Alphabet.GERMAN).code(2));
+      assertEquals(board.code(2), packed.toBoard(Alphabet.GERMAN).code(2));
+      assertEquals(expected, SolvePlanner.solve(german, packed.toBoard(Alphabet.GERMAN), neighbors, 2,
+         SolvePlanner.Strategy.AUTO));
+   }
+
+
+   /** A test of a Turkish game loaded from a file: words, tiles and guesses are all folded the Turkish way. */
+   @Test public void gameTest() throws IOException {
+      File file = File.createTempFile("turkish", ".txt");
+      file.deleteOnExit();
+      Files.write(file.toPath(), "kitap iki \u0131l\u0131k kedi qwerty\n".getBytes(StandardCharsets.UTF_8));
+
+      WordSearch game = new WordSearch();
+      game.loadLexicon(file.getPath(), Alphabet.TURKISH);
+      game.setBoard(new String[] {"k", "i", "t", "e", "d", "a", "\u0131", "l", "p"});
+      assertEquals(new TreeSet<String>(Arrays.asList("KED\u0130", "K\u0130TAP")), game.getAllScorableWords(4));
+      assertEquals(Arrays.asList(0, 1, 2, 5, 8), game.isOnBoard("kitap"));
+      assertTrue(game.isOnBoard("KITAP").isEmpty());
+      assertEquals(1, game.getPathCount("kedi"));
+
+      // lookups and scoring fold the same way as the board search
+      assertTrue(game.isValidWord("kitap"));
+      assertTrue(game.isValidWord("\u0131l\u0131k"));
+      assertFalse(game.isValidWord("KITAP"));
+      assertTrue(game.isValidPrefix("kit"));
+      assertFalse(game.isValidPrefix("KIT"));
+      int all = game.getScoreForWords(game.getAllScorableWords(4), 4);
+      assertTrue(all > 0);
+      assertEquals(all, game.getScoreForWords(new TreeSet<String>(Arrays.asList("kitap", "kedi")), 4));
+      assertEquals(all, game.getScoreForWords(new TreeSet<String>(Arrays.asList("kitap", "Kitap", "K\u0130TAP",
+         "kedi")), 4));
+      assertTrue(game.getWordsFromLetters("ikkiedi", 3).contains("KED\u0130"));
+   }
+
+
+   /** A test that guesses and tiles are folded the same whatever the default locale (a Turkish default
+    *  would upper-case "quit" to "QU\u0130T"). */
+   @Test public void defaultLocaleTest() {
+      Locale saved = Locale.getDefault();
+      Locale.setDefault(new Locale("tr"));
+      try {
+         Lexicon english = Lexicon.of(Arrays.asList("QUIT", "SUIT"));
+         Board board = Board.square(new String[] {"q", "u", "i", "t"}, Alphabet.ENGLISH);
+         BoardSolution solution = BoardSolution.solve(english, board, NeighborTable.compile(Adjacencies.SQUARE, 2, 2), 3);
+         GameSession session = new GameSession("tr", solution, 1);
+         assertEquals(GameSession.Outcome.ACCEPTED, session.submit(GameSession.FIRST_PLAYER, "quit"));
+         assertEquals("QUIT", session.fold("quit"));
+
+         PackedBoard packed = PackedBoard.of(new String[] {"i", "qi", "?", "\u00FC"}, 2, 2);
+         assertEquals(Lexicon.code('I'), packed.code(0));
+         assertArrayEquals(new String[] {"I", "QI", "?", "\u00DC"}, packed.toTiles());
+         assertEquals(packed, PackedBoard.parse(packed.toText()));
+      }
+      finally {
+         Locale.setDefault(saved);
+      }
+   }
+
+
+   /** A test that random boards are drawn from the lexicon's alphabet, by the language's frequencies. */
+   @Test public void randomBoardTest() {
+      Random random = new Random(3L);
+      int[] draws = new int[Alphabet.ENGLISH.size()];
+      for (int i = 0; i < 100000; i++) {
+         draws[Alphabet.ENGLISH.draw(random)]++;
+      }
+      assertTrue(draws[Lexicon.code('E')] > 10 * draws[Lexicon.code('Z')]);
+      assertEquals(0.127, draws[Lexicon.code('E')] / 100000.0, 0.01);
+
+      Lexicon turkish = Lexicon.of(Arrays.asList("K\u0130TAP", "KED\u0130"), Alphabet.TURKISH);
+      randomBoard generator = new randomBoard(4, 4, 1, turkish);
+      assertSame(Alphabet.TURKISH, generator.getAlphabet());
+      assertSame(Alphabet.ENGLISH, new randomBoard(4, 4, 1).getAlphabet());
+   }
+
+}
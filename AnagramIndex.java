@@ -0,0 +1,345 @@
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/** Class AnagramIndex answers "which lexicon words can be made from these letters?" without scanning the
+ *  lexicon. Every word is filed under its signature - its letters sorted, so STOP, POTS and TOPS are all
+ *  OPST - and the signatures are kept two ways:
+ *
+ *  - a hash table keyed by the signature's letter counts, so anagrams() (the words using exactly the
+ *    letters given) is one probe.
+ *  - a trie of the sorted signatures, so subwords() (the words using some of the letters given, like a
+ *    rack of tiles) walks only the branches whose next letter is still on the rack.
+ *
+ *  Both queries take '?' as a blank that stands for any letter, fold the letters into the lexicon's
+ *  alphabet once (see Alphabet.fold()), and return an OrdinalWordSet. The signatures are worked out and
+ *  sorted in parallel; the "WordSearch.anagrams" logger reports the build time and estimatedBytes() at
+ *  Level.FINE.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class AnagramIndex {
+
+   /** The index's logger. */
+   static final Logger LOG = Logger.getLogger("WordSearch.anagrams");
+
+   /** The character that stands for any letter in a query. */
+   static final char BLANK = '?';
+
+   /** A random 64-bit key per letter: a signature's hash is the sum of the keys of its letters. */
+   private static final long[] LETTER_KEYS = new long[Alphabet.MAX_SIZE];
+
+   static {
+      long seed = 0x9E3779B97F4A7C15L;
+      for (int code = 0; code < LETTER_KEYS.length; code++) {
+         // splitmix64
+         long z = (seed += 0x9E3779B97F4A7C15L);
+         z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+         z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+         LETTER_KEYS[code] = z ^ (z >>> 31);
+      }
+   }
+
+   private final Lexicon lexicon;
+   private final Alphabet alphabet;
+
+   /** The words' ordinals, grouped by signature (ascending within a group); group g is
+    *  members[groupStart[g], groupStart[g + 1]). Groups are in signature order. */
+   private final int[] members;
+   private final int[] groupStart;
+
+   /** The hash of each group's signature, and an open-addressing table of group + 1 (0 for empty). */
+   private final long[] groupHash;
+   private final int[] slots;
+
+   /** The trie of signatures, nodes in preorder: a node's letter code, first child and next sibling (-1
+    *  for none), and the group whose signature ends there (-1 for none). Node 0 is the root. */
+   private final byte[] letter;
+   private final int[] firstChild;
+   private final int[] nextSibling;
+   private final int[] group;
+
+
+   /** Constructor for AnagramIndex - use build(). */
+   private AnagramIndex(Lexicon lexiconIn, int[] membersIn, int[] groupStartIn, long[] groupHashIn, int[] slotsIn,
+                        byte[] letterIn, int[] firstChildIn, int[] nextSiblingIn, int[] groupIn) {
+      lexicon = lexiconIn;
+      alphabet = lexiconIn.alphabet();
+      members = membersIn;
+      groupStart = groupStartIn;
+      groupHash = groupHashIn;
+      slots = slotsIn;
+      letter = letterIn;
+      firstChild = firstChildIn;
+      nextSibling = nextSiblingIn;
+      group = groupIn;
+   }
+
+
+   /** build() indexes every word of a lexicon.
+    *
+    *  @param lexicon - The lexicon to index.
+    *  @return index - the anagram index.
+    */
+   static AnagramIndex build(Lexicon lexicon) {
+      long started = System.nanoTime();
+      int words = lexicon.size();
+
+      // every word's signature, then the distinct signatures in order
+      String[] signatures = new String[words];
+      IntStream.range(0, words).parallel().forEach(ordinal -> signatures[ordinal] = signature(lexicon.word(ordinal)));
+      String[] distinct = signatures.clone();
+      Arrays.parallelSort(distinct);
+      int groups = 0;
+      for (int i = 0; i < distinct.length; i++) {
+         if (groups == 0 || !distinct[i].equals(distinct[groups - 1])) {
+            distinct[groups++] = distinct[i];
+         }
+      }
+      String[] sorted = Arrays.copyOf(distinct, groups);
+
+      // file each word under its group (a counting sort, so each group stays in ordinal order)
+      Map<String, Integer> groupBySignature = new HashMap<String, Integer>(groups * 2);
+      for (int g = 0; g < groups; g++) {
+         groupBySignature.put(sorted[g], g);
+      }
+      int[] groupOf = new int[words];
+      IntStream.range(0, words).parallel().forEach(ordinal -> groupOf[ordinal] = groupBySignature.get(signatures[ordinal]));
+      int[] groupStart = new int[groups + 1];
+      for (int ordinal = 0; ordinal < words; ordinal++) {
+         groupStart[groupOf[ordinal] + 1]++;
+      }
+      for (int g = 0; g < groups; g++) {
+         groupStart[g + 1] += groupStart[g];
+      }
+      int[] members = new int[words];
+      int[] next = Arrays.copyOf(groupStart, groups);
+      for (int ordinal = 0; ordinal < words; ordinal++) {
+         members[next[groupOf[ordinal]]++] = ordinal;
+      }
+
+      // the hash table, at most half full
+      long[] groupHash = new long[groups];
+      IntStream.range(0, groups).parallel().forEach(g -> groupHash[g] = hash(counts(sorted[g], lexicon.alphabet())));
+      int[] slots = new int[Integer.highestOneBit(Math.max(1, groups)) << 2];
+      for (int g = 0; g < groups; g++) {
+         int slot = (int) (groupHash[g] >>> 33) & (slots.length - 1);
+         while (slots[slot] != 0) {
+            slot = (slot + 1) & (slots.length - 1);
+         }
+         slots[slot] = g + 1;
+      }
+
+      // the trie: sorted signatures share their common prefix with the one before
+      int capacity = 1;
+      for (int g = 0; g < groups; g++) {
+         capacity += sorted[g].length() - (g == 0 ? 0 : commonPrefix(sorted[g - 1], sorted[g]));
+      }
+      byte[] letter = new byte[capacity];
+      int[] firstChild = new int[capacity];
+      int[] nextSibling = new int[capacity];
+      int[] group = new int[capacity];
+      int[] lastChild = new int[capacity];
+      Arrays.fill(firstChild, -1);
+      Arrays.fill(nextSibling, -1);
+      Arrays.fill(group, -1);
+      Arrays.fill(lastChild, -1);
+      int[] path = new int[lexicon.maxWordLength() + 1];
+      int nodes = 1;
+      for (int g = 0; g < groups; g++) {
+         String signature = sorted[g];
+         int depth = g == 0 ? 0 : commonPrefix(sorted[g - 1], signature);
+         for (int i = depth; i < signature.length(); i++) {
+            int parent = path[i];
+            int node = nodes++;
+            letter[node] = (byte) lexicon.alphabet().code(signature.charAt(i));
+            if (lastChild[parent] < 0) {
+               firstChild[parent] = node;
+            }
+            else {
+               nextSibling[lastChild[parent]] = node;
+            }
+            lastChild[parent] = node;
+            path[i + 1] = node;
+         }
+         group[path[signature.length()]] = g;
+      }
+
+      AnagramIndex index = new AnagramIndex(lexicon, members, groupStart, groupHash, slots,
+                                            letter, firstChild, nextSibling, group);
+      if (LOG.isLoggable(Level.FINE)) {
+         LOG.fine(String.format("%d words, %d signatures, %d trie nodes: %.1f KB, built in %.1f ms",
+            words, groups, nodes, index.estimatedBytes() / 1024.0, (System.nanoTime() - started) / 1e6));
+      }
+      return index;
+   }
+
+
+   /** signature() sorts the letters of a word. */
+   private static String signature(String word) {
+      char[] letters = word.toCharArray();
+      Arrays.sort(letters);
+      return new String(letters);
+   }
+
+
+   /** commonPrefix() returns the length of the common prefix of two Strings. */
+   private static int commonPrefix(String a, String b) {
+      int length = Math.min(a.length(), b.length());
+      int i = 0;
+      while (i < length && a.charAt(i) == b.charAt(i)) {
+         i++;
+      }
+      return i;
+   }
+
+
+   /** counts() counts the letters of a folded query: counts[code] for each letter of the alphabet, and
+    *  counts[alphabet.size()] for the blanks.
+    *
+    *  @throws IllegalArgumentException if letters has a character that is not a letter or '?'.
+    */
+   private static int[] counts(CharSequence letters, Alphabet alphabet) {
+      int[] counts = new int[alphabet.size() + 1];
+      for (int i = 0; i < letters.length(); i++) {
+         char c = letters.charAt(i);
+         int code = c == BLANK ? alphabet.size() : alphabet.code(c);
+         if (code < 0) {
+            throw new IllegalArgumentException("'" + c + "' is not a letter or a blank");
+         }
+         counts[code]++;
+      }
+      return counts;
+   }
+
+
+   /** fold() folds a query into the lexicon's alphabet.
+    *
+    *  @throws IllegalArgumentException if letters is null.
+    */
+   private String fold(CharSequence letters) {
+      if (letters == null) {
+         throw new IllegalArgumentException("Letters cannot be null");
+      }
+      return alphabet.fold(letters.toString());
+   }
+
+
+   /** hash() hashes the letter counts of a signature (the blanks, in the last entry, aside). */
+   private static long hash(int[] counts) {
+      long hash = 0;
+      for (int code = 0; code < counts.length - 1; code++) {
+         hash += counts[code] * LETTER_KEYS[code];
+      }
+      return hash;
+   }
+
+
+   /** anagrams() finds the words that use exactly the letters given, each as often as it is given.
+    *
+    *  @param letters - The letters, in any order and case; '?' stands for any letter.
+    *  @return words - the anagrams, in the lexicon's order.
+    *  @throws IllegalArgumentException if letters is null or has a character that is not a letter or '?'.
+    */
+   OrdinalWordSet anagrams(CharSequence letters) {
+      String query = fold(letters);
+      int[] counts = counts(query, alphabet);
+      BitSet found = new BitSet(lexicon.size());
+      if (counts[alphabet.size()] > 0) {
+         collect(0, 0, counts, query.length(), query.length(), found);
+         return OrdinalWordSet.of(lexicon, found);
+      }
+
+      long hash = hash(counts);
+      int slot = (int) (hash >>> 33) & (slots.length - 1);
+      for (; slots[slot] != 0; slot = (slot + 1) & (slots.length - 1)) {
+         int g = slots[slot] - 1;
+         if (groupHash[g] == hash && lexicon.word(members[groupStart[g]]).length() == query.length()
+             && sameLetters(lexicon.word(members[groupStart[g]]), counts)) {
+            for (int i = groupStart[g]; i < groupStart[g + 1]; i++) {
+               found.set(members[i]);
+            }
+            break;
+         }
+      }
+      return OrdinalWordSet.of(lexicon, found);
+   }
+
+
+   /** sameLetters() checks that a word has exactly the letter counts of a query (hashes can collide). */
+   private boolean sameLetters(String word, int[] counts) {
+      int[] left = counts.clone();
+      for (int i = 0; i < word.length(); i++) {
+         if (--left[alphabet.code(word.charAt(i))] < 0) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+
+   /** subwords() finds the words that can be made from some of the letters given, each used at most as
+    *  often as it is given.
+    *
+    *  @param letters - The letters, in any order and case; '?' stands for any letter.
+    *  @param minimumWordLength - The minimum number of letters per word.
+    *  @return words - the words, in the lexicon's order.
+    *  @throws IllegalArgumentException if letters is null or has a character that is not a letter or '?'.
+    */
+   OrdinalWordSet subwords(CharSequence letters, int minimumWordLength) {
+      String query = fold(letters);
+      int[] counts = counts(query, alphabet);
+      BitSet found = new BitSet(lexicon.size());
+      collect(0, 0, counts, Math.max(minimumWordLength, 0), query.length(), found);
+      return OrdinalWordSet.of(lexicon, found);
+   }
+
+
+   /** collect() walks the signature trie below a node, stepping only to letters still in counts (or onto
+    *  a blank), and adds the words of every signature of minimum to maximum letters.
+    */
+   private void collect(int node, int depth, int[] counts, int minimum, int maximum, BitSet found) {
+      int g = group[node];
+      if (g >= 0 && depth >= minimum) {
+         for (int i = groupStart[g]; i < groupStart[g + 1]; i++) {
+            found.set(members[i]);
+         }
+      }
+      if (depth == maximum) {
+         return;
+      }
+      for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+         int code = letter[child];
+         if (counts[code] > 0) {
+            counts[code]--;
+            collect(child, depth + 1, counts, minimum, maximum, found);
+            counts[code]++;
+         }
+         else if (counts[alphabet.size()] > 0) {
+            counts[alphabet.size()]--;
+            collect(child, depth + 1, counts, minimum, maximum, found);
+            counts[alphabet.size()]++;
+         }
+      }
+   }
+
+
+   /** signatureCount() returns the number of distinct signatures (sets of words that are anagrams). */
+   int signatureCount() {
+      return groupStart.length - 1;
+   }
+
+
+   /** estimatedBytes() returns roughly how much heap the index takes. */
+   long estimatedBytes() {
+      long arrays = 16L * 8;
+      return 64 + arrays + 4L * members.length + 4L * groupStart.length + 8L * groupHash.length + 4L * slots.length
+         + letter.length + 4L * firstChild.length + 4L * nextSibling.length + 4L * group.length;
+   }
+
+}
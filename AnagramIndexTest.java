@@ -0,0 +1,96 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+
+
+public class AnagramIndexTest {
+
+   private static Lexicon lexicon;
+   private static AnagramIndex index;
+
+
+   /** Fixture initialization - loads the lexicon and builds its anagram index. **/
+   @BeforeClass public static void buildIndex() {
+      lexicon = Lexicon.load("words_medium.txt");
+      index = AnagramIndex.build(lexicon);
+   }
+
+
+   /** fits() checks by brute force that a word can be made from a rack. */
+   private static boolean fits(String word, String rack) {
+      int[] counts = new int[27];
+      for (char c : rack.toCharArray()) {
+         counts[c == '?' ? 26 : c - 'A']++;
+      }
+      for (char c : word.toCharArray()) {
+         if (counts[c - 'A'] > 0) {
+            counts[c - 'A']--;
+         }
+         else if (counts[26] > 0) {
+            counts[26]--;
+         }
+         else {
+            return false;
+         }
+      }
+      return true;
+   }
+
+
+   /** A test that both queries agree with a scan of the lexicon, blanks included. */
+   @Test public void scanTest() {
+      Random random = new Random(11L);
+      String letters = "EEEEAAAIIIOOONNRRTTLLSSUDDGBCMPFHVWYKJXQZ";
+      for (int trial = 0; trial < 60; trial++) {
+         StringBuilder rack = new StringBuilder();
+         int length = 2 + random.nextInt(7);
+         for (int i = 0; i < length; i++) {
+            rack.append(random.nextInt(10) == 0 ? '?' : letters.charAt(random.nextInt(letters.length())));
+         }
+         Set<String> subwords = new TreeSet<String>();
+         Set<String> anagrams = new TreeSet<String>();
+         for (int ordinal = 0; ordinal < lexicon.size(); ordinal++) {
+            String word = lexicon.word(ordinal);
+            if (word.length() >= 3 && fits(word, rack.toString())) {
+               subwords.add(word);
+            }
+            if (word.length() == length && fits(word, rack.toString())) {
+               anagrams.add(word);
+            }
+         }
+         assertEquals(rack.toString(), subwords, new TreeSet<String>(index.subwords(rack, 3)));
+         assertEquals(rack.toString(), anagrams, new TreeSet<String>(index.anagrams(rack)));
+      }
+   }
+
+
+   /** A test of the game's queries. */
+   @Test public void gameTest() {
+      WordSearch game = new WordSearch();
+      try {
+         game.getAnagrams("STOP");
+         fail("expected IllegalStateException");
+      }
+      catch (IllegalStateException e) {
+      }
+      game.useLexicon(lexicon);
+
+      assertTrue(game.getAnagrams("stop").containsAll(Arrays.asList("OPTS", "POST", "POTS", "SPOT", "STOP", "TOPS")));
+      assertFalse(game.getAnagrams("STOP").contains("TOP"));
+      assertTrue(game.getAnagrams("QXZJ").isEmpty());
+      assertTrue(game.getWordsFromLetters("STOP", 3).containsAll(Arrays.asList("TOP", "OPT", "SOP", "STOP")));
+      assertTrue(game.getWordsFromLetters("STOP", 4).first().length() >= 4);
+      assertTrue(game.getWordsFromLetters("QU?", 3).contains("QUA"));
+
+      try {
+         game.getWordsFromLetters("ST0P", 3);
+         fail("expected IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e) {
+      }
+   }
+
+}
@@ -0,0 +1,275 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/** Class AsyncWordSearch is a non-blocking front end for solving boards, checking words and generating
+ *  boards: every call returns a CompletableFuture at once and the work runs on a bounded pool, so a
+ *  service can hand its callers futures instead of wrapping the synchronous WordSearchGame in a pool of
+ *  its own. Unlike a WordSearchGame, which holds one board at a time, one AsyncWordSearch serves any
+ *  number of boards from any number of threads (the lexicon is immutable and shared).
+ *
+ *  Admission control: the pool has a fixed number of threads and a queue of fixed capacity. Work beyond
+ *  both is not accepted - its future fails at once with a RejectedExecutionException (a queue capacity
+ *  of 0 means no waiting at all) - so an overloaded service sheds load instead of piling it up.
+ *
+ *  Coalescing: a board being solved is in flight under its packed form (see PackedBoard), and a request
+ *  for the same board joins that solve rather than starting another, so a burst of players on one board
+ *  costs one search. A board is solved once for every minimum word length (see OrdinalWordSet). Solved
+ *  boards are not kept once the solve completes; GameServer caches those.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class AsyncWordSearch implements AutoCloseable {
+
+   private final Lexicon lexicon;
+   private final Executor executor;
+
+   /** The pool this instance made and shuts down on close(), or null if the executor was handed in. */
+   private final ExecutorService ownedPool;
+
+   /** The solves in flight, by packed board. */
+   private final ConcurrentHashMap<String, CompletableFuture<OrdinalWordSet>> solving =
+      new ConcurrentHashMap<String, CompletableFuture<OrdinalWordSet>>();
+
+   private final AtomicLong solves = new AtomicLong();
+   private final AtomicLong coalesced = new AtomicLong();
+   private final AtomicLong rejected = new AtomicLong();
+
+
+   /** Constructor for AsyncWordSearch with a pool of its own.
+    *
+    *  @param lexiconIn - The lexicon to search against.
+    *  @param threads - The number of worker threads (at least 1).
+    *  @param queueCapacity - How many requests may wait for a thread before new ones are rejected (at
+    *     least 0).
+    *  @throws IllegalArgumentException if lexiconIn is null, or threads or queueCapacity is out of range.
+    */
+   AsyncWordSearch(Lexicon lexiconIn, int threads, int queueCapacity) {
+      if (lexiconIn == null) {
+         throw new IllegalArgumentException("Lexicon cannot be null");
+      }
+      if (threads < 1 || queueCapacity < 0) {
+         throw new IllegalArgumentException("Threads must be at least 1 and queueCapacity at least 0");
+      }
+      BlockingQueue<Runnable> queue = queueCapacity == 0 ? new SynchronousQueue<Runnable>()
+         : new ArrayBlockingQueue<Runnable>(queueCapacity);
+      AtomicInteger count = new AtomicInteger();
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue, task -> {
+         Thread thread = new Thread(task, "word-search-async-" + count.incrementAndGet());
+         thread.setDaemon(true);
+         return thread;
+      }, new ThreadPoolExecutor.AbortPolicy());
+      lexicon = lexiconIn;
+      executor = pool;
+      ownedPool = pool;
+   }
+
+
+   /** Constructor for AsyncWordSearch on an executor owned by the caller (e.g. a service's own bounded
+    *  pool). Whatever the executor rejects is rejected here too; close() leaves it running.
+    *
+    *  @param lexiconIn - The lexicon to search against.
+    *  @param executorIn - The executor to run the work on.
+    *  @throws IllegalArgumentException if either parameter is null.
+    */
+   AsyncWordSearch(Lexicon lexiconIn, Executor executorIn) {
+      if (lexiconIn == null || executorIn == null) {
+         throw new IllegalArgumentException("Lexicon and executor cannot be null");
+      }
+      lexicon = lexiconIn;
+      executor = executorIn;
+      ownedPool = null;
+   }
+
+
+   /** solve() finds every scorable word on a square board, like WordSearchGame.getAllScorableWords().
+    *
+    *  @param letterArray - The contents of an N x N board in row-major order.
+    *  @param minimumWordLength - The minimum number of characters per word.
+    *  @return words - completes with the words on the board, or fails with a RejectedExecutionException
+    *     if the pool is full.
+    *  @throws IllegalArgumentException if letterArray is null or not square, or minimumWordLength is less
+    *     than 1.
+    */
+   CompletableFuture<SortedSet<String>> solve(String[] letterArray, int minimumWordLength) {
+      return solve(Board.square(letterArray, lexicon.alphabet()), minimumWordLength);
+   }
+
+
+   /** solve() finds every scorable word on a rectangular board.
+    *
+    *  @param letterArray - The contents of the board in row-major order.
+    *  @param rows - The number of rows.
+    *  @param cols - The number of columns.
+    *  @param minimumWordLength - The minimum number of characters per word.
+    *  @return words - as for solve(letterArray, minimumWordLength).
+    *  @throws IllegalArgumentException if letterArray does not hold rows * cols tiles, or
+    *     minimumWordLength is less than 1.
+    */
+   CompletableFuture<SortedSet<String>> solve(String[] letterArray, int rows, int cols, int minimumWordLength) {
+      return solve(new Board(letterArray, rows, cols, lexicon.alphabet()), minimumWordLength);
+   }
+
+
+   /** solve() finds every scorable word on a board, joining a solve of the same board in flight. */
+   private CompletableFuture<SortedSet<String>> solve(Board board, int minimumWordLength) {
+      if (minimumWordLength < 1) {
+         throw new IllegalArgumentException("minimumWordLength must be at least 1");
+      }
+      return solveAll(board).thenApply(words -> words.withMinimumLength(minimumWordLength));
+   }
+
+
+   /** solveAll() returns the solve of a board at minimum length 1, starting one unless it is in flight. */
+   private CompletableFuture<OrdinalWordSet> solveAll(Board board) {
+      String key = PackedBoard.from(board).toText();
+      CompletableFuture<OrdinalWordSet> mine = new CompletableFuture<OrdinalWordSet>();
+      CompletableFuture<OrdinalWordSet> running = solving.putIfAbsent(key, mine);
+      if (running != null) {
+         coalesced.incrementAndGet();
+         return running;
+      }
+
+      solves.incrementAndGet();
+      Runnable task = () -> {
+         try {
+            NeighborTable neighbors = NeighborTable.compile(Adjacencies.SQUARE, board.rows(), board.cols());
+            mine.complete(OrdinalWordSet.of(lexicon,
+               SolvePlanner.solve(lexicon, board, neighbors, 1, SolvePlanner.Strategy.AUTO)));
+         }
+         catch (Throwable e) {
+            mine.completeExceptionally(e);
+         }
+         finally {
+            solving.remove(key, mine);
+         }
+      };
+      try {
+         executor.execute(task);
+      }
+      catch (RejectedExecutionException e) {
+         // whoever joined in the meantime is turned away too
+         rejected.incrementAndGet();
+         solving.remove(key, mine);
+         mine.completeExceptionally(e);
+      }
+      return mine;
+   }
+
+
+   /** verify() checks a batch of words against a board: each must be a lexicon word of at least
+    *  minimumWordLength characters that can be spelled on the board. The board is solved once (or joins a
+    *  solve in flight) and the words are then looked up in the result.
+    *
+    *  @param letterArray - The contents of the board in row-major order.
+    *  @param rows - The number of rows.
+    *  @param cols - The number of columns.
+    *  @param words - The words to check, in any case.
+    *  @param minimumWordLength - The minimum number of characters per word.
+    *  @return valid - completes with, for each word in order, whether it scores on the board.
+    *  @throws IllegalArgumentException if words is null or has a null entry, letterArray does not hold
+    *     rows * cols tiles, or minimumWordLength is less than 1.
+    */
+   CompletableFuture<List<Boolean>> verify(String[] letterArray, int rows, int cols, List<String> words,
+                                          int minimumWordLength) {
+      if (words == null || words.contains(null)) {
+         throw new IllegalArgumentException("Words cannot be null");
+      }
+      List<String> folded = new ArrayList<String>(words.size());
+      for (String word : words) {
+         folded.add(lexicon.alphabet().fold(word));
+      }
+      return solve(letterArray, rows, cols, minimumWordLength).thenApply(found -> {
+         List<Boolean> valid = new ArrayList<Boolean>(folded.size());
+         for (String word : folded) {
+            valid.add(found.contains(word));
+         }
+         return valid;
+      });
+   }
+
+
+   /** generateBoard() makes a random board with at least a number of words of 4 or more letters (see
+    *  randomBoard). Boards are random, so these requests are never coalesced.
+    *
+    *  @param rows - The number of rows (between 2 and 1000, inclusive).
+    *  @param cols - The number of columns (between 2 and 1000, inclusive).
+    *  @param minWordsPossible - The fewest words the board may hold.
+    *  @return board - completes with the tiles in row-major order, or fails with an IllegalStateException
+    *     if no board with enough words turned up, or a RejectedExecutionException if the pool is full.
+    *  @throws IllegalArgumentException if a parameter is out of range.
+    */
+   CompletableFuture<String[]> generateBoard(int rows, int cols, int minWordsPossible) {
+      randomBoard generator = new randomBoard(rows, cols, minWordsPossible, lexicon);
+      return submit(() -> {
+         String[] tiles = generator.generateBoard();
+         if (tiles.length != rows * cols) {
+            throw new IllegalStateException("Could not generate a board with " + minWordsPossible + " words");
+         }
+         return tiles;
+      });
+   }
+
+
+   /** submit() runs a task on the executor, failing its future at once if the executor rejects it. */
+   private <T> CompletableFuture<T> submit(Supplier<T> task) {
+      try {
+         return CompletableFuture.supplyAsync(task, executor);
+      }
+      catch (RejectedExecutionException e) {
+         rejected.incrementAndGet();
+         CompletableFuture<T> failed = new CompletableFuture<T>();
+         failed.completeExceptionally(e);
+         return failed;
+      }
+   }
+
+
+   /** solveCount() returns the number of board solves started. */
+   long solveCount() {
+      return solves.get();
+   }
+
+
+   /** coalescedCount() returns the number of requests that joined a solve already in flight. */
+   long coalescedCount() {
+      return coalesced.get();
+   }
+
+
+   /** rejectedCount() returns the number of requests turned away because the executor was full. */
+   long rejectedCount() {
+      return rejected.get();
+   }
+
+
+   /** inFlight() returns the number of boards being solved right now. */
+   int inFlight() {
+      return solving.size();
+   }
+
+
+   /** close() stops the pool this instance made, letting queued work finish (an executor handed in is left
+    *  alone). */
+   @Override
+   public void close() {
+      if (ownedPool != null) {
+         ownedPool.shutdown();
+      }
+   }
+
+}
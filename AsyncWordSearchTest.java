@@ -0,0 +1,92 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+
+public class AsyncWordSearchTest {
+
+   private static Lexicon lexicon;
+
+   private static final String[] BOARD = {"E", "E", "C", "A", "A", "L", "E", "P", "H", "N", "B", "O", "Q", "T", "T", "Y"};
+
+
+   /** Fixture initialization - loads the lexicon every game shares. **/
+   @BeforeClass public static void loadLexicon() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   /** A test that the futures give the same answers as the synchronous game. */
+   @Test public void solveTest() {
+      WordSearchGame game = WordSearchGameFactory.createGame(lexicon);
+      game.setBoard(BOARD);
+      try (AsyncWordSearch async = new AsyncWordSearch(lexicon, 2, 8)) {
+         assertEquals(game.getAllScorableWords(4), async.solve(BOARD, 4).join());
+         assertEquals(game.getAllScorableWords(3), async.solve(BOARD, 4, 4, 3).join());
+
+         List<Boolean> valid = async.verify(BOARD, 4, 4, Arrays.asList("peace", "PEA", "QUIZ", "ZZZZ"), 4).join();
+         assertEquals(Arrays.asList(true, false, false, false), valid);
+
+         String[] tiles = async.generateBoard(4, 4, 1).join();
+         assertEquals(16, tiles.length);
+      }
+   }
+
+
+   /** A test that identical requests in flight share one solve, and a new one starts once it is done. */
+   @Test public void coalesceTest() {
+      List<Runnable> queued = new ArrayList<Runnable>();
+      AsyncWordSearch async = new AsyncWordSearch(lexicon, queued::add);
+
+      CompletableFuture<SortedSet<String>> first = async.solve(BOARD, 4);
+      CompletableFuture<SortedSet<String>> second = async.solve(BOARD, 3);
+      CompletableFuture<List<Boolean>> third = async.verify(BOARD, 4, 4, Collections.singletonList("PEACE"), 4);
+      assertEquals(1, queued.size());
+      assertEquals(1, async.inFlight());
+      assertEquals(2, async.coalescedCount());
+      assertFalse(first.isDone());
+
+      queued.remove(0).run();
+      assertEquals(0, async.inFlight());
+      assertTrue(first.join().size() < second.join().size());
+      assertEquals(Collections.singletonList(true), third.join());
+
+      async.solve(BOARD, 4);
+      assertEquals(1, queued.size());
+      assertEquals(2, async.solveCount());
+   }
+
+
+   /** A test that work the executor turns away fails at once and leaves nothing in flight. */
+   @Test public void rejectTest() {
+      AsyncWordSearch async = new AsyncWordSearch(lexicon, task -> {
+         throw new RejectedExecutionException("full");
+      });
+      CompletableFuture<SortedSet<String>> words = async.solve(BOARD, 4);
+      assertTrue(words.isCompletedExceptionally());
+      try {
+         words.join();
+         fail("expected CompletionException");
+      }
+      catch (CompletionException e) {
+         assertTrue(e.getCause() instanceof RejectedExecutionException);
+      }
+      assertTrue(async.generateBoard(4, 4, 1).isCompletedExceptionally());
+      assertEquals(2, async.rejectedCount());
+      assertEquals(0, async.inFlight());
+
+      try {
+         async.solve(BOARD, 0);
+         fail("expected IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e) {
+      }
+   }
+
+}
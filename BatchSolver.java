@@ -0,0 +1,242 @@
+import java.util.*;
+import java.util.concurrent.*;
+import java.io.*;
+
+/** Class BatchSolver solves a stream of boards against one shared lexicon on a pool of worker threads,
+ *  writing one NDJSON result per board. It is meant for offline jobs that used to loop over setBoard and
+ *  getAllScorableWords on a single WordSearch.
+ *
+ *  Input is one board per line: an id, an optional RxC size, then the tiles separated by whitespace
+ *  (boards without a size must be square). Blank lines and lines starting with '#' are skipped:
+ *
+ *     board-1 4x4 E E C A A L E P H N B O QU T T Y
+ *     board-2 R E S T S T Q B V
+ *
+ *  Each result line looks like {"id":"board-1","count":3,"score":14,"words":["...", ...]}, or
+ *  {"id":"board-2","error":"..."} if the line could not be read as a board. Results come out in input
+ *  order. Only a fixed window of boards is in flight at a time, so memory stays bounded no matter how
+ *  long the input is.
+ *
+ *  Usage: java BatchSolver [-l lexicon] [-m minimumWordLength] [-t threads] [inputFile | -]
+ *
+ *  @version October 19th, 2026
+ */
+
+class BatchSolver {
+
+   /** How many boards may be queued or in flight per worker thread. */
+   private static final int WINDOW_PER_THREAD = 4;
+
+   private final Lexicon lexicon;
+   private final int minimumWordLength;
+   private final int threads;
+
+
+   /** Constructor for BatchSolver.
+    *
+    *  @param lexiconIn - The lexicon shared (read-only) by every worker.
+    *  @param minimumWordLengthIn - The minimum number of characters per word.
+    *  @param threadsIn - The number of worker threads.
+    *  @throws IllegalArgumentException if minimumWordLengthIn or threadsIn is less than 1.
+    */
+   BatchSolver(Lexicon lexiconIn, int minimumWordLengthIn, int threadsIn) {
+
+      if (minimumWordLengthIn < 1) {
+         throw new IllegalArgumentException("Word length must be at least 1");
+      }
+      if (threadsIn < 1) {
+         throw new IllegalArgumentException("threads must be at least 1");
+      }
+
+      lexicon = lexiconIn;
+      minimumWordLength = minimumWordLengthIn;
+      threads = threadsIn;
+   }
+
+
+   /** run() reads boards until the end of the input and writes one result line per board.
+    *
+    *  @param in - The board lines.
+    *  @param out - Where the NDJSON results are written.
+    *  @throws IOException if reading or writing fails.
+    *  @return count - the number of boards solved.
+    */
+   long run(BufferedReader in, Writer out) throws IOException {
+
+      ExecutorService pool = Executors.newFixedThreadPool(threads);
+      ArrayDeque<Future<String>> window = new ArrayDeque<Future<String>>();
+      int windowSize = threads * WINDOW_PER_THREAD;
+      long count = 0;
+
+      try {
+         String line;
+         while ((line = in.readLine()) != null) {
+            final String boardLine = line.trim();
+            if (boardLine.isEmpty() || boardLine.startsWith("#")) {
+               continue;
+            }
+
+            // wait for the oldest board before reading further, so at most windowSize are held at once
+            if (window.size() == windowSize) {
+               writeResult(window.poll(), out);
+            }
+
+            window.add(pool.submit(new Callable<String>() {
+               @Override
+               public String call() {
+                  return solveLine(boardLine);
+               }
+            }));
+            count++;
+         }
+
+         while (!window.isEmpty()) {
+            writeResult(window.poll(), out);
+         }
+         out.flush();
+      }
+      finally {
+         pool.shutdownNow();
+      }
+
+      return count;
+   }
+
+
+   /** writeResult() waits for one result and writes it as a line. */
+   private static void writeResult(Future<String> result, Writer out) throws IOException {
+      try {
+         out.write(result.get());
+         out.write('\n');
+      }
+      catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new InterruptedIOException("interrupted while waiting for a board");
+      }
+      catch (ExecutionException e) {
+         throw new IOException("board could not be solved", e.getCause());
+      }
+   }
+
+
+   /** solveLine() parses and solves one board line.
+    *
+    *  @param line - A trimmed, non-empty board line.
+    *  @return json - the NDJSON result for the line (without a trailing newline).
+    */
+   String solveLine(String line) {
+
+      String[] tokens = line.split("\\s+");
+      String id = tokens[0];
+
+      try {
+         int first = 1;
+         int rows = -1;
+         int cols = -1;
+
+         // optional RxC size after the id
+         if (tokens.length > 1 && tokens[1].matches("\\d+[xX]\\d+")) {
+            String[] size = tokens[1].split("[xX]");
+            rows = Integer.parseInt(size[0]);
+            cols = Integer.parseInt(size[1]);
+            first = 2;
+         }
+
+         String[] tiles = Arrays.copyOfRange(tokens, first, tokens.length);
+         Board board = rows < 0
+            ? Board.square(tiles, lexicon.alphabet())
+            : new Board(tiles, rows, cols, lexicon.alphabet());
+         BitSet found = WordSearchGameFactory.createSolver(lexicon, board,
+            NeighborTable.compile(Adjacencies.SQUARE, board.rows(), board.cols())).solve(minimumWordLength);
+
+         StringBuilder json = new StringBuilder();
+         StringBuilder words = new StringBuilder();
+         int score = 0;
+         for (int ordinal = found.nextSetBit(0); ordinal >= 0; ordinal = found.nextSetBit(ordinal + 1)) {
+            String word = lexicon.word(ordinal);
+            score += word.length();
+            if (words.length() > 0) {
+               words.append(',');
+            }
+            quote(words, word);
+         }
+
+         json.append("{\"id\":");
+         quote(json, id);
+         json.append(",\"count\":").append(found.cardinality());
+         json.append(",\"score\":").append(score);
+         json.append(",\"words\":[").append(words).append("]}");
+         return json.toString();
+      }
+      catch (IllegalArgumentException e) {
+         StringBuilder json = new StringBuilder("{\"id\":");
+         quote(json, id);
+         json.append(",\"error\":");
+         quote(json, e.getMessage());
+         return json.append('}').toString();
+      }
+   }
+
+
+   /** quote() appends a string as a JSON string literal. */
+   static void quote(StringBuilder json, String text) {
+      json.append('"');
+      for (int i = 0; i < text.length(); i++) {
+         char c = text.charAt(i);
+         if (c == '"' || c == '\\') {
+            json.append('\\').append(c);
+         }
+         else if (c < 0x20) {
+            json.append(String.format("\\u%04x", (int) c));
+         }
+         else {
+            json.append(c);
+         }
+      }
+      json.append('"');
+   }
+
+
+   /** Main method - solves the boards in a file (or standard input) and prints NDJSON to standard output.
+    *  Throughput is reported on standard error.
+    *
+    *  @param args - [-l lexicon] [-m minimumWordLength] [-t threads] [inputFile | -]
+    */
+   public static void main(String[] args) throws IOException {
+
+      String lexiconFile = "words_medium.txt";
+      String inputFile = "-";
+      int minimumWordLength = 4;
+      int threads = Runtime.getRuntime().availableProcessors();
+
+      for (int i = 0; i < args.length; i++) {
+         if (args[i].equals("-l") && i + 1 < args.length) {
+            lexiconFile = args[++i];
+         }
+         else if (args[i].equals("-m") && i + 1 < args.length) {
+            minimumWordLength = Integer.parseInt(args[++i]);
+         }
+         else if (args[i].equals("-t") && i + 1 < args.length) {
+            threads = Integer.parseInt(args[++i]);
+         }
+         else {
+            inputFile = args[i];
+         }
+      }
+
+      BatchSolver solver = new BatchSolver(Lexicon.load(lexiconFile), minimumWordLength, threads);
+
+      BufferedReader in = inputFile.equals("-")
+         ? new BufferedReader(new InputStreamReader(System.in, "UTF-8"))
+         : new BufferedReader(new InputStreamReader(new FileInputStream(inputFile), "UTF-8"));
+      Writer out = new BufferedWriter(new OutputStreamWriter(System.out, "UTF-8"));
+
+      long start = System.nanoTime();
+      long count = solver.run(in, out);
+      double seconds = (System.nanoTime() - start) / 1e9;
+      in.close();
+
+      System.err.printf("Solved %d boards in %.2f s (%.1f boards/second)%n", count, seconds, count / seconds);
+   }
+
+}
@@ -0,0 +1,74 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.*;
+
+
+public class BatchSolverTest {
+
+   private static Lexicon lexicon;
+   private static final String SMALL = "R E S T S T Q B V";
+   private static final String LARGE = "4x4 E E C A A L E P H N B O QU T T Y";
+
+
+   /** Fixture initialization - the lexicon is loaded once. **/
+   @BeforeClass public static void loadLexicon() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   /** run() solves the lines on a solver and returns the result lines. */
+   private static List<String> run(String input, int threads) throws IOException {
+      StringWriter out = new StringWriter();
+      new BatchSolver(lexicon, 3, threads).run(new BufferedReader(new StringReader(input)), out);
+      return Arrays.asList(out.toString().split("\n"));
+   }
+
+
+   /** count() solves a board on a single WordSearch, for the expected word count. */
+   private static int count(String[] tiles) {
+      WordSearch game = new WordSearch();
+      game.loadLexicon("words_medium.txt");
+      game.setBoard(tiles);
+      return game.getAllScorableWords(3).size();
+   }
+
+
+   /** A test that results come out in input order, past the window of boards in flight. */
+   @Test public void orderTest() throws IOException {
+      // slow and fast boards interleaved, so later boards often finish first
+      StringBuilder input = new StringBuilder("# boards\n\n");
+      int boards = 50;
+      for (int i = 0; i < boards; i++) {
+         input.append("board-").append(i).append(' ').append(i % 3 == 0 ? LARGE : SMALL).append('\n');
+      }
+
+      List<String> results = run(input.toString(), 3);
+      Assert.assertEquals(boards, results.size());
+      String small = "\"count\":" + count(SMALL.split(" ")) + ",";
+      String large = "\"count\":" + count(LARGE.substring(4).split(" ")) + ",";
+      for (int i = 0; i < boards; i++) {
+         String result = results.get(i);
+         assertTrue(result, result.startsWith("{\"id\":\"board-" + i + "\","));
+         assertTrue(result, result.contains(i % 3 == 0 ? large : small));
+      }
+   }
+
+
+   /** A test that a malformed line gets an error line in its place, and the batch goes on. */
+   @Test public void malformedLineTest() throws IOException {
+      List<String> results = run("first " + SMALL + "\nshort 3x3 A B C\nodd A B C\n\"quoted\" " + SMALL + "\n", 2);
+      Assert.assertEquals(4, results.size());
+      assertTrue(results.get(0).startsWith("{\"id\":\"first\",\"count\":"));
+      assertTrue(results.get(1), results.get(1).startsWith("{\"id\":\"short\",\"error\":\""));
+      assertTrue(results.get(2), results.get(2).startsWith("{\"id\":\"odd\",\"error\":\""));
+      assertTrue(results.get(3), results.get(3).startsWith("{\"id\":\"\\\"quoted\\\"\",\"count\":"));
+   }
+
+}
@@ -0,0 +1,234 @@
+import java.util.BitSet;
+
+/** Class BitboardSolver is BoardSolver's search specialized for boards of at most 64 cells (up to 8 x 8),
+ *  which is nearly every game played. The visited set is a single long, each cell's neighbors are one
+ *  precomputed bit mask from the NeighborTable, and the neighbors still to try at each depth are kept as
+ *  a mask too, so stepping to the next neighbor is
+ *
+ *     next = Long.numberOfTrailingZeros(pending);   pending &= pending - 1;
+ *
+ *  with visited cells masked out once, when a cell is entered. The tiles are copied into plain arrays up
+ *  front and word lengths are tracked on the stack, so the inner loop touches no Board and no Strings.
+ *  It finds exactly the words BoardSolver finds, wildcards and multi-letter tiles included.
+ *
+ *  A solver is not thread-safe, but it is cheap to create; use one per thread.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class BitboardSolver implements GridSolver {
+
+   private final Lexicon lexicon;
+
+   /** masks[c] has a bit set for every neighbor of cell c. */
+   private final long[] masks;
+
+   /** The code of each cell (see TileGrid.code()), the letters of MULTI cells, and the number of letters
+    *  each cell adds to a word. */
+   private final int[] codes;
+   private final byte[][] sequences;
+   private final int[] letters;
+
+   /** One bit per cell currently on the path. */
+   private long visited;
+
+   /** The search stack: cell, trie node, neighbors not yet tried, and letters so far at each depth. */
+   private final int[] cellStack;
+   private final int[] nodeStack;
+   private final long[] pendingStack;
+   private final int[] lengthStack;
+
+   /** For wildcard cells on the stack, the letters (one bit per code) not yet tried in that cell. */
+   private final long[] altStack;
+
+
+   /** Constructor for BitboardSolver.
+    *
+    *  @param lexiconIn - The lexicon to search against.
+    *  @param boardIn - The board to search (at most NeighborTable.MAX_MASK_CELLS cells).
+    *  @param neighborsIn - The neighbor table compiled for this board's size.
+    *  @throws IllegalArgumentException if the table was compiled for a different number of cells, or the
+    *     board is too big for neighbor masks.
+    */
+   BitboardSolver(Lexicon lexiconIn, TileGrid boardIn, NeighborTable neighborsIn) {
+      if (neighborsIn.size() != boardIn.size()) {
+         throw new IllegalArgumentException("neighbor table does not match the board size");
+      }
+      if (!neighborsIn.hasMasks()) {
+         throw new IllegalArgumentException("board has more than " + NeighborTable.MAX_MASK_CELLS + " cells");
+      }
+      lexicon = lexiconIn;
+      boardIn = Board.inAlphabet(boardIn, lexiconIn.alphabet());
+
+      int cells = boardIn.size();
+      masks = new long[cells];
+      codes = new int[cells];
+      sequences = new byte[cells][];
+      letters = new int[cells];
+      for (int cell = 0; cell < cells; cell++) {
+         masks[cell] = neighborsIn.mask(cell);
+         codes[cell] = boardIn.code(cell);
+         if (codes[cell] == Board.MULTI) {
+            sequences[cell] = boardIn.sequence(cell);
+            letters[cell] = sequences[cell].length;
+         }
+         else {
+            letters[cell] = 1;
+         }
+      }
+
+      int maxDepth = Math.max(1, Math.min(cells, lexicon.maxWordLength()));
+      cellStack = new int[maxDepth];
+      nodeStack = new int[maxDepth];
+      pendingStack = new long[maxDepth];
+      lengthStack = new int[maxDepth];
+      altStack = new long[maxDepth];
+   }
+
+
+   /** solve() finds every lexicon word of at least minimumWordLength characters on the board.
+    *
+    *  @param minimumWordLength - The minimum number of characters per word.
+    *  @return found - a set of the ordinals of all words found on the board.
+    */
+   @Override
+   public BitSet solve(int minimumWordLength) {
+
+      long started = SolverMetrics.startTimer();
+      BitSet found = new BitSet();
+      int maxDepth = cellStack.length;
+
+      long expanded = 0;
+      long lookups = 0;
+      long rejects = 0;
+      long emitted = 0;
+      int deepest = 0;
+
+      visited = 0L;
+      for (int start = 0; start < codes.length; start++) {
+         lookups++;
+         if (!enter(0, start, Lexicon.ROOT, 0)) {
+            rejects++;
+            continue;
+         }
+         expanded++;
+         if (emit(found, 0, minimumWordLength)) {
+            emitted++;
+         }
+
+         int depth = 0;
+         while (depth >= 0) {
+            long pending = pendingStack[depth];
+
+            // every neighbor tried (or no longer word possible): try the wildcard's next letter or backtrack
+            if (pending == 0 || depth + 1 == maxDepth) {
+               int cell = cellStack[depth];
+               long alternatives = altStack[depth];
+               if (alternatives != 0) {
+                  int parent = depth == 0 ? Lexicon.ROOT : nodeStack[depth - 1];
+                  altStack[depth] = alternatives & (alternatives - 1);
+                  nodeStack[depth] = lexicon.child(parent, Long.numberOfTrailingZeros(alternatives));
+                  pendingStack[depth] = masks[cell] & ~visited;
+                  expanded++;
+                  if (emit(found, depth, minimumWordLength)) {
+                     emitted++;
+                  }
+                  continue;
+               }
+               visited &= ~(1L << cell);
+               depth--;
+               continue;
+            }
+
+            int next = Long.numberOfTrailingZeros(pending);
+            pendingStack[depth] = pending & (pending - 1);
+
+            lookups++;
+            if (!enter(depth + 1, next, nodeStack[depth], lengthStack[depth])) {
+               rejects++;
+               continue;
+            }
+
+            depth++;
+            expanded++;
+            deepest = Math.max(deepest, depth);
+            if (emit(found, depth, minimumWordLength)) {
+               emitted++;
+            }
+         }
+      }
+
+      if (SolverMetrics.isActive()) {
+         SolverMetrics.get().recordSolve(started, expanded, lookups, rejects, emitted, deepest + 1);
+      }
+
+      return found;
+   }
+
+
+   /** enter() tries to extend the path into a cell, pushing it onto the stack at the given depth.
+    *
+    *  @param depth - The stack depth to fill.
+    *  @param cell - The cell to step into (not on the path).
+    *  @param parent - The trie node of the path so far.
+    *  @param length - The number of letters on the path so far.
+    *  @return boolean - true if some word continues through the cell (and it was pushed).
+    */
+   private boolean enter(int depth, int cell, int parent, int length) {
+      int code = codes[cell];
+      long alternatives = 0L;
+      int node;
+
+      if (code >= 0) {
+         node = lexicon.child(parent, code);
+      }
+      else if (code == Board.WILDCARD) {
+         // only the letters the lexicon can actually continue with are worth trying
+         alternatives = lexicon.childMask(parent);
+         if (alternatives == 0) {
+            return false;
+         }
+         node = lexicon.child(parent, Long.numberOfTrailingZeros(alternatives));
+         alternatives &= alternatives - 1;
+      }
+      else if (code == Board.MULTI) {
+         node = parent;
+         byte[] sequence = sequences[cell];
+         for (int i = 0; i < sequence.length && node >= 0; i++) {
+            node = lexicon.child(node, sequence[i]);
+         }
+      }
+      else {
+         return false;
+      }
+      if (node < 0) {
+         return false;
+      }
+
+      visited |= 1L << cell;
+      cellStack[depth] = cell;
+      nodeStack[depth] = node;
+      pendingStack[depth] = masks[cell] & ~visited;
+      lengthStack[depth] = length + letters[cell];
+      altStack[depth] = alternatives;
+      return true;
+   }
+
+
+   /** emit() records the word ending at the top of the stack, if there is one and it is long enough.
+    *
+    *  @return boolean - true if a word was recorded.
+    */
+   private boolean emit(BitSet found, int depth, int minimumWordLength) {
+      if (lengthStack[depth] < minimumWordLength) {
+         return false;
+      }
+      int ordinal = lexicon.wordAt(nodeStack[depth]);
+      if (ordinal >= 0) {
+         found.set(ordinal);
+         return true;
+      }
+      return false;
+   }
+
+}
@@ -0,0 +1,58 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+
+
+public class BitboardSolverTest {
+
+   private static Lexicon lexicon;
+
+
+   /** Fixture initialization - loads the lexicon both solvers search. **/
+   @BeforeClass public static void loadLexicon() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   /** A test that the bitboard search finds exactly what BoardSolver finds, on seeded boards from 1 x 1
+    *  to 8 x 8 with wildcards and multi-letter tiles, on every topology. */
+   @Test public void sameWordsTest() {
+      Random random = new Random(20261019L);
+      Adjacency[] topologies = {Adjacencies.SQUARE, Adjacencies.TOROIDAL, Adjacencies.HEX, Adjacencies.KNIGHT};
+
+      for (int trial = 0; trial < 200; trial++) {
+         int rows = 1 + random.nextInt(8);
+         int cols = 1 + random.nextInt(8);
+         String[] tiles = new String[rows * cols];
+         for (int i = 0; i < tiles.length; i++) {
+            int pick = random.nextInt(40);
+            tiles[i] = pick < 26 ? String.valueOf((char) ('A' + pick)) : pick < 36 ? "AEIOUSTRNL".substring(pick - 26, pick - 25)
+               : pick < 38 ? "QU" : pick < 39 ? Board.WILDCARD_TILE : "1";
+         }
+         Board board = new Board(tiles, rows, cols);
+         NeighborTable neighbors = NeighborTable.compile(topologies[trial % topologies.length], rows, cols);
+         int minimumWordLength = 1 + trial % 4;
+
+         assertEquals(new BoardSolver(lexicon, board, neighbors).solve(minimumWordLength),
+            new BitboardSolver(lexicon, board, neighbors).solve(minimumWordLength));
+      }
+   }
+
+
+   /** A test that the factory picks the bitboard search up to 64 cells and the general one beyond. */
+   @Test public void selectionTest() {
+      String[] small = new String[64];
+      String[] large = new String[65];
+      Arrays.fill(small, "A");
+      Arrays.fill(large, "A");
+
+      assertTrue(WordSearchGameFactory.createSolver(lexicon, new Board(small, 8, 8),
+         NeighborTable.compile(Adjacencies.SQUARE, 8, 8)) instanceof BitboardSolver);
+      assertTrue(WordSearchGameFactory.createSolver(lexicon, new Board(large, 5, 13),
+         NeighborTable.compile(Adjacencies.SQUARE, 5, 13)) instanceof BoardSolver);
+   }
+
+}
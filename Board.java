@@ -0,0 +1,275 @@
+/** Class Board is an immutable R x C grid of tiles for the word search game. Besides the tile strings
+ *  (needed for printing), each cell is packed into a single byte holding its letter code, so the solver
+ *  can walk the board without touching any String objects. Tiles longer than one letter (e.g. "QU") are
+ *  marked MULTI and keep their letter codes in a side table, and "?" tiles are wildcards that stand for
+ *  any one letter. Letter codes are those of the board's Alphabet (English unless given), which has to be
+ *  the alphabet of the lexicon the board is searched against - see inAlphabet(). See PackedBoard for a
+ *  compact form for hashing and storage.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class Board implements TileGrid {
+
+   /** The tile that stands for any single letter. */
+   static final String WILDCARD_TILE = "?";
+
+   /** Cell code for a wildcard tile. */
+   static final int WILDCARD = -2;
+
+   /** Cell code for a tile of several letters - see sequence(). */
+   static final int MULTI = -3;
+
+   /** Number of rows in the grid. */
+   private final int rows;
+
+   /** Number of columns in the grid. */
+   private final int cols;
+
+   /** The alphabet the cells are encoded in. */
+   private final Alphabet alphabet;
+
+   /** The tiles in row-major order, upper-cased. */
+   private final String[] tiles;
+
+   /** The code of each cell in row-major order: a letter code, WILDCARD, MULTI, or Lexicon.NO_LETTER. */
+   private final byte[] cells;
+
+   /** The letter codes of each MULTI cell (null for every other cell, or entirely if there are none). */
+   private byte[][] sequences;
+
+
+   /** Constructor for Board class, for an English board.
+    *
+    *  @param letterArray - The contents of the board in row-major order (length rows * cols).
+    *  @param rowsIn - The number of rows (at least 1).
+    *  @param colsIn - The number of columns (at least 1).
+    *  @throws IllegalArgumentException if letterArray is null, contains null, or does not hold rows * cols tiles.
+    */
+   Board(String[] letterArray, int rowsIn, int colsIn) {
+      this(letterArray, rowsIn, colsIn, Alphabet.ENGLISH);
+   }
+
+
+   /** Constructor for Board class in any alphabet. Tiles are folded into the alphabet (see Alphabet.fold()).
+    *
+    *  @param letterArray - The contents of the board in row-major order (length rows * cols).
+    *  @param rowsIn - The number of rows (at least 1).
+    *  @param colsIn - The number of columns (at least 1).
+    *  @param alphabetIn - The alphabet to encode the tiles in.
+    *  @throws IllegalArgumentException if letterArray or alphabetIn is null, letterArray contains null, or it
+    *     does not hold rows * cols tiles.
+    */
+   Board(String[] letterArray, int rowsIn, int colsIn, Alphabet alphabetIn) {
+
+      if (letterArray == null) {
+         throw new IllegalArgumentException("LetterArray cannot be null");
+      }
+
+      if (alphabetIn == null) {
+         throw new IllegalArgumentException("Alphabet cannot be null");
+      }
+
+      if (rowsIn < 1 || colsIn < 1 || (long) rowsIn * colsIn != letterArray.length) {
+         throw new IllegalArgumentException("LetterArray must hold exactly rows * cols tiles");
+      }
+
+      rows = rowsIn;
+      cols = colsIn;
+      alphabet = alphabetIn;
+      tiles = new String[letterArray.length];
+      cells = new byte[letterArray.length];
+
+      for (int i = 0; i < letterArray.length; i++) {
+         if (letterArray[i] == null) {
+            throw new IllegalArgumentException("LetterArray cannot contain null tiles");
+         }
+         tiles[i] = alphabet.fold(letterArray[i]);
+         cells[i] = (byte) encode(i);
+      }
+   }
+
+
+   /** encode() works out the cell code of one tile, filling in its letter sequence if it is a MULTI tile.
+    *
+    *  @param cell - The cell whose tile to encode.
+    *  @return code - the cell code.
+    */
+   private int encode(int cell) {
+      String tile = tiles[cell];
+
+      if (tile.equals(WILDCARD_TILE)) {
+         return WILDCARD;
+      }
+      if (tile.length() == 1) {
+         return alphabet.code(tile.charAt(0));
+      }
+      if (tile.isEmpty()) {
+         return Lexicon.NO_LETTER;
+      }
+
+      byte[] sequence = new byte[tile.length()];
+      for (int i = 0; i < sequence.length; i++) {
+         int code = alphabet.code(tile.charAt(i));
+         if (code == Lexicon.NO_LETTER) {
+            return Lexicon.NO_LETTER;
+         }
+         sequence[i] = (byte) code;
+      }
+
+      if (sequences == null) {
+         sequences = new byte[tiles.length][];
+      }
+      sequences[cell] = sequence;
+      return MULTI;
+   }
+
+
+   /** square() builds a square board, checking that the array length is a perfect square.
+    *
+    *  @param letterArray - The contents of an N x N board in row-major order.
+    *  @throws IllegalArgumentException if letterArray is null, or is not square.
+    *  @return board - the new board.
+    */
+   static Board square(String[] letterArray) {
+      return square(letterArray, Alphabet.ENGLISH);
+   }
+
+
+   /** square() builds a square board in an alphabet, checking that the array length is a perfect square.
+    *
+    *  @param letterArray - The contents of an N x N board in row-major order.
+    *  @param alphabetIn - The alphabet to encode the tiles in.
+    *  @throws IllegalArgumentException if letterArray or alphabetIn is null, or letterArray is not square.
+    *  @return board - the new board.
+    */
+   static Board square(String[] letterArray, Alphabet alphabetIn) {
+
+      if (letterArray == null) {
+         throw new IllegalArgumentException("LetterArray cannot be null");
+      }
+
+      int n = (int) Math.round(Math.sqrt(letterArray.length));
+      if (n * n != letterArray.length) {
+         throw new IllegalArgumentException("LetterArray must be a square array");
+      }
+
+      return new Board(letterArray, n, n, alphabetIn);
+   }
+
+
+   /** inAlphabet() gets a board's cells in the codes of an alphabet, e.g. a lexicon's before searching it.
+    *  The tiles are folded again from the board's own tiles, so an accent the board's alphabet dropped does
+    *  not come back: make boards in their lexicon's alphabet where it matters.
+    *
+    *  @param board - The board.
+    *  @param alphabetIn - The alphabet wanted.
+    *  @return grid - the board itself if it is already in that alphabet, otherwise a Board of its tiles
+    *     encoded in it.
+    */
+   static TileGrid inAlphabet(TileGrid board, Alphabet alphabetIn) {
+      if (board.alphabet() == alphabetIn) {
+         return board;
+      }
+      if (board instanceof Board) {
+         return ((Board) board).withAlphabet(alphabetIn);
+      }
+      String[] letterArray = new String[board.size()];
+      for (int cell = 0; cell < letterArray.length; cell++) {
+         letterArray[cell] = board.tile(cell);
+      }
+      return new Board(letterArray, board.rows(), board.cols(), alphabetIn);
+   }
+
+
+   /** withAlphabet() returns the board with its cells encoded in another alphabet.
+    *
+    *  @param alphabetIn - The alphabet wanted.
+    *  @return board - this board if it is already in that alphabet, otherwise a new one.
+    */
+   Board withAlphabet(Alphabet alphabetIn) {
+      return alphabetIn == alphabet ? this : new Board(tiles, rows, cols, alphabetIn);
+   }
+
+
+   /** rows() returns the number of rows. */
+   @Override
+   public int rows() {
+      return rows;
+   }
+
+
+   /** cols() returns the number of columns. */
+   @Override
+   public int cols() {
+      return cols;
+   }
+
+
+   /** size() returns the number of cells (rows * cols). */
+   @Override
+   public int size() {
+      return cells.length;
+   }
+
+
+   /** tile() returns the upper-cased tile string at a cell. */
+   @Override
+   public String tile(int cell) {
+      return tiles[cell];
+   }
+
+
+   /** code() returns the packed code at a cell: a letter code, WILDCARD, MULTI or Lexicon.NO_LETTER. */
+   @Override
+   public int code(int cell) {
+      return cells[cell];
+   }
+
+
+   /** alphabet() returns the alphabet the cells are encoded in. */
+   @Override
+   public Alphabet alphabet() {
+      return alphabet;
+   }
+
+
+   /** sequence() returns the letter codes of a MULTI cell (do not modify the array). */
+   @Override
+   public byte[] sequence(int cell) {
+      return sequences[cell];
+   }
+
+
+   /** estimatedBytes() returns roughly how much heap the board takes (object headers, tile strings and the
+    *  packed cells), for memory budgets.
+    */
+   long estimatedBytes() {
+      long bytes = 48 + 2 * 16 + 5L * tiles.length;
+      for (String tile : tiles) {
+         bytes += 40 + tile.length();
+      }
+      if (sequences != null) {
+         bytes += 16 + 4L * sequences.length;
+      }
+      return bytes;
+   }
+
+
+   /** toString() formats the board one row per line, tiles separated by spaces.
+    *
+    *  @return output - a formatted representation of the board
+    */
+   @Override
+   public String toString() {
+      StringBuilder output = new StringBuilder();
+      for (int i = 0; i < tiles.length; i++) {
+         if (i % cols == 0) {
+            output.append('\n');
+         }
+         output.append(tiles[i]).append(' ');
+      }
+      return output.toString();
+   }
+
+}
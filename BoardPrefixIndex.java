@@ -0,0 +1,139 @@
+import java.util.*;
+
+/** Class BoardPrefixIndex answers "can this prefix still become a word on this board, and how many
+ *  words does it lead to?" for as-you-type feedback. It is just the board's words in a sorted array: the
+ *  words starting with a prefix are one contiguous range, found with two binary searches that compare the
+ *  prefix in place, so a lookup takes a few microseconds and allocates nothing.
+ *
+ *  Word ranges are given as [from, to) indexes into the sorted words, so callers can keep per-word state
+ *  (e.g. which words have been found) in arrays of the same order.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class BoardPrefixIndex {
+
+   /** The words on the board, in ascending order. */
+   private final String[] words;
+
+
+   /** Constructor for BoardPrefixIndex.
+    *
+    *  @param sortedWords - The words on the board (upper case), already in ascending order, e.g. the set
+    *     from getAllScorableWords().
+    */
+   BoardPrefixIndex(SortedSet<String> sortedWords) {
+      words = sortedWords.toArray(new String[0]);
+   }
+
+
+   /** Constructor for BoardPrefixIndex from a solved board (its words are already in order). */
+   BoardPrefixIndex(BoardSolution solution) {
+      words = new String[solution.size()];
+      for (int i = 0; i < words.length; i++) {
+         words[i] = solution.word(i);
+      }
+   }
+
+
+   /** from() returns the index of the first word that starts with a prefix (or would, if there is none).
+    *
+    *  @param prefix - The prefix (upper case).
+    */
+   int from(CharSequence prefix) {
+      int low = 0;
+      int high = words.length;
+      while (low < high) {
+         int middle = (low + high) >>> 1;
+         if (compare(words[middle], prefix) < 0) {
+            low = middle + 1;
+         }
+         else {
+            high = middle;
+         }
+      }
+      return low;
+   }
+
+
+   /** to() returns one past the index of the last word that starts with a prefix.
+    *
+    *  @param prefix - The prefix (upper case).
+    */
+   int to(CharSequence prefix) {
+      int low = 0;
+      int high = words.length;
+      while (low < high) {
+         int middle = (low + high) >>> 1;
+         if (compare(words[middle], prefix) <= 0) {
+            low = middle + 1;
+         }
+         else {
+            high = middle;
+         }
+      }
+      return low;
+   }
+
+
+   /** compare() compares a word's first prefix.length() characters with a prefix, so every word that
+    *  starts with the prefix compares equal to it.
+    */
+   private static int compare(String word, CharSequence prefix) {
+      int length = Math.min(word.length(), prefix.length());
+      for (int i = 0; i < length; i++) {
+         int difference = word.charAt(i) - prefix.charAt(i);
+         if (difference != 0) {
+            return difference;
+         }
+      }
+      // a word shorter than the prefix sorts before it
+      return word.length() < prefix.length() ? -1 : 0;
+   }
+
+
+   /** completions() returns the number of words on the board that start with a prefix (including the
+    *  prefix itself, if it is a word).
+    *
+    *  @param prefix - The prefix (upper case).
+    */
+   int completions(CharSequence prefix) {
+      return to(prefix) - from(prefix);
+   }
+
+
+   /** isViable() returns true if some word on the board starts with the prefix. */
+   boolean isViable(CharSequence prefix) {
+      int from = from(prefix);
+      return from < words.length && compare(words[from], prefix) == 0;
+   }
+
+
+   /** isWord() returns true if the prefix is itself a word on the board. */
+   boolean isWord(CharSequence prefix) {
+      int from = from(prefix);
+      if (from == words.length || words[from].length() != prefix.length()) {
+         return false;
+      }
+      return compare(words[from], prefix) == 0;
+   }
+
+
+   /** indexOf() returns the index of a word, or -1 if it is not on the board. */
+   int indexOf(CharSequence word) {
+      return isWord(word) ? from(word) : -1;
+   }
+
+
+   /** word() returns the word at an index. */
+   String word(int index) {
+      return words[index];
+   }
+
+
+   /** size() returns the number of words on the board. */
+   int size() {
+      return words.length;
+   }
+
+}
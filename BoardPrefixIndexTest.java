@@ -0,0 +1,64 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+
+public class BoardPrefixIndexTest {
+
+   private SortedSet<String> words;
+   private BoardPrefixIndex index;
+
+
+   /** Fixture initialization - indexes the words on board 1 of the gui. **/
+   @Before public void setUp() {
+      WordSearchGame game = WordSearchGameFactory.createGame();
+      game.loadLexicon("words_medium.txt");
+      game.setBoard(new String[]{"S", "T", "A", "R", "M", "L", "R", "C", "E", "G",
+                                 "M", "N", "A", "O", "D", "O", "K", "V", "G", "T",
+                                 "D", "E", "I", "W", "Z", "J", "P", "I", "W", "U",
+                                 "E", "R", "B", "I", "T", "E", "O", "H", "V", "S",
+                                 "G", "R", "I", "V", "E", "R", "H", "L", "A", "C",
+                                 "G", "O", "E", "T", "T", "P", "Q", "M", "L", "I",
+                                 "O", "T", "W", "X", "U", "S", "L", "D", "Z", "Y",
+                                 "L", "A", "M", "R", "E", "H", "S", "I", "F", "J",
+                                 "W", "T", "J", "G", "P", "O", "P", "P", "E", "D",
+                                 "D", "E", "C", "I", "D", "P", "O", "R", "T", "Z"});
+      words = game.getAllScorableWords(4);
+      index = new BoardPrefixIndex(words);
+   }
+
+
+   /** A test of completions() against a scan of every word, for every prefix of every word. */
+   @Test public void completionsTest() {
+      for (String word : words) {
+         for (int length = 0; length <= word.length() + 1; length++) {
+            String prefix = length <= word.length() ? word.substring(0, length) : word + "Z";
+            int expected = 0;
+            for (String other : words) {
+               if (other.startsWith(prefix)) {
+                  expected++;
+               }
+            }
+            Assert.assertEquals(prefix, expected, index.completions(prefix));
+            Assert.assertEquals(expected > 0, index.isViable(prefix));
+            Assert.assertEquals(words.contains(prefix), index.isWord(prefix));
+         }
+      }
+   }
+
+
+   /** A test of indexOf() and the range of a prefix. */
+   @Test public void indexOfTest() {
+      Assert.assertEquals(words.size(), index.completions(""));
+      Assert.assertEquals(-1, index.indexOf("QQQQ"));
+      for (String word : words) {
+         int i = index.indexOf(word);
+         Assert.assertEquals(word, index.word(i));
+         assertTrue(i >= index.from(word) && i < index.to(word));
+      }
+   }
+
+}
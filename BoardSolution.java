@@ -0,0 +1,144 @@
+import java.util.*;
+
+/** Class BoardSolution is the immutable, solved state of one board: the board itself and the sorted
+ *  ordinals of every scorable word on it. Words are referred to by their index in this list (0 up to
+ *  size() - 1), which lets per-game state be kept in small arrays rather than sets of Strings. One
+ *  solution can be shared by every game played on the same board.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class BoardSolution {
+
+   private final Lexicon lexicon;
+   private final Board board;
+   private final int minimumWordLength;
+
+   /** The lexicon ordinals of the words on the board, ascending (so also in alphabetical order). */
+   private final int[] ordinals;
+
+   /** Built on first use by prefixIndex(). */
+   private volatile BoardPrefixIndex prefixIndex;
+
+
+   /** Constructor for BoardSolution - use solve(). */
+   private BoardSolution(Lexicon lexiconIn, Board boardIn, int minimumWordLengthIn, int[] ordinalsIn) {
+      lexicon = lexiconIn;
+      board = boardIn;
+      minimumWordLength = minimumWordLengthIn;
+      ordinals = ordinalsIn;
+   }
+
+
+   /** solve() finds every scorable word on a board.
+    *
+    *  @param lexicon - The lexicon to play with.
+    *  @param board - The board to solve.
+    *  @param neighbors - The neighbor table compiled for the board.
+    *  @param minimumWordLength - The minimum number of characters per word.
+    *  @return solution - the solved board.
+    */
+   static BoardSolution solve(Lexicon lexicon, Board board, NeighborTable neighbors, int minimumWordLength) {
+      BitSet found = WordSearchGameFactory.createSolver(lexicon, board, neighbors).solve(minimumWordLength);
+
+      int[] ordinals = new int[found.cardinality()];
+      int k = 0;
+      for (int ordinal = found.nextSetBit(0); ordinal >= 0; ordinal = found.nextSetBit(ordinal + 1)) {
+         ordinals[k] = ordinal;
+         k++;
+      }
+      return new BoardSolution(lexicon, board, minimumWordLength, ordinals);
+   }
+
+
+   /** indexOf() finds a word in the solution.
+    *
+    *  @param word - The word to look up (upper case).
+    *  @return index - the word's index in this solution, or -1 if it is not a scorable word on the board.
+    */
+   int indexOf(String word) {
+      int ordinal = lexicon.ordinalOf(word);
+      if (ordinal < 0) {
+         return -1;
+      }
+      int index = Arrays.binarySearch(ordinals, ordinal);
+      return index < 0 ? -1 : index;
+   }
+
+
+   /** indexOfOrdinal() finds a word in the solution by its lexicon ordinal.
+    *
+    *  @param ordinal - The word's ordinal in the lexicon.
+    *  @return index - the word's index in this solution, or -1 if it is not a scorable word on the board.
+    */
+   int indexOfOrdinal(int ordinal) {
+      int index = Arrays.binarySearch(ordinals, ordinal);
+      return index < 0 ? -1 : index;
+   }
+
+
+   /** estimatedBytes() returns roughly how much heap the solution holds on to (the board and the ordinals,
+    *  not the shared lexicon).
+    */
+   long estimatedBytes() {
+      // the ordinals, plus room for the prefix index (one reference per word)
+      return 64 + 2 * 16 + 8L * ordinals.length + board.estimatedBytes();
+   }
+
+
+   /** prefixIndex() returns an index of the words on the board by prefix, built on first use. Its word
+    *  indexes are the same as this solution's.
+    */
+   BoardPrefixIndex prefixIndex() {
+      BoardPrefixIndex index = prefixIndex;
+      if (index == null) {
+         // a race only builds an identical index twice
+         index = new BoardPrefixIndex(this);
+         prefixIndex = index;
+      }
+      return index;
+   }
+
+
+   /** size() returns the number of scorable words on the board. */
+   int size() {
+      return ordinals.length;
+   }
+
+
+   /** word() returns the word at an index of this solution. */
+   String word(int index) {
+      return lexicon.word(ordinals[index]);
+   }
+
+
+   /** ordinal() returns the lexicon ordinal of the word at an index of this solution. */
+   int ordinal(int index) {
+      return ordinals[index];
+   }
+
+
+   /** score() returns the points for the word at an index (one point per character). */
+   int score(int index) {
+      return lexicon.word(ordinals[index]).length();
+   }
+
+
+   /** board() returns the solved board. */
+   Board board() {
+      return board;
+   }
+
+
+   /** lexicon() returns the lexicon the board was solved against. */
+   Lexicon lexicon() {
+      return lexicon;
+   }
+
+
+   /** minimumWordLength() returns the minimum word length the board was solved for. */
+   int minimumWordLength() {
+      return minimumWordLength;
+   }
+
+}
@@ -0,0 +1,385 @@
+import java.util.BitSet;
+
+/** Class BoardSolver finds words on a Board (or any TileGrid) using an iterative depth-first search that
+ *  walks the lexicon trie alongside the board, so every step is a single array lookup instead of building
+ *  and comparing Strings. Neighbors come from a precompiled NeighborTable, so the same loop serves every
+ *  topology. The search stack is a handful of int arrays sized by the longest word in the lexicon, and
+ *  the visited set is one flag per cell, so memory stays proportional to the board plus the maximum word
+ *  length no matter how many paths are explored.
+ *
+ *  A tile of several letters moves the trie cursor by its whole letter sequence in one step, and a
+ *  wildcard tile fans out over only the letters the current trie node actually has children for.
+ *
+ *  Boards of at most 64 cells are searched faster by BitboardSolver; WordSearchGameFactory.createSolver()
+ *  picks the right one.
+ *
+ *  A solver is not thread-safe, but it is cheap to create; use one per thread.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class BoardSolver implements GridSolver {
+
+   private final Lexicon lexicon;
+   private final TileGrid board;
+   private final NeighborTable neighbors;
+
+   /** visited[c] is true while cell c is on the current path. */
+   private final boolean[] visited;
+
+   /** The search stack: cell, trie node and next neighbor table index at each depth. */
+   private final int[] cellStack;
+   private final int[] nodeStack;
+   private final int[] nextStack;
+
+   /** For wildcard cells on the stack, the letters (one bit per code) not yet tried in that cell. */
+   private final long[] altStack;
+
+   /** Counters from the last call to solve() - see SolverMetrics. */
+   private long nodesExpanded;
+   private long prefixLookups;
+   private long prefixRejects;
+   private long wordsEmitted;
+   private int maxDepthReached;
+
+
+   /** Constructor for BoardSolver on the classic 8-neighbor square grid.
+    *
+    *  @param lexiconIn - The lexicon to search against.
+    *  @param boardIn - The board to search.
+    */
+   BoardSolver(Lexicon lexiconIn, TileGrid boardIn) {
+      this(lexiconIn, boardIn, NeighborTable.compile(Adjacencies.SQUARE, boardIn.rows(), boardIn.cols()));
+   }
+
+
+   /** Constructor for BoardSolver with any topology.
+    *
+    *  @param lexiconIn - The lexicon to search against.
+    *  @param boardIn - The board to search.
+    *  @param neighborsIn - The neighbor table compiled for this board's size.
+    *  @throws IllegalArgumentException if the table was compiled for a different number of cells.
+    */
+   BoardSolver(Lexicon lexiconIn, TileGrid boardIn, NeighborTable neighborsIn) {
+      if (neighborsIn.size() != boardIn.size()) {
+         throw new IllegalArgumentException("neighbor table does not match the board size");
+      }
+      lexicon = lexiconIn;
+      board = Board.inAlphabet(boardIn, lexiconIn.alphabet());
+      neighbors = neighborsIn;
+      visited = new boolean[board.size()];
+
+      // no path can be longer than the board or than the longest word
+      int maxDepth = Math.max(1, Math.min(board.size(), lexicon.maxWordLength()));
+      cellStack = new int[maxDepth];
+      nodeStack = new int[maxDepth];
+      nextStack = new int[maxDepth];
+      altStack = new long[maxDepth];
+   }
+
+
+   /** solve() finds every lexicon word of at least minimumWordLength characters on the board.
+    *
+    *  @param minimumWordLength - The minimum number of characters per word.
+    *  @return found - a set of the ordinals of all words found on the board.
+    */
+   @Override
+   public BitSet solve(int minimumWordLength) {
+
+      long started = SolverMetrics.startTimer();
+      BitSet found = new BitSet();
+      int maxDepth = cellStack.length;
+
+      // counted in locals so the search loop costs the same whether or not metrics are collected
+      long expanded = 0;
+      long lookups = 0;
+      long rejects = 0;
+      long emitted = 0;
+      int deepest = 0;
+
+      for (int start = 0; start < board.size(); start++) {
+         lookups++;
+         if (!enter(0, start, Lexicon.ROOT)) {
+            rejects++;
+            continue;
+         }
+         expanded++;
+         if (emit(found, nodeStack[0], minimumWordLength)) {
+            emitted++;
+         }
+
+         int depth = 0;
+         while (depth >= 0) {
+            int cell = cellStack[depth];
+            int index = nextStack[depth];
+
+            // every neighbor tried (or no longer word possible): try the wildcard's next letter or backtrack
+            if (index == neighbors.end(cell) || depth + 1 == maxDepth) {
+               long alternatives = altStack[depth];
+               if (alternatives != 0) {
+                  int parent = depth == 0 ? Lexicon.ROOT : nodeStack[depth - 1];
+                  altStack[depth] = alternatives & (alternatives - 1);
+                  nodeStack[depth] = lexicon.child(parent, Long.numberOfTrailingZeros(alternatives));
+                  nextStack[depth] = neighbors.start(cell);
+                  expanded++;
+                  if (emit(found, nodeStack[depth], minimumWordLength)) {
+                     emitted++;
+                  }
+                  continue;
+               }
+               visited[cell] = false;
+               depth--;
+               continue;
+            }
+            nextStack[depth] = index + 1;
+
+            int next = neighbors.neighbor(index);
+            if (visited[next]) {
+               continue;
+            }
+            lookups++;
+            if (!enter(depth + 1, next, nodeStack[depth])) {
+               rejects++;
+               continue;
+            }
+
+            depth++;
+            expanded++;
+            deepest = Math.max(deepest, depth);
+            if (emit(found, nodeStack[depth], minimumWordLength)) {
+               emitted++;
+            }
+         }
+      }
+
+      nodesExpanded = expanded;
+      prefixLookups = lookups;
+      prefixRejects = rejects;
+      wordsEmitted = emitted;
+      maxDepthReached = deepest + 1;
+
+      if (SolverMetrics.isActive()) {
+         SolverMetrics.get().recordSolve(started, expanded, lookups, rejects, emitted, deepest + 1);
+      }
+
+      return found;
+   }
+
+
+   /** nodesExpanded() returns how many (cell, trie node) states the last solve() pushed. */
+   long nodesExpanded() {
+      return nodesExpanded;
+   }
+
+
+   /** prefixLookups() returns how many times the last solve() tried to extend a path into a cell. */
+   long prefixLookups() {
+      return prefixLookups;
+   }
+
+
+   /** prefixRejects() returns how many of those extensions were pruned because no word continued. */
+   long prefixRejects() {
+      return prefixRejects;
+   }
+
+
+   /** wordsEmitted() returns how many times the last solve() reached a long enough word (repeats included). */
+   long wordsEmitted() {
+      return wordsEmitted;
+   }
+
+
+   /** maxDepthReached() returns the longest path, in tiles, the last solve() explored. */
+   int maxDepthReached() {
+      return maxDepthReached;
+   }
+
+
+   /** enter() tries to extend the path into a cell, pushing it onto the stack at the given depth.
+    *
+    *  @param depth - The stack depth to fill.
+    *  @param cell - The cell to step into.
+    *  @param parent - The trie node of the path so far.
+    *  @return boolean - true if some word continues through the cell (and it was pushed).
+    */
+   private boolean enter(int depth, int cell, int parent) {
+      int code = board.code(cell);
+      long alternatives = 0L;
+      int node;
+
+      if (code == Board.WILDCARD) {
+         // only the letters the lexicon can actually continue with are worth trying
+         alternatives = lexicon.childMask(parent);
+         if (alternatives == 0) {
+            return false;
+         }
+         node = lexicon.child(parent, Long.numberOfTrailingZeros(alternatives));
+         alternatives &= alternatives - 1;
+      }
+      else {
+         node = step(parent, cell);
+         if (node < 0) {
+            return false;
+         }
+      }
+
+      cellStack[depth] = cell;
+      nodeStack[depth] = node;
+      nextStack[depth] = neighbors.start(cell);
+      altStack[depth] = alternatives;
+      visited[cell] = true;
+      return true;
+   }
+
+
+   /** step() moves a trie node through the letters of a (non-wildcard) tile.
+    *
+    *  @param node - The trie node before the tile.
+    *  @param cell - The cell holding the tile.
+    *  @return node - the trie node after the tile, or -1 if no word continues that way.
+    */
+   private int step(int node, int cell) {
+      int code = board.code(cell);
+      if (code >= 0) {
+         return lexicon.child(node, code);
+      }
+      if (code != Board.MULTI) {
+         return -1;
+      }
+
+      byte[] sequence = board.sequence(cell);
+      for (int i = 0; i < sequence.length && node >= 0; i++) {
+         node = lexicon.child(node, sequence[i]);
+      }
+      return node;
+   }
+
+
+   /** emit() records the word ending at a trie node, if there is one and it is long enough.
+    *
+    *  @return boolean - true if a word was recorded.
+    */
+   private boolean emit(BitSet found, int node, int minimumWordLength) {
+      int ordinal = lexicon.wordAt(node);
+      if (ordinal >= 0 && lexicon.word(ordinal).length() >= minimumWordLength) {
+         found.set(ordinal);
+         return true;
+      }
+      return false;
+   }
+
+
+   /** findPath() searches the board for one path that spells the given word. Tiles match the word
+    *  a whole tile at a time, and a wildcard tile matches any one character.
+    *
+    *  @param word - The word to look for (need not be in the lexicon).
+    *  @return path - the cells of the path in order, or null if the word is not on the board.
+    */
+   int[] findPath(String word) {
+      return findPath(word, null);
+   }
+
+
+   /** findPath() searches the board for one path that spells the given word, starting only from some cells
+    *  (e.g. those whose tile can begin the word - see WordDrivenSolver).
+    *
+    *  @param word - The word to look for (need not be in the lexicon).
+    *  @param starts - The cells the path may start at, or null for every cell.
+    *  @return path - the cells of the path in order, or null if the word is not on the board.
+    */
+   int[] findPath(String word, int[] starts) {
+
+      int length = word.length();
+      if (length == 0) {
+         return null;
+      }
+
+      // every tile covers at least one character, so the path is never longer than the word
+      int maxDepth = Math.min(length, board.size());
+      int[] path = new int[maxDepth];
+      int[] next = new int[maxDepth];
+      int[] matched = new int[maxDepth];
+
+      int startCount = starts == null ? board.size() : starts.length;
+      for (int i = 0; i < startCount; i++) {
+         int start = starts == null ? i : starts[i];
+         int position = match(board, start, word, 0);
+         if (position < 0) {
+            continue;
+         }
+
+         int depth = 0;
+         path[0] = start;
+         next[0] = neighbors.start(start);
+         matched[0] = position;
+         visited[start] = true;
+
+         while (depth >= 0) {
+            if (matched[depth] == length) {
+               clearVisited(path, depth);
+               return java.util.Arrays.copyOf(path, depth + 1);
+            }
+
+            int cell = path[depth];
+            int index = next[depth];
+            if (index == neighbors.end(cell) || depth + 1 == maxDepth) {
+               visited[cell] = false;
+               depth--;
+               continue;
+            }
+            next[depth] = index + 1;
+
+            int neighbor = neighbors.neighbor(index);
+            if (visited[neighbor]) {
+               continue;
+            }
+            position = match(board, neighbor, word, matched[depth]);
+            if (position < 0) {
+               continue;
+            }
+
+            depth++;
+            path[depth] = neighbor;
+            next[depth] = neighbors.start(neighbor);
+            matched[depth] = position;
+            visited[neighbor] = true;
+         }
+      }
+
+      return null;
+   }
+
+
+   /** match() checks whether a cell's tile appears in the word at a position.
+    *
+    *  @param board - The board.
+    *  @param cell - The cell whose tile to match.
+    *  @param word - The word being searched for.
+    *  @param position - The index in the word the tile must start at.
+    *  @return position - the index just past the tile, or -1 if the tile does not match there.
+    */
+   static int match(TileGrid board, int cell, String word, int position) {
+      if (position >= word.length()) {
+         return -1;
+      }
+      if (board.code(cell) == Board.WILDCARD) {
+         return position + 1;
+      }
+
+      String tile = board.tile(cell);
+      if (tile.isEmpty() || !word.startsWith(tile, position)) {
+         return -1;
+      }
+      return position + tile.length();
+   }
+
+
+   /** clearVisited() resets the visited flags of the first depth + 1 cells of a path. */
+   private void clearVisited(int[] path, int depth) {
+      for (int i = 0; i <= depth; i++) {
+         visited[path[i]] = false;
+      }
+   }
+
+}
@@ -0,0 +1,297 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.util.List;
+
+/** Class BoardView is a Swing component that draws a Board as a grid of tiles. Only the cells inside the
+ *  area being repainted are drawn, straight from the Board, so even a 500 x 500 board scrolls smoothly
+ *  inside a JScrollPane. Ctrl + mouse wheel (or setCellSize()) zooms, keeping the cell under the mouse in
+ *  place, and a found word's path (as returned by isOnBoard()) can be highlighted - only the cells the old
+ *  and new paths cover are repainted.
+ *
+ *  @version October 19th, 2026
+ */
+
+class BoardView extends JComponent implements Scrollable {
+
+   private static final long serialVersionUID = 1L;
+
+   /** Smallest and largest cell size in pixels. */
+   static final int MIN_CELL_SIZE = 8;
+   static final int MAX_CELL_SIZE = 96;
+
+   /** Cell size of a new view. */
+   static final int DEFAULT_CELL_SIZE = 48;
+
+   /** Largest viewport a scroll pane asks for by default. */
+   private static final int MAX_PREFERRED_VIEWPORT = 600;
+
+   private static final Color GRID_COLOR = new Color(200, 200, 200);
+   private static final Color HIGHLIGHT_COLOR = new Color(255, 230, 120);
+   private static final Color PATH_COLOR = new Color(230, 120, 0, 160);
+
+   private Board board;
+   private int cellSize = DEFAULT_CELL_SIZE;
+
+   /** The font for the current cell size (tile text is sized to the cell). */
+   private Font tileFont;
+
+   /** The highlighted path, as cell numbers in order (empty if none). */
+   private int[] path = new int[0];
+
+   /** highlighted[cell] is true if the cell is on the highlighted path (null when there is no board). */
+   private boolean[] highlighted;
+
+
+   /** Constructor for BoardView - an empty view; see setBoard(). */
+   BoardView() {
+      setOpaque(true);
+      setBackground(Color.WHITE);
+      updateFont();
+
+      addMouseWheelListener(new MouseWheelListener() {
+         @Override
+         public void mouseWheelMoved(MouseWheelEvent e) {
+            if (e.isControlDown()) {
+               zoomAt(e.getPoint(), e.getWheelRotation() < 0 ? 1.25 : 0.8);
+            }
+            else {
+               // let the enclosing scroll pane scroll as usual
+               Component pane = SwingUtilities.getAncestorOfClass(JScrollPane.class, BoardView.this);
+               if (pane != null) {
+                  pane.dispatchEvent(SwingUtilities.convertMouseEvent(BoardView.this, e, pane));
+               }
+            }
+         }
+      });
+   }
+
+
+   /** setBoard() shows a new board (clearing any highlighted path).
+    *
+    *  @param boardIn - The board to show, or null for none.
+    */
+   void setBoard(Board boardIn) {
+      board = boardIn;
+      path = new int[0];
+      highlighted = board == null ? null : new boolean[board.size()];
+      revalidate();
+      repaint();
+   }
+
+
+   /** getBoard() returns the board being shown (null if none). */
+   Board getBoard() {
+      return board;
+   }
+
+
+   /** setCellSize() zooms the view.
+    *
+    *  @param size - The width and height of a cell in pixels (clamped to MIN_CELL_SIZE .. MAX_CELL_SIZE).
+    */
+   void setCellSize(int size) {
+      cellSize = Math.max(MIN_CELL_SIZE, Math.min(MAX_CELL_SIZE, size));
+      updateFont();
+      revalidate();
+      repaint();
+   }
+
+
+   /** getCellSize() returns the width and height of a cell in pixels. */
+   int getCellSize() {
+      return cellSize;
+   }
+
+
+   /** zoomAt() zooms by a factor, keeping the point under the mouse over the same cell. */
+   private void zoomAt(Point point, double factor) {
+      int oldSize = cellSize;
+      setCellSize((int) Math.round(cellSize * factor));
+      if (cellSize == oldSize) {
+         return;
+      }
+
+      // the layout only updates after revalidate(), so size the component now so that scrolling works
+      setSize(getPreferredSize());
+      Rectangle visible = getVisibleRect();
+      double scale = cellSize / (double) oldSize;
+      visible.x = (int) Math.round(point.x * scale) - (point.x - visible.x);
+      visible.y = (int) Math.round(point.y * scale) - (point.y - visible.y);
+      scrollRectToVisible(visible);
+   }
+
+
+   /** highlight() highlights a path, e.g. the cells of a word from isOnBoard().
+    *
+    *  @param cells - The cells of the path in order (an empty list or null clears the highlight).
+    */
+   void highlight(List<Integer> cells) {
+      if (board == null) {
+         return;
+      }
+
+      Rectangle dirty = pathBounds();
+      for (int cell : path) {
+         highlighted[cell] = false;
+      }
+
+      path = new int[cells == null ? 0 : cells.size()];
+      for (int i = 0; i < path.length; i++) {
+         path[i] = cells.get(i);
+         highlighted[path[i]] = true;
+      }
+
+      Rectangle bounds = pathBounds();
+      if (dirty == null) {
+         dirty = bounds;
+      }
+      else if (bounds != null) {
+         dirty = dirty.union(bounds);
+      }
+      if (dirty != null) {
+         repaint(dirty);
+      }
+   }
+
+
+   /** scrollToPath() scrolls so that the highlighted path is visible. */
+   void scrollToPath() {
+      Rectangle bounds = pathBounds();
+      if (bounds != null) {
+         scrollRectToVisible(bounds);
+      }
+   }
+
+
+   /** pathBounds() returns the pixel bounds of the highlighted path, or null if there is none. */
+   private Rectangle pathBounds() {
+      Rectangle bounds = null;
+      for (int cell : path) {
+         Rectangle cellBounds = cellBounds(cell);
+         bounds = bounds == null ? cellBounds : bounds.union(cellBounds);
+      }
+      return bounds;
+   }
+
+
+   /** cellBounds() returns the pixel bounds of a cell. */
+   private Rectangle cellBounds(int cell) {
+      return new Rectangle((cell % board.cols()) * cellSize, (cell / board.cols()) * cellSize, cellSize, cellSize);
+   }
+
+
+   /** updateFont() sizes the tile font to the cell. */
+   private void updateFont() {
+      tileFont = new Font("Times", Font.BOLD, Math.max(6, cellSize / 2));
+   }
+
+
+   /** paintComponent() draws the cells that intersect the clip, their tiles, and the highlighted path. */
+   @Override
+   protected void paintComponent(Graphics graphics) {
+      Graphics2D g = (Graphics2D) graphics;
+      Rectangle clip = g.getClipBounds();
+      if (clip == null) {
+         clip = new Rectangle(0, 0, getWidth(), getHeight());
+      }
+
+      g.setColor(getBackground());
+      g.fillRect(clip.x, clip.y, clip.width, clip.height);
+      if (board == null) {
+         return;
+      }
+
+      int firstRow = Math.max(0, clip.y / cellSize);
+      int lastRow = Math.min(board.rows() - 1, (clip.y + clip.height) / cellSize);
+      int firstCol = Math.max(0, clip.x / cellSize);
+      int lastCol = Math.min(board.cols() - 1, (clip.x + clip.width) / cellSize);
+
+      g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+      g.setFont(tileFont);
+      FontMetrics metrics = g.getFontMetrics();
+      boolean drawText = cellSize >= MIN_CELL_SIZE + 4;
+
+      for (int row = firstRow; row <= lastRow; row++) {
+         int y = row * cellSize;
+         for (int col = firstCol; col <= lastCol; col++) {
+            int x = col * cellSize;
+            int cell = row * board.cols() + col;
+
+            if (highlighted[cell]) {
+               g.setColor(HIGHLIGHT_COLOR);
+               g.fillRect(x, y, cellSize, cellSize);
+            }
+            g.setColor(GRID_COLOR);
+            g.drawRect(x, y, cellSize - 1, cellSize - 1);
+
+            if (drawText) {
+               String tile = board.tile(cell);
+               g.setColor(Color.BLACK);
+               g.drawString(tile, x + (cellSize - metrics.stringWidth(tile)) / 2,
+                  y + (cellSize - metrics.getHeight()) / 2 + metrics.getAscent());
+            }
+         }
+      }
+
+      if (path.length > 1) {
+         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+         g.setColor(PATH_COLOR);
+         g.setStroke(new BasicStroke(Math.max(2f, cellSize / 8f), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+         int half = cellSize / 2;
+         for (int i = 1; i < path.length; i++) {
+            Rectangle from = cellBounds(path[i - 1]);
+            Rectangle to = cellBounds(path[i]);
+            g.drawLine(from.x + half, from.y + half, to.x + half, to.y + half);
+         }
+      }
+   }
+
+
+   /** getPreferredSize() is the whole board at the current cell size. */
+   @Override
+   public Dimension getPreferredSize() {
+      if (board == null) {
+         return new Dimension(0, 0);
+      }
+      return new Dimension(board.cols() * cellSize, board.rows() * cellSize);
+   }
+
+
+   /** getPreferredScrollableViewportSize() is the whole board, up to MAX_PREFERRED_VIEWPORT pixels a side. */
+   @Override
+   public Dimension getPreferredScrollableViewportSize() {
+      Dimension size = getPreferredSize();
+      return new Dimension(Math.min(size.width, MAX_PREFERRED_VIEWPORT), Math.min(size.height, MAX_PREFERRED_VIEWPORT));
+   }
+
+
+   /** getScrollableUnitIncrement() scrolls one cell at a time. */
+   @Override
+   public int getScrollableUnitIncrement(Rectangle visible, int orientation, int direction) {
+      return cellSize;
+   }
+
+
+   /** getScrollableBlockIncrement() scrolls a page, less one cell so that some context stays in view. */
+   @Override
+   public int getScrollableBlockIncrement(Rectangle visible, int orientation, int direction) {
+      int page = orientation == SwingConstants.HORIZONTAL ? visible.width : visible.height;
+      return Math.max(cellSize, page - cellSize);
+   }
+
+
+   /** getScrollableTracksViewportWidth() is false, so wide boards scroll sideways. */
+   @Override
+   public boolean getScrollableTracksViewportWidth() {
+      return false;
+   }
+
+
+   /** getScrollableTracksViewportHeight() is false, so tall boards scroll. */
+   @Override
+   public boolean getScrollableTracksViewportHeight() {
+      return false;
+   }
+
+}
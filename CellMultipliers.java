@@ -0,0 +1,89 @@
+import java.util.Arrays;
+
+/** Class CellMultipliers marks premium cells on one board, like the double and triple letter and word
+ *  squares of Scrabble: a letter multiplier multiplies the weight of every letter of the tile on that
+ *  cell, and a word multiplier multiplies the points of every word whose path goes through it. It is an
+ *  immutable value built up with the with...() methods; see ScoreTable.score(ordinal, path, ...).
+ *
+ *  @version October 19th, 2026
+ */
+
+final class CellMultipliers {
+
+   private final int[] letterMultipliers;
+   private final int[] wordMultipliers;
+
+
+   /** Constructor for CellMultipliers - no premium cells yet.
+    *
+    *  @param cells - The number of cells on the board.
+    *  @throws IllegalArgumentException if cells is less than 1.
+    */
+   CellMultipliers(int cells) {
+      if (cells < 1) {
+         throw new IllegalArgumentException("A board has at least one cell");
+      }
+      letterMultipliers = new int[cells];
+      wordMultipliers = new int[cells];
+      Arrays.fill(letterMultipliers, 1);
+      Arrays.fill(wordMultipliers, 1);
+   }
+
+
+   /** Constructor for CellMultipliers - a copy to change. */
+   private CellMultipliers(int[] letterMultipliersIn, int[] wordMultipliersIn) {
+      letterMultipliers = letterMultipliersIn;
+      wordMultipliers = wordMultipliersIn;
+   }
+
+
+   /** withLetterMultiplier() returns these multipliers with one cell's letter multiplier changed.
+    *
+    *  @param cell - The cell (row-major).
+    *  @param multiplier - How many times its letters count (at least 1).
+    *  @throws IllegalArgumentException if multiplier is less than 1.
+    */
+   CellMultipliers withLetterMultiplier(int cell, int multiplier) {
+      if (multiplier < 1) {
+         throw new IllegalArgumentException("Multiplier must be at least 1");
+      }
+      int[] letters = letterMultipliers.clone();
+      letters[cell] = multiplier;
+      return new CellMultipliers(letters, wordMultipliers);
+   }
+
+
+   /** withWordMultiplier() returns these multipliers with one cell's word multiplier changed.
+    *
+    *  @param cell - The cell (row-major).
+    *  @param multiplier - How many times a word through the cell counts (at least 1).
+    *  @throws IllegalArgumentException if multiplier is less than 1.
+    */
+   CellMultipliers withWordMultiplier(int cell, int multiplier) {
+      if (multiplier < 1) {
+         throw new IllegalArgumentException("Multiplier must be at least 1");
+      }
+      int[] words = wordMultipliers.clone();
+      words[cell] = multiplier;
+      return new CellMultipliers(letterMultipliers, words);
+   }
+
+
+   /** letterMultiplier() returns how many times the letters of a cell count. */
+   int letterMultiplier(int cell) {
+      return letterMultipliers[cell];
+   }
+
+
+   /** wordMultiplier() returns how many times a word through a cell counts. */
+   int wordMultiplier(int cell) {
+      return wordMultipliers[cell];
+   }
+
+
+   /** size() returns the number of cells. */
+   int size() {
+      return letterMultipliers.length;
+   }
+
+}
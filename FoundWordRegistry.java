@@ -0,0 +1,314 @@
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Class FoundWordRegistry records who found which word on one solved board, for rounds where several
+ *  players race on the same board and the first to find a word gets its points. Words are identified by
+ *  their index in the board's BoardSolution, and each has one slot holding the number of the player who
+ *  claimed it (or UNCLAIMED). A claim is a single compare-and-set on that slot, so checking for duplicates
+ *  and settling races are O(1) and no lock is ever taken, however many players submit at once.
+ *
+ *  Players join the round to get a player number, also without a lock: a number is reserved with a
+ *  compare-and-set, and the player counts as joined once its name is set. Each has its own score counter.
+ *  Counters for
+ *  contention (lost races, duplicate guesses) are kept so a busy board can be spotted.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class FoundWordRegistry {
+
+   /** Slot value of a word nobody has found yet. */
+   static final int UNCLAIMED = -1;
+
+   /** Result of a claim. */
+   enum Claim {
+      /** The player is the first to find the word and scored it. */
+      CLAIMED,
+      /** The player had already found the word. */
+      ALREADY_YOURS,
+      /** Another player found the word first. */
+      TAKEN,
+      /** The word is not a scorable word on the board. */
+      NOT_ON_BOARD
+   }
+
+   /** Longs between two players' scores, so players on different cores do not share a cache line. */
+   private static final int SCORE_STRIDE = 8;
+
+   private final BoardSolution solution;
+   private final int maxPlayers;
+
+   /** The player who claimed each word, by solution index, or UNCLAIMED. */
+   private final AtomicIntegerArray owners;
+
+   /** Counts of claimed words as a Fenwick (binary indexed) tree over solution indexes, so the number of
+    *  words found in any range - e.g. the words starting with a prefix - takes O(log n). */
+   private final AtomicIntegerArray claimedTree;
+
+   /** Each player's score, at index player * SCORE_STRIDE. */
+   private final AtomicLongArray scores;
+
+   /** Each player's name, by player number; null while the player is still joining. */
+   private final AtomicReferenceArray<String> names;
+
+   /** Player numbers handed out by join() (never more than maxPlayers). */
+   private final AtomicInteger reserved = new AtomicInteger();
+   private final AtomicInteger claimedCount = new AtomicInteger();
+
+   private final LongAdder attempts = new LongAdder();
+   private final LongAdder duplicates = new LongAdder();
+   private final LongAdder taken = new LongAdder();
+   private final LongAdder lostRaces = new LongAdder();
+
+
+   /** Constructor for FoundWordRegistry.
+    *
+    *  @param solutionIn - The solved board the round is played on.
+    *  @param maxPlayersIn - The most players that may join (at least 1).
+    *  @throws IllegalArgumentException if maxPlayersIn is less than 1.
+    */
+   FoundWordRegistry(BoardSolution solutionIn, int maxPlayersIn) {
+
+      if (maxPlayersIn < 1) {
+         throw new IllegalArgumentException("maxPlayers must be at least 1");
+      }
+
+      solution = solutionIn;
+      maxPlayers = maxPlayersIn;
+      owners = new AtomicIntegerArray(solution.size());
+      for (int i = 0; i < solution.size(); i++) {
+         owners.set(i, UNCLAIMED);
+      }
+      claimedTree = new AtomicIntegerArray(solution.size() + 1);
+      scores = new AtomicLongArray(maxPlayers * SCORE_STRIDE);
+      names = new AtomicReferenceArray<String>(maxPlayers);
+   }
+
+
+   /** join() adds a player to the round.
+    *
+    *  @param name - The player's name (for display only), or null for a default one.
+    *  @throws IllegalStateException if the round already has maxPlayers players.
+    *  @return player - the new player's number (0 up to maxPlayers - 1).
+    */
+   int join(String name) {
+      // reserve a number without ever counting past maxPlayers, even for a moment
+      int player;
+      do {
+         player = reserved.get();
+         if (player >= maxPlayers) {
+            throw new IllegalStateException("the game already has " + maxPlayers + " players");
+         }
+      } while (!reserved.compareAndSet(player, player + 1));
+
+      // setting the name completes the join; players joining at the same time never wait for each other
+      names.set(player, name != null ? name : "player" + (player + 1));
+      return player;
+   }
+
+
+   /** claim() scores a guessed word for a player if nobody has found it yet.
+    *
+    *  @param player - The player making the guess.
+    *  @param word - The guess (upper case).
+    *  @throws IllegalArgumentException if player has not joined.
+    *  @return claim - whether the player scored the word, and if not, why.
+    */
+   Claim claim(int player, String word) {
+      checkPlayer(player);
+      attempts.increment();
+
+      int index = solution.indexOf(word);
+      if (index < 0) {
+         return Claim.NOT_ON_BOARD;
+      }
+
+      // a plain read settles most repeats without a compare-and-set
+      int owner = owners.get(index);
+      if (owner == UNCLAIMED) {
+         if (owners.compareAndSet(index, UNCLAIMED, player)) {
+            scores.addAndGet(player * SCORE_STRIDE, solution.score(index));
+            claimedCount.incrementAndGet();
+            countClaim(index);
+            return Claim.CLAIMED;
+         }
+         // another player claimed it between the read and the compare-and-set
+         lostRaces.increment();
+         owner = owners.get(index);
+      }
+
+      if (owner == player) {
+         duplicates.increment();
+         return Claim.ALREADY_YOURS;
+      }
+      taken.increment();
+      return Claim.TAKEN;
+   }
+
+
+   /** checkPlayer() rejects player numbers that have not been handed out by join(). */
+   private void checkPlayer(int player) {
+      if (!joined(player)) {
+         throw new IllegalArgumentException("no such player: " + player);
+      }
+   }
+
+
+   /** restore() re-applies a claim recorded earlier, e.g. when a game is rebuilt from a snapshot. Call it
+    *  only before the registry is shared with other threads.
+    *
+    *  @param index - The word's index in the solution.
+    *  @param player - The player who found it (must have joined).
+    */
+   void restore(int index, int player) {
+      checkPlayer(player);
+      if (owners.compareAndSet(index, UNCLAIMED, player)) {
+         scores.addAndGet(player * SCORE_STRIDE, solution.score(index));
+         claimedCount.incrementAndGet();
+         countClaim(index);
+      }
+   }
+
+
+   /** countClaim() adds a newly claimed word to claimedTree. */
+   private void countClaim(int index) {
+      for (int node = index + 1; node < claimedTree.length(); node += node & -node) {
+         claimedTree.incrementAndGet(node);
+      }
+   }
+
+
+   /** claimedBefore() returns the number of claimed words with an index below end. */
+   private int claimedBefore(int end) {
+      int count = 0;
+      for (int node = end; node > 0; node -= node & -node) {
+         count += claimedTree.get(node);
+      }
+      return count;
+   }
+
+
+   /** claimedBetween() returns the number of words found so far among the solution indexes from (inclusive)
+    *  to (exclusive), e.g. a range from BoardPrefixIndex. Claims made during the call may or may not be
+    *  counted.
+    */
+   int claimedBetween(int from, int to) {
+      return from >= to ? 0 : claimedBefore(to) - claimedBefore(from);
+   }
+
+
+   /** restoreCounters() adds contention counts recorded earlier (see restore()). */
+   void restoreCounters(long attemptsIn, long duplicatesIn, long takenIn, long lostRacesIn) {
+      attempts.add(attemptsIn);
+      duplicates.add(duplicatesIn);
+      taken.add(takenIn);
+      lostRaces.add(lostRacesIn);
+   }
+
+
+   /** estimatedBytes() returns roughly how much heap the registry takes, not counting the solution. */
+   long estimatedBytes() {
+      long bytes = 160 + 4 * 24 + 2 * 16 + 4L * owners.length() + 4L * claimedTree.length() + 16
+         + 8L * scores.length() + 16 + 4L * maxPlayers;
+      for (int player = 0; player < reserved.get(); player++) {
+         String name = names.get(player);
+         bytes += name == null ? 0 : 40 + name.length();
+      }
+      return bytes;
+   }
+
+
+   /** owner() returns the player who found a word, or UNCLAIMED.
+    *
+    *  @param index - The word's index in the solution.
+    */
+   int owner(int index) {
+      return owners.get(index);
+   }
+
+
+   /** score() returns a player's score. */
+   long score(int player) {
+      checkPlayer(player);
+      return scores.get(player * SCORE_STRIDE);
+   }
+
+
+   /** totalScore() returns the points scored by every player together. */
+   long totalScore() {
+      long total = 0;
+      for (int player = 0; player < reserved.get(); player++) {
+         total += scores.get(player * SCORE_STRIDE);
+      }
+      return total;
+   }
+
+
+   /** name() returns a player's name. */
+   String name(int player) {
+      checkPlayer(player);
+      return names.get(player);
+   }
+
+
+   /** players() returns the number of player numbers handed out. A player still inside join() is counted
+    *  but not yet joined() (see joined()).
+    */
+   int players() {
+      return reserved.get();
+   }
+
+
+   /** joined() checks whether a player number belongs to a player who has finished joining. */
+   boolean joined(int player) {
+      return player >= 0 && player < maxPlayers && names.get(player) != null;
+   }
+
+
+   /** maxPlayers() returns the most players that may join. */
+   int maxPlayers() {
+      return maxPlayers;
+   }
+
+
+   /** claimed() returns the number of words found so far. */
+   int claimed() {
+      return claimedCount.get();
+   }
+
+
+   /** solution() returns the solved board the round is played on. */
+   BoardSolution solution() {
+      return solution;
+   }
+
+
+   /** attempts() returns the number of guesses made. */
+   long attempts() {
+      return attempts.sum();
+   }
+
+
+   /** duplicates() returns the number of guesses of a word the same player had already found. */
+   long duplicates() {
+      return duplicates.sum();
+   }
+
+
+   /** taken() returns the number of guesses of a word another player had already found. */
+   long taken() {
+      return taken.sum();
+   }
+
+
+   /** lostRaces() returns the number of guesses that found a word unclaimed but lost the compare-and-set to
+    *  another player - a measure of how hotly the board is contested.
+    */
+   long lostRaces() {
+      return lostRaces.sum();
+   }
+
+}
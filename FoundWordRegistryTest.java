@@ -0,0 +1,162 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+
+public class FoundWordRegistryTest {
+
+   private BoardSolution solution;
+
+
+   /** Fixture initialization - solves the 3 x 3 board used by WordSearchTest. **/
+   @Before public void setUp() {
+      Board board = Board.square(new String[]{"R", "E", "S", "T", "S", "T", "Q", "B", "V"});
+      solution = BoardSolution.solve(Lexicon.load("words_medium.txt"), board,
+         NeighborTable.compile(Adjacencies.SQUARE, board.rows(), board.cols()), 3);
+   }
+
+
+   /** A test for claim() with two players taking turns. */
+   @Test public void claimTest() {
+
+      FoundWordRegistry registry = new FoundWordRegistry(solution, 2);
+      int first = registry.join("first");
+      int second = registry.join("second");
+
+      Assert.assertEquals(FoundWordRegistry.Claim.CLAIMED, registry.claim(first, "TEST"));
+      Assert.assertEquals(FoundWordRegistry.Claim.ALREADY_YOURS, registry.claim(first, "TEST"));
+      Assert.assertEquals(FoundWordRegistry.Claim.TAKEN, registry.claim(second, "TEST"));
+      Assert.assertEquals(FoundWordRegistry.Claim.NOT_ON_BOARD, registry.claim(second, "ZZZZ"));
+
+      Assert.assertEquals(4, registry.score(first));
+      Assert.assertEquals(0, registry.score(second));
+      Assert.assertEquals(1, registry.duplicates());
+      Assert.assertEquals(1, registry.taken());
+   }
+
+
+   /** A test for claim() with many players racing for every word - each word must score exactly once. */
+   @Test public void raceTest() throws Exception {
+
+      final int players = 8;
+      final FoundWordRegistry registry = new FoundWordRegistry(solution, players);
+      ExecutorService pool = Executors.newFixedThreadPool(players);
+      final CountDownLatch start = new CountDownLatch(1);
+
+      for (int p = 0; p < players; p++) {
+         final int player = registry.join(null);
+         pool.submit(new Callable<Void>() {
+            @Override
+            public Void call() throws InterruptedException {
+               start.await();
+               for (int i = 0; i < solution.size(); i++) {
+                  registry.claim(player, solution.word(i));
+               }
+               return null;
+            }
+         });
+      }
+      start.countDown();
+      pool.shutdown();
+      assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+      long total = 0;
+      for (int i = 0; i < solution.size(); i++) {
+         assertTrue(registry.owner(i) != FoundWordRegistry.UNCLAIMED);
+         total += solution.score(i);
+      }
+      Assert.assertEquals(solution.size(), registry.claimed());
+      Assert.assertEquals(total, registry.totalScore());
+      Assert.assertEquals((long) players * solution.size(), registry.attempts());
+   }
+
+
+   /** A test for many players joining at once past the player limit - exactly maxPlayers get in, each
+    *  with their own number, and no player counts as joined before its name is set. */
+   @Test public void joinRaceTest() throws Exception {
+
+      final int maxPlayers = 5;
+      final int joiners = 16;
+      final FoundWordRegistry registry = new FoundWordRegistry(solution, maxPlayers);
+      ExecutorService pool = Executors.newFixedThreadPool(joiners + 1);
+      final CountDownLatch start = new CountDownLatch(1);
+
+      Future<Boolean> reader = pool.submit(new Callable<Boolean>() {
+         @Override
+         public Boolean call() throws InterruptedException {
+            start.await();
+            boolean consistent = true;
+            while (registry.players() < maxPlayers) {
+               int players = registry.players();
+               consistent &= players <= maxPlayers;
+               for (int player = 0; player < players; player++) {
+                  consistent &= !registry.joined(player) || registry.name(player) != null;
+               }
+               consistent &= registry.totalScore() == 0;
+            }
+            return consistent;
+         }
+      });
+
+      List<Future<Integer>> joined = new ArrayList<Future<Integer>>();
+      for (int j = 0; j < joiners; j++) {
+         final String name = "player" + j;
+         joined.add(pool.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws InterruptedException {
+               start.await();
+               try {
+                  int player = registry.join(name);
+                  assertEquals(name, registry.name(player));
+                  return player;
+               }
+               catch (IllegalStateException e) {
+                  return -1;
+               }
+            }
+         }));
+      }
+      start.countDown();
+
+      Set<Integer> numbers = new HashSet<Integer>();
+      int turnedAway = 0;
+      for (Future<Integer> player : joined) {
+         int number = player.get(30, TimeUnit.SECONDS);
+         if (number < 0) {
+            turnedAway++;
+         }
+         else {
+            assertTrue(numbers.add(number));
+         }
+      }
+      assertTrue(reader.get(30, TimeUnit.SECONDS));
+      pool.shutdown();
+
+      assertEquals(maxPlayers, registry.players());
+      assertEquals(joiners - maxPlayers, turnedAway);
+      for (int player = 0; player < maxPlayers; player++) {
+         assertTrue(numbers.contains(player));
+         assertTrue(registry.joined(player));
+      }
+      try {
+         registry.claim(maxPlayers, solution.word(0));
+         fail("expected IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e) {
+      }
+      Assert.assertEquals(FoundWordRegistry.UNCLAIMED, registry.owner(0));
+   }
+
+
+   /** A test for join() past the player limit. */
+   @Test(expected = IllegalStateException.class) public void fullTest() {
+      FoundWordRegistry registry = new FoundWordRegistry(solution, 1);
+      registry.join("only");
+      registry.join("one too many");
+   }
+
+}
@@ -0,0 +1,683 @@
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.io.*;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/** Class GameServer is a headless front end for the game, so many players can play on one JVM without
+ *  the Swing gui. It uses the JDK's built-in HTTP server. Every session shares a single immutable
+ *  lexicon, and solved boards are cached so games on the same board are only solved once.
+ *
+ *  Endpoints (parameters may be sent in the query string or as a form body):
+ *
+ *     POST /games                   board=A,B,C,... [rows=R cols=C]   - a fixed board (square unless sized)
+ *                                   rows=R cols=C (or size=N)          - a random board
+ *                                   [min=4] [players=8]                - minimum word length, most players
+ *     POST /games/{id}/players      [name=NAME]                        - join a game, returns a player number
+ *     POST /games/{id}/words        word=WORD [player=0]               - submit a word
+ *     GET  /games/{id}/prefix       p=PREFIX                           - as-you-type feedback for a prefix
+ *     GET  /games/{id}                                                 - players, scores and found words
+ *     GET  /lexicon                                                    - the lexicon version in use
+ *     POST /lexicon/reload                                             - reload the word list file
+ *
+ *  The game's creator is player 0. When several players share a game, the first to find a word scores it.
+ *
+ *  The lexicon can be reloaded while the server runs (see LexiconHandle): the new word list is read in the
+ *  background, games already under way keep playing on the version they started with, and new games get
+ *  the new one. Boards solved against the old version are dropped from the cache when it is replaced.
+ *
+ *  Games are kept in a SessionStore with a memory budget: idle games are squeezed down to a compact
+ *  snapshot when the budget is reached and rebuilt when next used. Solved boards are cached in a share of
+ *  the same budget. GET /stats reports the store's size and eviction counts.
+ *
+ *  Requests run on virtual threads when the JVM has them (Java 21 and later) and on a pool of platform
+ *  threads otherwise.
+ *
+ *  Usage: java GameServer [-p port] [-l lexicon] [-m memoryBudgetMegabytes]
+ *
+ *  @version October 19th, 2026
+ */
+
+class GameServer {
+
+   /** Default minimum word length of a game. */
+   static final int DEFAULT_MINIMUM_WORD_LENGTH = 4;
+
+   /** Minimum number of words a random board must hold. */
+   private static final int RANDOM_BOARD_MIN_WORDS = 15;
+
+   /** Default memory budget for games and solved boards. */
+   static final long DEFAULT_BUDGET_BYTES = 256L << 20;
+
+   /** Share of the budget given to the solved-board cache (the rest is for games). */
+   private static final int SOLUTION_CACHE_DIVISOR = 4;
+
+   /** The server's logger; failures are logged here, and clients only get a generic error. */
+   static final Logger LOG = Logger.getLogger("WordSearch.server");
+
+   /** Largest board a client may play on, fixed or random (per side). */
+   static final int MAX_BOARD_SIZE = 50;
+
+   /** Most wildcard tiles on a fixed board. Each one multiplies the search (a 3 x 3 board of them takes
+    *  seconds to solve), and boards are solved on the request thread. */
+   static final int MAX_WILDCARDS = 4;
+
+   /** Largest request body read, well above the largest board. */
+   private static final int MAX_BODY_BYTES = 1 << 20;
+
+   /** Default and largest number of players in one game. */
+   static final int DEFAULT_MAX_PLAYERS = 8;
+   private static final int MAX_PLAYERS = 1024;
+
+   private final LexiconHandle lexicons;
+   private final ConcurrentHashMap<String, BoardSolution> solutions = new ConcurrentHashMap<String, BoardSolution>();
+   private final AtomicLong solutionBytes = new AtomicLong();
+   private final long solutionBudgetBytes;
+   private final SessionStore sessions;
+   private final AtomicLong nextId = new AtomicLong();
+   private final AtomicLong invalidations = new AtomicLong();
+
+   private HttpServer server;
+   private ExecutorService executor;
+
+
+   /** Constructor for GameServer, with the default memory budget.
+    *
+    *  @param lexiconIn - The lexicon shared by every game.
+    */
+   GameServer(Lexicon lexiconIn) {
+      this(lexiconIn, DEFAULT_BUDGET_BYTES);
+   }
+
+
+   /** Constructor for GameServer.
+    *
+    *  @param lexiconIn - The lexicon shared by every game.
+    *  @param budgetBytes - The (estimated) heap that games and cached solved boards may take.
+    */
+   GameServer(Lexicon lexiconIn, long budgetBytes) {
+      this(new LexiconHandle(lexiconIn, null), budgetBytes);
+   }
+
+
+   /** Constructor for GameServer with a reloadable lexicon.
+    *
+    *  @param lexiconsIn - The handle to the lexicon shared by every game.
+    *  @param budgetBytes - The (estimated) heap that games and cached solved boards may take.
+    */
+   GameServer(LexiconHandle lexiconsIn, long budgetBytes) {
+      lexicons = lexiconsIn;
+      solutionBudgetBytes = budgetBytes / SOLUTION_CACHE_DIVISOR;
+      sessions = new SessionStore(budgetBytes - solutionBudgetBytes, new SessionStore.Solver() {
+         @Override
+         public BoardSolution solve(Lexicon lexicon, Board board, int minimumWordLength) {
+            return solution(lexicon, board, minimumWordLength);
+         }
+      });
+      lexicons.onPublish(version -> {
+         invalidateSolutions(version);
+         sessions.retire(version.lexicon);
+      });
+   }
+
+
+   /** start() binds the server and starts accepting requests.
+    *
+    *  @param port - The port to listen on (0 picks a free port).
+    *  @throws IOException if the port cannot be bound.
+    *  @return port - the port actually bound.
+    */
+   int start(int port) throws IOException {
+      // responses are small; without TCP_NODELAY each one waits on the client's delayed ACK (~40ms)
+      System.setProperty("sun.net.httpserver.nodelay", "true");
+      server = HttpServer.create(new InetSocketAddress(port), 0);
+      executor = requestExecutor();
+      server.setExecutor(executor);
+      server.createContext("/games", new HttpHandler() {
+         @Override
+         public void handle(HttpExchange exchange) throws IOException {
+            handleGames(exchange);
+         }
+      });
+      server.createContext("/lexicon", new HttpHandler() {
+         @Override
+         public void handle(HttpExchange exchange) throws IOException {
+            handleLexicon(exchange);
+         }
+      });
+      server.createContext("/stats", new HttpHandler() {
+         @Override
+         public void handle(HttpExchange exchange) throws IOException {
+            respond(exchange, 200, statsJson());
+         }
+      });
+      server.start();
+      return server.getAddress().getPort();
+   }
+
+
+   /** stop() stops the server, letting in-flight requests finish for up to a second. */
+   void stop() {
+      server.stop(1);
+      executor.shutdown();
+   }
+
+
+   /** requestExecutor() returns a virtual-thread-per-task executor if the JVM supports them (looked up
+    *  reflectively so the server still runs on older JVMs), or a bounded pool of platform threads.
+    */
+   static ExecutorService requestExecutor() {
+      try {
+         Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+         return (ExecutorService) virtual.invoke(null);
+      }
+      catch (ReflectiveOperationException e) {
+         return Executors.newFixedThreadPool(Math.max(64, Runtime.getRuntime().availableProcessors() * 8));
+      }
+   }
+
+
+   /** handleGames() routes every request under /games. */
+   private void handleGames(HttpExchange exchange) throws IOException {
+      try {
+         String method = exchange.getRequestMethod();
+         String[] path = exchange.getRequestURI().getPath().split("/");
+         Map<String, String> params = parameters(exchange);
+
+         // path is "", "games"[, id[, "words"]]
+         if (path.length == 2 && method.equals("POST")) {
+            createGame(exchange, params);
+         }
+         else if (path.length == 3 && method.equals("GET")) {
+            showGame(exchange, path[2]);
+         }
+         else if (path.length == 4 && path[3].equals("words") && method.equals("POST")) {
+            submitWord(exchange, path[2], params);
+         }
+         else if (path.length == 4 && path[3].equals("players") && method.equals("POST")) {
+            joinGame(exchange, path[2], params);
+         }
+         else if (path.length == 4 && path[3].equals("prefix") && method.equals("GET")) {
+            checkPrefix(exchange, path[2], params);
+         }
+         else {
+            respond(exchange, 404, error("no such endpoint"));
+         }
+      }
+      catch (IllegalArgumentException e) {
+         respond(exchange, 400, error(e.getMessage()));
+      }
+      catch (RuntimeException e) {
+         LOG.log(Level.WARNING, exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath()
+            + " failed", e);
+         respond(exchange, 500, error("internal error"));
+      }
+   }
+
+
+   /** handleLexicon() reports the lexicon version, or reloads the word list and reports the new one. The
+    *  reload runs in the background; only this request waits for it.
+    */
+   private void handleLexicon(HttpExchange exchange) throws IOException {
+      String method = exchange.getRequestMethod();
+      String path = exchange.getRequestURI().getPath();
+      if (path.equals("/lexicon") && method.equals("GET")) {
+         respond(exchange, 200, lexiconJson(lexicons.current()));
+      }
+      else if (path.equals("/lexicon/reload") && method.equals("POST")) {
+         LexiconHandle.Version version;
+         try {
+            version = lexicons.reload().join();
+         }
+         catch (IllegalStateException e) {
+            respond(exchange, 409, error(e.getMessage()));
+            return;
+         }
+         catch (CompletionException e) {
+            LOG.log(Level.WARNING, "lexicon reload failed", e.getCause());
+            respond(exchange, 500, error("the lexicon could not be reloaded"));
+            return;
+         }
+         respond(exchange, 200, lexiconJson(version));
+      }
+      else {
+         respond(exchange, 404, error("no such endpoint"));
+      }
+   }
+
+
+   /** lexiconJson() describes a lexicon version. */
+   private static String lexiconJson(LexiconHandle.Version version) {
+      StringBuilder json = new StringBuilder("{\"version\":").append(version.number);
+      json.append(",\"fingerprint\":");
+      BatchSolver.quote(json, String.format("%016x", version.fingerprint));
+      json.append(",\"words\":").append(version.lexicon.size());
+      return json.append('}').toString();
+   }
+
+
+   /** createGame() starts a game on a fixed or random board and returns its id and board. */
+   private void createGame(HttpExchange exchange, Map<String, String> params) throws IOException {
+      // the whole game is played on the lexicon current when it starts
+      Lexicon lexicon = lexicons.current().lexicon;
+      int minimumWordLength = intParam(params, "min", DEFAULT_MINIMUM_WORD_LENGTH);
+      if (minimumWordLength < 1) {
+         throw new IllegalArgumentException("min must be at least 1");
+      }
+      int maxPlayers = intParam(params, "players", DEFAULT_MAX_PLAYERS);
+      if (maxPlayers < 1 || maxPlayers > MAX_PLAYERS) {
+         throw new IllegalArgumentException("players must be between 1 and " + MAX_PLAYERS);
+      }
+
+      Board board;
+      if (params.containsKey("board")) {
+         board = fixedBoard(params, lexicon.alphabet());
+      }
+      else {
+         int size = intParam(params, "size", 4);
+         int rows = intParam(params, "rows", size);
+         int cols = intParam(params, "cols", size);
+         if (rows > MAX_BOARD_SIZE || cols > MAX_BOARD_SIZE) {
+            throw new IllegalArgumentException("boards are at most " + MAX_BOARD_SIZE + " per side");
+         }
+         String[] tiles = new randomBoard(rows, cols, RANDOM_BOARD_MIN_WORDS, lexicon).generateBoard();
+         if (tiles.length != rows * cols) {
+            respond(exchange, 503, error("could not generate a board with enough words, try again"));
+            return;
+         }
+         board = new Board(tiles, rows, cols, lexicon.alphabet());
+      }
+
+      GameSession session = new GameSession(Long.toString(nextId.incrementAndGet(), 36),
+         solution(lexicon, board, minimumWordLength), maxPlayers);
+      sessions.add(session);
+
+      StringBuilder json = new StringBuilder("{\"id\":");
+      BatchSolver.quote(json, session.id());
+      json.append(",\"player\":").append(GameSession.FIRST_PLAYER);
+      json.append(",\"rows\":").append(board.rows());
+      json.append(",\"cols\":").append(board.cols());
+      json.append(",\"min\":").append(minimumWordLength);
+      json.append(",\"wordCount\":").append(session.solution().size());
+      json.append(",\"board\":[");
+      for (int i = 0; i < board.size(); i++) {
+         if (i > 0) {
+            json.append(',');
+         }
+         BatchSolver.quote(json, board.tile(i));
+      }
+      json.append("]}");
+      respond(exchange, 201, json.toString());
+   }
+
+
+   /** solution() returns the cached solution of a board, solving it on first use. While the cache is over
+    *  its share of the budget, arbitrary entries are dropped (games keep their own reference, so this only
+    *  costs a re-solve for the next new game on that board). Only boards solved against the current
+    *  lexicon are cached, keyed by its fingerprint; a game still on an older version re-solves its board.
+    */
+   BoardSolution solution(Lexicon lexicon, Board board, int minimumWordLength) {
+      LexiconHandle.Version version = lexicons.current();
+      if (version.lexicon != lexicon) {
+         return BoardSolution.solve(lexicon, board,
+            NeighborTable.compile(Adjacencies.SQUARE, board.rows(), board.cols()), minimumWordLength);
+      }
+      String key = solutionKey(version, minimumWordLength, board);
+      BoardSolution solution = solutions.get(key);
+      if (solution != null) {
+         return solution;
+      }
+
+      solution = BoardSolution.solve(lexicon, board,
+         NeighborTable.compile(Adjacencies.SQUARE, board.rows(), board.cols()), minimumWordLength);
+      BoardSolution cached = solutions.putIfAbsent(key, solution);
+      if (cached != null) {
+         return cached;
+      }
+
+      solutionBytes.addAndGet(solution.estimatedBytes());
+      // a reload published while this board was being solved has already swept the cache
+      if (lexicons.current() != version && solutions.remove(key, solution)) {
+         solutionBytes.addAndGet(-solution.estimatedBytes());
+         invalidations.incrementAndGet();
+         return solution;
+      }
+      Iterator<Map.Entry<String, BoardSolution>> victims = solutions.entrySet().iterator();
+      while (solutionBytes.get() > solutionBudgetBytes && victims.hasNext()) {
+         Map.Entry<String, BoardSolution> victim = victims.next();
+         if (!victim.getKey().equals(key) && solutions.remove(victim.getKey(), victim.getValue())) {
+            solutionBytes.addAndGet(-victim.getValue().estimatedBytes());
+         }
+      }
+      return solution;
+   }
+
+
+   /** solutionKey() is the cache key of a board solved against a lexicon version. */
+   private static String solutionKey(LexiconHandle.Version version, int minimumWordLength, Board board) {
+      return Long.toHexString(version.fingerprint) + "/" + minimumWordLength + "/" + PackedBoard.from(board).toText();
+   }
+
+
+   /** invalidateSolutions() drops every cached board that was not solved against a new lexicon version. */
+   private void invalidateSolutions(LexiconHandle.Version version) {
+      String prefix = Long.toHexString(version.fingerprint) + "/";
+      Iterator<Map.Entry<String, BoardSolution>> entries = solutions.entrySet().iterator();
+      while (entries.hasNext()) {
+         Map.Entry<String, BoardSolution> entry = entries.next();
+         if (!entry.getKey().startsWith(prefix) && solutions.remove(entry.getKey(), entry.getValue())) {
+            solutionBytes.addAndGet(-entry.getValue().estimatedBytes());
+            invalidations.incrementAndGet();
+         }
+      }
+   }
+
+
+   /** showGame() returns a game's score and found words. */
+   private void showGame(HttpExchange exchange, String id) throws IOException {
+      GameSession session = sessions.acquire(id);
+      if (session == null) {
+         respond(exchange, 404, error("no such game"));
+         return;
+      }
+      String json;
+      try {
+         json = gameJson(session).toString();
+      }
+      finally {
+         sessions.release(id);
+      }
+      respond(exchange, 200, json);
+   }
+
+
+   /** joinGame() adds a player to a game and returns the new player's number. */
+   private void joinGame(HttpExchange exchange, String id, Map<String, String> params) throws IOException {
+      GameSession session = sessions.acquire(id);
+      if (session == null) {
+         respond(exchange, 404, error("no such game"));
+         return;
+      }
+
+      StringBuilder json = new StringBuilder("{\"id\":");
+      try {
+         int player = session.join(params.get("name"));
+         BatchSolver.quote(json, session.id());
+         json.append(",\"player\":").append(player);
+         json.append(",\"name\":");
+         BatchSolver.quote(json, session.registry().name(player));
+         json.append('}');
+      }
+      catch (IllegalStateException e) {
+         respond(exchange, 409, error(e.getMessage()));
+         return;
+      }
+      finally {
+         sessions.release(id);
+      }
+      respond(exchange, 201, json.toString());
+   }
+
+
+   /** submitWord() scores a guessed word for a player. */
+   private void submitWord(HttpExchange exchange, String id, Map<String, String> params) throws IOException {
+      String word = params.get("word");
+      if (word == null) {
+         throw new IllegalArgumentException("word is required");
+      }
+      int player = intParam(params, "player", GameSession.FIRST_PLAYER);
+
+      GameSession session = sessions.acquire(id);
+      if (session == null) {
+         respond(exchange, 404, error("no such game"));
+         return;
+      }
+
+      StringBuilder json = new StringBuilder("{\"word\":");
+      try {
+         GameSession.Outcome outcome = session.submit(player, word);
+         BatchSolver.quote(json, session.fold(word));
+         json.append(",\"accepted\":").append(outcome == GameSession.Outcome.ACCEPTED);
+         json.append(",\"outcome\":");
+         BatchSolver.quote(json, outcome.name());
+         json.append(",\"player\":").append(player);
+         json.append(",\"score\":").append(session.score(player)).append('}');
+      }
+      finally {
+         sessions.release(id);
+      }
+      respond(exchange, 200, json.toString());
+   }
+
+
+   /** checkPrefix() says whether a prefix can still lead to a word on the board, and how many words start
+    *  with it - in all, and not yet found by anyone.
+    */
+   private void checkPrefix(HttpExchange exchange, String id, Map<String, String> params) throws IOException {
+      String prefix = params.get("p");
+      if (prefix == null) {
+         throw new IllegalArgumentException("p is required");
+      }
+
+      GameSession session = sessions.acquire(id);
+      if (session == null) {
+         respond(exchange, 404, error("no such game"));
+         return;
+      }
+
+      StringBuilder json = new StringBuilder("{\"prefix\":");
+      try {
+         prefix = session.fold(prefix);
+         BoardPrefixIndex index = session.solution().prefixIndex();
+         int from = index.from(prefix);
+         int to = index.to(prefix);
+         BatchSolver.quote(json, prefix);
+         json.append(",\"viable\":").append(to > from);
+         json.append(",\"word\":").append(index.isWord(prefix));
+         json.append(",\"completions\":").append(to - from);
+         json.append(",\"remaining\":").append(to - from - session.registry().claimedBetween(from, to));
+         json.append('}');
+      }
+      finally {
+         sessions.release(id);
+      }
+      respond(exchange, 200, json.toString());
+   }
+
+
+   /** gameJson() describes a session's progress: each player's score and words, and how contested the
+    *  board has been.
+    */
+   private static StringBuilder gameJson(GameSession session) {
+      FoundWordRegistry registry = session.registry();
+      StringBuilder json = new StringBuilder("{\"id\":");
+      BatchSolver.quote(json, session.id());
+      json.append(",\"wordCount\":").append(session.solution().size());
+      json.append(",\"foundCount\":").append(registry.claimed());
+      json.append(",\"players\":[");
+      boolean first = true;
+      for (int player = 0; player < registry.players(); player++) {
+         // a player still joining has no name yet
+         if (!registry.joined(player)) {
+            continue;
+         }
+         if (!first) {
+            json.append(',');
+         }
+         first = false;
+         json.append("{\"player\":").append(player).append(",\"name\":");
+         BatchSolver.quote(json, registry.name(player));
+         json.append(",\"score\":").append(registry.score(player));
+         json.append(",\"found\":[");
+         List<String> found = session.foundWords(player);
+         for (int i = 0; i < found.size(); i++) {
+            if (i > 0) {
+               json.append(',');
+            }
+            BatchSolver.quote(json, found.get(i));
+         }
+         json.append("]}");
+      }
+      json.append("],\"contention\":{\"attempts\":").append(registry.attempts());
+      json.append(",\"duplicates\":").append(registry.duplicates());
+      json.append(",\"taken\":").append(registry.taken());
+      json.append(",\"lostRaces\":").append(registry.lostRaces());
+      return json.append("}}");
+   }
+
+
+   /** statsJson() describes the session store and solved-board cache. */
+   private String statsJson() {
+      StringBuilder json = new StringBuilder("{\"games\":").append(sessions.size());
+      json.append(",\"liveGames\":").append(sessions.liveCount());
+      json.append(",\"usedBytes\":").append(sessions.usedBytes());
+      json.append(",\"budgetBytes\":").append(sessions.budgetBytes());
+      json.append(",\"evictions\":").append(sessions.evictions());
+      json.append(",\"rebuilds\":").append(sessions.rebuilds());
+      json.append(",\"drops\":").append(sessions.drops());
+      json.append(",\"moves\":").append(sessions.moves());
+      json.append(",\"cachedSolutions\":").append(solutions.size());
+      json.append(",\"cachedSolutionBytes\":").append(solutionBytes.get());
+      json.append(",\"invalidatedSolutions\":").append(invalidations.get());
+      json.append(",\"lexiconVersion\":").append(lexicons.current().number);
+      return json.append('}').toString();
+   }
+
+
+   /** parameters() reads the query string and, for form posts, the body into one map. */
+   private static Map<String, String> parameters(HttpExchange exchange) throws IOException {
+      Map<String, String> params = new HashMap<String, String>();
+      parseInto(params, exchange.getRequestURI().getRawQuery());
+
+      InputStream body = exchange.getRequestBody();
+      byte[] bytes = body.readNBytes(MAX_BODY_BYTES + 1);
+      body.close();
+      if (bytes.length > MAX_BODY_BYTES) {
+         throw new IllegalArgumentException("request body is over " + MAX_BODY_BYTES + " bytes");
+      }
+      String form = new String(bytes, StandardCharsets.UTF_8);
+      parseInto(params, form);
+      return params;
+   }
+
+
+   /** parseInto() decodes "a=1&b=2" pairs into a map. */
+   private static void parseInto(Map<String, String> params, String encoded) {
+      if (encoded == null || encoded.isEmpty()) {
+         return;
+      }
+      for (String pair : encoded.split("&")) {
+         int equals = pair.indexOf('=');
+         if (equals > 0) {
+            params.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+               URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+         }
+      }
+   }
+
+
+   /** fixedBoard() builds the board a client sent, refusing one too big (or with too many wildcards) to
+    *  solve on a request thread.
+    *
+    *  @param params - The request's parameters: board (tiles separated by commas), and rows and cols
+    *     unless the board is square.
+    *  @param alphabet - The alphabet of the lexicon the game is played on.
+    *  @throws IllegalArgumentException if the board is malformed or over the limits.
+    *  @return board - the board.
+    */
+   static Board fixedBoard(Map<String, String> params, Alphabet alphabet) {
+      String[] tiles = params.get("board").split(",");
+      if (tiles.length > MAX_BOARD_SIZE * MAX_BOARD_SIZE) {
+         throw new IllegalArgumentException("boards are at most " + MAX_BOARD_SIZE + " per side");
+      }
+      int wildcards = 0;
+      for (String tile : tiles) {
+         if (tile.equals(Board.WILDCARD_TILE)) {
+            wildcards++;
+         }
+      }
+      if (wildcards > MAX_WILDCARDS) {
+         throw new IllegalArgumentException("boards have at most " + MAX_WILDCARDS + " wildcards");
+      }
+
+      if (!params.containsKey("rows")) {
+         return Board.square(tiles, alphabet);
+      }
+      int rows = intParam(params, "rows", 0);
+      int cols = intParam(params, "cols", 0);
+      if (rows > MAX_BOARD_SIZE || cols > MAX_BOARD_SIZE) {
+         throw new IllegalArgumentException("boards are at most " + MAX_BOARD_SIZE + " per side");
+      }
+      return new Board(tiles, rows, cols, alphabet);
+   }
+
+
+   /** intParam() reads an integer parameter, with a default. */
+   private static int intParam(Map<String, String> params, String name, int fallback) {
+      String value = params.get(name);
+      if (value == null) {
+         return fallback;
+      }
+      try {
+         return Integer.parseInt(value.trim());
+      }
+      catch (NumberFormatException e) {
+         throw new IllegalArgumentException(name + " must be a whole number");
+      }
+   }
+
+
+   /** error() builds an error response body. */
+   private static String error(String message) {
+      StringBuilder json = new StringBuilder("{\"error\":");
+      BatchSolver.quote(json, String.valueOf(message));
+      return json.append('}').toString();
+   }
+
+
+   /** respond() sends a JSON response and closes the exchange. */
+   private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+      byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+      exchange.sendResponseHeaders(status, bytes.length);
+      OutputStream out = exchange.getResponseBody();
+      out.write(bytes);
+      out.close();
+   }
+
+
+   /** Main method - starts a server and runs until the process is stopped.
+    *
+    *  @param args - [-p port] [-l lexicon] [-m memoryBudgetMegabytes]
+    */
+   public static void main(String[] args) throws IOException {
+      int port = 8080;
+      String lexiconFile = "words_medium.txt";
+      long budgetBytes = DEFAULT_BUDGET_BYTES;
+
+      for (int i = 0; i + 1 < args.length; i += 2) {
+         if (args[i].equals("-p")) {
+            port = Integer.parseInt(args[i + 1]);
+         }
+         else if (args[i].equals("-l")) {
+            lexiconFile = args[i + 1];
+         }
+         else if (args[i].equals("-m")) {
+            budgetBytes = Long.parseLong(args[i + 1]) << 20;
+         }
+      }
+
+      GameServer gameServer = new GameServer(new LexiconHandle(Lexicon.load(lexiconFile), lexiconFile), budgetBytes);
+      int bound = gameServer.start(port);
+      System.out.println("Add-One Word Search server listening on port " + bound);
+   }
+
+}
@@ -0,0 +1,105 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.logging.Level;
+
+
+public class GameServerTest {
+
+   private static GameServer server;
+   private static int port;
+
+   /** The body of the last response post() read. */
+   private static String body;
+
+
+   /** Fixture initialization - one server, on a free port, for all tests. **/
+   @BeforeClass public static void startServer() throws IOException {
+      server = new GameServer(Lexicon.load("words_medium.txt"));
+      port = server.start(0);
+   }
+
+
+   @AfterClass public static void stopServer() {
+      server.stop();
+   }
+
+
+   /** post() sends a form to the server and returns the response status. */
+   private static int post(String path, String form) throws IOException {
+      return post(port, path, form);
+   }
+
+
+   /** post() sends a form to the server on a port and returns the response status. */
+   private static int post(int portIn, String path, String form) throws IOException {
+      HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + portIn + path).openConnection();
+      connection.setRequestMethod("POST");
+      connection.setDoOutput(true);
+      OutputStream out = connection.getOutputStream();
+      out.write(form.getBytes(StandardCharsets.UTF_8));
+      out.close();
+      int status = connection.getResponseCode();
+      InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+      body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      in.close();
+      return status;
+   }
+
+
+   /** board() joins n copies of a tile into a board parameter. */
+   private static String board(String tile, int n) {
+      return "board=" + String.join(",", Collections.nCopies(n, tile));
+   }
+
+
+   /** A test that fixed boards get the same size limit as random ones, and a wildcard limit. */
+   @Test public void boardLimitTest() throws IOException {
+      assertEquals(201, post("/games", "board=R,E,S,T,S,T,Q,B,V"));
+      assertEquals(201, post("/games", "board=R,E,S,T,%3F,T,Q,B,V&rows=3&cols=3"));
+
+      int cells = GameServer.MAX_BOARD_SIZE * GameServer.MAX_BOARD_SIZE;
+      assertEquals(400, post("/games", board("E", cells + 1)));
+      assertEquals(400, post("/games", board("E", GameServer.MAX_BOARD_SIZE + 1) + "&rows=1&cols="
+         + (GameServer.MAX_BOARD_SIZE + 1)));
+      assertEquals(400, post("/games", board("%3F", GameServer.MAX_WILDCARDS + 1)));
+      assertEquals(400, post("/games", "size=" + (GameServer.MAX_BOARD_SIZE + 1)));
+      assertEquals(400, post("/games", "board=" + "E".repeat((1 << 20) + 1)));
+   }
+
+
+   /** A test that a failure on the server reaches the client as a generic error, not the exception. */
+   @Test public void internalErrorTest() throws IOException {
+      File file = File.createTempFile("words", ".txt");
+      Files.write(file.toPath(), "cat\ndog\n".getBytes(StandardCharsets.UTF_8));
+      GameServer reloading = new GameServer(new LexiconHandle(Lexicon.load(file.getPath()), file.getPath()),
+         GameServer.DEFAULT_BUDGET_BYTES);
+      int reloadingPort = reloading.start(0);
+      assertTrue(file.delete());
+
+      Level level = GameServer.LOG.getLevel();
+      GameServer.LOG.setLevel(Level.OFF);
+      try {
+         assertEquals(500, post(reloadingPort, "/lexicon/reload", ""));
+         assertEquals("{\"error\":\"the lexicon could not be reloaded\"}", body.trim());
+      }
+      finally {
+         GameServer.LOG.setLevel(level);
+         reloading.stop();
+      }
+      assertEquals(409, post("/lexicon/reload", ""));
+   }
+
+}
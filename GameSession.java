@@ -0,0 +1,131 @@
+import java.util.*;
+
+/** Class GameSession is one game in progress on the server: a shared, solved board plus the players in
+ *  the game and the words each has found. Several players may race on the same board - the first to find
+ *  a word scores it (see FoundWordRegistry). Sessions are safe to use from several request threads at once.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class GameSession {
+
+   /** Result of submitting a word. */
+   enum Outcome { ACCEPTED, ALREADY_FOUND, TAKEN, NOT_ON_BOARD }
+
+   /** The player every game starts with. */
+   static final int FIRST_PLAYER = 0;
+
+   private final String id;
+   private final FoundWordRegistry registry;
+
+
+   /** Constructor for GameSession - the game starts with one player, FIRST_PLAYER.
+    *
+    *  @param idIn - The session id.
+    *  @param solutionIn - The solved board the game is played on.
+    *  @param maxPlayers - The most players that may join.
+    */
+   GameSession(String idIn, BoardSolution solutionIn, int maxPlayers) {
+      id = idIn;
+      registry = new FoundWordRegistry(solutionIn, maxPlayers);
+      registry.join("player1");
+   }
+
+
+   /** Constructor for GameSession - resumes a game from an already filled-in registry.
+    *
+    *  @param idIn - The session id.
+    *  @param registryIn - The game's players and found words.
+    */
+   GameSession(String idIn, FoundWordRegistry registryIn) {
+      id = idIn;
+      registry = registryIn;
+   }
+
+
+   /** join() adds a player to the game.
+    *
+    *  @param name - The player's name, or null for a default one.
+    *  @throws IllegalStateException if the game is full.
+    *  @return player - the new player's number.
+    */
+   int join(String name) {
+      return registry.join(name);
+   }
+
+
+   /** submit() scores a guessed word for a player.
+    *
+    *  @param player - The player making the guess.
+    *  @param word - The guess (any case).
+    *  @throws IllegalArgumentException if the player has not joined.
+    *  @return outcome - whether the word scored, was already found (by this player or another), or is not
+    *     a word on the board.
+    */
+   Outcome submit(int player, String word) {
+      switch (registry.claim(player, fold(word))) {
+         case CLAIMED:
+            return Outcome.ACCEPTED;
+         case ALREADY_YOURS:
+            return Outcome.ALREADY_FOUND;
+         case TAKEN:
+            return Outcome.TAKEN;
+         default:
+            return Outcome.NOT_ON_BOARD;
+      }
+   }
+
+
+   /** fold() spells a guess or prefix the way the game's lexicon does (see Alphabet.fold()), whatever the
+    *  server's default locale.
+    */
+   String fold(String text) {
+      return registry.solution().lexicon().alphabet().fold(text);
+   }
+
+
+   /** foundWords() returns the words a player has found so far, in alphabetical order. */
+   List<String> foundWords(int player) {
+      BoardSolution solution = registry.solution();
+      List<String> words = new ArrayList<String>();
+      for (int index = 0; index < solution.size(); index++) {
+         if (registry.owner(index) == player) {
+            words.add(solution.word(index));
+         }
+      }
+      return words;
+   }
+
+
+   /** estimatedBytes() returns roughly how much heap the game holds on to, including its solved board
+    *  (which may be shared with other games, so this is an upper bound).
+    */
+   long estimatedBytes() {
+      return 32 + registry.estimatedBytes() + registry.solution().estimatedBytes();
+   }
+
+
+   /** id() returns the session id. */
+   String id() {
+      return id;
+   }
+
+
+   /** score() returns a player's score. */
+   long score(int player) {
+      return registry.score(player);
+   }
+
+
+   /** registry() returns the game's found-word registry (players, scores and contention counters). */
+   FoundWordRegistry registry() {
+      return registry;
+   }
+
+
+   /** solution() returns the solved board the game is played on. */
+   BoardSolution solution() {
+      return registry.solution();
+   }
+
+}
@@ -0,0 +1,405 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Class GameTrace is the binary file format of a recorded game workload (see RecordingWordSearch and
+ *  TraceReplayer): one record per call, with the game session it came from, when it started, how long it
+ *  took, its arguments and a digest of its result, so a replay can check that another engine answers the
+ *  same.
+ *
+ *  The file is a header (MAGIC, VERSION and the wall clock time the trace started) followed by records in
+ *  the order the calls finished:
+ *
+ *     op (byte) | session | start (ns after the previous record's start, zigzag) | duration (ns) |
+ *     arguments | outcome (byte: OK or FAILED) | result (if OK)
+ *
+ *  Numbers are unsigned LEB128 varints; strings are a varint of length + 1 (0 for null) and UTF-8 bytes.
+ *  A setBoard() call is its tile count and tiles (plus rows and columns for a rectangular board), so a
+ *  typical record is 5 to 20 bytes and a 4 x 4 board about 40.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class GameTrace {
+
+   /** "WSTR": the first four bytes of every trace. */
+   static final int MAGIC = 0x57535452;
+
+   /** The format version written. */
+   static final int VERSION = 1;
+
+   /** The calls recorded. */
+   static final byte SET_BOARD = 1;
+   static final byte SET_BOARD_RECTANGLE = 2;
+   static final byte GET_ALL_SCORABLE_WORDS = 3;
+   static final byte IS_ON_BOARD = 4;
+   static final byte IS_VALID_WORD = 5;
+   static final byte GET_SCORE_FOR_WORDS = 6;
+
+   /** The number of op codes (op codes run from 1 to OPS - 1). */
+   static final int OPS = 7;
+
+   /** Outcomes: the call returned, or threw. */
+   static final byte OK = 0;
+   static final byte FAILED = 1;
+
+
+   /** Class Call is one recorded call. Only the fields its op uses are set. */
+   static final class Call {
+
+      byte op;
+      int session;
+
+      /** Nanoseconds from the start of the trace to the start of the call, and the call's duration. */
+      long start;
+      long duration;
+
+      /** setBoard() arguments. */
+      String[] tiles;
+      int rows;
+      int cols;
+
+      /** The word of isOnBoard() and isValidWord(), the words of getScoreForWords(). */
+      String word;
+      String[] words;
+
+      /** The minimum length of getAllScorableWords() and getScoreForWords(). */
+      int minimumWordLength;
+
+      /** Whether the call threw, and if not the digest of what it returned (see result()). */
+      boolean failed;
+      long result;
+
+      /** opName() returns the name of the call's method. */
+      String opName() {
+         return GameTrace.opName(op);
+      }
+   }
+
+
+   /** Constructor for GameTrace - a holder of static helpers, not instantiated. */
+   private GameTrace() {
+   }
+
+
+   /** opName() returns the name of the method an op code records. */
+   static String opName(int op) {
+      switch (op) {
+         case SET_BOARD:
+         case SET_BOARD_RECTANGLE:
+            return "setBoard";
+         case GET_ALL_SCORABLE_WORDS:
+            return "getAllScorableWords";
+         case IS_ON_BOARD:
+            return "isOnBoard";
+         case IS_VALID_WORD:
+            return "isValidWord";
+         case GET_SCORE_FOR_WORDS:
+            return "getScoreForWords";
+         default:
+            return "op" + op;
+      }
+   }
+
+
+   /** digest() hashes the words of getAllScorableWords() (FNV-1a, in order), with the word count in the
+    *  top 16 bits so a diff can tell a missing word from a different one at a glance.
+    *
+    *  @param words - The words returned.
+    *  @return result - the digest stored in the trace.
+    */
+   static long digest(Collection<String> words) {
+      long hash = 0xCBF29CE484222325L;
+      for (String word : words) {
+         for (int i = 0; i < word.length(); i++) {
+            hash = (hash ^ word.charAt(i)) * 0x100000001B3L;
+         }
+         hash = (hash ^ '\n') * 0x100000001B3L;
+      }
+      return ((long) Math.min(words.size(), 0xFFFF) << 48) | (hash & 0xFFFFFFFFFFFFL);
+   }
+
+
+   /** Class Writer appends calls to a trace file. It is shared by every recording game (writes are
+    *  synchronized), and buffered, so close() it to flush the last calls. Once a write fails the writer
+    *  stops: later calls are only counted (see lost()), and the trace ends with what was written before.
+    */
+   static final class Writer implements Closeable {
+
+      private final DataOutputStream out;
+      private final long origin = System.nanoTime();
+      private final AtomicInteger sessions = new AtomicInteger();
+      private long previousStart;
+      private long written;
+      private long lost;
+      private boolean stopped;
+
+      /** Constructor for Writer.
+       *
+       *  @param fileName - The trace file to create (replaced if it exists).
+       *  @throws IOException if the file cannot be created.
+       */
+      Writer(String fileName) throws IOException {
+         this(new FileOutputStream(fileName));
+      }
+
+      /** Constructor for Writer on any stream (closed by close()). */
+      Writer(OutputStream stream) throws IOException {
+         out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+         out.writeInt(MAGIC);
+         out.writeByte(VERSION);
+         out.writeLong(System.currentTimeMillis());
+      }
+
+      /** newSession() numbers a new recording game, so its calls can be replayed in order. */
+      int newSession() {
+         return sessions.getAndIncrement();
+      }
+
+      /** now() returns the nanoseconds since the trace started. */
+      long now() {
+         return System.nanoTime() - origin;
+      }
+
+      /** write() appends one call.
+       *
+       *  @param call - The call.
+       *  @throws UncheckedIOException if the file cannot be written (only the first time - after that the
+       *     writer has stopped, and calls are dropped).
+       */
+      synchronized void write(Call call) {
+         if (stopped) {
+            lost++;
+            return;
+         }
+         try {
+            out.writeByte(call.op);
+            writeVarint(out, call.session);
+            writeVarint(out, zigzag(call.start - previousStart));
+            writeVarint(out, call.duration);
+            previousStart = call.start;
+
+            switch (call.op) {
+               case SET_BOARD_RECTANGLE:
+                  writeVarint(out, call.rows);
+                  writeVarint(out, call.cols);
+                  writeStrings(out, call.tiles);
+                  break;
+               case SET_BOARD:
+                  writeStrings(out, call.tiles);
+                  break;
+               case GET_ALL_SCORABLE_WORDS:
+                  writeVarint(out, zigzag(call.minimumWordLength));
+                  break;
+               case IS_ON_BOARD:
+               case IS_VALID_WORD:
+                  writeString(out, call.word);
+                  break;
+               case GET_SCORE_FOR_WORDS:
+                  writeVarint(out, zigzag(call.minimumWordLength));
+                  writeStrings(out, call.words);
+                  break;
+               default:
+                  throw new IllegalArgumentException("Unknown op " + call.op);
+            }
+
+            out.writeByte(call.failed ? FAILED : OK);
+            if (!call.failed) {
+               if (call.op == GET_ALL_SCORABLE_WORDS) {
+                  out.writeLong(call.result);
+               }
+               else if (call.op != SET_BOARD && call.op != SET_BOARD_RECTANGLE) {
+                  writeVarint(out, zigzag(call.result));
+               }
+            }
+            written++;
+         }
+         catch (IOException e) {
+            stopped = true;
+            lost++;
+            throw new UncheckedIOException(e);
+         }
+      }
+
+      /** written() returns the number of calls written so far. */
+      synchronized long written() {
+         return written;
+      }
+
+      /** lost() returns the number of calls not written because the trace could not be written. */
+      synchronized long lost() {
+         return lost;
+      }
+
+      @Override
+      public synchronized void close() throws IOException {
+         out.close();
+      }
+   }
+
+
+   /** read() reads a whole trace into memory (so reading does not skew a replay's timings).
+    *
+    *  @param fileName - The trace file.
+    *  @throws IOException if the file cannot be read, or is not a trace.
+    *  @return calls - the calls in the order they were recorded.
+    */
+   static List<Call> read(String fileName) throws IOException {
+      try (InputStream stream = new FileInputStream(fileName)) {
+         return read(stream);
+      }
+   }
+
+
+   /** read() reads a whole trace from a stream (left open). */
+   static List<Call> read(InputStream stream) throws IOException {
+      DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 1 << 16));
+      if (in.readInt() != MAGIC) {
+         throw new IOException("Not a game trace");
+      }
+      int version = in.readByte();
+      if (version != VERSION) {
+         throw new IOException("Unsupported trace version " + version);
+      }
+      in.readLong();
+
+      List<Call> calls = new ArrayList<Call>();
+      long start = 0;
+      int op;
+      while ((op = in.read()) >= 0) {
+         Call call = new Call();
+         call.op = (byte) op;
+         call.session = (int) readVarint(in);
+         start += unzigzag(readVarint(in));
+         call.start = start;
+         call.duration = readVarint(in);
+
+         switch (call.op) {
+            case SET_BOARD_RECTANGLE:
+               call.rows = (int) readVarint(in);
+               call.cols = (int) readVarint(in);
+               call.tiles = readStrings(in);
+               break;
+            case SET_BOARD:
+               call.tiles = readStrings(in);
+               break;
+            case GET_ALL_SCORABLE_WORDS:
+               call.minimumWordLength = (int) unzigzag(readVarint(in));
+               break;
+            case IS_ON_BOARD:
+            case IS_VALID_WORD:
+               call.word = readString(in);
+               break;
+            case GET_SCORE_FOR_WORDS:
+               call.minimumWordLength = (int) unzigzag(readVarint(in));
+               call.words = readStrings(in);
+               break;
+            default:
+               throw new IOException("Unknown op " + op + " after " + calls.size() + " calls");
+         }
+
+         call.failed = in.readByte() == FAILED;
+         if (!call.failed) {
+            if (call.op == GET_ALL_SCORABLE_WORDS) {
+               call.result = in.readLong();
+            }
+            else if (call.op != SET_BOARD && call.op != SET_BOARD_RECTANGLE) {
+               call.result = unzigzag(readVarint(in));
+            }
+         }
+         calls.add(call);
+      }
+      return calls;
+   }
+
+
+   /** zigzag() maps signed numbers onto unsigned ones so small negatives stay short (-1 to 1, 1 to 2). */
+   private static long zigzag(long value) {
+      return (value << 1) ^ (value >> 63);
+   }
+
+
+   /** unzigzag() undoes zigzag(). */
+   private static long unzigzag(long value) {
+      return (value >>> 1) ^ -(value & 1);
+   }
+
+
+   /** writeVarint() writes an unsigned number 7 bits a byte, low bits first. */
+   private static void writeVarint(DataOutputStream out, long value) throws IOException {
+      while ((value & ~0x7FL) != 0) {
+         out.writeByte((int) (value & 0x7F) | 0x80);
+         value >>>= 7;
+      }
+      out.writeByte((int) value);
+   }
+
+
+   /** readVarint() reads a number written by writeVarint(). */
+   private static long readVarint(DataInputStream in) throws IOException {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+         int b = in.readUnsignedByte();
+         value |= (long) (b & 0x7F) << shift;
+         if ((b & 0x80) == 0) {
+            return value;
+         }
+      }
+      throw new IOException("Malformed varint");
+   }
+
+
+   /** writeString() writes a string (or null). */
+   private static void writeString(DataOutputStream out, String text) throws IOException {
+      if (text == null) {
+         writeVarint(out, 0);
+         return;
+      }
+      byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+      writeVarint(out, bytes.length + 1L);
+      out.write(bytes);
+   }
+
+
+   /** readString() reads a string written by writeString(). */
+   private static String readString(DataInputStream in) throws IOException {
+      int length = (int) readVarint(in) - 1;
+      if (length < 0) {
+         return null;
+      }
+      byte[] bytes = new byte[length];
+      in.readFully(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+   }
+
+
+   /** writeStrings() writes an array of strings (or null). */
+   private static void writeStrings(DataOutputStream out, String[] texts) throws IOException {
+      if (texts == null) {
+         writeVarint(out, 0);
+         return;
+      }
+      writeVarint(out, texts.length + 1L);
+      for (String text : texts) {
+         writeString(out, text);
+      }
+   }
+
+
+   /** readStrings() reads an array written by writeStrings(). */
+   private static String[] readStrings(DataInputStream in) throws IOException {
+      int length = (int) readVarint(in) - 1;
+      if (length < 0) {
+         return null;
+      }
+      String[] texts = new String[length];
+      for (int i = 0; i < length; i++) {
+         texts[i] = readString(in);
+      }
+      return texts;
+   }
+
+}
@@ -0,0 +1,18 @@
+import java.util.BitSet;
+
+/**
+ * Finds every lexicon word on one board. BoardSolver handles boards of any size, and BitboardSolver is
+ * a faster search for boards of at most 64 cells; WordSearchGameFactory.createSolver() picks between them.
+ *
+ * @version October 19th, 2026
+ */
+interface GridSolver {
+    /**
+     * Finds every lexicon word of at least minimumWordLength characters on the board.
+     *
+     * @param minimumWordLength The minimum number of characters per word.
+     * @return the ordinals of all words found on the board.
+     */
+    BitSet solve(int minimumWordLength);
+
+}
@@ -0,0 +1,88 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** Class LatencyHistogram is a lock-free, fixed-size latency histogram with power-of-two buckets: bucket b
+ *  counts the samples from 2^(b-1) up to 2^b - 1 nanoseconds. Recording a sample is one atomic increment,
+ *  so it can be shared by every thread in the process. Percentiles are reported as the upper bound of
+ *  the bucket they fall in (so they are accurate to within a factor of two).
+ *
+ *  @version October 19th, 2026
+ */
+
+final class LatencyHistogram {
+
+   /** Enough buckets for any non-negative long number of nanoseconds. */
+   private static final int BUCKETS = 64;
+
+   private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+
+   /** record() adds one sample.
+    *
+    *  @param nanos - The measured latency in nanoseconds (negative values count as 0).
+    */
+   void record(long nanos) {
+      counts.incrementAndGet(bucket(nanos));
+   }
+
+
+   /** bucket() finds the bucket of a latency: 0 for 0ns, otherwise the bit length of nanos. */
+   private static int bucket(long nanos) {
+      return nanos <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(nanos);
+   }
+
+
+   /** count() returns the number of samples recorded. */
+   long count() {
+      long total = 0;
+      for (int b = 0; b < BUCKETS; b++) {
+         total += counts.get(b);
+      }
+      return total;
+   }
+
+
+   /** percentile() estimates a latency percentile.
+    *
+    *  @param percent - The percentile to report, between 0 and 100.
+    *  @return nanos - the upper bound of the bucket holding the percentile, or 0 if there are no samples.
+    */
+   long percentile(double percent) {
+      long[] snapshot = snapshot();
+      long total = 0;
+      for (long count : snapshot) {
+         total += count;
+      }
+      if (total == 0) {
+         return 0;
+      }
+
+      long rank = (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percent)) / 100.0);
+      long seen = 0;
+      for (int b = 0; b < BUCKETS; b++) {
+         seen += snapshot[b];
+         if (seen >= Math.max(1, rank)) {
+            return b == 0 ? 0 : (b == 63 ? Long.MAX_VALUE : (1L << b) - 1);
+         }
+      }
+      return Long.MAX_VALUE;
+   }
+
+
+   /** snapshot() copies the bucket counts (index b = samples below 2^b nanoseconds). */
+   long[] snapshot() {
+      long[] copy = new long[BUCKETS];
+      for (int b = 0; b < BUCKETS; b++) {
+         copy[b] = counts.get(b);
+      }
+      return copy;
+   }
+
+
+   /** reset() clears every bucket. */
+   void reset() {
+      for (int b = 0; b < BUCKETS; b++) {
+         counts.set(b, 0);
+      }
+   }
+
+}
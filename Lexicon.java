@@ -0,0 +1,411 @@
+import java.util.*;
+import java.io.*;
+
+/** Class Lexicon is an immutable, array-packed trie of valid words. Every word is given an ordinal (its
+ *  index in sorted order), so callers can hold on to small ints instead of String copies. The trie is
+ *  stored breadth-first, which keeps the children of each node contiguous: a node only needs the index
+ *  of its first child plus a bit mask of which letters it has, and a child lookup is a single popcount.
+ *
+ *  Words are spelled in an Alphabet (English by default): text is folded into it once, when the words are
+ *  read, and from then on every letter is just its small code, whatever the script.
+ *
+ *  Once built, a Lexicon is never modified and can be shared freely between threads and games.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class Lexicon {
+
+   /** Letter code returned for characters outside of the alphabet. */
+   static final int NO_LETTER = -1;
+
+   /** The number of letters in the English alphabet (A - Z). */
+   static final int ALPHABET_SIZE = 26;
+
+   /** Node index of the trie root (the empty prefix). */
+   static final int ROOT = 0;
+
+   /** The alphabet the words are spelled in. */
+   private final Alphabet alphabet;
+
+   /** All words in sorted order - the position of a word in this array is its ordinal. */
+   private final String[] words;
+
+   /** firstChild[n] is the node index of the first (lowest letter) child of node n. */
+   private final int[] firstChild;
+
+   /** childMask[n] has bit c set when node n has a child for letter code c. */
+   private final long[] childMask;
+
+   /** wordAt[n] is the ordinal of the word ending at node n, or -1 if n is only a prefix. */
+   private final int[] wordAt;
+
+   /** The length of the longest word, which also bounds the depth of any board search. */
+   private final int maxWordLength;
+
+   /** Statistics for planning searches (see SolvePlanner): prefixes[d] is the number of distinct prefixes
+    *  of length d, lengths[d] the number of words of length d, and edges[c] the number of trie edges (i.e.
+    *  prefixes) ending in letter code c. */
+   private final int[] prefixes;
+   private final int[] lengths;
+   private final int[] edges;
+
+
+   /** Constructor for Lexicon - builds the trie from an already sorted, duplicate-free array of words.
+    *
+    *  @param sortedWords - The words in ascending order with no duplicates, all spelled in alphabetIn.
+    *  @param alphabetIn - The alphabet of the words.
+    */
+   private Lexicon(String[] sortedWords, Alphabet alphabetIn) {
+
+      alphabet = alphabetIn;
+      words = sortedWords;
+
+      int longest = 0;
+      int capacity = Math.max(16, words.length * 2);
+      int[] first = new int[capacity];
+      long[] masks = new long[capacity];
+      int[] terminal = new int[capacity];
+
+      // breadth-first queue of nodes; node n covers words[lo[n], hi[n]) which share the prefix of depth[n]
+      int[] lo = new int[capacity];
+      int[] hi = new int[capacity];
+      int[] depth = new int[capacity];
+      int[] prefixCount = new int[32];
+      int[] lengthCount = new int[32];
+      int[] edgeCount = new int[alphabet.size()];
+      lo[0] = 0;
+      hi[0] = words.length;
+      int nodes = 1;
+
+      for (int n = 0; n < nodes; n++) {
+         int start = lo[n];
+         int end = hi[n];
+         int d = depth[n];
+
+         // the shortest word sorts first, so a word ending here can only be at the start of the range
+         terminal[n] = -1;
+         if (start < end && words[start].length() == d) {
+            terminal[n] = start;
+            longest = Math.max(longest, d);
+            start++;
+         }
+         if (d + 1 >= prefixCount.length) {
+            prefixCount = Arrays.copyOf(prefixCount, prefixCount.length * 2);
+            lengthCount = Arrays.copyOf(lengthCount, lengthCount.length * 2);
+         }
+         prefixCount[d]++;
+         if (terminal[n] >= 0) {
+            lengthCount[d]++;
+         }
+
+         first[n] = nodes;
+         masks[n] = 0L;
+
+         // group the rest of the range by the letter at position d, one child per group
+         while (start < end) {
+            char letter = words[start].charAt(d);
+            int groupEnd = start + 1;
+            while (groupEnd < end && words[groupEnd].charAt(d) == letter) {
+               groupEnd++;
+            }
+
+            if (nodes == first.length) {
+               int grown = first.length * 2;
+               first = Arrays.copyOf(first, grown);
+               masks = Arrays.copyOf(masks, grown);
+               terminal = Arrays.copyOf(terminal, grown);
+               lo = Arrays.copyOf(lo, grown);
+               hi = Arrays.copyOf(hi, grown);
+               depth = Arrays.copyOf(depth, grown);
+            }
+
+            int letterCode = alphabet.code(letter);
+            masks[n] |= 1L << letterCode;
+            edgeCount[letterCode]++;
+            lo[nodes] = start;
+            hi[nodes] = groupEnd;
+            depth[nodes] = d + 1;
+            nodes++;
+            start = groupEnd;
+         }
+      }
+
+      firstChild = Arrays.copyOf(first, nodes);
+      childMask = Arrays.copyOf(masks, nodes);
+      wordAt = Arrays.copyOf(terminal, nodes);
+      maxWordLength = longest;
+      prefixes = Arrays.copyOf(prefixCount, longest + 1);
+      lengths = Arrays.copyOf(lengthCount, longest + 1);
+      edges = edgeCount;
+   }
+
+
+   /** load() reads a whitespace-separated word list into a new English Lexicon. Words are upper-cased, and
+    *  any word containing a character outside of A - Z is skipped since it could never be spelled on a board.
+    *
+    *  @param fileName - A string containing the name of the file to be opened.
+    *  @throws IllegalArgumentException if fileName is null or cannot be opened.
+    *  @return lexicon - the loaded lexicon.
+    */
+   static Lexicon load(String fileName) {
+      return load(fileName, Alphabet.ENGLISH);
+   }
+
+
+   /** load() reads a whitespace-separated word list (UTF-8) into a new Lexicon for a language. Words are
+    *  folded into the alphabet (see Alphabet.fold()), and any word still containing a character outside of
+    *  it is skipped.
+    *
+    *  @param fileName - A string containing the name of the file to be opened.
+    *  @param alphabetIn - The alphabet of the language.
+    *  @throws IllegalArgumentException if fileName or alphabetIn is null, or the file cannot be opened.
+    *  @return lexicon - the loaded lexicon.
+    */
+   static Lexicon load(String fileName, Alphabet alphabetIn) {
+      return of(readWords(fileName, alphabetIn), alphabetIn);
+   }
+
+
+   /** readWords() reads a whitespace-separated word list, upper-casing every word.
+    *
+    *  @param fileName - A string containing the name of the file to be opened.
+    *  @throws IllegalArgumentException if fileName is null or cannot be opened.
+    *  @return sorted - the distinct words of the file in sorted order.
+    */
+   static TreeSet<String> readWords(String fileName) {
+      return readWords(fileName, Alphabet.ENGLISH);
+   }
+
+
+   /** readWords() reads a whitespace-separated word list (UTF-8), folding every word into an alphabet.
+    *
+    *  @param fileName - A string containing the name of the file to be opened.
+    *  @param alphabetIn - The alphabet to fold the words into.
+    *  @throws IllegalArgumentException if fileName or alphabetIn is null, or the file cannot be opened.
+    *  @return sorted - the distinct words of the file in sorted order.
+    */
+   static TreeSet<String> readWords(String fileName, Alphabet alphabetIn) {
+
+      if (fileName == null) {
+         throw new IllegalArgumentException("fileName must not be null");
+      }
+      if (alphabetIn == null) {
+         throw new IllegalArgumentException("alphabet must not be null");
+      }
+
+      TreeSet<String> sorted = new TreeSet<String>();
+
+      // try: attempt to read the file into sorted // catch: if file is not found
+      try {
+         Scanner scan = new Scanner(new File(fileName), "UTF-8");
+         while (scan.hasNext()) {
+            sorted.add(alphabetIn.fold(scan.next()));
+         }
+         scan.close();
+      }
+      catch (FileNotFoundException e) {
+         throw new IllegalArgumentException("The file could not be found");
+      }
+
+      return sorted;
+   }
+
+
+   /** of() builds an English Lexicon from a collection of words already in upper case.
+    *
+    *  @param wordsIn - The words to include. Duplicates and words outside of A - Z are dropped.
+    *  @throws IllegalArgumentException if wordsIn is null.
+    *  @return lexicon - a new lexicon containing the words.
+    */
+   static Lexicon of(Collection<String> wordsIn) {
+      return of(wordsIn, Alphabet.ENGLISH);
+   }
+
+
+   /** of() builds a Lexicon from a collection of words already folded into an alphabet.
+    *
+    *  @param wordsIn - The words to include. Duplicates and words outside of the alphabet are dropped.
+    *  @param alphabetIn - The alphabet of the words.
+    *  @throws IllegalArgumentException if wordsIn or alphabetIn is null.
+    *  @return lexicon - a new lexicon containing the words.
+    */
+   static Lexicon of(Collection<String> wordsIn, Alphabet alphabetIn) {
+
+      if (wordsIn == null) {
+         throw new IllegalArgumentException("words must not be null");
+      }
+      if (alphabetIn == null) {
+         throw new IllegalArgumentException("alphabet must not be null");
+      }
+
+      TreeSet<String> sorted = new TreeSet<String>();
+      for (String word : wordsIn) {
+         if (isSpellable(word, alphabetIn)) {
+            sorted.add(word);
+         }
+      }
+
+      return new Lexicon(sorted.toArray(new String[0]), alphabetIn);
+   }
+
+
+   /** isSpellable() checks that a word is non-empty and only uses letters of the alphabet.
+    *
+    *  @param word - The word to check.
+    *  @param alphabetIn - The alphabet.
+    *  @return boolean - true if every character has a letter code.
+    */
+   private static boolean isSpellable(String word, Alphabet alphabetIn) {
+      if (word == null || word.isEmpty()) {
+         return false;
+      }
+      for (int i = 0; i < word.length(); i++) {
+         if (alphabetIn.code(word.charAt(i)) == NO_LETTER) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+
+   /** code() converts a character into its English letter code (0 - 25). Lexicons and boards in other
+    *  languages use their Alphabet's codes instead (see alphabet()).
+    *
+    *  @param letter - An upper case letter.
+    *  @return code - the letter code, or NO_LETTER if the character is not in the alphabet.
+    */
+   static int code(char letter) {
+      if (letter >= 'A' && letter <= 'Z') {
+         return letter - 'A';
+      }
+      return NO_LETTER;
+   }
+
+
+   /** child() follows the edge for one letter code out of a trie node.
+    *
+    *  @param node - The current trie node.
+    *  @param letterCode - The letter code to follow.
+    *  @return child - the child node index, or -1 if no word continues with that letter.
+    */
+   int child(int node, int letterCode) {
+      if (letterCode < 0) {
+         return -1;
+      }
+      long mask = childMask[node];
+      long bit = 1L << letterCode;
+      if ((mask & bit) == 0) {
+         return -1;
+      }
+      return firstChild[node] + Long.bitCount(mask & (bit - 1));
+   }
+
+
+   /** childMask() returns the set of letter codes that continue a word from a trie node, one bit per code. */
+   long childMask(int node) {
+      return childMask[node];
+   }
+
+
+   /** wordAt() returns the ordinal of the word that ends at a trie node.
+    *
+    *  @param node - The trie node.
+    *  @return ordinal - the ordinal of the word, or -1 if the node is only a prefix.
+    */
+   int wordAt(int node) {
+      return wordAt[node];
+   }
+
+
+   /** find() walks the trie along a string.
+    *
+    *  @param text - The characters to follow from the root.
+    *  @return node - the node reached, or -1 if no word starts with text.
+    */
+   int find(CharSequence text) {
+      int node = ROOT;
+      for (int i = 0; i < text.length() && node >= 0; i++) {
+         node = child(node, alphabet.code(text.charAt(i)));
+      }
+      return node;
+   }
+
+
+   /** ordinalOf() looks up the ordinal of a word.
+    *
+    *  @param word - The word to look up.
+    *  @return ordinal - the word's ordinal, or -1 if it is not in the lexicon.
+    */
+   int ordinalOf(CharSequence word) {
+      int node = find(word);
+      return node < 0 ? -1 : wordAt[node];
+   }
+
+
+   /** contains() determines if a word is in the lexicon. */
+   boolean contains(CharSequence word) {
+      return ordinalOf(word) >= 0;
+   }
+
+
+   /** isPrefix() determines if at least one word in the lexicon starts with the prefix. */
+   boolean isPrefix(CharSequence prefix) {
+      return find(prefix) >= 0;
+   }
+
+
+   /** word() returns the word with the given ordinal. */
+   String word(int ordinal) {
+      return words[ordinal];
+   }
+
+
+   /** alphabet() returns the alphabet the words are spelled in - boards searched against the lexicon must
+    *  use its letter codes (see Board.inAlphabet()). */
+   Alphabet alphabet() {
+      return alphabet;
+   }
+
+
+   /** size() returns the number of words in the lexicon. */
+   int size() {
+      return words.length;
+   }
+
+
+   /** nodeCount() returns the number of nodes in the trie, including the root. */
+   int nodeCount() {
+      return wordAt.length;
+   }
+
+
+   /** maxWordLength() returns the length of the longest word in the lexicon. */
+   int maxWordLength() {
+      return maxWordLength;
+   }
+
+
+   /** prefixCount() returns the number of distinct prefixes of a length (1 for length 0, the empty prefix). */
+   int prefixCount(int length) {
+      return length < prefixes.length ? prefixes[length] : 0;
+   }
+
+
+   /** wordCount() returns the number of words of at least a given length. */
+   int wordCount(int minimumLength) {
+      int count = 0;
+      for (int length = Math.max(0, minimumLength); length < lengths.length; length++) {
+         count += lengths[length];
+      }
+      return count;
+   }
+
+
+   /** letterCount() returns how many prefixes (trie nodes) end in a letter code - how often the letter
+    *  comes up while walking the trie. */
+   int letterCount(int letterCode) {
+      return edges[letterCode];
+   }
+
+}
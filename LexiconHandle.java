@@ -0,0 +1,168 @@
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/** Class LexiconHandle lets a running server switch to a new word list without stopping. The handle
+ *  holds the current Version - a lexicon, its version number and a fingerprint of its words - and
+ *  replaces it in one atomic step. Work takes current() once and uses that version to the end, so a
+ *  solve that started on the old lexicon finishes on it while the next one starts on the new. Nothing
+ *  blocks on a reload.
+ *
+ *  reload() reads and indexes the new word list on a background thread and publishes it only once it is
+ *  complete (a file that cannot be read leaves the current version in place). Listeners registered with
+ *  onPublish() are told of every new version, in order, e.g. to drop boards solved against the old one.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class LexiconHandle {
+
+   /** Class Version is one published lexicon. */
+   static final class Version {
+
+      final Lexicon lexicon;
+
+      /** 1 for the first lexicon, counting up with every publish. */
+      final long number;
+
+      /** A hash of the lexicon's words, so caches can tell versions apart (see fingerprint()). */
+      final long fingerprint;
+
+      /** The file the lexicon was loaded from, or null. */
+      final String source;
+
+      Version(Lexicon lexiconIn, long numberIn, long fingerprintIn, String sourceIn) {
+         lexicon = lexiconIn;
+         number = numberIn;
+         fingerprint = fingerprintIn;
+         source = sourceIn;
+      }
+
+      @Override
+      public String toString() {
+         return String.format("version %d (%016x, %d words%s)", number, fingerprint, lexicon.size(),
+            source == null ? "" : ", " + source);
+      }
+   }
+
+   private final AtomicReference<Version> current;
+   private final List<Consumer<Version>> listeners = new CopyOnWriteArrayList<Consumer<Version>>();
+
+   /** Held while a version is swapped in and its listeners told, so two publishes never reach a listener
+    *  out of order. Readers of current() never take it. */
+   private final Object publishLock = new Object();
+
+   /** Loads new lexicons, one at a time (a second reload waits for the first). */
+   private final ExecutorService loader = Executors.newSingleThreadExecutor(task -> {
+      Thread thread = new Thread(task, "lexicon-loader");
+      thread.setDaemon(true);
+      return thread;
+   });
+
+
+   /** Constructor for LexiconHandle.
+    *
+    *  @param lexicon - The first lexicon.
+    *  @param source - The file it was loaded from (what reload() reads again), or null.
+    *  @throws IllegalArgumentException if lexicon is null.
+    */
+   LexiconHandle(Lexicon lexicon, String source) {
+      if (lexicon == null) {
+         throw new IllegalArgumentException("Lexicon cannot be null");
+      }
+      current = new AtomicReference<Version>(new Version(lexicon, 1, fingerprint(lexicon), source));
+   }
+
+
+   /** current() returns the version to use for the work at hand. */
+   Version current() {
+      return current.get();
+   }
+
+
+   /** onPublish() registers a listener to be told of every new version (on the publishing thread, one
+    *  version at a time and in version order). */
+   void onPublish(Consumer<Version> listener) {
+      listeners.add(listener);
+   }
+
+
+   /** publish() makes a lexicon the current one. A lexicon with the same words as the current one is not
+    *  a new version.
+    *
+    *  @param lexicon - The new lexicon.
+    *  @param source - The file it was loaded from, or null.
+    *  @return version - the current version afterwards.
+    *  @throws IllegalArgumentException if lexicon is null.
+    */
+   Version publish(Lexicon lexicon, String source) {
+      if (lexicon == null) {
+         throw new IllegalArgumentException("Lexicon cannot be null");
+      }
+      long fingerprint = fingerprint(lexicon);
+      synchronized (publishLock) {
+         Version previous = current.get();
+         if (previous.fingerprint == fingerprint) {
+            return previous;
+         }
+         Version next = new Version(lexicon, previous.number + 1, fingerprint, source);
+         current.set(next);
+
+         for (Consumer<Version> listener : listeners) {
+            listener.accept(next);
+         }
+         return next;
+      }
+   }
+
+
+   /** reload() loads a word list in the background and publishes it when it is ready. It is read in the
+    *  current lexicon's alphabet, so a handle on a Turkish lexicon stays Turkish.
+    *
+    *  @param fileName - The word list to load.
+    *  @return version - completes with the current version afterwards, or exceptionally (with the
+    *     current version unchanged) if the file cannot be loaded.
+    */
+   CompletableFuture<Version> reload(String fileName) {
+      Alphabet alphabet = current().lexicon.alphabet();
+      return CompletableFuture.supplyAsync(() -> Lexicon.load(fileName, alphabet), loader)
+         .thenApply(lexicon -> publish(lexicon, fileName));
+   }
+
+
+   /** reload() loads the current version's file again, e.g. after it has been edited.
+    *
+    *  @return version - as for reload(fileName).
+    *  @throws IllegalStateException if the current lexicon was not loaded from a file.
+    */
+   CompletableFuture<Version> reload() {
+      String source = current().source;
+      if (source == null) {
+         throw new IllegalStateException("the lexicon was not loaded from a file");
+      }
+      return reload(source);
+   }
+
+
+   /** fingerprint() hashes the words of a lexicon, in order (FNV-1a over the words and their ends).
+    *
+    *  @param lexicon - The lexicon.
+    *  @return fingerprint - a 64-bit hash that differs, in practice, between any two word lists.
+    */
+   static long fingerprint(Lexicon lexicon) {
+      long hash = 0xCBF29CE484222325L;
+      for (int ordinal = 0; ordinal < lexicon.size(); ordinal++) {
+         String word = lexicon.word(ordinal);
+         for (int i = 0; i < word.length(); i++) {
+            hash = (hash ^ word.charAt(i)) * 0x100000001B3L;
+         }
+         hash = (hash ^ '\n') * 0x100000001B3L;
+      }
+      return hash;
+   }
+
+}
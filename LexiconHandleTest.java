@@ -0,0 +1,143 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+
+
+public class LexiconHandleTest {
+
+   private static Lexicon lexicon;
+
+
+   /** Fixture initialization - loads the lexicon the handles start from. **/
+   @BeforeClass public static void loadLexicon() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   /** A test that publishing swaps versions, skips identical word lists and tells the listeners. */
+   @Test public void publishTest() {
+      Lexicon small = Lexicon.of(Arrays.asList("CAT", "DOG"));
+      LexiconHandle handle = new LexiconHandle(small, null);
+      List<LexiconHandle.Version> published = new ArrayList<LexiconHandle.Version>();
+      handle.onPublish(published::add);
+
+      LexiconHandle.Version first = handle.current();
+      assertEquals(1, first.number);
+      assertSame(first, handle.publish(Lexicon.of(Arrays.asList("DOG", "CAT")), null));
+      assertTrue(published.isEmpty());
+
+      LexiconHandle.Version second = handle.publish(Lexicon.of(Arrays.asList("CAT", "DOG", "EMU")), "more");
+      assertEquals(2, second.number);
+      assertTrue(first.fingerprint != second.fingerprint);
+      assertSame(second, handle.current());
+      assertEquals(Collections.singletonList(second), published);
+      // whoever took the first version still has it
+      assertEquals(2, first.lexicon.size());
+   }
+
+
+   /** A test that concurrent publishes reach a listener one at a time, in version order. */
+   @Test public void publishOrderTest() throws InterruptedException {
+      LexiconHandle handle = new LexiconHandle(Lexicon.of(Arrays.asList("CAT")), null);
+      List<Long> seen = Collections.synchronizedList(new ArrayList<Long>());
+      handle.onPublish(version -> {
+         seen.add(version.number);
+         // a slow listener widens the window a second publish could overtake it in
+         Thread.yield();
+         seen.add(version.number);
+      });
+
+      Thread[] publishers = new Thread[4];
+      for (int t = 0; t < publishers.length; t++) {
+         int thread = t;
+         publishers[t] = new Thread(() -> {
+            for (int i = 0; i < 50; i++) {
+               handle.publish(Lexicon.of(Arrays.asList("CAT",
+                  "Q" + (char) ('A' + thread) + (char) ('A' + i / 26) + (char) ('A' + i % 26))), null);
+            }
+         });
+         publishers[t].start();
+      }
+      for (Thread publisher : publishers) {
+         publisher.join();
+      }
+
+      assertEquals(2 * (publishers.length * 50), seen.size());
+      for (int i = 0; i < seen.size(); i += 2) {
+         assertEquals(i / 2 + 2, (long) seen.get(i));
+         assertEquals(seen.get(i), seen.get(i + 1));
+      }
+      assertEquals(publishers.length * 50 + 1, handle.current().number);
+   }
+
+
+   /** A test that a reload loads in the background, and a failed one leaves the lexicon alone. */
+   @Test public void reloadTest() throws IOException {
+      File file = File.createTempFile("words", ".txt");
+      file.deleteOnExit();
+      Files.write(file.toPath(), "cat\ndog\n".getBytes(StandardCharsets.UTF_8));
+      LexiconHandle handle = new LexiconHandle(Lexicon.load(file.getPath()), file.getPath());
+
+      Files.write(file.toPath(), "cat\ndog\nemu\n".getBytes(StandardCharsets.UTF_8));
+      LexiconHandle.Version reloaded = handle.reload().join();
+      assertEquals(2, reloaded.number);
+      assertTrue(reloaded.lexicon.contains("EMU"));
+
+      try {
+         handle.reload(file.getPath() + ".missing").join();
+         fail("expected CompletionException");
+      }
+      catch (CompletionException e) {
+      }
+      assertSame(reloaded, handle.current());
+
+      // a reload keeps the lexicon's language
+      Files.write(file.toPath(), "kitap\nkedi\n".getBytes(StandardCharsets.UTF_8));
+      LexiconHandle turkish = new LexiconHandle(Lexicon.load(file.getPath(), Alphabet.TURKISH), file.getPath());
+      Files.write(file.toPath(), "kitap\nkedi\n\u0131l\u0131k\n".getBytes(StandardCharsets.UTF_8));
+      Lexicon again = turkish.reload().join().lexicon;
+      assertSame(Alphabet.TURKISH, again.alphabet());
+      assertEquals(3, again.size());
+      assertTrue(again.contains("K\u0130TAP"));
+
+      try {
+         new LexiconHandle(lexicon, null).reload();
+         fail("expected IllegalStateException");
+      }
+      catch (IllegalStateException e) {
+      }
+   }
+
+
+   /** A test that the server's solved boards follow the lexicon version. */
+   @Test public void serverCacheTest() {
+      LexiconHandle handle = new LexiconHandle(lexicon, null);
+      GameServer server = new GameServer(handle, GameServer.DEFAULT_BUDGET_BYTES);
+      Board board = Board.square(new String[]{"R", "E", "S", "T", "S", "T", "Q", "B", "V"});
+
+      BoardSolution old = server.solution(lexicon, board, 3);
+      assertSame(old, server.solution(lexicon, board, 3));
+
+      Lexicon updated = Lexicon.of(Arrays.asList("REST", "TEST", "BEST"));
+      handle.publish(updated, null);
+      BoardSolution fresh = server.solution(updated, board, 3);
+      assertSame(updated, fresh.lexicon());
+      assertEquals(2, fresh.size());
+      assertSame(fresh, server.solution(updated, board, 3));
+
+      // a game still on the old version gets its board solved against the old lexicon
+      BoardSolution resolved = server.solution(lexicon, board, 3);
+      assertNotSame(old, resolved);
+      assertSame(lexicon, resolved.lexicon());
+      assertEquals(old.size(), resolved.size());
+   }
+
+}
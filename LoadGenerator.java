@@ -0,0 +1,236 @@
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+/** Class LoadGenerator drives a GameServer with many simulated players on one machine and reports
+ *  throughput and latency percentiles. Each player creates a game on one of a few fixed boards and then
+ *  submits guesses - half of them words that really are on the board (solved locally with the same
+ *  lexicon), half random lexicon words - starting a new game every GUESSES_PER_GAME guesses.
+ *
+ *  Usage: java LoadGenerator [-u http://localhost:8080] [-c players] [-d seconds] [-l lexicon]
+ *
+ *  @version October 19th, 2026
+ */
+
+class LoadGenerator {
+
+   /** Guesses each simulated player makes before starting a new game. */
+   private static final int GUESSES_PER_GAME = 20;
+
+   /** The fixed boards games are created on (so the server's solution cache is exercised). */
+   private static final String[] BOARDS = {
+      "E,E,C,A,A,L,E,P,H,N,B,O,Q,T,T,Y",
+      "R,E,S,T,S,T,Q,B,V",
+      "S,T,A,R,M,E,I,N,G,O,T,E,R,S,A,L,E,D,A,N,T,I,C,E,S"
+   };
+
+   private final String baseUrl;
+   private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+   private final Lexicon lexicon;
+   private final String[][] wordsOnBoard;
+
+   private final AtomicLong requests = new AtomicLong();
+   private final AtomicLong failures = new AtomicLong();
+
+
+   /** Constructor for LoadGenerator.
+    *
+    *  @param baseUrlIn - The server's base URL, e.g. http://localhost:8080.
+    *  @param lexiconIn - The lexicon the server plays with (for picking guesses).
+    */
+   LoadGenerator(String baseUrlIn, Lexicon lexiconIn) {
+      baseUrl = baseUrlIn;
+      lexicon = lexiconIn;
+
+      wordsOnBoard = new String[BOARDS.length][];
+      for (int b = 0; b < BOARDS.length; b++) {
+         Board board = Board.square(BOARDS[b].split(","));
+         BoardSolution solution = BoardSolution.solve(lexicon, board,
+            NeighborTable.compile(Adjacencies.SQUARE, board.rows(), board.cols()),
+            GameServer.DEFAULT_MINIMUM_WORD_LENGTH);
+         wordsOnBoard[b] = new String[Math.max(1, solution.size())];
+         wordsOnBoard[b][0] = "NONE";
+         for (int i = 0; i < solution.size(); i++) {
+            wordsOnBoard[b][i] = solution.word(i);
+         }
+      }
+   }
+
+
+   /** run() simulates players for a while and collects the latency of every request.
+    *
+    *  @param players - The number of concurrent players (one thread each).
+    *  @param seconds - How long to run.
+    *  @return latencies - every request's latency in nanoseconds, sorted.
+    */
+   long[] run(int players, int seconds) throws InterruptedException {
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+      ExecutorService pool = Executors.newFixedThreadPool(players);
+      List<Future<long[]>> results = new ArrayList<Future<long[]>>();
+
+      for (int p = 0; p < players; p++) {
+         final long seed = p;
+         results.add(pool.submit(new Callable<long[]>() {
+            @Override
+            public long[] call() {
+               return play(new Random(seed), deadline);
+            }
+         }));
+      }
+
+      long[] all = new long[0];
+      for (Future<long[]> result : results) {
+         try {
+            long[] latencies = result.get();
+            int size = all.length;
+            all = Arrays.copyOf(all, size + latencies.length);
+            System.arraycopy(latencies, 0, all, size, latencies.length);
+         }
+         catch (ExecutionException e) {
+            failures.incrementAndGet();
+         }
+      }
+      pool.shutdown();
+
+      Arrays.sort(all);
+      return all;
+   }
+
+
+   /** play() is one simulated player: create a game, guess, repeat until the deadline.
+    *
+    *  @return latencies - the latency of each of the player's requests in nanoseconds.
+    */
+   private long[] play(Random rand, long deadline) {
+      long[] latencies = new long[1024];
+      int count = 0;
+
+      while (System.nanoTime() < deadline) {
+         int b = rand.nextInt(BOARDS.length);
+         String id = createGame(b, latencies, count);
+         count++;
+         if (id == null) {
+            continue;
+         }
+
+         for (int g = 0; g < GUESSES_PER_GAME && System.nanoTime() < deadline; g++) {
+            if (count + 1 >= latencies.length) {
+               latencies = Arrays.copyOf(latencies, latencies.length * 2);
+            }
+            String guess = rand.nextBoolean()
+               ? wordsOnBoard[b][rand.nextInt(wordsOnBoard[b].length)]
+               : lexicon.word(rand.nextInt(lexicon.size()));
+            send("POST", "/games/" + id + "/words?word=" + URLEncoder.encode(guess, StandardCharsets.UTF_8),
+               latencies, count);
+            count++;
+         }
+         if (count + 1 >= latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+         }
+      }
+
+      return Arrays.copyOf(latencies, count);
+   }
+
+
+   /** createGame() creates a game on one of the fixed boards.
+    *
+    *  @param latencies - Where the request's latency is stored.
+    *  @param slot - The index in latencies to store it at.
+    *  @return id - the game id, or null if the request failed.
+    */
+   private String createGame(int b, long[] latencies, int slot) {
+      String body = send("POST", "/games?board=" + BOARDS[b], latencies, slot);
+      if (body == null) {
+         return null;
+      }
+      int start = body.indexOf("\"id\":\"") + 6;
+      return start < 6 ? null : body.substring(start, body.indexOf('"', start));
+   }
+
+
+   /** send() makes one request and times it.
+    *
+    *  @param latencies - Where the request's latency is stored.
+    *  @param slot - The index in latencies to store it at.
+    *  @return body - the response body, or null if the request failed.
+    */
+   private String send(String method, String path, long[] latencies, int slot) {
+      HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+         .method(method, HttpRequest.BodyPublishers.noBody()).build();
+      long started = System.nanoTime();
+      try {
+         HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+         latencies[slot] = System.nanoTime() - started;
+         requests.incrementAndGet();
+         if (response.statusCode() >= 400) {
+            failures.incrementAndGet();
+            return null;
+         }
+         return response.body();
+      }
+      catch (IOException e) {
+         latencies[slot] = System.nanoTime() - started;
+         failures.incrementAndGet();
+         return null;
+      }
+      catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         latencies[slot] = System.nanoTime() - started;
+         return null;
+      }
+   }
+
+
+   /** percentile() reads a percentile out of sorted latencies. */
+   static long percentile(long[] sorted, double percent) {
+      if (sorted.length == 0) {
+         return 0;
+      }
+      int index = (int) Math.ceil(sorted.length * percent / 100.0) - 1;
+      return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+   }
+
+
+   /** Main method - runs the load test and prints a summary.
+    *
+    *  @param args - [-u baseUrl] [-c players] [-d seconds] [-l lexicon]
+    */
+   public static void main(String[] args) throws InterruptedException {
+      String baseUrl = "http://localhost:8080";
+      int players = 64;
+      int seconds = 10;
+      String lexiconFile = "words_medium.txt";
+
+      for (int i = 0; i + 1 < args.length; i += 2) {
+         if (args[i].equals("-u")) {
+            baseUrl = args[i + 1];
+         }
+         else if (args[i].equals("-c")) {
+            players = Integer.parseInt(args[i + 1]);
+         }
+         else if (args[i].equals("-d")) {
+            seconds = Integer.parseInt(args[i + 1]);
+         }
+         else if (args[i].equals("-l")) {
+            lexiconFile = args[i + 1];
+         }
+      }
+
+      LoadGenerator generator = new LoadGenerator(baseUrl, Lexicon.load(lexiconFile));
+      long[] latencies = generator.run(players, seconds);
+
+      System.out.printf("%d requests in %d s (%.1f requests/second), %d failures%n", generator.requests.get(),
+         seconds, generator.requests.get() / (double) seconds, generator.failures.get());
+      System.out.printf("latency p50 %.2f ms, p99 %.2f ms, max %.2f ms%n", percentile(latencies, 50) / 1e6,
+         percentile(latencies, 99) / 1e6, percentile(latencies, 100) / 1e6);
+   }
+
+}
@@ -0,0 +1,161 @@
+import java.util.*;
+
+/** Class MultiLexicon merges several word lists (e.g. a family-friendly list, the full dictionary and a
+ *  per-language list) into a single trie. Every word carries a bit mask of the lists that contain it, so
+ *  one board search finds the words of all lists at once, at the cost of the merged list rather than the
+ *  sum of separate searches. All lists are in one language: load() and of() take its Alphabet, English
+ *  unless given.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class MultiLexicon {
+
+   /** The most word lists that can be merged (one bit each in a long). */
+   static final int MAX_LEXICONS = 64;
+
+   /** The union of all lists. */
+   private final Lexicon merged;
+
+   /** membership[ordinal] has bit i set when list i contains the merged word with that ordinal. */
+   private final long[] membership;
+
+   /** The number of merged lists. */
+   private final int count;
+
+
+   /** Constructor for MultiLexicon - use load() or of(). */
+   private MultiLexicon(List<? extends Collection<String>> lists, Alphabet alphabet) {
+
+      if (lists == null || lists.isEmpty() || lists.size() > MAX_LEXICONS) {
+         throw new IllegalArgumentException("between 1 and " + MAX_LEXICONS + " word lists are required");
+      }
+      if (alphabet == null) {
+         throw new IllegalArgumentException("alphabet must not be null");
+      }
+
+      TreeSet<String> union = new TreeSet<String>();
+      for (Collection<String> list : lists) {
+         if (list == null) {
+            throw new IllegalArgumentException("word lists must not be null");
+         }
+         union.addAll(list);
+      }
+
+      merged = Lexicon.of(union, alphabet);
+      membership = new long[merged.size()];
+      count = lists.size();
+
+      for (int i = 0; i < count; i++) {
+         for (String word : lists.get(i)) {
+            int ordinal = merged.ordinalOf(word);
+            if (ordinal >= 0) {
+               membership[ordinal] |= 1L << i;
+            }
+         }
+      }
+   }
+
+
+   /** load() reads and merges several English word list files.
+    *
+    *  @param fileNames - The files to merge; list i is fileNames[i].
+    *  @throws IllegalArgumentException if there are no files, more than MAX_LEXICONS, or one cannot be opened.
+    *  @return lexicons - the merged lexicon.
+    */
+   static MultiLexicon load(String... fileNames) {
+      return load(Alphabet.ENGLISH, fileNames);
+   }
+
+
+   /** load() reads and merges several word list files (UTF-8) of one language, folding every word into
+    *  its alphabet (see Lexicon.load()).
+    *
+    *  @param alphabet - The alphabet of the language.
+    *  @param fileNames - The files to merge; list i is fileNames[i].
+    *  @throws IllegalArgumentException if alphabet is null, there are no files, more than MAX_LEXICONS, or
+    *     one cannot be opened.
+    *  @return lexicons - the merged lexicon.
+    */
+   static MultiLexicon load(Alphabet alphabet, String... fileNames) {
+
+      if (fileNames == null) {
+         throw new IllegalArgumentException("fileNames must not be null");
+      }
+
+      List<TreeSet<String>> lists = new ArrayList<TreeSet<String>>();
+      for (String fileName : fileNames) {
+         lists.add(Lexicon.readWords(fileName, alphabet));
+      }
+      return new MultiLexicon(lists, alphabet);
+   }
+
+
+   /** of() merges English word lists that are already in memory (in upper case).
+    *
+    *  @param lists - The lists to merge.
+    *  @throws IllegalArgumentException if there are no lists or more than MAX_LEXICONS.
+    *  @return lexicons - the merged lexicon.
+    */
+   static MultiLexicon of(List<? extends Collection<String>> lists) {
+      return of(lists, Alphabet.ENGLISH);
+   }
+
+
+   /** of() merges word lists that are already in memory, folded into an alphabet.
+    *
+    *  @param lists - The lists to merge.
+    *  @param alphabet - The alphabet of the words.
+    *  @throws IllegalArgumentException if alphabet is null, or there are no lists or more than MAX_LEXICONS.
+    *  @return lexicons - the merged lexicon.
+    */
+   static MultiLexicon of(List<? extends Collection<String>> lists, Alphabet alphabet) {
+      return new MultiLexicon(lists, alphabet);
+   }
+
+
+   /** solve() searches the board once and splits the words found by list.
+    *
+    *  @param board - The board to search.
+    *  @param neighbors - The neighbor table compiled for the board.
+    *  @param minimumWordLength - The minimum number of characters per word.
+    *  @return results - one sorted set per list, in the order the lists were given.
+    */
+   List<SortedSet<String>> solve(Board board, NeighborTable neighbors, int minimumWordLength) {
+
+      BitSet found = WordSearchGameFactory.createSolver(merged, board, neighbors).solve(minimumWordLength);
+
+      List<SortedSet<String>> results = new ArrayList<SortedSet<String>>(count);
+      for (int i = 0; i < count; i++) {
+         results.add(new TreeSet<String>());
+      }
+
+      for (int ordinal = found.nextSetBit(0); ordinal >= 0; ordinal = found.nextSetBit(ordinal + 1)) {
+         String word = merged.word(ordinal);
+         for (long lists = membership[ordinal]; lists != 0; lists &= lists - 1) {
+            results.get(Long.numberOfTrailingZeros(lists)).add(word);
+         }
+      }
+
+      return results;
+   }
+
+
+   /** merged() returns the union of all lists as a single lexicon. */
+   Lexicon merged() {
+      return merged;
+   }
+
+
+   /** membership() returns the bit mask of lists containing the merged word with the given ordinal. */
+   long membership(int ordinal) {
+      return membership[ordinal];
+   }
+
+
+   /** count() returns the number of merged lists. */
+   int count() {
+      return count;
+   }
+
+}
@@ -0,0 +1,111 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+
+public class MultiLexiconTest {
+
+   private static final List<String> FAMILY = Arrays.asList("REST", "SET", "TEST", "TESTS", "BEST");
+   private static final List<String> FULL = Arrays.asList("REST", "RESTS", "SET", "SETS", "STET", "VEST", "BEST");
+   private static final String[] BOARD = {"R", "E", "S", "T", "S", "T", "Q", "B", "V"};
+
+
+   /** A test that each merged word's mask has a bit for exactly the lists that contain it. */
+   @Test public void membershipTest() {
+      List<List<String>> lists = Arrays.asList(FAMILY, FULL);
+      MultiLexicon lexicons = MultiLexicon.of(lists);
+      Assert.assertEquals(2, lexicons.count());
+
+      Lexicon merged = lexicons.merged();
+      Set<String> union = new TreeSet<String>(FAMILY);
+      union.addAll(FULL);
+      Assert.assertEquals(union.size(), merged.size());
+      for (int ordinal = 0; ordinal < merged.size(); ordinal++) {
+         String word = merged.word(ordinal);
+         long mask = 0;
+         for (int i = 0; i < lists.size(); i++) {
+            if (lists.get(i).contains(word)) {
+               mask |= 1L << i;
+            }
+         }
+         Assert.assertEquals(word, mask, lexicons.membership(ordinal));
+      }
+   }
+
+
+   /** A test that one search split by list finds what a separate search of each list finds. */
+   @Test public void byLexiconTest() throws IOException {
+      WordSearch game = new WordSearch();
+      game.loadLexicons(write(FAMILY), write(FULL));
+      game.setBoard(BOARD);
+      List<SortedSet<String>> results = game.getAllScorableWordsByLexicon(3);
+      Assert.assertEquals(2, results.size());
+
+      int i = 0;
+      for (List<String> list : Arrays.asList(FAMILY, FULL)) {
+         WordSearch single = new WordSearch();
+         single.loadLexicon(write(list));
+         single.setBoard(BOARD);
+         SortedSet<String> expected = single.getAllScorableWords(3);
+         assertFalse(expected.isEmpty());
+         Assert.assertEquals(expected, results.get(i));
+         i++;
+      }
+      assertTrue(results.get(0).contains("TEST") && !results.get(1).contains("TEST"));
+      Assert.assertEquals(game.getAllScorableWords(3), union(results));
+
+      try {
+         MultiLexicon.of(Collections.<List<String>>emptyList());
+         fail("expected IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e) {
+      }
+   }
+
+
+   /** A test that lists in another language keep the words outside A - Z. */
+   @Test public void alphabetTest() throws IOException {
+      List<String> family = Arrays.asList("gr\u00FCn", "t\u00FCr", "tor");
+      List<String> full = Arrays.asList("t\u00FCr", "t\u00FCren", "stra\u00DFe");
+      MultiLexicon lexicons = MultiLexicon.load(Alphabet.GERMAN, write(family), write(full));
+
+      Lexicon merged = lexicons.merged();
+      assertSame(Alphabet.GERMAN, merged.alphabet());
+      Assert.assertEquals(5, merged.size());
+      Assert.assertEquals(3L, lexicons.membership(merged.ordinalOf("T\u00DCR")));
+      Assert.assertEquals(2L, lexicons.membership(merged.ordinalOf("STRASSE")));
+
+      WordSearch game = new WordSearch();
+      game.loadLexicons(Alphabet.GERMAN, write(family), write(full));
+      game.setBoard(new String[] {"T", "\u00FC", "R", "O", "E", "N", "R", "X", "X"});
+      List<SortedSet<String>> results = game.getAllScorableWordsByLexicon(3);
+      Assert.assertEquals(new TreeSet<String>(Arrays.asList("TOR", "T\u00DCR")), results.get(0));
+      Assert.assertEquals(new TreeSet<String>(Arrays.asList("T\u00DCR", "T\u00DCREN")), results.get(1));
+   }
+
+
+   /** write() saves a word list to a temporary file, deleted when the tests exit. */
+   private static String write(List<String> words) throws IOException {
+      File file = File.createTempFile("words", ".txt");
+      file.deleteOnExit();
+      Files.write(file.toPath(), words, StandardCharsets.UTF_8);
+      return file.getPath();
+   }
+
+
+   /** union() joins the sets of every list. */
+   private static Set<String> union(List<SortedSet<String>> results) {
+      Set<String> all = new TreeSet<String>();
+      for (SortedSet<String> result : results) {
+         all.addAll(result);
+      }
+      return all;
+   }
+
+}
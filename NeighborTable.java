@@ -0,0 +1,150 @@
+import java.util.Arrays;
+
+/** Class NeighborTable is an Adjacency compiled for one board size into a flat, compressed table: the
+ *  neighbors of cell c are neighbors[start[c]] up to (not including) neighbors[start[c + 1]]. The solver
+ *  walks this table directly, so no topology logic runs per step and every variant costs the same.
+ *  Boards of at most 64 cells also get one bit mask of neighbors per cell, for BitboardSolver.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class NeighborTable {
+
+   /** start[c] is where cell c's neighbors begin in the neighbors array; start has rows * cols + 1 entries. */
+   private final int[] start;
+
+   /** The neighbors of every cell, back to back. */
+   private final int[] neighbors;
+
+   /** The largest number of neighbors any one cell has. */
+   private final int maxDegree;
+
+   /** The most cells a board may have to get neighbor masks (one bit per cell in a long). */
+   static final int MAX_MASK_CELLS = 64;
+
+   /** masks[c] has bit n set if cell n is a neighbor of cell c (null for boards over MAX_MASK_CELLS). */
+   private final long[] masks;
+
+
+   /** Constructor for NeighborTable - use compile(). */
+   private NeighborTable(int[] startIn, int[] neighborsIn, int maxDegreeIn) {
+      start = startIn;
+      neighbors = neighborsIn;
+      maxDegree = maxDegreeIn;
+
+      int cells = startIn.length - 1;
+      if (cells <= MAX_MASK_CELLS) {
+         masks = new long[cells];
+         for (int cell = 0; cell < cells; cell++) {
+            for (int i = start[cell]; i < start[cell + 1]; i++) {
+               masks[cell] |= 1L << neighbors[i];
+            }
+         }
+      }
+      else {
+         masks = null;
+      }
+   }
+
+
+   /** compile() asks the adjacency for the neighbors of every cell once and packs them into a table.
+    *  Out of range cells, duplicates and self-loops (which wrap-around topologies produce on small
+    *  boards) are dropped.
+    *
+    *  @param adjacency - The topology to compile.
+    *  @param rows - The number of rows on the board.
+    *  @param cols - The number of columns on the board.
+    *  @throws IllegalArgumentException if adjacency is null.
+    *  @return table - the compiled neighbor table.
+    */
+   static NeighborTable compile(Adjacency adjacency, int rows, int cols) {
+
+      if (adjacency == null) {
+         throw new IllegalArgumentException("adjacency cannot be null");
+      }
+
+      int cells = rows * cols;
+      int[] startOut = new int[cells + 1];
+      int[] out = new int[cells * 8];
+      int size = 0;
+      int degree = 0;
+
+      for (int cell = 0; cell < cells; cell++) {
+         startOut[cell] = size;
+         int[] raw = adjacency.neighborsOf(cell / cols, cell % cols, rows, cols);
+
+         for (int neighbor : raw) {
+            if (neighbor < 0 || neighbor >= cells || neighbor == cell || contains(out, startOut[cell], size, neighbor)) {
+               continue;
+            }
+            if (size == out.length) {
+               out = Arrays.copyOf(out, out.length * 2);
+            }
+            out[size] = neighbor;
+            size++;
+         }
+
+         degree = Math.max(degree, size - startOut[cell]);
+      }
+      startOut[cells] = size;
+
+      return new NeighborTable(startOut, Arrays.copyOf(out, size), degree);
+   }
+
+
+   /** contains() checks a range of the table being built for a value. */
+   private static boolean contains(int[] values, int from, int to, int value) {
+      for (int i = from; i < to; i++) {
+         if (values[i] == value) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+
+   /** start() returns the table index of the first neighbor of a cell. */
+   int start(int cell) {
+      return start[cell];
+   }
+
+
+   /** end() returns the table index just past the last neighbor of a cell. */
+   int end(int cell) {
+      return start[cell + 1];
+   }
+
+
+   /** neighbor() returns the cell stored at a table index. */
+   int neighbor(int index) {
+      return neighbors[index];
+   }
+
+
+   /** size() returns the number of cells the table was compiled for. */
+   int size() {
+      return start.length - 1;
+   }
+
+
+   /** hasMasks() returns true if the board is small enough for neighbor masks (see mask()). */
+   boolean hasMasks() {
+      return masks != null;
+   }
+
+
+   /** mask() returns the neighbors of a cell as a bit mask (bit n set for cell n).
+    *
+    *  @throws NullPointerException if the board has more than MAX_MASK_CELLS cells.
+    */
+   long mask(int cell) {
+      return masks[cell];
+   }
+
+
+   /** maxDegree() returns the largest number of neighbors of any cell. */
+   int maxDegree() {
+      return maxDegree;
+   }
+
+}
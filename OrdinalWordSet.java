@@ -0,0 +1,309 @@
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/** Class OrdinalWordSet is an immutable SortedSet of the words found on a board, stored as nothing more
+ *  than a sorted int[] of lexicon ordinals - 4 bytes a word instead of a TreeSet entry and a String
+ *  copy - plus counts of the words and points at each word length. Because the lexicon's ordinals are in
+ *  alphabetical order, the set iterates, searches and slices straight off the array; the Strings are the
+ *  lexicon's own.
+ *
+ *  A board only has to be solved once, at minimum length 1: withMinimumLength() is a view of the same
+ *  array that skips the shorter words, and its size() and score() come from the length counts without
+ *  looking at a single word. subSet(), headSet() and tailSet() are views too (arguments outside a view's
+ *  range are clamped to it rather than rejected). Every mutator throws UnsupportedOperationException.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class OrdinalWordSet extends AbstractSet<String> implements SortedSet<String> {
+
+   private final Lexicon lexicon;
+
+   /** The ordinals of every word found, ascending (shared by all views of one solve). */
+   private final int[] ordinals;
+
+   /** atLeast[n] is the number of words in ordinals of n or more letters, and pointsAtLeast[n] their total
+    *  length (both have maxWordLength + 2 entries, so atLeast[max + 1] is 0). */
+   private final int[] atLeast;
+   private final long[] pointsAtLeast;
+
+   /** This view covers ordinals[from, to) and only its words of at least minimumLength letters. */
+   private final int from;
+   private final int to;
+   private final int minimumLength;
+
+   /** The size of a sliced view, counted on first use (-1 until then). */
+   private int size = -1;
+
+
+   /** Constructor for OrdinalWordSet - use of(). */
+   private OrdinalWordSet(Lexicon lexiconIn, int[] ordinalsIn, int[] atLeastIn, long[] pointsAtLeastIn,
+                          int fromIn, int toIn, int minimumLengthIn) {
+      lexicon = lexiconIn;
+      ordinals = ordinalsIn;
+      atLeast = atLeastIn;
+      pointsAtLeast = pointsAtLeastIn;
+      from = fromIn;
+      to = toIn;
+      minimumLength = minimumLengthIn;
+   }
+
+
+   /** of() packs a solver's result.
+    *
+    *  @param lexiconIn - The lexicon the ordinals belong to.
+    *  @param found - The ordinals of the words found (see GridSolver.solve()).
+    *  @return words - the words as a sorted set.
+    */
+   static OrdinalWordSet of(Lexicon lexiconIn, BitSet found) {
+      int[] ordinalsIn = new int[found.cardinality()];
+      int[] atLeastIn = new int[lexiconIn.maxWordLength() + 2];
+      long[] pointsIn = new long[atLeastIn.length];
+
+      int k = 0;
+      for (int ordinal = found.nextSetBit(0); ordinal >= 0; ordinal = found.nextSetBit(ordinal + 1)) {
+         ordinalsIn[k] = ordinal;
+         int length = lexiconIn.word(ordinal).length();
+         atLeastIn[length]++;
+         pointsIn[length] += length;
+         k++;
+      }
+      // turn the counts per length into counts of that length or more
+      for (int length = atLeastIn.length - 2; length >= 0; length--) {
+         atLeastIn[length] += atLeastIn[length + 1];
+         pointsIn[length] += pointsIn[length + 1];
+      }
+      return new OrdinalWordSet(lexiconIn, ordinalsIn, atLeastIn, pointsIn, 0, ordinalsIn.length, 0);
+   }
+
+
+   /** withMinimumLength() returns a view of the words of at least a given length.
+    *
+    *  @param length - The minimum number of letters (a view never gains words shorter than its own minimum).
+    */
+   OrdinalWordSet withMinimumLength(int length) {
+      return new OrdinalWordSet(lexicon, ordinals, atLeast, pointsAtLeast, from, to, Math.max(length, minimumLength));
+   }
+
+
+   /** isWhole() is true if this view covers the whole solve (so the length counts apply to it). */
+   private boolean isWhole() {
+      return from == 0 && to == ordinals.length;
+   }
+
+
+   /** bucket() clamps a word length to the length count tables. */
+   private int bucket(int length) {
+      return Math.min(Math.max(length, 0), atLeast.length - 1);
+   }
+
+
+   /** isScored() checks the length of the word at an index against this view's minimum. */
+   private boolean isScored(int index) {
+      return lexicon.word(ordinals[index]).length() >= minimumLength;
+   }
+
+
+   @Override
+   public int size() {
+      if (isWhole()) {
+         return atLeast[bucket(minimumLength)];
+      }
+      int counted = size;
+      if (counted < 0) {
+         counted = 0;
+         for (int i = from; i < to; i++) {
+            if (isScored(i)) {
+               counted++;
+            }
+         }
+         size = counted;
+      }
+      return counted;
+   }
+
+
+   /** countOfLength() returns the number of words in the set with exactly a given number of letters. */
+   int countOfLength(int length) {
+      if (length < minimumLength || length < 0 || length >= atLeast.length - 1) {
+         return 0;
+      }
+      if (isWhole()) {
+         return atLeast[length] - atLeast[length + 1];
+      }
+      int count = 0;
+      for (int i = from; i < to; i++) {
+         if (lexicon.word(ordinals[i]).length() == length) {
+            count++;
+         }
+      }
+      return count;
+   }
+
+
+   /** score() returns the total points of the words in the set (one point per letter). */
+   long score() {
+      if (isWhole()) {
+         return pointsAtLeast[bucket(minimumLength)];
+      }
+      long points = 0;
+      for (int i = from; i < to; i++) {
+         int length = lexicon.word(ordinals[i]).length();
+         if (length >= minimumLength) {
+            points += length;
+         }
+      }
+      return points;
+   }
+
+
+   /** sharesSolve() returns true if both sets are views of the same solve. */
+   boolean sharesSolve(OrdinalWordSet other) {
+      return ordinals == other.ordinals && lexicon == other.lexicon;
+   }
+
+
+   /** indexOf() finds a word in the whole solve behind this set, whatever this view's range and minimum.
+    *
+    *  @param ordinal - The word's lexicon ordinal.
+    *  @return index - the word's position among the ordinals of the solve, or a negative number if the
+    *     board does not have it.
+    */
+   int indexOf(int ordinal) {
+      return Arrays.binarySearch(ordinals, ordinal);
+   }
+
+
+   /** forEachOrdinal() hands the ordinal of every word in the set, in order, to an action. */
+   void forEachOrdinal(IntConsumer action) {
+      for (int i = from; i < to; i++) {
+         if (isScored(i)) {
+            action.accept(ordinals[i]);
+         }
+      }
+   }
+
+
+   /** estimatedBytes() returns roughly how much heap the solve behind this set holds on to. */
+   long estimatedBytes() {
+      return 48 + 16 + 4L * ordinals.length + 16 + 4L * atLeast.length + 16 + 8L * pointsAtLeast.length;
+   }
+
+
+   @Override
+   public boolean contains(Object object) {
+      if (!(object instanceof String)) {
+         return false;
+      }
+      String word = (String) object;
+      if (word.length() < minimumLength) {
+         return false;
+      }
+      int ordinal = lexicon.ordinalOf(word);
+      return ordinal >= 0 && Arrays.binarySearch(ordinals, from, to, ordinal) >= 0;
+   }
+
+
+   @Override
+   public Iterator<String> iterator() {
+      return new Iterator<String>() {
+         private int next = advance(from);
+
+         private int advance(int index) {
+            while (index < to && !isScored(index)) {
+               index++;
+            }
+            return index;
+         }
+
+         @Override
+         public boolean hasNext() {
+            return next < to;
+         }
+
+         @Override
+         public String next() {
+            if (next >= to) {
+               throw new NoSuchElementException();
+            }
+            String word = lexicon.word(ordinals[next]);
+            next = advance(next + 1);
+            return word;
+         }
+      };
+   }
+
+
+   @Override
+   public Comparator<? super String> comparator() {
+      // the natural order of Strings, which is the lexicon's order
+      return null;
+   }
+
+
+   @Override
+   public String first() {
+      for (int i = from; i < to; i++) {
+         if (isScored(i)) {
+            return lexicon.word(ordinals[i]);
+         }
+      }
+      throw new NoSuchElementException();
+   }
+
+
+   @Override
+   public String last() {
+      for (int i = to - 1; i >= from; i--) {
+         if (isScored(i)) {
+            return lexicon.word(ordinals[i]);
+         }
+      }
+      throw new NoSuchElementException();
+   }
+
+
+   @Override
+   public SortedSet<String> subSet(String fromElement, String toElement) {
+      if (fromElement.compareTo(toElement) > 0) {
+         throw new IllegalArgumentException("fromElement > toElement");
+      }
+      return slice(lowerBound(fromElement), lowerBound(toElement));
+   }
+
+
+   @Override
+   public SortedSet<String> headSet(String toElement) {
+      return slice(from, lowerBound(toElement));
+   }
+
+
+   @Override
+   public SortedSet<String> tailSet(String fromElement) {
+      return slice(lowerBound(fromElement), to);
+   }
+
+
+   /** slice() returns a view of ordinals[fromIndex, toIndex). */
+   private OrdinalWordSet slice(int fromIndex, int toIndex) {
+      return new OrdinalWordSet(lexicon, ordinals, atLeast, pointsAtLeast, fromIndex, toIndex, minimumLength);
+   }
+
+
+   /** lowerBound() returns the index in this view of the first word not less than a String. */
+   private int lowerBound(String element) {
+      int low = from;
+      int high = to;
+      while (low < high) {
+         int middle = (low + high) >>> 1;
+         if (lexicon.word(ordinals[middle]).compareTo(element) < 0) {
+            low = middle + 1;
+         }
+         else {
+            high = middle;
+         }
+      }
+      return low;
+   }
+
+}
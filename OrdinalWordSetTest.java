@@ -0,0 +1,107 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+
+
+public class OrdinalWordSetTest {
+
+   private static Lexicon lexicon;
+   private OrdinalWordSet words;
+   private TreeSet<String> expected;
+
+
+   /** Fixture initialization - loads the lexicon the boards are solved against. **/
+   @BeforeClass public static void loadLexicon() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   /** Fixture initialization - solves a seeded 10 x 10 board both ways. **/
+   @Before public void setUp() {
+      Random random = new Random(11L);
+      String[] tiles = new String[100];
+      for (int i = 0; i < tiles.length; i++) {
+         tiles[i] = String.valueOf("ABCDEFGHIJKLMNOPQRSTUVWXYZAEIOU".charAt(random.nextInt(31)));
+      }
+      Board board = Board.square(tiles);
+      BitSet found = new BoardSolver(lexicon, board).solve(1);
+
+      words = OrdinalWordSet.of(lexicon, found);
+      expected = new TreeSet<String>();
+      for (int ordinal = found.nextSetBit(0); ordinal >= 0; ordinal = found.nextSetBit(ordinal + 1)) {
+         expected.add(lexicon.word(ordinal));
+      }
+   }
+
+
+   /** A test that each minimum length is the same set as filtering the words, with matching counts. */
+   @Test public void minimumLengthTest() {
+      for (int length = 1; length <= 12; length++) {
+         OrdinalWordSet view = words.withMinimumLength(length);
+         TreeSet<String> filtered = new TreeSet<String>();
+         long points = 0;
+         for (String word : expected) {
+            if (word.length() >= length) {
+               filtered.add(word);
+               points += word.length();
+            }
+         }
+
+         assertEquals(filtered, view);
+         assertEquals(filtered.size(), view.size());
+         assertEquals(new ArrayList<String>(filtered), new ArrayList<String>(view));
+         assertEquals(points, view.score());
+         if (!filtered.isEmpty()) {
+            assertEquals(filtered.first(), view.first());
+            assertEquals(filtered.last(), view.last());
+         }
+         for (String word : expected) {
+            assertEquals(filtered.contains(word), view.contains(word));
+         }
+         assertEquals(filtered.size() - words.withMinimumLength(length + 1).size(), view.countOfLength(length));
+      }
+   }
+
+
+   /** A test of the range views against TreeSet's. */
+   @Test public void rangeTest() {
+      OrdinalWordSet view = words.withMinimumLength(3);
+      TreeSet<String> filtered = new TreeSet<String>(view);
+      String[] bounds = {"A", "BE", "CAT", "M", "MOON", "S", "TO", "ZZZ"};
+
+      for (String low : bounds) {
+         assertEquals(filtered.headSet(low), view.headSet(low));
+         assertEquals(filtered.tailSet(low), view.tailSet(low));
+         for (String high : bounds) {
+            if (low.compareTo(high) <= 0) {
+               assertEquals(filtered.subSet(low, high), view.subSet(low, high));
+               assertEquals(filtered.subSet(low, high).size(), view.subSet(low, high).size());
+            }
+         }
+      }
+   }
+
+
+   /** A test that the set cannot be changed. */
+   @Test public void immutableTest() {
+      try {
+         words.add("CAT");
+         fail("add() should not be supported");
+      }
+      catch (UnsupportedOperationException e) {
+      }
+      try {
+         Iterator<String> iterator = words.iterator();
+         iterator.next();
+         iterator.remove();
+         fail("remove() should not be supported");
+      }
+      catch (UnsupportedOperationException e) {
+      }
+   }
+
+}
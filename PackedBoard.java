@@ -0,0 +1,493 @@
+import java.util.*;
+
+/** Class PackedBoard is an immutable R x C board packed into 5 bits per cell (12 cells per long), for
+ *  hashing, comparing, sending and storing boards cheaply - a 4 x 4 board is two longs instead of sixteen
+ *  String objects. Each cell holds a letter code (0 - 25), WILDCARD_CODE for a "?" tile, or ESCAPE_CODE
+ *  for any other tile (several letters such as "QU", or not a letter at all); escaped tiles are kept in a
+ *  small side table in cell order.
+ *
+ *  It offers a 64-bit hash (optionally the same for all eight rotations and reflections of a board),
+ *  conversion to and from the String[] tiles that WordSearchGame.setBoard() takes (single letters come
+ *  from a shared table, so no per-cell Strings are made), and a compact text form for URLs and logs:
+ *
+ *     4x4:EECAALEPHNBO(QU)TTY
+ *
+ *  where "?" is a wildcard and any other tile is written in parentheses (with ")" and "\" escaped by a
+ *  backslash). BoardSolver can search a PackedBoard directly (see TileGrid).
+ *
+ *  @version October 19th, 2026
+ */
+
+final class PackedBoard implements TileGrid {
+
+   /** Bits per cell, and cells per long. */
+   static final int BITS_PER_CELL = 5;
+   static final int CELLS_PER_LONG = 64 / BITS_PER_CELL;
+
+   /** Cell value of a wildcard ("?") tile. */
+   static final int WILDCARD_CODE = 26;
+
+   /** Cell value of a tile kept in the escape table. */
+   static final int ESCAPE_CODE = 27;
+
+   private static final long CELL_MASK = (1L << BITS_PER_CELL) - 1;
+
+   /** One String per letter, so unpacking makes no per-cell Strings. */
+   private static final String[] LETTERS = new String[Lexicon.ALPHABET_SIZE];
+
+   static {
+      for (int code = 0; code < LETTERS.length; code++) {
+         LETTERS[code] = String.valueOf((char) ('A' + code));
+      }
+   }
+
+   /** The number of rotations and reflections of a board tried by canonicalHash() (0 is the identity). */
+   private static final int TRANSFORMS = 8;
+
+   private final int rows;
+   private final int cols;
+
+   /** The cells, 12 to a long, cell i in bits 5 * (i % 12) and up of long i / 12. */
+   private final long[] bits;
+
+   /** The cells holding escaped tiles, ascending, and their tiles (both empty if there are none). */
+   private final int[] escapeCells;
+   private final String[] escapeTiles;
+
+   /** The letter codes of escaped tiles that are all letters (null entries otherwise). */
+   private final byte[][] escapeSequences;
+
+
+   /** Constructor for PackedBoard - use of(), from() or parse(). */
+   private PackedBoard(int rowsIn, int colsIn, long[] bitsIn, int[] escapeCellsIn, String[] escapeTilesIn) {
+      rows = rowsIn;
+      cols = colsIn;
+      bits = bitsIn;
+      escapeCells = escapeCellsIn;
+      escapeTiles = escapeTilesIn;
+
+      escapeSequences = new byte[escapeTiles.length][];
+      for (int e = 0; e < escapeTiles.length; e++) {
+         escapeSequences[e] = letterCodes(escapeTiles[e]);
+      }
+   }
+
+
+   /** of() packs tiles in the format WordSearchGame.setBoard() takes.
+    *
+    *  @param letterArray - The tiles in row-major order (any case).
+    *  @param rowsIn - The number of rows (at least 1).
+    *  @param colsIn - The number of columns (at least 1).
+    *  @throws IllegalArgumentException if letterArray is null, contains null, or does not hold rows * cols tiles.
+    *  @return board - the packed board.
+    */
+   static PackedBoard of(String[] letterArray, int rowsIn, int colsIn) {
+
+      if (letterArray == null) {
+         throw new IllegalArgumentException("LetterArray cannot be null");
+      }
+      if (rowsIn < 1 || colsIn < 1 || (long) rowsIn * colsIn != letterArray.length) {
+         throw new IllegalArgumentException("LetterArray must hold exactly rows * cols tiles");
+      }
+
+      long[] packed = new long[longsFor(letterArray.length)];
+      List<Integer> cells = new ArrayList<Integer>();
+      List<String> tiles = new ArrayList<String>();
+
+      for (int i = 0; i < letterArray.length; i++) {
+         if (letterArray[i] == null) {
+            throw new IllegalArgumentException("LetterArray cannot contain null tiles");
+         }
+         String tile = letterArray[i];
+         int value;
+         int letter = tile.length() == 1 ? letterCode(tile.charAt(0)) : Lexicon.NO_LETTER;
+         if (letter >= 0) {
+            value = letter;
+         }
+         else if (tile.equals(Board.WILDCARD_TILE)) {
+            value = WILDCARD_CODE;
+         }
+         else {
+            value = ESCAPE_CODE;
+            cells.add(i);
+            // escapes keep their accents, so only the case is folded (the same in every locale)
+            tiles.add(tile.toUpperCase(Locale.ROOT));
+         }
+         packed[i / CELLS_PER_LONG] |= (long) value << (BITS_PER_CELL * (i % CELLS_PER_LONG));
+      }
+
+      int[] escapeCellsIn = new int[cells.size()];
+      for (int e = 0; e < escapeCellsIn.length; e++) {
+         escapeCellsIn[e] = cells.get(e);
+      }
+      return new PackedBoard(rowsIn, colsIn, packed, escapeCellsIn, tiles.toArray(new String[0]));
+   }
+
+
+   /** from() packs a Board (or any other grid of tiles).
+    *
+    *  @param board - The board to pack.
+    *  @return board - the packed board.
+    */
+   static PackedBoard from(TileGrid board) {
+      String[] tiles = new String[board.size()];
+      for (int i = 0; i < tiles.length; i++) {
+         tiles[i] = board.tile(i);
+      }
+      return of(tiles, board.rows(), board.cols());
+   }
+
+
+   /** longsFor() returns how many longs hold a number of cells. */
+   private static int longsFor(int cells) {
+      return (cells + CELLS_PER_LONG - 1) / CELLS_PER_LONG;
+   }
+
+
+   /** letterCode() returns the A - Z code of a one-letter tile in either case, folded like
+    *  Alphabet.ENGLISH so the default locale cannot change it, or Lexicon.NO_LETTER. Letters with accents
+    *  are not folded to A - Z here; they stay escaped tiles.
+    */
+   private static int letterCode(char c) {
+      if (c >= 0x80) {
+         return Lexicon.NO_LETTER;
+      }
+      return Lexicon.code(Alphabet.ENGLISH.fold(String.valueOf(c)).charAt(0));
+   }
+
+
+   /** letterCodes() returns the letter codes of a tile that is all letters, or null. */
+   private static byte[] letterCodes(String tile) {
+      if (tile.isEmpty()) {
+         return null;
+      }
+      byte[] sequence = new byte[tile.length()];
+      for (int i = 0; i < sequence.length; i++) {
+         int code = Lexicon.code(tile.charAt(i));
+         if (code == Lexicon.NO_LETTER) {
+            return null;
+         }
+         sequence[i] = (byte) code;
+      }
+      return sequence;
+   }
+
+
+   /** value() returns the raw 5-bit value of a cell. */
+   private int value(int cell) {
+      return (int) (bits[cell / CELLS_PER_LONG] >>> (BITS_PER_CELL * (cell % CELLS_PER_LONG)) & CELL_MASK);
+   }
+
+
+   /** escape() returns the index of a cell in the escape table. */
+   private int escape(int cell) {
+      return Arrays.binarySearch(escapeCells, cell);
+   }
+
+
+   @Override
+   public int rows() {
+      return rows;
+   }
+
+
+   @Override
+   public int cols() {
+      return cols;
+   }
+
+
+   @Override
+   public int size() {
+      return rows * cols;
+   }
+
+
+   @Override
+   public int code(int cell) {
+      int value = value(cell);
+      if (value < Lexicon.ALPHABET_SIZE) {
+         return value;
+      }
+      if (value == WILDCARD_CODE) {
+         return Board.WILDCARD;
+      }
+      return escapeSequences[escape(cell)] != null ? Board.MULTI : Lexicon.NO_LETTER;
+   }
+
+
+   @Override
+   public byte[] sequence(int cell) {
+      return escapeSequences[escape(cell)];
+   }
+
+
+   @Override
+   public String tile(int cell) {
+      int value = value(cell);
+      if (value < Lexicon.ALPHABET_SIZE) {
+         return LETTERS[value];
+      }
+      if (value == WILDCARD_CODE) {
+         return Board.WILDCARD_TILE;
+      }
+      return escapeTiles[escape(cell)];
+   }
+
+
+   /** alphabet() returns English: the 5-bit codes are A - Z, and any other letter is an escaped tile (a
+    *  board in another language is searched through Board.inAlphabet()). */
+   @Override
+   public Alphabet alphabet() {
+      return Alphabet.ENGLISH;
+   }
+
+
+   /** toTiles() unpacks the board into the format WordSearchGame.setBoard() takes.
+    *
+    *  @return letterArray - the tiles in row-major order (upper case).
+    */
+   String[] toTiles() {
+      String[] tiles = new String[size()];
+      for (int i = 0; i < tiles.length; i++) {
+         tiles[i] = tile(i);
+      }
+      return tiles;
+   }
+
+
+   /** toBoard() unpacks the board into a Board. */
+   Board toBoard() {
+      return toBoard(Alphabet.ENGLISH);
+   }
+
+
+   /** toBoard() unpacks the board into a Board in a lexicon's alphabet (escaped tiles such as a German
+    *  U-umlaut become letters of it).
+    */
+   Board toBoard(Alphabet alphabet) {
+      return new Board(toTiles(), rows, cols, alphabet);
+   }
+
+
+   /** hash64() returns a 64-bit hash of the board's size and tiles. Equal boards have equal hashes. */
+   long hash64() {
+      long hash = seed(rows, cols);
+      for (long word : bits) {
+         hash = mix(hash, word);
+      }
+      for (String tile : escapeTiles) {
+         hash = mix(hash, tile.hashCode());
+      }
+      return finish(hash);
+   }
+
+
+   /** canonicalHash() returns a 64-bit hash that is the same for a board and all of its rotations and
+    *  reflections (so boards that are "the same puzzle" can be found together). It is the smallest of the
+    *  hash64() values of the eight transformed boards, and equal to hash64() for the transform that wins.
+    */
+   long canonicalHash() {
+      long best = hash64();
+      for (int transform = 1; transform < TRANSFORMS; transform++) {
+         best = Math.min(best, transformedHash(transform));
+      }
+      return best;
+   }
+
+
+   /** transformedHash() returns what hash64() would be for one rotation or reflection of the board, packing
+    *  the transformed cells 12 at a time exactly as the constructor would, without building the board.
+    *
+    *  @param transform - 0 to 7: bit 0 swaps rows and columns (transpose), bit 1 mirrors the rows, bit 2
+    *     mirrors the columns (of the transformed board).
+    */
+   private long transformedHash(int transform) {
+      boolean transpose = (transform & 1) != 0;
+      boolean flipRows = (transform & 2) != 0;
+      boolean flipCols = (transform & 4) != 0;
+      int outRows = transpose ? cols : rows;
+      int outCols = transpose ? rows : cols;
+
+      long hash = seed(outRows, outCols);
+      long word = 0;
+      int filled = 0;
+      int[] escapeOrder = escapeCells.length == 0 ? null : new int[escapeCells.length];
+      int escapes = 0;
+
+      for (int row = 0; row < outRows; row++) {
+         for (int col = 0; col < outCols; col++) {
+            int r = flipRows ? outRows - 1 - row : row;
+            int c = flipCols ? outCols - 1 - col : col;
+            int cell = transpose ? c * cols + r : r * cols + c;
+
+            int value = value(cell);
+            if (value == ESCAPE_CODE) {
+               escapeOrder[escapes] = escape(cell);
+               escapes++;
+            }
+            word |= (long) value << (BITS_PER_CELL * filled);
+            filled++;
+            if (filled == CELLS_PER_LONG) {
+               hash = mix(hash, word);
+               word = 0;
+               filled = 0;
+            }
+         }
+      }
+      if (filled > 0) {
+         hash = mix(hash, word);
+      }
+      for (int e = 0; e < escapes; e++) {
+         hash = mix(hash, escapeTiles[escapeOrder[e]].hashCode());
+      }
+      return finish(hash);
+   }
+
+
+   /** seed() starts a hash from the board's dimensions. */
+   private static long seed(int rowsIn, int colsIn) {
+      return ((long) rowsIn << 32 | colsIn) * 0x9E3779B97F4A7C15L;
+   }
+
+
+   /** mix() folds one long into a hash. */
+   private static long mix(long hash, long value) {
+      return Long.rotateLeft(hash ^ value * 0xC2B2AE3D27D4EB4FL, 31) * 0x9E3779B97F4A7C15L;
+   }
+
+
+   /** finish() spreads the bits of a hash (the splitmix64 finalizer). */
+   private static long finish(long hash) {
+      hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+      hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+      return hash ^ (hash >>> 31);
+   }
+
+
+   /** toText() returns the compact text form, e.g. "4x4:EECAALEPHNBO(QU)TTY". */
+   String toText() {
+      StringBuilder text = new StringBuilder(size() + 8);
+      text.append(rows).append('x').append(cols).append(':');
+      for (int i = 0; i < size(); i++) {
+         int value = value(i);
+         if (value < Lexicon.ALPHABET_SIZE) {
+            text.append((char) ('A' + value));
+         }
+         else if (value == WILDCARD_CODE) {
+            text.append(Board.WILDCARD_TILE);
+         }
+         else {
+            text.append('(');
+            String tile = escapeTiles[escape(i)];
+            for (int k = 0; k < tile.length(); k++) {
+               char c = tile.charAt(k);
+               if (c == ')' || c == '\\') {
+                  text.append('\\');
+               }
+               text.append(c);
+            }
+            text.append(')');
+         }
+      }
+      return text.toString();
+   }
+
+
+   /** parse() reads the text form written by toText().
+    *
+    *  @param text - The text form, e.g. "4x4:EECAALEPHNBO(QU)TTY" (letters in any case).
+    *  @throws IllegalArgumentException if text is not a board in text form.
+    *  @return board - the packed board.
+    */
+   static PackedBoard parse(String text) {
+      int x = text.indexOf('x');
+      int colon = text.indexOf(':');
+      if (x < 1 || colon < x + 2) {
+         throw new IllegalArgumentException("Not a packed board: " + text);
+      }
+
+      int rowsIn;
+      int colsIn;
+      try {
+         rowsIn = Integer.parseInt(text.substring(0, x));
+         colsIn = Integer.parseInt(text.substring(x + 1, colon));
+      }
+      catch (NumberFormatException e) {
+         throw new IllegalArgumentException("Not a packed board: " + text);
+      }
+      if (rowsIn < 1 || colsIn < 1 || (long) rowsIn * colsIn > text.length()) {
+         throw new IllegalArgumentException("Not a packed board: " + text);
+      }
+
+      String[] tiles = new String[rowsIn * colsIn];
+      int cell = 0;
+      int i = colon + 1;
+      while (i < text.length() && cell < tiles.length) {
+         char c = text.charAt(i);
+         if (c != '(') {
+            int code = letterCode(c);
+            tiles[cell] = code >= 0 ? LETTERS[code] : String.valueOf(c);
+            i++;
+         }
+         else {
+            StringBuilder tile = new StringBuilder();
+            i++;
+            while (i < text.length() && text.charAt(i) != ')') {
+               if (text.charAt(i) == '\\' && i + 1 < text.length()) {
+                  i++;
+               }
+               tile.append(text.charAt(i));
+               i++;
+            }
+            if (i == text.length()) {
+               throw new IllegalArgumentException("Unclosed tile in packed board: " + text);
+            }
+            tiles[cell] = tile.toString();
+            i++;
+         }
+         cell++;
+      }
+      if (cell != tiles.length || i != text.length()) {
+         throw new IllegalArgumentException("Packed board does not hold exactly rows * cols tiles: " + text);
+      }
+      return of(tiles, rowsIn, colsIn);
+   }
+
+
+   /** estimatedBytes() returns roughly how much heap the board takes. */
+   long estimatedBytes() {
+      long bytes = 48 + 16 + 8L * bits.length + 3 * 16 + 12L * escapeCells.length;
+      for (String tile : escapeTiles) {
+         bytes += 40 + tile.length();
+      }
+      return bytes;
+   }
+
+
+   @Override
+   public boolean equals(Object other) {
+      if (this == other) {
+         return true;
+      }
+      if (!(other instanceof PackedBoard)) {
+         return false;
+      }
+      PackedBoard board = (PackedBoard) other;
+      return rows == board.rows && cols == board.cols && Arrays.equals(bits, board.bits)
+         && Arrays.equals(escapeTiles, board.escapeTiles) && Arrays.equals(escapeCells, board.escapeCells);
+   }
+
+
+   @Override
+   public int hashCode() {
+      return (int) hash64();
+   }
+
+
+   @Override
+   public String toString() {
+      return toText();
+   }
+
+}
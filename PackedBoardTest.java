@@ -0,0 +1,105 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+
+public class PackedBoardTest {
+
+   private Lexicon lexicon;
+
+
+   /** Fixture initialization - loads the lexicon. **/
+   @Before public void setUp() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   /** A test that boards survive packing, unpacking and the text form, including escaped tiles. */
+   @Test public void roundTripTest() {
+      String[] tiles = {"e", "E", "C", "A", "?", "L", "E", "P", "H", "N", "b", "O", "Qu", "T", "T", "3)\\"};
+      PackedBoard board = PackedBoard.of(tiles, 4, 4);
+
+      assertEquals("4x4:EECA?LEPHNBO(QU)TT(3\\)\\\\)", board.toText());
+      assertEquals(board, PackedBoard.parse(board.toText()));
+      assertEquals(board.hash64(), PackedBoard.parse(board.toText()).hash64());
+      assertEquals(board, PackedBoard.from(board.toBoard()));
+
+      String[] unpacked = board.toTiles();
+      for (int i = 0; i < tiles.length; i++) {
+         assertEquals(tiles[i].toUpperCase(), unpacked[i]);
+         assertEquals(board.toBoard().code(i), board.code(i));
+      }
+      assertTrue(Arrays.equals(new byte[]{(byte) Lexicon.code('Q'), (byte) Lexicon.code('U')}, board.sequence(12)));
+      assertEquals(Lexicon.NO_LETTER, board.code(15));
+
+      PackedBoard other = PackedBoard.of(new String[]{"E", "E", "C", "A", "?", "L", "E", "P", "H", "N", "B", "O",
+                                                      "QU", "T", "T", "Z"}, 4, 4);
+      assertFalse(board.equals(other));
+      assertTrue(board.hash64() != other.hash64());
+   }
+
+
+   /** A test that the canonical hash is the same for every rotation and reflection, and only for them. */
+   @Test public void canonicalHashTest() {
+      String[][] grid = {{"A", "B", "C"},
+                         {"D", "QU", "F"}};
+      PackedBoard board = pack(grid);
+      long canonical = board.canonicalHash();
+
+      String[][] transformed = grid;
+      for (int turn = 0; turn < 4; turn++) {
+         transformed = rotate(transformed);
+         assertEquals(canonical, pack(transformed).canonicalHash());
+         assertEquals(canonical, pack(mirror(transformed)).canonicalHash());
+      }
+
+      String[][] different = {{"A", "B", "C"},
+                              {"D", "F", "QU"}};
+      assertTrue(canonical != pack(different).canonicalHash());
+   }
+
+
+   /** A test that solving a packed board finds the same words as solving the Board. */
+   @Test public void solveTest() {
+      Board board = Board.square(new String[]{"E", "E", "C", "A", "A", "L", "E", "P",
+                                              "H", "N", "B", "O", "QU", "T", "T", "?"});
+      PackedBoard packed = PackedBoard.from(board);
+      assertEquals(new BoardSolver(lexicon, board).solve(3), new BoardSolver(lexicon, packed).solve(3));
+   }
+
+
+   private static PackedBoard pack(String[][] grid) {
+      String[] tiles = new String[grid.length * grid[0].length];
+      for (int row = 0; row < grid.length; row++) {
+         System.arraycopy(grid[row], 0, tiles, row * grid[0].length, grid[0].length);
+      }
+      return PackedBoard.of(tiles, grid.length, grid[0].length);
+   }
+
+
+   /** rotate() turns a grid a quarter turn clockwise. */
+   private static String[][] rotate(String[][] grid) {
+      String[][] turned = new String[grid[0].length][grid.length];
+      for (int row = 0; row < grid.length; row++) {
+         for (int col = 0; col < grid[0].length; col++) {
+            turned[col][grid.length - 1 - row] = grid[row][col];
+         }
+      }
+      return turned;
+   }
+
+
+   /** mirror() reverses each row of a grid. */
+   private static String[][] mirror(String[][] grid) {
+      String[][] mirrored = new String[grid.length][];
+      for (int row = 0; row < grid.length; row++) {
+         mirrored[row] = grid[row].clone();
+         Collections.reverse(Arrays.asList(mirrored[row]));
+      }
+      return mirrored;
+   }
+
+}
@@ -0,0 +1,306 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedSet;
+
+/** Class PathCounter counts how many different paths on a board spell a word - a word with one path is
+ *  well hidden, a word with twenty is hard to miss - and turns the counts into difficulty ratings.
+ *
+ *  Counts are not found by listing paths. Most words can never use a cell twice on the way, because no
+ *  cell matches the word at two different positions (every letter different, no wildcards); for those the
+ *  count is a dynamic program over the cells matching each position in turn, where a cell's count is the
+ *  sum of the counts of its neighbors matching the position before. Only the cells that match at two or
+ *  more positions could repeat on a path, so the other words are counted by a depth-first search memoized
+ *  on (cell, position, which of those cells the path has used) - still one visit per state rather than
+ *  per path. Counts too large for a long are capped at Long.MAX_VALUE.
+ *
+ *  A counter is not thread-safe, but it is cheap to create; use one per thread.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class PathCounter {
+
+   private final TileGrid board;
+   private final Alphabet alphabet;
+   private final NeighborTable neighbors;
+
+   /** starts[c] holds the cells whose tile can begin letter code c (see WordDrivenSolver.startsByLetter()). */
+   private final int[][] starts;
+
+   /** Per cell, for the word being counted: the word it was last marked for, the positions it matches
+    *  at, the position after its tile and the number of paths ending on it. */
+   private final int[] stamp;
+   private final int[] matches;
+   private final int[] end;
+   private final long[] ways;
+   private int epoch;
+
+
+   /** Constructor for PathCounter.
+    *
+    *  @param boardIn - The board.
+    *  @param neighborsIn - The neighbor table compiled for the board.
+    *  @throws IllegalArgumentException if the table was compiled for a different number of cells.
+    */
+   PathCounter(TileGrid boardIn, NeighborTable neighborsIn) {
+      if (neighborsIn.size() != boardIn.size()) {
+         throw new IllegalArgumentException("Neighbor table is for " + neighborsIn.size() + " cells, board has "
+            + boardIn.size());
+      }
+      board = boardIn;
+      alphabet = boardIn.alphabet();
+      neighbors = neighborsIn;
+      starts = WordDrivenSolver.startsByLetter(boardIn);
+      stamp = new int[boardIn.size()];
+      matches = new int[boardIn.size()];
+      end = new int[boardIn.size()];
+      ways = new long[boardIn.size()];
+   }
+
+
+   /** count() counts the paths that spell a word.
+    *
+    *  @param word - The word, folded into the board's alphabet (need not be in the lexicon).
+    *  @return paths - the number of different paths spelling it (0 if it is not on the board).
+    */
+   long count(String word) {
+      int length = word.length();
+      if (length == 0) {
+         return 0;
+      }
+      for (int i = 0; i < length; i++) {
+         if (alphabet.code(word.charAt(i)) < 0) {
+            return 0;
+         }
+      }
+
+      // the cells matching each position, in position order, each adding up the paths that reach it
+      epoch++;
+      long total = 0;
+      boolean repeats = false;
+      for (int position = 0; position < length; position++) {
+         for (int cell : starts[alphabet.code(word.charAt(position))]) {
+            int after = BoardSolver.match(board, cell, word, position);
+            if (after < 0) {
+               continue;
+            }
+            if (stamp[cell] == epoch) {
+               // the cell matches at an earlier position too, so a path might use it twice
+               matches[cell]++;
+               repeats = true;
+               continue;
+            }
+            long reaching = 1;
+            if (position > 0) {
+               reaching = 0;
+               for (int index = neighbors.start(cell); index < neighbors.end(cell); index++) {
+                  int neighbor = neighbors.neighbor(index);
+                  if (stamp[neighbor] == epoch && end[neighbor] == position) {
+                     reaching = add(reaching, ways[neighbor]);
+                  }
+               }
+            }
+            stamp[cell] = epoch;
+            matches[cell] = 1;
+            end[cell] = after;
+            ways[cell] = reaching;
+            if (after == length) {
+               total = add(total, reaching);
+            }
+         }
+      }
+      if (!repeats) {
+         return total;
+      }
+
+      // otherwise search, remembering which of the repeatable cells the path has used
+      Map<State, Long> memo = new HashMap<State, Long>();
+      int[] used = new int[length];
+      total = 0;
+      for (int cell : starts[alphabet.code(word.charAt(0))]) {
+         int after = BoardSolver.match(board, cell, word, 0);
+         if (after >= 0) {
+            int count = 0;
+            if (matches[cell] > 1) {
+               used[count++] = cell;
+            }
+            total = add(total, search(word, cell, after, used, count, memo));
+         }
+      }
+      return total;
+   }
+
+
+   /** search() counts the ways to finish a word from a cell, given the repeatable cells already used. */
+   private long search(String word, int cell, int position, int[] used, int count, Map<State, Long> memo) {
+      if (position == word.length()) {
+         return 1;
+      }
+      State state = new State(cell, position, used, count);
+      Long known = memo.get(state);
+      if (known != null) {
+         return known;
+      }
+
+      long total = 0;
+      for (int index = neighbors.start(cell); index < neighbors.end(cell); index++) {
+         int neighbor = neighbors.neighbor(index);
+         int after = BoardSolver.match(board, neighbor, word, position);
+         if (after < 0) {
+            continue;
+         }
+         // a cell that matches the word at one position only can never come up on the path again
+         if (stamp[neighbor] == epoch && matches[neighbor] > 1) {
+            if (contains(used, count, neighbor)) {
+               continue;
+            }
+            used[count] = neighbor;
+            total = add(total, search(word, neighbor, after, used, count + 1, memo));
+         }
+         else {
+            total = add(total, search(word, neighbor, after, used, count, memo));
+         }
+      }
+      memo.put(state, total);
+      return total;
+   }
+
+
+   /** contains() checks the first count entries of an array for a value. */
+   private static boolean contains(int[] values, int count, int value) {
+      for (int i = 0; i < count; i++) {
+         if (values[i] == value) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+
+   /** add() adds two counts, capping the sum at Long.MAX_VALUE. */
+   private static long add(long a, long b) {
+      long sum = a + b;
+      return sum < 0 ? Long.MAX_VALUE : sum;
+   }
+
+
+   /** difficulty() rates how hard a word is to spot: its length, divided by 1 + log2 of its number of
+    *  paths, so a word with a single path scores its length and every doubling of the paths adds one to
+    *  the divisor.
+    *
+    *  @param length - The number of characters in the word.
+    *  @param paths - The number of paths spelling it.
+    *  @return difficulty - the rating (0 if the word has no path).
+    */
+   static double difficulty(int length, long paths) {
+      if (paths <= 0) {
+         return 0;
+      }
+      return length / (1 + Math.log(paths) / Math.log(2));
+   }
+
+
+   /** countAll() counts the paths of every word in a set, e.g. every word found on the board.
+    *
+    *  @param words - The words.
+    *  @return counts - each word's paths and difficulty, and the board's difficulty.
+    */
+   Counts countAll(SortedSet<String> words) {
+      String[] sorted = new String[words.size()];
+      long[] paths = new long[sorted.length];
+      Iterator<String> iterator = words.iterator();
+      for (int i = 0; i < sorted.length; i++) {
+         sorted[i] = iterator.next();
+         paths[i] = count(sorted[i]);
+      }
+      return new Counts(sorted, paths);
+   }
+
+
+   /** Class State is a point in the search: the cell just matched, the position after it, and the
+    *  repeatable cells used so far (in any order). PathScorer memoizes its search on it too. */
+   static final class State {
+
+      private final int cell;
+      private final int position;
+      private final int[] used;
+      private final int hash;
+
+      State(int cellIn, int positionIn, int[] usedIn, int count) {
+         cell = cellIn;
+         position = positionIn;
+         used = Arrays.copyOf(usedIn, count);
+         Arrays.sort(used);
+         hash = (31 * cell + position) * 31 + Arrays.hashCode(used);
+      }
+
+      @Override
+      public boolean equals(Object other) {
+         if (!(other instanceof State)) {
+            return false;
+         }
+         State state = (State) other;
+         return cell == state.cell && position == state.position && Arrays.equals(used, state.used);
+      }
+
+      @Override
+      public int hashCode() {
+         return hash;
+      }
+   }
+
+
+   /** Class Counts is the number of paths and the difficulty of each word in a set, in the set's order. */
+   static final class Counts {
+
+      private final String[] words;
+      private final long[] paths;
+
+      Counts(String[] wordsIn, long[] pathsIn) {
+         words = wordsIn;
+         paths = pathsIn;
+      }
+
+      /** size() returns the number of words counted. */
+      int size() {
+         return words.length;
+      }
+
+      /** word() returns the i-th word counted. */
+      String word(int i) {
+         return words[i];
+      }
+
+      /** paths() returns the number of paths spelling the i-th word. */
+      long paths(int i) {
+         return paths[i];
+      }
+
+      /** paths() returns the number of paths spelling a word (0 if it was not counted). */
+      long paths(String word) {
+         int i = Arrays.binarySearch(words, word);
+         return i < 0 ? 0 : paths[i];
+      }
+
+      /** difficulty() returns the difficulty of a word (0 if it was not counted). */
+      double difficulty(String word) {
+         return PathCounter.difficulty(word.length(), paths(word));
+      }
+
+      /** boardDifficulty() returns the average difficulty of the words counted (0 if there are none). */
+      double boardDifficulty() {
+         double sum = 0;
+         int rated = 0;
+         for (int i = 0; i < words.length; i++) {
+            if (paths[i] > 0) {
+               sum += PathCounter.difficulty(words[i].length(), paths[i]);
+               rated++;
+            }
+         }
+         return rated == 0 ? 0 : sum / rated;
+      }
+   }
+
+}
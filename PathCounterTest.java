@@ -0,0 +1,101 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+
+
+public class PathCounterTest {
+
+   private static Lexicon lexicon;
+
+
+   /** Fixture initialization - loads the lexicon. **/
+   @BeforeClass public static void loadLexicon() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   /** enumerate() counts the paths spelling a word by listing every one of them. */
+   private static long enumerate(Board board, NeighborTable neighbors, String word, int cell, int position,
+                                 boolean[] visited) {
+      int after = BoardSolver.match(board, cell, word, position);
+      if (after < 0) {
+         return 0;
+      }
+      if (after == word.length()) {
+         return 1;
+      }
+      visited[cell] = true;
+      long paths = 0;
+      for (int index = neighbors.start(cell); index < neighbors.end(cell); index++) {
+         int neighbor = neighbors.neighbor(index);
+         if (!visited[neighbor]) {
+            paths += enumerate(board, neighbors, word, neighbor, after, visited);
+         }
+      }
+      visited[cell] = false;
+      return paths;
+   }
+
+
+   /** A test that the counts match listing every path, on boards with repeated letters, wildcards and
+    *  multi-letter tiles. */
+   @Test public void enumerateTest() {
+      Random random = new Random(5L);
+      for (int trial = 0; trial < 30; trial++) {
+         int rows = 2 + random.nextInt(4);
+         int cols = 2 + random.nextInt(4);
+         String[] tiles = new String[rows * cols];
+         for (int i = 0; i < tiles.length; i++) {
+            int pick = random.nextInt(24);
+            tiles[i] = pick < 20 ? String.valueOf("AEEEIOSTRNLDAEST".charAt(random.nextInt(16)))
+               : pick < 22 ? Board.WILDCARD_TILE : pick < 23 ? "QU" : "ER";
+         }
+         Board board = new Board(tiles, rows, cols);
+         NeighborTable neighbors = NeighborTable.compile(trial % 2 == 0 ? Adjacencies.SQUARE : Adjacencies.HEX, rows, cols);
+         PathCounter counter = new PathCounter(board, neighbors);
+
+         BitSet found = new BoardSolver(lexicon, board, neighbors).solve(2);
+         for (int ordinal = found.nextSetBit(0); ordinal >= 0; ordinal = found.nextSetBit(ordinal + 1)) {
+            String word = lexicon.word(ordinal);
+            long expected = 0;
+            for (int cell = 0; cell < board.size(); cell++) {
+               expected += enumerate(board, neighbors, word, cell, 0, new boolean[board.size()]);
+            }
+            assertEquals(word, expected, counter.count(word));
+         }
+         assertEquals(0, counter.count("ZZZZZZ"));
+      }
+   }
+
+
+   /** A test of the counts and difficulties on the default board. */
+   @Test public void difficultyTest() {
+      WordSearch game = new WordSearch();
+      game.useLexicon(lexicon);
+      // E E C A
+      // A L E P
+      // H N B O
+      // Q T T Y
+      assertEquals(1, game.getPathCount("peace"));
+      assertEquals(0, game.getPathCount("QUIZ"));
+      assertEquals(4, game.getPathCount("EEL"));
+
+      PathCounter.Counts counts = game.getPathCounts(3);
+      assertEquals(game.getAllScorableWords(3).size(), counts.size());
+      for (int i = 0; i < counts.size(); i++) {
+         assertTrue(counts.paths(i) >= 1);
+         assertEquals(game.getPathCount(counts.word(i)), counts.paths(i));
+      }
+      assertEquals(5.0, counts.difficulty("PEACE"), 1e-9);
+      assertEquals(1.0, counts.difficulty("EEL"), 1e-9);
+      assertTrue(counts.boardDifficulty() > 0);
+
+      randomBoard generator = new randomBoard(4, 4, 1, lexicon);
+      generator.generateBoard();
+      assertTrue(generator.getDifficulty() > 0);
+   }
+
+}
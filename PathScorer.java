@@ -0,0 +1,174 @@
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Class PathScorer finds the most points a word can score on a board with premium cells (see
+ *  CellMultipliers), over every path that spells it - so a word's score is that of its best path, not of
+ *  whichever path a search happens to find first.
+ *
+ *  A path's points are its letters' weights, each times the letter multiplier of its cell, with the total
+ *  times the word multiplier of every cell on the path. Paths are not listed one by one: the search works
+ *  back from the end of the word, keeping, for each word multiplier the rest of a path can have, the most
+ *  letter points it can add. Like PathCounter it is memoized on (cell, position, which of the cells that
+ *  match the word at several positions the path has used), so each state is visited once rather than once
+ *  per path.
+ *
+ *  A scorer is not thread-safe, but it is cheap to create; use one per thread.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class PathScorer {
+
+   private final TileGrid board;
+   private final Alphabet alphabet;
+   private final NeighborTable neighbors;
+   private final CellMultipliers multipliers;
+
+   /** starts[c] holds the cells whose tile can begin letter code c (see WordDrivenSolver.startsByLetter()). */
+   private final int[][] starts;
+
+   /** Per cell, for the word being scored: the word it was last marked for, and the positions it matches
+    *  at. */
+   private final int[] stamp;
+   private final int[] matches;
+   private int epoch;
+
+
+   /** Constructor for PathScorer.
+    *
+    *  @param boardIn - The board.
+    *  @param neighborsIn - The neighbor table compiled for the board.
+    *  @param multipliersIn - The board's premium cells.
+    *  @throws IllegalArgumentException if the table or multipliers are for a different number of cells.
+    */
+   PathScorer(TileGrid boardIn, NeighborTable neighborsIn, CellMultipliers multipliersIn) {
+      if (neighborsIn.size() != boardIn.size() || multipliersIn.size() != boardIn.size()) {
+         throw new IllegalArgumentException("Neighbor table and multipliers must cover the " + boardIn.size()
+            + " cells of the board");
+      }
+      board = boardIn;
+      alphabet = boardIn.alphabet();
+      neighbors = neighborsIn;
+      multipliers = multipliersIn;
+      starts = WordDrivenSolver.startsByLetter(boardIn);
+      stamp = new int[boardIn.size()];
+      matches = new int[boardIn.size()];
+   }
+
+
+   /** best() finds the most letter points of any path spelling a word, for each word multiplier a path
+    *  spelling it can have (a path through a double word cell may still lose to one over double letters).
+    *
+    *  @param word - The word, folded into the board's alphabet.
+    *  @param letterPoints - The points of each of the word's letters, before multipliers.
+    *  @return best - each word multiplier, mapped to the most letter points (with letter multipliers) of a
+    *     path that has it; empty if the word is not on the board.
+    */
+   Map<Integer, Integer> best(String word, int[] letterPoints) {
+      int length = word.length();
+      if (length == 0) {
+         return Collections.emptyMap();
+      }
+      for (int i = 0; i < length; i++) {
+         if (alphabet.code(word.charAt(i)) < 0) {
+            return Collections.emptyMap();
+         }
+      }
+
+      // mark how many positions each cell matches at; only cells matching at two or more can repeat
+      epoch++;
+      for (int position = 0; position < length; position++) {
+         for (int cell : starts[alphabet.code(word.charAt(position))]) {
+            if (BoardSolver.match(board, cell, word, position) >= 0) {
+               matches[cell] = stamp[cell] == epoch ? matches[cell] + 1 : 1;
+               stamp[cell] = epoch;
+            }
+         }
+      }
+
+      Map<PathCounter.State, Map<Integer, Integer>> memo = new HashMap<PathCounter.State, Map<Integer, Integer>>();
+      Map<Integer, Integer> best = new HashMap<Integer, Integer>();
+      int[] used = new int[length];
+      for (int cell : starts[alphabet.code(word.charAt(0))]) {
+         int after = BoardSolver.match(board, cell, word, 0);
+         if (after >= 0) {
+            int count = 0;
+            if (matches[cell] > 1) {
+               used[count++] = cell;
+            }
+            extend(best, cell, 0, after, letterPoints, search(word, letterPoints, cell, after, used, count, memo));
+         }
+      }
+      return best;
+   }
+
+
+   /** search() finds the best letter points, by word multiplier, of the ways to finish a word from a cell,
+    *  given the repeatable cells already used.
+    */
+   private Map<Integer, Integer> search(String word, int[] letterPoints, int cell, int position, int[] used,
+         int count, Map<PathCounter.State, Map<Integer, Integer>> memo) {
+      if (position == word.length()) {
+         return Collections.singletonMap(1, 0);
+      }
+      PathCounter.State state = new PathCounter.State(cell, position, used, count);
+      Map<Integer, Integer> known = memo.get(state);
+      if (known != null) {
+         return known;
+      }
+
+      Map<Integer, Integer> best = new HashMap<Integer, Integer>();
+      for (int index = neighbors.start(cell); index < neighbors.end(cell); index++) {
+         int neighbor = neighbors.neighbor(index);
+         int after = BoardSolver.match(board, neighbor, word, position);
+         if (after < 0) {
+            continue;
+         }
+         // a cell that matches the word at one position only can never come up on the path again
+         if (stamp[neighbor] == epoch && matches[neighbor] > 1) {
+            if (contains(used, count, neighbor)) {
+               continue;
+            }
+            used[count] = neighbor;
+            extend(best, neighbor, position, after, letterPoints,
+               search(word, letterPoints, neighbor, after, used, count + 1, memo));
+         }
+         else {
+            extend(best, neighbor, position, after, letterPoints,
+               search(word, letterPoints, neighbor, after, used, count, memo));
+         }
+      }
+      memo.put(state, best);
+      return best;
+   }
+
+
+   /** extend() puts a cell (covering the word from position up to after) in front of the best ways to
+    *  finish the word from it, keeping the most points for each word multiplier.
+    */
+   private void extend(Map<Integer, Integer> best, int cell, int position, int after, int[] letterPoints,
+         Map<Integer, Integer> rest) {
+      int points = 0;
+      for (int i = position; i < after; i++) {
+         points += letterPoints[i];
+      }
+      points *= multipliers.letterMultiplier(cell);
+      int wordMultiplier = multipliers.wordMultiplier(cell);
+      for (Map.Entry<Integer, Integer> way : rest.entrySet()) {
+         best.merge(way.getKey() * wordMultiplier, way.getValue() + points, Math::max);
+      }
+   }
+
+
+   /** contains() checks the first count entries of an array for a value. */
+   private static boolean contains(int[] values, int count, int value) {
+      for (int i = 0; i < count; i++) {
+         if (values[i] == value) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+}
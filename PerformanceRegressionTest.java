@@ -0,0 +1,199 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+
+/** Performance regression tests: canonical seeded boards are run through getAllScorableWords, isOnBoard
+ *  and getScoreForWords, and each call's allocated bytes (from the ThreadMXBean allocation counter) and
+ *  median latency are compared against the budgets checked in to perf_baseline.properties. A call fails
+ *  if it allocates more than its budget plus allocTolerance. Latency baselines are nanoseconds on the
+ *  machine that recorded them, so they are only checked with -Dwordsearch.perf.timing=true (on a quiet
+ *  machine like the one that recorded them): then a call also fails if it is slower than its baseline
+ *  times timeTolerance.
+ *
+ *  To re-record the baseline after an intended change, run the tests with -Dwordsearch.perf.record=true
+ *  and review the diff of perf_baseline.properties.
+ */
+public class PerformanceRegressionTest {
+
+   /** The checked-in budgets. */
+   private static final String BASELINE_FILE = "perf_baseline.properties";
+
+   /** Seed for the canonical boards. */
+   private static final long SEED = 20221007L;
+
+   /** The canonical board sizes. */
+   private static final int[] SIZES = {4, 10, 20};
+
+   /** Untimed calls before measuring, so the JIT has settled. */
+   private static final int WARMUP_CALLS = 200;
+
+   /** Measured calls. */
+   private static final int MEASURED_CALLS = 50;
+
+   private static final int MINIMUM_WORD_LENGTH = 3;
+
+   private static WordSearchGame game;
+   private static Properties baseline;
+   private static Properties recorded = new Properties();
+
+   private boolean recording = Boolean.getBoolean("wordsearch.perf.record");
+   private boolean timing = Boolean.getBoolean("wordsearch.perf.timing");
+
+
+   /** Fixture initialization - loads the lexicon and the budgets. **/
+   @BeforeClass public static void setUp() throws IOException {
+      game = WordSearchGameFactory.createGame();
+      game.loadLexicon("words_medium.txt");
+
+      baseline = new Properties();
+      InputStream in = new FileInputStream(BASELINE_FILE);
+      baseline.load(in);
+      in.close();
+   }
+
+
+   /** Budget test for getAllScorableWords(). The board is set again before every call, so each call
+    *  solves it from scratch instead of returning the game's cached solve.
+    */
+   @Test public void getAllScorableWordsBudget() throws IOException {
+      for (int size : SIZES) {
+         final String[] board = board(size);
+         check("getAllScorableWords." + size + "x" + size, new Runnable() {
+            @Override
+            public void run() {
+               game.setBoard(board);
+               game.getAllScorableWords(MINIMUM_WORD_LENGTH);
+            }
+         });
+      }
+   }
+
+
+   /** Budget test for isOnBoard(), cycling through the words on each board. */
+   @Test public void isOnBoardBudget() throws IOException {
+      for (int size : SIZES) {
+         game.setBoard(board(size));
+         final String[] words = game.getAllScorableWords(MINIMUM_WORD_LENGTH).toArray(new String[0]);
+         check("isOnBoard." + size + "x" + size, new Runnable() {
+            private int next = 0;
+
+            @Override
+            public void run() {
+               next = (next + 1) % words.length;
+               game.isOnBoard(words[next]);
+            }
+         });
+      }
+   }
+
+
+   /** Budget test for getScoreForWords() over every word on each board. The words are a plain TreeSet
+    *  scored on a freshly set board, so every word is looked up and searched for (the fast path for a set
+    *  straight from getAllScorableWords() is not what is measured).
+    */
+   @Test public void getScoreForWordsBudget() throws IOException {
+      for (int size : SIZES) {
+         final String[] board = board(size);
+         game.setBoard(board);
+         final SortedSet<String> words = new TreeSet<String>(game.getAllScorableWords(MINIMUM_WORD_LENGTH));
+         check("getScoreForWords." + size + "x" + size, new Runnable() {
+            @Override
+            public void run() {
+               game.setBoard(board);
+               game.getScoreForWords(words, MINIMUM_WORD_LENGTH);
+            }
+         });
+      }
+   }
+
+
+   /** check() measures one call and compares it with its budget (or records it).
+    *
+    *  @param key - The baseline key prefix, e.g. "isOnBoard.4x4".
+    *  @param call - The call to measure.
+    */
+   private void check(String key, Runnable call) throws IOException {
+
+      com.sun.management.ThreadMXBean threads =
+         (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+      long thread = Thread.currentThread().getId();
+
+      for (int i = 0; i < WARMUP_CALLS; i++) {
+         call.run();
+      }
+
+      long[] nanos = new long[MEASURED_CALLS];
+      long bytesBefore = threads.getThreadAllocatedBytes(thread);
+      for (int i = 0; i < MEASURED_CALLS; i++) {
+         long started = System.nanoTime();
+         call.run();
+         nanos[i] = System.nanoTime() - started;
+      }
+      long bytesPerCall = (threads.getThreadAllocatedBytes(thread) - bytesBefore) / MEASURED_CALLS;
+
+      Arrays.sort(nanos);
+      long medianNanos = nanos[MEASURED_CALLS / 2];
+
+      if (recording) {
+         record(key, bytesPerCall, medianNanos);
+         return;
+      }
+
+      double allocTolerance = Double.parseDouble(baseline.getProperty("allocTolerance", "0.25"));
+      double timeTolerance = Double.parseDouble(baseline.getProperty("timeTolerance", "3.0"));
+
+      String bytesBudget = baseline.getProperty(key + ".bytes");
+      assertNotNull(bytesBudget);
+      long maxBytes = (long) (Long.parseLong(bytesBudget) * (1.0 + allocTolerance));
+      assertTrue(key + " allocated " + bytesPerCall + " bytes per call, budget is " + bytesBudget,
+         bytesPerCall <= maxBytes);
+
+      if (timing) {
+         String nanosBaseline = baseline.getProperty(key + ".nanos");
+         assertNotNull(nanosBaseline);
+         long maxNanos = (long) (Long.parseLong(nanosBaseline) * timeTolerance);
+         assertTrue(key + " took " + medianNanos + " ns (median), baseline is " + nanosBaseline,
+            medianNanos <= maxNanos);
+      }
+   }
+
+
+   /** record() writes a measurement into the baseline file (keeping every other entry). */
+   private static synchronized void record(String key, long bytesPerCall, long medianNanos) throws IOException {
+      recorded.putAll(baseline);
+      recorded.setProperty(key + ".bytes", Long.toString(bytesPerCall));
+      recorded.setProperty(key + ".nanos", Long.toString(medianNanos));
+      baseline.putAll(recorded);
+
+      // sorted, so re-recording gives a small, readable diff
+      List<String> keys = new ArrayList<String>(recorded.stringPropertyNames());
+      Collections.sort(keys);
+      PrintWriter out = new PrintWriter(new FileWriter(BASELINE_FILE));
+      out.println("# Allocation (bytes per call) and median latency (nanoseconds) budgets for");
+      out.println("# PerformanceRegressionTest. Re-record with -Dwordsearch.perf.record=true and review the diff.");
+      for (String name : keys) {
+         out.println(name + "=" + recorded.getProperty(name));
+      }
+      out.close();
+   }
+
+
+   /** board() builds a canonical seeded N x N board of single letters. */
+   private static String[] board(int size) {
+      Random rand = new Random(SEED + size);
+      String[] board = new String[size * size];
+      for (int i = 0; i < board.length; i++) {
+         // vowels twice as likely, so boards hold a realistic number of words
+         String letters = "ABCDEFGHIJKLMNOPQRSTUVWXYZAEIOU";
+         board[i] = String.valueOf(letters.charAt(rand.nextInt(letters.length())));
+      }
+      return board;
+   }
+
+}
@@ -0,0 +1,209 @@
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/** Class RecordingWordSearch wraps any WordSearchGame and records its calls to a trace (see GameTrace),
+ *  so a production workload can be replayed later against any engine (see TraceReplayer). Every
+ *  setBoard(), getAllScorableWords(), isOnBoard(), isValidWord() and getScoreForWords() call is passed
+ *  through unchanged and written down with its start time, duration, arguments and a digest of its
+ *  result; a call that throws is recorded as failed and the exception passed on. loadLexicon(),
+ *  getBoard() and isValidPrefix() are passed through without being recorded.
+ *
+ *  Each recording game is one session of the trace, replayed in order; any number of games (on any
+ *  threads) can share one GameTrace.Writer. The cost is one small synchronized write per call, outside of
+ *  the time measured. Recording is optional to the game: if the trace cannot be written (a full disk, say)
+ *  the failure is logged once and recording stops, and the game's calls carry on as if it had never been
+ *  wrapped.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class RecordingWordSearch implements WordSearchGame {
+
+   static final Logger LOG = Logger.getLogger("WordSearch.trace");
+
+   private final WordSearchGame game;
+   private final GameTrace.Writer trace;
+   private final int session;
+
+
+   /** Constructor for RecordingWordSearch.
+    *
+    *  @param gameIn - The game to record.
+    *  @param traceIn - The trace to record to.
+    *  @throws IllegalArgumentException if either parameter is null.
+    */
+   RecordingWordSearch(WordSearchGame gameIn, GameTrace.Writer traceIn) {
+      if (gameIn == null || traceIn == null) {
+         throw new IllegalArgumentException("Game and trace cannot be null");
+      }
+      game = gameIn;
+      trace = traceIn;
+      session = traceIn.newSession();
+   }
+
+
+   /** call() starts a record of a call. */
+   private GameTrace.Call call(byte op) {
+      GameTrace.Call call = new GameTrace.Call();
+      call.op = op;
+      call.session = session;
+      call.start = trace.now();
+      return call;
+   }
+
+
+   /** finish() times a call that returned and writes it out. */
+   private void finish(GameTrace.Call call, long result) {
+      call.duration = trace.now() - call.start;
+      call.result = result;
+      record(call);
+   }
+
+
+   /** fail() times a call that threw and writes it out. */
+   private void fail(GameTrace.Call call) {
+      call.duration = trace.now() - call.start;
+      call.failed = true;
+      record(call);
+   }
+
+
+   /** record() writes a call to the trace; a trace that cannot be written stops recording, but never fails
+    *  the game's call (the writer throws only the first time, so this is logged once per trace).
+    */
+   private void record(GameTrace.Call call) {
+      try {
+         trace.write(call);
+      }
+      catch (UncheckedIOException e) {
+         LOG.log(Level.WARNING, "Trace could not be written, recording stopped", e);
+      }
+   }
+
+
+   @Override
+   public void loadLexicon(String fileName) {
+      game.loadLexicon(fileName);
+   }
+
+
+   @Override
+   public void setBoard(String[] letterArray) {
+      GameTrace.Call call = call(GameTrace.SET_BOARD);
+      call.tiles = letterArray == null ? null : letterArray.clone();
+      try {
+         game.setBoard(letterArray);
+      }
+      catch (RuntimeException e) {
+         fail(call);
+         throw e;
+      }
+      finish(call, 0);
+   }
+
+
+   @Override
+   public void setBoard(String[] letterArray, int rows, int cols) {
+      GameTrace.Call call = call(GameTrace.SET_BOARD_RECTANGLE);
+      call.tiles = letterArray == null ? null : letterArray.clone();
+      call.rows = rows;
+      call.cols = cols;
+      try {
+         game.setBoard(letterArray, rows, cols);
+      }
+      catch (RuntimeException e) {
+         fail(call);
+         throw e;
+      }
+      finish(call, 0);
+   }
+
+
+   @Override
+   public String getBoard() {
+      return game.getBoard();
+   }
+
+
+   @Override
+   public SortedSet<String> getAllScorableWords(int minimumWordLength) {
+      GameTrace.Call call = call(GameTrace.GET_ALL_SCORABLE_WORDS);
+      call.minimumWordLength = minimumWordLength;
+      SortedSet<String> words;
+      try {
+         words = game.getAllScorableWords(minimumWordLength);
+      }
+      catch (RuntimeException e) {
+         fail(call);
+         throw e;
+      }
+      call.duration = trace.now() - call.start;
+      call.result = GameTrace.digest(words);
+      record(call);
+      return words;
+   }
+
+
+   @Override
+   public int getScoreForWords(SortedSet<String> words, int minimumWordLength) {
+      GameTrace.Call call = call(GameTrace.GET_SCORE_FOR_WORDS);
+      call.minimumWordLength = minimumWordLength;
+      call.words = words == null ? null : words.toArray(new String[0]);
+      int score;
+      try {
+         score = game.getScoreForWords(words, minimumWordLength);
+      }
+      catch (RuntimeException e) {
+         fail(call);
+         throw e;
+      }
+      finish(call, score);
+      return score;
+   }
+
+
+   @Override
+   public boolean isValidWord(String wordToCheck) {
+      GameTrace.Call call = call(GameTrace.IS_VALID_WORD);
+      call.word = wordToCheck;
+      boolean valid;
+      try {
+         valid = game.isValidWord(wordToCheck);
+      }
+      catch (RuntimeException e) {
+         fail(call);
+         throw e;
+      }
+      finish(call, valid ? 1 : 0);
+      return valid;
+   }
+
+
+   @Override
+   public boolean isValidPrefix(String prefixToCheck) {
+      return game.isValidPrefix(prefixToCheck);
+   }
+
+
+   /** isOnBoard() is recorded with the length of the path found (0 if none) as its result, since engines
+    *  may find different paths for the same word. */
+   @Override
+   public List<Integer> isOnBoard(String wordToCheck) {
+      GameTrace.Call call = call(GameTrace.IS_ON_BOARD);
+      call.word = wordToCheck;
+      List<Integer> path;
+      try {
+         path = game.isOnBoard(wordToCheck);
+      }
+      catch (RuntimeException e) {
+         fail(call);
+         throw e;
+      }
+      finish(call, path.size());
+      return path;
+   }
+
+}
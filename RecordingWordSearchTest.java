@@ -0,0 +1,140 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.logging.Level;
+
+
+public class RecordingWordSearchTest {
+
+   private static Lexicon lexicon;
+
+
+   /** Fixture initialization - loads the lexicon shared by the recorded and replayed games. **/
+   @BeforeClass public static void loadLexicon() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   /** record() plays two sessions through recording games and reads the trace back. */
+   private static List<GameTrace.Call> record() throws IOException {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      GameTrace.Writer trace = new GameTrace.Writer(bytes);
+
+      WordSearchGame first = new RecordingWordSearch(WordSearchGameFactory.createGame(lexicon), trace);
+      first.setBoard(new String[] {"E", "E", "C", "A", "A", "L", "E", "P", "H", "N", "B", "O", "Q", "T", "T", "Y"});
+      SortedSet<String> words = first.getAllScorableWords(4);
+      assertTrue(first.getScoreForWords(words, 4) > 0);
+      assertFalse(first.isOnBoard("peace").isEmpty());
+      assertTrue(first.isValidWord("PEACE"));
+
+      WordSearchGame second = new RecordingWordSearch(WordSearchGameFactory.createGame(lexicon), trace);
+      second.setBoard(new String[] {"R", "E", "S", "T", "S", "T", "Q", "B", "V"}, 3, 3);
+      second.getAllScorableWords(3);
+      try {
+         second.isOnBoard(null);
+         fail("expected IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e) {
+      }
+      assertEquals(8, trace.written());
+      trace.close();
+
+      return GameTrace.read(new ByteArrayInputStream(bytes.toByteArray()));
+   }
+
+
+   /** A test that the trace holds every call with its arguments and results. */
+   @Test public void traceTest() throws IOException {
+      List<GameTrace.Call> calls = record();
+      assertEquals(8, calls.size());
+
+      GameTrace.Call board = calls.get(0);
+      assertEquals(GameTrace.SET_BOARD, board.op);
+      assertEquals(16, board.tiles.length);
+      assertEquals("Q", board.tiles[12]);
+
+      GameTrace.Call all = calls.get(1);
+      assertEquals(GameTrace.GET_ALL_SCORABLE_WORDS, all.op);
+      assertEquals(4, all.minimumWordLength);
+      WordSearchGame game = WordSearchGameFactory.createGame(lexicon);
+      game.setBoard(board.tiles);
+      assertEquals(GameTrace.digest(game.getAllScorableWords(4)), all.result);
+
+      assertEquals(GameTrace.GET_SCORE_FOR_WORDS, calls.get(2).op);
+      assertEquals(game.getAllScorableWords(4).size(), calls.get(2).words.length);
+      assertEquals(5, calls.get(3).result);
+      assertEquals(1, calls.get(4).result);
+
+      GameTrace.Call rectangle = calls.get(5);
+      assertEquals(GameTrace.SET_BOARD_RECTANGLE, rectangle.op);
+      assertEquals(1, rectangle.session);
+      assertEquals(3, rectangle.cols);
+      assertTrue(calls.get(7).failed);
+      assertNull(calls.get(7).word);
+      for (int i = 1; i < calls.size(); i++) {
+         assertTrue(calls.get(i).duration >= 0);
+         assertTrue(calls.get(i).start >= calls.get(i - 1).start);
+      }
+   }
+
+
+   /** A test that a replay matches the recording on every engine, and finds the differences of a
+    *  different lexicon. */
+   @Test public void replayTest() throws IOException, InterruptedException {
+      TraceReplayer replayer = new TraceReplayer(record());
+      for (String engine : new String[] {"auto", "board", "word"}) {
+         TraceReplayer.Report report = replayer.replay(TraceReplayer.engine(engine, lexicon), 2, 0);
+         assertEquals(engine, 8, report.calls());
+         assertEquals(engine + " " + report.examples(), 0, report.diffs());
+         assertEquals(8, report.latencies(0).length);
+         assertEquals(2, report.latencies(GameTrace.SET_BOARD).length);
+      }
+
+      Lexicon small = Lexicon.of(Arrays.asList("PEACE", "REST"));
+      TraceReplayer.Report report = replayer.replay(TraceReplayer.engine("auto", small), 1, 1000);
+      assertTrue(report.diffs() >= 3);
+      assertTrue(report.examples().get(0).contains("getAllScorableWords"));
+
+      try {
+         TraceReplayer.engine("fast", lexicon);
+         fail("expected IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e) {
+      }
+   }
+
+
+   /** A test that a trace that cannot be written stops recording without failing the game. */
+   @Test public void failedTraceTest() throws IOException {
+      GameTrace.Writer trace = new GameTrace.Writer(new OutputStream() {
+         @Override
+         public void write(int b) throws IOException {
+            throw new IOException("No space left on device");
+         }
+      });
+      WordSearchGame game = new RecordingWordSearch(WordSearchGameFactory.createGame(lexicon), trace);
+
+      // a word longer than the writer's buffer goes straight to the stream
+      Level level = RecordingWordSearch.LOG.getLevel();
+      RecordingWordSearch.LOG.setLevel(Level.OFF);
+      try {
+         assertFalse(game.isValidWord("E".repeat(1 << 17)));
+         assertTrue(game.isValidWord("PEACE"));
+         game.setBoard(new String[] {"R", "E", "S", "T", "S", "T", "Q", "B", "V"});
+         assertFalse(game.getAllScorableWords(3).isEmpty());
+      }
+      finally {
+         RecordingWordSearch.LOG.setLevel(level);
+      }
+      assertEquals(0, trace.written());
+      assertEquals(4, trace.lost());
+   }
+
+}
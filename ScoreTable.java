@@ -0,0 +1,222 @@
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Class ScoreTable holds the points of every word of one lexicon under one set of ScoringRules, compiled
+ *  once when the lexicon or the rules change, so scoring a found word is score(ordinal): one array
+ *  lookup. scoreAll() scores many players' word lists in one call. Cell multipliers depend on the path a
+ *  word is spelled along, so score(ordinal, path, board, multipliers) works them out from one path, and
+ *  score(ordinal, paths) from the word's best path on the board (see PathScorer).
+ *
+ *  @version October 19th, 2026
+ */
+
+final class ScoreTable {
+
+   private final ScoringRules rules;
+   private final Lexicon lexicon;
+
+   /** scores[ordinal] is the points of lexicon.word(ordinal). */
+   private final int[] scores;
+
+   /** weights[code] is the points for each letter of the lexicon's alphabet. */
+   private final int[] weights;
+
+   /** rarityMultiplier[ordinal] is the word's rarity multiplier (null if the rules have no rarity). */
+   private final float[] rarityMultiplier;
+
+
+   /** Constructor for ScoreTable - use ScoringRules.compile(). */
+   ScoreTable(ScoringRules rulesIn, Lexicon lexiconIn) {
+      rules = rulesIn;
+      lexicon = lexiconIn;
+      scores = new int[lexicon.size()];
+
+      // a letter's rarity is how much less often than the most common letter it appears in the lexicon
+      Alphabet alphabet = lexicon.alphabet();
+      double[] rarity = new double[alphabet.size()];
+      if (rules.rarity() > 0) {
+         int most = 1;
+         for (int code = 0; code < rarity.length; code++) {
+            most = Math.max(most, lexicon.letterCount(code));
+         }
+         for (int code = 0; code < rarity.length; code++) {
+            rarity[code] = 1 - lexicon.letterCount(code) / (double) most;
+         }
+         rarityMultiplier = new float[scores.length];
+      }
+      else {
+         rarityMultiplier = null;
+      }
+
+      weights = new int[alphabet.size()];
+      for (int code = 0; code < weights.length; code++) {
+         weights[code] = rules.letterWeight(alphabet.letter(code));
+      }
+
+      for (int ordinal = 0; ordinal < scores.length; ordinal++) {
+         String word = lexicon.word(ordinal);
+         int base = rules.lengthBonus(word.length());
+         double rare = 0;
+         for (int i = 0; i < word.length(); i++) {
+            int code = alphabet.code(word.charAt(i));
+            base += weights[code];
+            rare += rarity[code];
+         }
+         if (rarityMultiplier != null) {
+            rarityMultiplier[ordinal] = (float) (1 + rules.rarity() * rare / Math.max(1, word.length()));
+            scores[ordinal] = (int) Math.round(base * (double) rarityMultiplier[ordinal]);
+         }
+         else {
+            scores[ordinal] = base;
+         }
+      }
+   }
+
+
+   /** rules() returns the rules the table was compiled from. */
+   ScoringRules rules() {
+      return rules;
+   }
+
+
+   /** lexicon() returns the lexicon the table was compiled for. */
+   Lexicon lexicon() {
+      return lexicon;
+   }
+
+
+   /** score() returns the points of one word.
+    *
+    *  @param ordinal - The word's lexicon ordinal.
+    */
+   int score(int ordinal) {
+      return scores[ordinal];
+   }
+
+
+   /** score() returns the total points of a list of words.
+    *
+    *  @param ordinals - The words' lexicon ordinals.
+    */
+   long score(int[] ordinals) {
+      long points = 0;
+      for (int ordinal : ordinals) {
+         points += scores[ordinal];
+      }
+      return points;
+   }
+
+
+   /** scoreAll() scores many players at once.
+    *
+    *  @param ordinalsByPlayer - Each player's words, as lexicon ordinals.
+    *  @return points - each player's total points, in the same order.
+    */
+   long[] scoreAll(int[][] ordinalsByPlayer) {
+      return scoreAll(ordinalsByPlayer, null);
+   }
+
+
+   /** scoreAll() scores many players at once on a board with premium cells. Each word's best path is
+    *  worked out once, however many players found it.
+    *
+    *  @param ordinalsByPlayer - Each player's words, as lexicon ordinals.
+    *  @param paths - The board's path scorer, or null if it has no premium cells.
+    *  @return points - each player's total points, in the same order.
+    */
+   long[] scoreAll(int[][] ordinalsByPlayer, PathScorer paths) {
+      long[] points = new long[ordinalsByPlayer.length];
+      if (paths == null) {
+         for (int player = 0; player < points.length; player++) {
+            points[player] = score(ordinalsByPlayer[player]);
+         }
+         return points;
+      }
+      Map<Integer, Integer> scored = new HashMap<Integer, Integer>();
+      for (int player = 0; player < points.length; player++) {
+         for (int ordinal : ordinalsByPlayer[player]) {
+            points[player] += scored.computeIfAbsent(ordinal, found -> score(found, paths));
+         }
+      }
+      return points;
+   }
+
+
+   /** ordinals() looks words up in the table's lexicon, for score() and scoreAll().
+    *
+    *  @param words - The words.
+    *  @return ordinals - their lexicon ordinals (words that are not in the lexicon are left out).
+    */
+   int[] ordinals(Collection<String> words) {
+      int[] ordinals = new int[words.size()];
+      int count = 0;
+      for (String word : words) {
+         int ordinal = word == null ? -1 : lexicon.ordinalOf(word);
+         if (ordinal >= 0) {
+            ordinals[count++] = ordinal;
+         }
+      }
+      return count == ordinals.length ? ordinals : Arrays.copyOf(ordinals, count);
+   }
+
+
+   /** score() returns the points of a word found on a path through a board with premium cells: each
+    *  letter's weight is multiplied by its cell's letter multiplier, and the word's points by the word
+    *  multiplier of every cell on the path. With no premium cells on the path it is score(ordinal).
+    *
+    *  @param ordinal - The word's lexicon ordinal.
+    *  @param path - The cells the word was found on, in order (see BoardSolver.findPath()).
+    *  @param board - The board.
+    *  @param multipliers - The board's premium cells.
+    */
+   int score(int ordinal, int[] path, TileGrid board, CellMultipliers multipliers) {
+      String word = lexicon.word(ordinal);
+      int base = rules.lengthBonus(word.length());
+      int wordMultiplier = 1;
+      int position = 0;
+      for (int cell : path) {
+         // a wildcard stands for one letter, any other tile for all of its letters
+         int covered = board.code(cell) == Board.WILDCARD ? 1 : board.tile(cell).length();
+         int letterMultiplier = multipliers.letterMultiplier(cell);
+         for (int i = 0; i < covered && position < word.length(); i++, position++) {
+            base += weights[lexicon.alphabet().code(word.charAt(position))] * letterMultiplier;
+         }
+         wordMultiplier *= multipliers.wordMultiplier(cell);
+      }
+      int points = rarityMultiplier == null ? base : (int) Math.round(base * (double) rarityMultiplier[ordinal]);
+      return points * wordMultiplier;
+   }
+
+
+   /** score() returns the points of a word on a board with premium cells, along the path on which it
+    *  scores the most (see PathScorer and score(ordinal, path, board, multipliers)).
+    *
+    *  @param ordinal - The word's lexicon ordinal.
+    *  @param paths - The board's path scorer.
+    *  @return points - the word's best score, or 0 if it is not on the board.
+    */
+   int score(int ordinal, PathScorer paths) {
+      String word = lexicon.word(ordinal);
+      int[] letterPoints = new int[word.length()];
+      for (int i = 0; i < letterPoints.length; i++) {
+         letterPoints[i] = weights[lexicon.alphabet().code(word.charAt(i))];
+      }
+      int best = 0;
+      for (Map.Entry<Integer, Integer> way : paths.best(word, letterPoints).entrySet()) {
+         int base = rules.lengthBonus(word.length()) + way.getValue();
+         int points = rarityMultiplier == null ? base : (int) Math.round(base * (double) rarityMultiplier[ordinal]);
+         best = Math.max(best, points * way.getKey());
+      }
+      return best;
+   }
+
+
+   /** estimatedBytes() returns roughly how much heap the table takes. */
+   long estimatedBytes() {
+      return 32 + 2 * 16 + 4L * (scores.length + weights.length)
+         + (rarityMultiplier == null ? 0 : 16 + 4L * rarityMultiplier.length);
+   }
+
+}
@@ -0,0 +1,165 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Class ScoringRules describes how many points a word is worth, as an immutable value built up with the
+ *  with...() methods:
+ *
+ *     points = round((sum of letter weights + length bonus) * rarity multiplier) * word multipliers
+ *
+ *  - letter weights: points per letter (1 for every letter by default, or Scrabble's tile values). Letters
+ *    outside of A - Z (e.g. a German umlaut) get the rules' default weight unless given one.
+ *  - length bonus: extra points by word length, e.g. Boggle's 1, 1, 2, 3, 5, 11 curve.
+ *  - rarity multiplier: 1 + rarity * (how rare the word's letters are in the lexicon, 0 to 1), so words
+ *    full of J, Q, X and Z are worth more.
+ *  - cell multipliers: double/triple letter and word cells of one board (see CellMultipliers). They
+ *    depend on the path a word was found on, so they are applied per board rather than per word.
+ *
+ *  compile() turns the rules into a ScoreTable holding every lexicon word's score, so scoring a found word
+ *  is one array lookup. The default, LENGTH, is the game's original one point per character.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class ScoringRules {
+
+   /** No weights for letters outside of A - Z (declared first, as the presets use it). */
+   private static final Map<Character, Integer> NO_WEIGHTS = Collections.emptyMap();
+
+   /** One point per character - the original rules. */
+   static final ScoringRules LENGTH = new ScoringRules(uniform(1), 1, NO_WEIGHTS, new int[]{0}, 0.0);
+
+   /** Boggle: 1 point for 3 or 4 letters, 2 for 5, 3 for 6, 5 for 7 and 11 for 8 or more. */
+   static final ScoringRules BOGGLE = new ScoringRules(uniform(0), 0, NO_WEIGHTS,
+      new int[]{0, 0, 0, 1, 1, 2, 3, 5, 11}, 0.0);
+
+   /** Scrabble's letter values. */
+   static final ScoringRules SCRABBLE = new ScoringRules(
+      new int[]{1, 3, 3, 2, 1, 4, 2, 4, 1, 8, 5, 1, 3, 1, 1, 3, 10, 1, 1, 1, 1, 4, 4, 8, 4, 10}, 1, NO_WEIGHTS,
+      new int[]{0}, 0.0);
+
+   /** The points for each letter A - Z, by English letter code. */
+   private final int[] letterWeights;
+
+   /** The points for any other letter, unless otherWeights has it. */
+   private final int defaultWeight;
+   private final Map<Character, Integer> otherWeights;
+
+   /** bonusByLength[n] is added to a word of n letters (longer words get the last entry). */
+   private final int[] bonusByLength;
+
+   /** How much rare letters multiply a word's points (0 for not at all). */
+   private final double rarity;
+
+
+   /** Constructor for ScoringRules - start from LENGTH, BOGGLE or SCRABBLE and use the with...() methods. */
+   private ScoringRules(int[] letterWeightsIn, int defaultWeightIn, Map<Character, Integer> otherWeightsIn,
+                        int[] bonusByLengthIn, double rarityIn) {
+      letterWeights = letterWeightsIn;
+      defaultWeight = defaultWeightIn;
+      otherWeights = otherWeightsIn;
+      bonusByLength = bonusByLengthIn;
+      rarity = rarityIn;
+   }
+
+
+   /** uniform() returns the same weight for every letter. */
+   private static int[] uniform(int weight) {
+      int[] weights = new int[Lexicon.ALPHABET_SIZE];
+      Arrays.fill(weights, weight);
+      return weights;
+   }
+
+
+   /** withLetterWeight() returns these rules with a new weight for one letter.
+    *
+    *  @param letter - The letter, in either case (any script).
+    *  @param points - The points it is worth.
+    *  @throws IllegalArgumentException if letter is not a letter or points is negative.
+    */
+   ScoringRules withLetterWeight(char letter, int points) {
+      if (!Character.isLetter(letter) || points < 0) {
+         throw new IllegalArgumentException("Letter must be a letter and points at least 0");
+      }
+      char upper = Character.toUpperCase(letter);
+      int code = Lexicon.code(upper);
+      if (code >= 0) {
+         int[] weights = letterWeights.clone();
+         weights[code] = points;
+         return new ScoringRules(weights, defaultWeight, otherWeights, bonusByLength, rarity);
+      }
+      Map<Character, Integer> others = new HashMap<Character, Integer>(otherWeights);
+      others.put(upper, points);
+      return new ScoringRules(letterWeights, defaultWeight, Collections.unmodifiableMap(others), bonusByLength,
+         rarity);
+   }
+
+
+   /** withLengthBonus() returns these rules with a new length bonus curve.
+    *
+    *  @param bonus - bonus[n] is added to the points of a word of n letters; longer words get the last
+    *     entry (no entries means no bonus).
+    *  @throws IllegalArgumentException if bonus is null or has a negative entry.
+    */
+   ScoringRules withLengthBonus(int... bonus) {
+      if (bonus == null) {
+         throw new IllegalArgumentException("Bonus cannot be null");
+      }
+      for (int points : bonus) {
+         if (points < 0) {
+            throw new IllegalArgumentException("Bonus cannot be negative");
+         }
+      }
+      return new ScoringRules(letterWeights, defaultWeight, otherWeights,
+         bonus.length == 0 ? new int[]{0} : bonus.clone(), rarity);
+   }
+
+
+   /** withRarity() returns these rules with a new rarity multiplier.
+    *
+    *  @param weight - A word's points are multiplied by 1 + weight * (the average rarity of its letters,
+    *     from 0 for the lexicon's most common letter to nearly 1 for the rarest).
+    *  @throws IllegalArgumentException if weight is negative.
+    */
+   ScoringRules withRarity(double weight) {
+      if (!(weight >= 0)) {
+         throw new IllegalArgumentException("Rarity weight cannot be negative");
+      }
+      return new ScoringRules(letterWeights, defaultWeight, otherWeights, bonusByLength, weight);
+   }
+
+
+   /** letterWeight() returns the points for an upper case letter. */
+   int letterWeight(char letter) {
+      int code = Lexicon.code(letter);
+      if (code >= 0) {
+         return letterWeights[code];
+      }
+      Integer points = otherWeights.get(letter);
+      return points == null ? defaultWeight : points;
+   }
+
+
+   /** lengthBonus() returns the bonus for a word of a number of letters. */
+   int lengthBonus(int length) {
+      return bonusByLength[Math.min(length, bonusByLength.length - 1)];
+   }
+
+
+   /** rarity() returns the rarity weight. */
+   double rarity() {
+      return rarity;
+   }
+
+
+   /** compile() scores every word of a lexicon.
+    *
+    *  @param lexicon - The lexicon to score.
+    *  @return table - each word's points under these rules, by ordinal.
+    */
+   ScoreTable compile(Lexicon lexicon) {
+      return new ScoreTable(this, lexicon);
+   }
+
+}
@@ -0,0 +1,198 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+
+
+public class ScoringRulesTest {
+
+   private static Lexicon lexicon;
+
+
+   /** Fixture initialization - loads the lexicon the rules are compiled for. **/
+   @BeforeClass public static void loadLexicon() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   /** A test that the default rules score one point per character, and the presets their own values. */
+   @Test public void presetTest() {
+      ScoreTable length = ScoringRules.LENGTH.compile(lexicon);
+      for (int ordinal = 0; ordinal < lexicon.size(); ordinal++) {
+         assertEquals(lexicon.word(ordinal).length(), length.score(ordinal));
+      }
+
+      Lexicon small = Lexicon.of(Arrays.asList("CAT", "QUIZ", "TABLE", "BUBBLES", "ABSOLUTELY"));
+      ScoreTable scrabble = ScoringRules.SCRABBLE.compile(small);
+      assertEquals(22, scrabble.score(small.ordinalOf("QUIZ")));
+      assertEquals(5, scrabble.score(small.ordinalOf("CAT")));
+
+      ScoreTable boggle = ScoringRules.BOGGLE.compile(small);
+      assertEquals(1, boggle.score(small.ordinalOf("CAT")));
+      assertEquals(2, boggle.score(small.ordinalOf("TABLE")));
+      assertEquals(5, boggle.score(small.ordinalOf("BUBBLES")));
+      assertEquals(11, boggle.score(small.ordinalOf("ABSOLUTELY")));
+
+      ScoreTable custom = ScoringRules.LENGTH.withLetterWeight('q', 9).withLengthBonus(0, 0, 0, 0, 10).compile(small);
+      assertEquals(3, custom.score(small.ordinalOf("CAT")));
+      assertEquals(9 + 3 + 10, custom.score(small.ordinalOf("QUIZ")));
+
+      // rare letters only ever add points
+      ScoreTable rare = ScoringRules.LENGTH.withRarity(1.0).compile(small);
+      assertTrue(rare.score(small.ordinalOf("QUIZ")) > 4);
+      assertTrue(rare.score(small.ordinalOf("QUIZ")) <= 8);
+   }
+
+
+   /** A test of premium cells along a path, and scoring several players at once. */
+   @Test public void multiplierTest() {
+      // Q U I Z
+      // . . . .
+      Board board = new Board(new String[]{"QU", "I", "Z", "A", "B", "C", "D", "E"}, 2, 4);
+      ScoreTable table = ScoringRules.SCRABBLE.compile(lexicon);
+      int quiz = lexicon.ordinalOf("QUIZ");
+      int[] path = {0, 1, 2};
+
+      CellMultipliers none = new CellMultipliers(board.size());
+      assertEquals(table.score(quiz), table.score(quiz, path, board, none));
+      // a double letter on the QU tile doubles both of its letters, a triple word triples everything
+      assertEquals(22 + 11, table.score(quiz, path, board, none.withLetterMultiplier(0, 2)));
+      assertEquals(66, table.score(quiz, path, board, none.withWordMultiplier(2, 3)));
+      assertEquals(22, table.score(quiz, path, board, none.withWordMultiplier(5, 3)));
+
+      int[][] players = {table.ordinals(Arrays.asList("QUIZ", "CAT")), table.ordinals(Arrays.asList("NOTAWORD")), {}};
+      assertArrayEquals(new long[]{22 + 5, 0, 0}, table.scoreAll(players));
+   }
+
+
+   /** A test that getScoreForWords() follows the rules and premium cells, before and after solving. */
+   @Test public void gameTest() {
+      WordSearch game = new WordSearch();
+      game.useLexicon(lexicon);
+      SortedSet<String> all = game.getAllScorableWords(3);
+      int byLength = game.getScoreForWords(all, 3);
+
+      game.setScoringRules(ScoringRules.BOGGLE);
+      int boggle = 0;
+      for (String word : all) {
+         boggle += ScoringRules.BOGGLE.compile(Lexicon.of(Collections.singleton(word))).score(0);
+      }
+      assertEquals(boggle, game.getScoreForWords(all, 3));
+      assertEquals(boggle, game.getScoreForWords(new TreeSet<String>(all), 3));
+
+      game.setScoringRules(ScoringRules.LENGTH);
+      assertEquals(byLength, game.getScoreForWords(new TreeSet<String>(all), 3));
+
+      // a double word cell doubles the words with a path through it, solved or not
+      Board board = Board.square(new String[]{"E", "E", "C", "A", "A", "L", "E", "P", "H", "N", "B", "O", "Q", "T",
+         "T", "Y"});
+      NeighborTable neighbors = NeighborTable.compile(Adjacencies.SQUARE, 4, 4);
+      CellMultipliers doubled = new CellMultipliers(16).withWordMultiplier(5, 2);
+      int expected = 0;
+      for (String word : all) {
+         boolean through = false;
+         for (int[] path : paths(board, neighbors, word)) {
+            for (int cell : path) {
+               through |= cell == 5;
+            }
+         }
+         expected += word.length() * (through ? 2 : 1);
+      }
+      assertTrue(expected > byLength);
+      game.setCellMultipliers(doubled);
+      game.setBoard(new String[]{"E", "E", "C", "A", "A", "L", "E", "P", "H", "N", "B", "O", "Q", "T", "T", "Y"});
+      assertEquals(byLength, game.getScoreForWords(new TreeSet<String>(all), 3));
+      game.setCellMultipliers(doubled);
+      assertEquals(expected, game.getScoreForWords(new TreeSet<String>(all), 3));
+      assertEquals(expected, game.getScoreForWords(game.getAllScorableWords(3), 3));
+
+      // end of round: each player's words scored at once, the same as one at a time
+      List<SortedSet<String>> players = new ArrayList<SortedSet<String>>();
+      players.add(new TreeSet<String>(all));
+      players.add(new TreeSet<String>(Arrays.asList("peace", "PEACE", "NOTAWORD")));
+      players.add(new TreeSet<String>());
+      long[] points = game.getScoresForPlayers(players, 3);
+      assertEquals(3, points.length);
+      for (int player = 0; player < points.length; player++) {
+         assertEquals(game.getScoreForWords(players.get(player), 3), points[player]);
+      }
+      assertEquals(expected, points[0]);
+   }
+
+
+   /** A test that a word is scored along its best path, whichever path a search finds first. */
+   @Test public void bestPathTest() {
+      // C A T      CAT ends on T at cell 2 or cell 5
+      // Q Q T
+      Board board = new Board(new String[]{"C", "A", "T", "Q", "Q", "T"}, 2, 3);
+      NeighborTable neighbors = NeighborTable.compile(Adjacencies.SQUARE, 2, 3);
+      ScoreTable table = ScoringRules.SCRABBLE.compile(lexicon);
+      int cat = lexicon.ordinalOf("CAT");
+      CellMultipliers none = new CellMultipliers(board.size());
+      for (int cell : new int[] {2, 5}) {
+         assertEquals(15, table.score(cat, new PathScorer(board, neighbors, none.withWordMultiplier(cell, 3))));
+         assertEquals(5 + 1, table.score(cat, new PathScorer(board, neighbors, none.withLetterMultiplier(cell, 2))));
+      }
+      assertEquals(table.score(cat), table.score(cat, new PathScorer(board, neighbors, none)));
+      assertEquals(0, table.score(lexicon.ordinalOf("TACT"), new PathScorer(board, neighbors, none)));
+
+      // on a board of repeated letters, the best of every path listed one by one
+      Random random = new Random(44L);
+      String[] tiles = new String[16];
+      for (int i = 0; i < tiles.length; i++) {
+         tiles[i] = String.valueOf("AEST".charAt(random.nextInt(4)));
+      }
+      board = Board.square(tiles);
+      neighbors = NeighborTable.compile(Adjacencies.SQUARE, 4, 4);
+      CellMultipliers premium = new CellMultipliers(16);
+      for (int p = 0; p < 5; p++) {
+         premium = premium.withLetterMultiplier(random.nextInt(16), 2 + random.nextInt(2))
+            .withWordMultiplier(random.nextInt(16), 2 + random.nextInt(2));
+      }
+      PathScorer scorer = new PathScorer(board, neighbors, premium);
+      BitSet found = new BoardSolver(lexicon, board, neighbors).solve(3);
+      assertTrue(found.cardinality() > 10);
+      for (int ordinal = found.nextSetBit(0); ordinal >= 0; ordinal = found.nextSetBit(ordinal + 1)) {
+         int best = 0;
+         for (int[] path : paths(board, neighbors, lexicon.word(ordinal))) {
+            best = Math.max(best, table.score(ordinal, path, board, premium));
+         }
+         assertEquals(lexicon.word(ordinal), best, table.score(ordinal, scorer));
+      }
+   }
+
+
+   /** paths() lists every path spelling a word, one by one. */
+   private static List<int[]> paths(TileGrid board, NeighborTable neighbors, String word) {
+      List<int[]> paths = new ArrayList<int[]>();
+      for (int cell = 0; cell < board.size(); cell++) {
+         extendPath(board, neighbors, word, new int[0], cell, 0, paths);
+      }
+      return paths;
+   }
+
+
+   /** extendPath() adds a cell to a path if it matches the word there, and carries on from it. */
+   private static void extendPath(TileGrid board, NeighborTable neighbors, String word, int[] path, int cell,
+         int position, List<int[]> paths) {
+      int after = BoardSolver.match(board, cell, word, position);
+      for (int used : path) {
+         after = used == cell ? -1 : after;
+      }
+      if (after < 0) {
+         return;
+      }
+      int[] longer = Arrays.copyOf(path, path.length + 1);
+      longer[path.length] = cell;
+      if (after == word.length()) {
+         paths.add(longer);
+         return;
+      }
+      for (int index = neighbors.start(cell); index < neighbors.end(cell); index++) {
+         extendPath(board, neighbors, word, longer, neighbors.neighbor(index), after, paths);
+      }
+   }
+
+}
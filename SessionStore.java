@@ -0,0 +1,402 @@
+import java.util.*;
+
+/** Class SessionStore holds the server's games within a fixed memory budget. A game is either live - its
+ *  solved board and FoundWordRegistry in memory, ready for guesses - or dormant, when only a compact
+ *  snapshot is kept: the board key, the minimum word length, the players' names, and the lexicon ordinal
+ *  and finder of each word found so far. Ordinals only mean something in one lexicon, so the snapshot
+ *  keeps a reference to the lexicon its ordinals belong to and is rebuilt against it. A dormant game
+ *  costs a few hundred bytes, so tens of thousands of open games fit in a small heap.
+ *
+ *  That budget leaves out the lexicon, which is shared with every other game on it - true only as long as
+ *  the lexicon is the current one. Once retire() is told of a new lexicon, every snapshot is moved onto it:
+ *  each found word's ordinal is looked up again by the word, and only words the new lexicon no longer has
+ *  are lost. Idle live games on an old lexicon are made dormant the same way, and games in use finish what
+ *  they are doing on it and move over when they are next made dormant, so no game keeps a superseded
+ *  lexicon in memory for longer than it is being played.
+ *
+ *  Whenever the estimated size of the store goes over budget, the least recently used idle games are made
+ *  dormant, and if that is not enough (only snapshots left), the oldest dormant games are dropped. A
+ *  dormant game is rebuilt the next time it is used, re-solving its board through the given Solver.
+ *
+ *  Games are used through acquire() and release(): a game that has been acquired and not yet released is
+ *  never evicted, so a guess can never be lost to a concurrent snapshot.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class SessionStore {
+
+   /** Solves a board for a game that is being rebuilt, against the lexicon of the game's snapshot. */
+   interface Solver {
+      BoardSolution solve(Lexicon lexicon, Board board, int minimumWordLength);
+   }
+
+   /** One game, live or dormant. Fields are guarded by the store's lock, except that rebuilding a dormant
+    *  game happens under the entry's own lock while it is pinned. */
+   private static final class Entry {
+      final String id;
+      GameSession live;
+      Snapshot snapshot;
+      long bytes;
+      int pins;
+
+      Entry(String idIn) {
+         id = idIn;
+      }
+   }
+
+   /** The compact form of a dormant game. */
+   private static final class Snapshot {
+      final Lexicon lexicon;
+      final PackedBoard board;
+      final int minimumWordLength;
+      final int maxPlayers;
+      final String[] names;
+
+      /** Pairs of (lexicon ordinal, player) for every word found so far. */
+      final int[] claims;
+
+      final long attempts;
+      final long duplicates;
+      final long taken;
+      final long lostRaces;
+
+      /** Snapshot of a live game, with its found words moved onto a lexicon (see moveClaims()). */
+      Snapshot(GameSession session, Lexicon lexiconIn) {
+         FoundWordRegistry registry = session.registry();
+         BoardSolution solution = registry.solution();
+         lexicon = lexiconIn;
+         board = PackedBoard.from(solution.board());
+         minimumWordLength = solution.minimumWordLength();
+         maxPlayers = registry.maxPlayers();
+
+         names = new String[registry.players()];
+         for (int player = 0; player < names.length; player++) {
+            names[player] = registry.name(player);
+         }
+
+         int[] found = new int[2 * registry.claimed()];
+         int k = 0;
+         for (int index = 0; index < solution.size() && k < found.length; index++) {
+            int owner = registry.owner(index);
+            if (owner != FoundWordRegistry.UNCLAIMED) {
+               found[k] = solution.ordinal(index);
+               found[k + 1] = owner;
+               k += 2;
+            }
+         }
+         claims = moveClaims(found, solution.lexicon(), lexiconIn);
+
+         attempts = registry.attempts();
+         duplicates = registry.duplicates();
+         taken = registry.taken();
+         lostRaces = registry.lostRaces();
+      }
+
+      /** Copy of a snapshot with its found words moved onto another lexicon. */
+      private Snapshot(Snapshot old, Lexicon lexiconIn) {
+         lexicon = lexiconIn;
+         board = old.board;
+         minimumWordLength = old.minimumWordLength;
+         maxPlayers = old.maxPlayers;
+         names = old.names;
+         claims = moveClaims(old.claims, old.lexicon, lexiconIn);
+         attempts = old.attempts;
+         duplicates = old.duplicates;
+         taken = old.taken;
+         lostRaces = old.lostRaces;
+      }
+
+      /** moveTo() returns the snapshot played on another lexicon. */
+      Snapshot moveTo(Lexicon lexiconIn) {
+         return lexiconIn == lexicon ? this : new Snapshot(this, lexiconIn);
+      }
+
+      /** moveClaims() looks the (ordinal, player) pairs up again by word in another lexicon, dropping the
+       *  words it does not have. */
+      private static int[] moveClaims(int[] claims, Lexicon from, Lexicon to) {
+         if (from == to) {
+            return claims;
+         }
+         int[] moved = new int[claims.length];
+         int k = 0;
+         for (int i = 0; i < claims.length; i += 2) {
+            int ordinal = to.ordinalOf(from.word(claims[i]));
+            if (ordinal >= 0) {
+               moved[k] = ordinal;
+               moved[k + 1] = claims[i + 1];
+               k += 2;
+            }
+         }
+         return k == moved.length ? moved : Arrays.copyOf(moved, k);
+      }
+
+      /** estimatedBytes() returns roughly how much heap the snapshot takes. */
+      long estimatedBytes() {
+         long bytes = 64 + board.estimatedBytes() + 16 + 4L * names.length + 16 + 4L * claims.length;
+         for (String name : names) {
+            bytes += name == null ? 0 : 40 + name.length();
+         }
+         return bytes;
+      }
+
+      /** restore() rebuilds the game on a freshly solved board. */
+      GameSession restore(String id, Solver solver) {
+         BoardSolution solution = solver.solve(lexicon, board.toBoard(lexicon.alphabet()), minimumWordLength);
+         FoundWordRegistry registry = new FoundWordRegistry(solution, maxPlayers);
+         for (String name : names) {
+            registry.join(name);
+         }
+         for (int k = 0; k < claims.length; k += 2) {
+            int index = solution.indexOfOrdinal(claims[k]);
+            if (index >= 0) {
+               registry.restore(index, claims[k + 1]);
+            }
+         }
+         registry.restoreCounters(attempts, duplicates, taken, lostRaces);
+         return new GameSession(id, registry);
+      }
+   }
+
+   /** Bytes charged for each entry's map node and bookkeeping, live or dormant. */
+   private static final long ENTRY_OVERHEAD = 128;
+
+   private final long budgetBytes;
+   private final Solver solver;
+
+   /** Every game, least recently used first. */
+   private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+   private long usedBytes;
+   private int liveCount;
+   private long evictions;
+   private long drops;
+   private long moves;
+   private long rebuilds;
+
+   /** The lexicon snapshots are moved onto, once retire() has been called; null until then. */
+   private Lexicon current;
+
+
+   /** Constructor for SessionStore.
+    *
+    *  @param budgetBytesIn - The most heap (estimated) the games may take.
+    *  @param solverIn - Solves boards when dormant games are rebuilt.
+    *  @throws IllegalArgumentException if budgetBytesIn is not positive.
+    */
+   SessionStore(long budgetBytesIn, Solver solverIn) {
+      if (budgetBytesIn <= 0) {
+         throw new IllegalArgumentException("budget must be positive");
+      }
+      budgetBytes = budgetBytesIn;
+      solver = solverIn;
+   }
+
+
+   /** add() stores a new, live game.
+    *
+    *  @param session - The game to add (its id must be unique).
+    */
+   void add(GameSession session) {
+      Entry entry = new Entry(session.id());
+      entry.live = session;
+      entry.bytes = ENTRY_OVERHEAD + session.estimatedBytes();
+      synchronized (this) {
+         entries.put(entry.id, entry);
+         usedBytes += entry.bytes;
+         liveCount++;
+         evictOverBudget();
+      }
+   }
+
+
+   /** acquire() looks up a game, rebuilding it if it is dormant, and pins it until release() is called.
+    *
+    *  @param id - The game's id.
+    *  @return session - the live game, or null if there is no such game (or it was dropped).
+    */
+   GameSession acquire(String id) {
+      Entry entry;
+      synchronized (this) {
+         entry = entries.get(id);
+         if (entry == null) {
+            return null;
+         }
+         entry.pins++;
+         if (entry.live != null) {
+            return entry.live;
+         }
+      }
+
+      // pinned, so it cannot be evicted or dropped while it is rebuilt; the entry's lock makes a second
+      // thread asking for the same game wait for the first rebuild rather than do its own
+      try {
+         synchronized (entry) {
+            Snapshot snapshot;
+            synchronized (this) {
+               if (entry.live != null) {
+                  return entry.live;
+               }
+               snapshot = entry.snapshot;
+            }
+
+            GameSession session = snapshot.restore(id, solver);
+
+            synchronized (this) {
+               usedBytes -= entry.bytes;
+               entry.live = session;
+               entry.snapshot = null;
+               entry.bytes = ENTRY_OVERHEAD + session.estimatedBytes();
+               usedBytes += entry.bytes;
+               liveCount++;
+               rebuilds++;
+               evictOverBudget();
+            }
+            return session;
+         }
+      }
+      catch (RuntimeException e) {
+         release(id);
+         throw e;
+      }
+   }
+
+
+   /** release() unpins a game acquired with acquire(), so it may be evicted again.
+    *
+    *  @param id - The game's id.
+    */
+   synchronized void release(String id) {
+      Entry entry = entries.get(id);
+      if (entry != null && entry.pins > 0) {
+         entry.pins--;
+      }
+      evictOverBudget();
+   }
+
+
+   /** evictOverBudget() makes the least recently used unpinned games dormant until the store fits its
+    *  budget, then drops the oldest dormant games if it still does not. Called with the lock held.
+    */
+   private void evictOverBudget() {
+      if (usedBytes <= budgetBytes) {
+         return;
+      }
+
+      for (Entry entry : entries.values()) {
+         if (usedBytes <= budgetBytes) {
+            return;
+         }
+         if (entry.live != null && entry.pins == 0) {
+            makeDormant(entry);
+         }
+      }
+
+      Iterator<Entry> oldest = entries.values().iterator();
+      while (usedBytes > budgetBytes && oldest.hasNext()) {
+         Entry entry = oldest.next();
+         if (entry.live == null && entry.pins == 0) {
+            oldest.remove();
+            usedBytes -= entry.bytes;
+            drops++;
+         }
+      }
+   }
+
+
+   /** makeDormant() replaces a live game with its snapshot, on the current lexicon. Called with the lock
+    *  held.
+    */
+   private void makeDormant(Entry entry) {
+      Lexicon played = entry.live.registry().solution().lexicon();
+      Snapshot snapshot = new Snapshot(entry.live, current == null ? played : current);
+      if (snapshot.lexicon != played) {
+         moves++;
+      }
+      usedBytes -= entry.bytes;
+      entry.live = null;
+      entry.snapshot = snapshot;
+      entry.bytes = ENTRY_OVERHEAD + snapshot.estimatedBytes();
+      usedBytes += entry.bytes;
+      liveCount--;
+      evictions++;
+   }
+
+
+   /** retire() makes a new lexicon the current one, and moves every game it can onto it: snapshots are
+    *  moved at once, idle live games on another lexicon are made dormant and moved, and games in use are
+    *  moved when they are next made dormant. A moved game keeps its players, scores and found words, except
+    *  for words the new lexicon does not have, and is rebuilt on the new lexicon when it is next used.
+    *
+    *  @param lexicon - The new current lexicon.
+    */
+   synchronized void retire(Lexicon lexicon) {
+      current = lexicon;
+      for (Entry entry : entries.values()) {
+         if (entry.pins > 0) {
+            continue;
+         }
+         if (entry.live != null) {
+            if (entry.live.registry().solution().lexicon() != lexicon) {
+               makeDormant(entry);
+            }
+         }
+         else if (entry.snapshot.lexicon != lexicon) {
+            entry.snapshot = entry.snapshot.moveTo(lexicon);
+            usedBytes -= entry.bytes;
+            entry.bytes = ENTRY_OVERHEAD + entry.snapshot.estimatedBytes();
+            usedBytes += entry.bytes;
+            moves++;
+         }
+      }
+   }
+
+
+   /** usedBytes() returns the estimated heap taken by every game. */
+   synchronized long usedBytes() {
+      return usedBytes;
+   }
+
+
+   /** budgetBytes() returns the memory budget. */
+   long budgetBytes() {
+      return budgetBytes;
+   }
+
+
+   /** size() returns the number of games, live and dormant. */
+   synchronized int size() {
+      return entries.size();
+   }
+
+
+   /** liveCount() returns the number of games held in memory in full. */
+   synchronized int liveCount() {
+      return liveCount;
+   }
+
+
+   /** evictions() returns how many times a game has been made dormant. */
+   synchronized long evictions() {
+      return evictions;
+   }
+
+
+   /** drops() returns how many dormant games have been forgotten to stay within budget. */
+   synchronized long drops() {
+      return drops;
+   }
+
+
+   /** moves() returns how many games have been moved onto a new lexicon. */
+   synchronized long moves() {
+      return moves;
+   }
+
+
+   /** rebuilds() returns how many dormant games have been rebuilt. */
+   synchronized long rebuilds() {
+      return rebuilds;
+   }
+
+}
@@ -0,0 +1,131 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+
+public class SessionStoreTest {
+
+   private Lexicon lexicon;
+   private Board board;
+   private int solves;
+
+
+   /** Fixture initialization - loads the lexicon and the 3 x 3 board used by WordSearchTest. **/
+   @Before public void setUp() {
+      lexicon = Lexicon.load("words_medium.txt");
+      board = Board.square(new String[]{"R", "E", "S", "T", "S", "T", "Q", "B", "V"});
+   }
+
+
+   /** solver() returns a Solver that counts how often it is called. */
+   private SessionStore.Solver solver() {
+      return new SessionStore.Solver() {
+         @Override
+         public BoardSolution solve(Lexicon lexiconIn, Board boardIn, int minimumWordLength) {
+            solves++;
+            return BoardSolution.solve(lexiconIn, boardIn,
+               NeighborTable.compile(Adjacencies.SQUARE, boardIn.rows(), boardIn.cols()), minimumWordLength);
+         }
+      };
+   }
+
+
+   /** A test that an evicted game comes back with its players, words and scores. */
+   @Test public void evictAndRebuildTest() {
+
+      SessionStore.Solver solver = solver();
+      GameSession first = new GameSession("a", solver.solve(lexicon, board, 3), 4);
+      int second = first.join("second");
+      first.submit(GameSession.FIRST_PLAYER, "test");
+      first.submit(second, "rest");
+
+      // room for about one live game, so adding another makes the first one dormant
+      SessionStore store = new SessionStore(2 * first.estimatedBytes(), solver);
+      store.add(first);
+      store.add(new GameSession("b", solver.solve(lexicon, board, 3), 4));
+      Assert.assertEquals(1, store.evictions());
+      Assert.assertEquals(1, store.liveCount());
+      solves = 0;
+
+      GameSession rebuilt = store.acquire("a");
+      store.release("a");
+      Assert.assertEquals(1, solves);
+      Assert.assertEquals(1, store.rebuilds());
+      Assert.assertEquals(2, rebuilt.registry().players());
+      Assert.assertEquals("second", rebuilt.registry().name(second));
+      Assert.assertEquals(4, rebuilt.score(GameSession.FIRST_PLAYER));
+      Assert.assertEquals(4, rebuilt.score(second));
+      Assert.assertEquals(GameSession.Outcome.TAKEN, rebuilt.submit(GameSession.FIRST_PLAYER, "rest"));
+      assertTrue(store.usedBytes() <= store.budgetBytes());
+   }
+
+
+   /** A test that a pinned game is not evicted. */
+   @Test public void pinnedTest() {
+
+      SessionStore.Solver solver = solver();
+      GameSession first = new GameSession("a", solver.solve(lexicon, board, 3), 1);
+      SessionStore store = new SessionStore(2 * first.estimatedBytes(), solver);
+      store.add(first);
+
+      Assert.assertSame(first, store.acquire("a"));
+      store.add(new GameSession("b", solver.solve(lexicon, board, 3), 1));
+      Assert.assertSame(first, store.acquire("a"));
+      store.release("a");
+      store.release("a");
+      Assert.assertNull(store.acquire("missing"));
+   }
+
+
+   /** A test that retiring a lexicon moves every game onto the new one, keeping its found words. */
+   @Test public void retireTest() {
+
+      SessionStore.Solver solver = solver();
+      GameSession first = new GameSession("a", solver.solve(lexicon, board, 3), 4);
+      int second = first.join("second");
+      first.submit(GameSession.FIRST_PLAYER, "test");
+      first.submit(second, "rest");
+      SessionStore store = new SessionStore(3 * first.estimatedBytes(), solver);
+      store.add(first);
+      store.add(new GameSession("b", solver.solve(lexicon, board, 3), 4));
+      store.add(new GameSession("c", solver.solve(lexicon, board, 3), 4));
+      Assert.assertEquals(1, store.evictions());
+
+      // "a" is dormant, "b" idle and "c" in use, all on the old lexicon; the new one has no REST
+      Set<String> words = Lexicon.readWords("words_medium.txt");
+      words.remove("REST");
+      Lexicon reloaded = Lexicon.of(words);
+      GameSession inUse = store.acquire("c");
+      store.retire(reloaded);
+      Assert.assertEquals(2, store.moves());
+      Assert.assertEquals(3, store.size());
+      Assert.assertSame(lexicon, inUse.registry().solution().lexicon());
+
+      GameSession moved = store.acquire("a");
+      store.release("a");
+      Assert.assertSame(reloaded, moved.registry().solution().lexicon());
+      Assert.assertEquals(2, moved.registry().players());
+      Assert.assertEquals(4, moved.score(GameSession.FIRST_PLAYER));
+      Assert.assertEquals(0, moved.score(second));
+      Assert.assertEquals(GameSession.Outcome.TAKEN, moved.submit(second, "test"));
+
+      GameSession idle = store.acquire("b");
+      store.release("b");
+      Assert.assertSame(reloaded, idle.registry().solution().lexicon());
+
+      // the game in use finishes on the old lexicon, and moves when it is next made dormant
+      store.release("c");
+      store.add(new GameSession("d", solver.solve(reloaded, board, 3), 4));
+      store.add(new GameSession("e", solver.solve(reloaded, board, 3), 4));
+      Assert.assertEquals(3, store.moves());
+      GameSession later = store.acquire("c");
+      store.release("c");
+      Assert.assertSame(reloaded, later.registry().solution().lexicon());
+      Assert.assertEquals(0, store.drops());
+      assertTrue(store.usedBytes() <= store.budgetBytes());
+   }
+
+}
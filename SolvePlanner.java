@@ -0,0 +1,227 @@
+import java.util.BitSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/** Class SolvePlanner decides, for one board and lexicon, whether to find the words by walking the board
+ *  (BoardSolver / BitboardSolver: every path, pruned by the lexicon's prefixes) or by walking the lexicon
+ *  (WordDrivenSolver: every word, looked for on the board). It estimates the cost of both in the same unit,
+ *  roughly one neighbor step, from the lexicon's size and prefix counts, the board's size and degree, and
+ *  how well the board's letters match the letters the lexicon uses:
+ *
+ *     m            = chance that a letter the trie steps through matches a random cell
+ *     board-driven = 2 * N + sum over d of  N * b^(d - 1) * prefixes(d) * m^d * b
+ *     word-driven  = 2 * N + words * letters + survivors * (searched cells + overhead)
+ *
+ *  where N is the number of cells, b the average number of neighbors, and survivors the words whose
+ *  letters are all on the board; a word is searched from the N * m cells of its first letter, and each
+ *  partial match grows by about (b - 1) * m cells. The full dictionary on a small board is planned
+ *  board-driven, and a handful of words on a huge board word-driven.
+ *
+ *  The plan can be forced (WordSearch.setSolveStrategy(), or -Dwordsearch.strategy=board or =word for the
+ *  whole process). Every solve is logged at Level.FINE on the "WordSearch.planner" logger with the plan,
+ *  both estimates and the time it took.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class SolvePlanner {
+
+   /** Which way to search. */
+   enum Strategy {
+      /** Let the planner choose. */
+      AUTO,
+      /** Walk the board's paths (BoardSolver, or BitboardSolver for boards of at most 64 cells). */
+      BOARD_DRIVEN,
+      /** Look for each lexicon word on the board (WordDrivenSolver). */
+      WORD_DRIVEN
+   }
+
+   /** The planner's logger. */
+   static final Logger LOG = Logger.getLogger("WordSearch.planner");
+
+   /** The system property that forces a strategy for the whole process ("board", "word" or "auto"). */
+   static final String STRATEGY_PROPERTY = "wordsearch.strategy";
+
+   /** The fixed cost of looking for one word on the board, in neighbor steps (setting up the search). */
+   private static final double PATH_SEARCH_OVERHEAD = 16;
+
+
+   /** Class Plan is the planner's decision and the two cost estimates behind it. */
+   static final class Plan {
+
+      final Strategy strategy;
+      final double boardDrivenCost;
+      final double wordDrivenCost;
+
+      Plan(Strategy strategyIn, double boardDrivenCostIn, double wordDrivenCostIn) {
+         strategy = strategyIn;
+         boardDrivenCost = boardDrivenCostIn;
+         wordDrivenCost = wordDrivenCostIn;
+      }
+
+      @Override
+      public String toString() {
+         return String.format("%s (estimated board-driven %.3g, word-driven %.3g)", strategy, boardDrivenCost, wordDrivenCost);
+      }
+   }
+
+
+   /** The planner only has static methods. */
+   private SolvePlanner() {
+   }
+
+
+   /** defaultStrategy() returns the strategy set by -Dwordsearch.strategy (AUTO if it is not set). */
+   static Strategy defaultStrategy() {
+      String value = System.getProperty(STRATEGY_PROPERTY, "auto").trim().toLowerCase();
+      if (value.startsWith("board")) {
+         return Strategy.BOARD_DRIVEN;
+      }
+      if (value.startsWith("word")) {
+         return Strategy.WORD_DRIVEN;
+      }
+      return Strategy.AUTO;
+   }
+
+
+   /** plan() estimates the cost of both strategies and picks the cheaper one.
+    *
+    *  @param lexicon - The lexicon to search against.
+    *  @param board - The board to search.
+    *  @param neighbors - The neighbor table compiled for the board.
+    *  @param minimumWordLength - The minimum number of characters per word.
+    *  @return plan - the cheaper strategy and both estimates.
+    */
+   static Plan plan(Lexicon lexicon, TileGrid board, NeighborTable neighbors, int minimumWordLength) {
+
+      board = Board.inAlphabet(board, lexicon.alphabet());
+      int cells = board.size();
+      double degree = neighbors.size() == 0 ? 0 : neighbors.end(cells - 1) / (double) cells;
+
+      // how often a cell matches the letter the trie steps through, weighting letters by how many prefixes
+      // end in them (a wildcard matches every letter, a multi-letter tile is counted by its first letter)
+      int[] counts = new int[lexicon.alphabet().size()];
+      int wildcards = 0;
+      for (int cell = 0; cell < cells; cell++) {
+         int code = board.code(cell);
+         if (code >= 0) {
+            counts[code]++;
+         }
+         else if (code == Board.MULTI) {
+            counts[board.sequence(cell)[0]]++;
+         }
+         else if (code == Board.WILDCARD) {
+            wildcards++;
+         }
+      }
+      double edges = 0;
+      double matching = 0;
+      double present = 0;
+      for (int code = 0; code < counts.length; code++) {
+         edges += lexicon.letterCount(code);
+         matching += lexicon.letterCount(code) * (double) (counts[code] + wildcards) / cells;
+         present += counts[code] + wildcards > 0 ? lexicon.letterCount(code) : 0;
+      }
+      double match = edges == 0 ? 0 : matching / edges;
+      double onBoard = edges == 0 ? 0 : present / edges;
+
+      double boardCost = boardDrivenCost(lexicon, cells, degree, match);
+      double wordCost = wordDrivenCost(lexicon, minimumWordLength, cells, degree, match, onBoard);
+      return new Plan(boardCost <= wordCost ? Strategy.BOARD_DRIVEN : Strategy.WORD_DRIVEN, boardCost, wordCost);
+   }
+
+
+   /** boardDrivenCost() estimates the neighbor steps of the board-driven search: paths of length d are
+    *  only followed while they spell a prefix, which about prefixes(d) * match^d of them do.
+    */
+   private static double boardDrivenCost(Lexicon lexicon, int cells, double degree, double match) {
+      // every cell is tried as a start: a trie step and a word check
+      double cost = 2 * cells;
+      double paths = cells;
+      double reach = 1;
+      int deepest = Math.min(cells, lexicon.maxWordLength());
+      for (int depth = 1; depth <= deepest; depth++) {
+         reach *= match;
+         double alive = Math.min(paths, paths * lexicon.prefixCount(depth) * reach);
+         if (alive < 1e-9) {
+            break;
+         }
+         cost += alive * degree;
+         // a path cannot step back onto itself, so it branches one way less after the first step
+         paths *= Math.max(1, depth == 1 ? degree : degree - 1);
+      }
+      return cost;
+   }
+
+
+   /** wordDrivenCost() estimates the work of the word-driven search: every word is checked against the
+    *  board's letters, and the survivors are searched for from their possible first cells.
+    */
+   private static double wordDrivenCost(Lexicon lexicon, int minimumWordLength, int cells, double degree,
+                                        double match, double onBoard) {
+      int words = lexicon.wordCount(minimumWordLength);
+      if (words == 0) {
+         return cells + lexicon.size();
+      }
+
+      // the average length of the words that are long enough
+      double letters = 0;
+      for (int length = Math.max(1, minimumWordLength); length <= lexicon.maxWordLength(); length++) {
+         letters += (double) length * (lexicon.wordCount(length) - lexicon.wordCount(length + 1));
+      }
+      letters /= words;
+
+      double survivors = words * Math.pow(onBoard, letters);
+
+      // a search tries every cell of the first letter, and each partial match is extended by about
+      // (degree - 1) * match more cells
+      double starts = cells * match;
+      double search = starts;
+      double partial = starts;
+      for (int position = 1; position < letters && partial > 1e-9; position++) {
+         search += partial * degree;
+         partial *= Math.max(1, position == 1 ? degree : degree - 1) * match;
+      }
+
+      // indexing the board is one pass to count the cells of each letter and one to file them
+      return 2 * cells + lexicon.size() + words * letters + survivors * (search + PATH_SEARCH_OVERHEAD);
+   }
+
+
+   /** solve() plans (unless the strategy is forced), runs and logs one search.
+    *
+    *  @param lexicon - The lexicon to search against.
+    *  @param board - The board to search.
+    *  @param neighbors - The neighbor table compiled for the board.
+    *  @param minimumWordLength - The minimum number of characters per word.
+    *  @param strategy - The strategy to use, or AUTO to let the planner choose.
+    *  @return found - a set of the ordinals of all words found on the board.
+    */
+   static BitSet solve(Lexicon lexicon, TileGrid board, NeighborTable neighbors, int minimumWordLength,
+                       Strategy strategy) {
+
+      long started = System.nanoTime();
+      Plan plan = null;
+      Strategy chosen = strategy;
+      if (strategy == Strategy.AUTO) {
+         plan = plan(lexicon, board, neighbors, minimumWordLength);
+         chosen = plan.strategy;
+      }
+      long planned = System.nanoTime();
+
+      GridSolver solver = chosen == Strategy.WORD_DRIVEN
+         ? new WordDrivenSolver(lexicon, board, neighbors)
+         : WordSearchGameFactory.createSolver(lexicon, board, neighbors);
+      BitSet found = solver.solve(minimumWordLength);
+
+      if (LOG.isLoggable(Level.FINE)) {
+         long finished = System.nanoTime();
+         LOG.fine(String.format("%d x %d board, %d words: %s, %s, planned in %.1f us, solved in %.1f us, %d found",
+            board.rows(), board.cols(), lexicon.size(), plan == null ? chosen + " (forced)" : plan.toString(),
+            solver.getClass().getSimpleName(), (planned - started) / 1e3, (finished - planned) / 1e3,
+            found.cardinality()));
+      }
+      return found;
+   }
+
+}
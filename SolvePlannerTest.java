@@ -0,0 +1,77 @@
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+
+
+public class SolvePlannerTest {
+
+   private static Lexicon lexicon;
+
+
+   /** Fixture initialization - loads the lexicon the plans are made for. **/
+   @BeforeClass public static void loadLexicon() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   /** A test that both strategies find the same words, wildcards and multi-letter tiles included. */
+   @Test public void sameWordsTest() {
+      Random random = new Random(42L);
+      for (int trial = 0; trial < 40; trial++) {
+         int rows = 1 + random.nextInt(12);
+         int cols = 1 + random.nextInt(12);
+         String[] tiles = new String[rows * cols];
+         for (int i = 0; i < tiles.length; i++) {
+            int pick = random.nextInt(30);
+            tiles[i] = pick < 26 ? String.valueOf((char) ('A' + pick)) : pick < 28 ? "QU" : pick < 29 ? Board.WILDCARD_TILE : "ST";
+         }
+         Board board = new Board(tiles, rows, cols);
+         NeighborTable neighbors = NeighborTable.compile(Adjacencies.SQUARE, rows, cols);
+         int minimumWordLength = 1 + trial % 4;
+
+         assertEquals(new BoardSolver(lexicon, board, neighbors).solve(minimumWordLength),
+            new WordDrivenSolver(lexicon, board, neighbors).solve(minimumWordLength));
+      }
+   }
+
+
+   /** A test that the full dictionary on a 4 x 4 board is planned board-driven, and a small themed list
+    *  whose words need letters the (large) board lacks is planned word-driven. */
+   @Test public void planTest() {
+      Board small = new Board(new String[]{"E", "E", "C", "A", "A", "L", "E", "P", "H", "N", "B", "O", "Q", "T", "T", "Y"}, 4, 4);
+      assertEquals(SolvePlanner.Strategy.BOARD_DRIVEN,
+         SolvePlanner.plan(lexicon, small, NeighborTable.compile(Adjacencies.SQUARE, 4, 4), 3).strategy);
+
+      Lexicon themed = Lexicon.of(Arrays.asList("JAZZ", "QUIZ", "FJORD", "ZEBRA", "OXEN", "JINX", "QUAKE", "WALTZ",
+                                                "ZIGZAG", "JUKEBOX", "AXE", "FOX", "ZOO", "JAM", "QUEEN", "EXIT"));
+      Random random = new Random(7L);
+      String[] tiles = new String[200 * 200];
+      for (int i = 0; i < tiles.length; i++) {
+         tiles[i] = String.valueOf("ABCDEFGHIKLMNOPRSTUVWY".charAt(random.nextInt(22)));
+      }
+      Board large = new Board(tiles, 200, 200);
+      NeighborTable neighbors = NeighborTable.compile(Adjacencies.SQUARE, 200, 200);
+      assertEquals(SolvePlanner.Strategy.WORD_DRIVEN, SolvePlanner.plan(themed, large, neighbors, 3).strategy);
+      assertEquals(new BoardSolver(themed, large, neighbors).solve(3), SolvePlanner.solve(themed, large, neighbors, 3,
+         SolvePlanner.Strategy.AUTO));
+   }
+
+
+   /** A test that a forced strategy gives the same words as the planner's choice. */
+   @Test public void overrideTest() {
+      WordSearch game = new WordSearch();
+      game.useLexicon(lexicon);
+      SortedSet<String> planned = game.getAllScorableWords(3);
+
+      game.setSolveStrategy(SolvePlanner.Strategy.WORD_DRIVEN);
+      assertEquals(SolvePlanner.Strategy.WORD_DRIVEN, game.getSolveStrategy());
+      assertEquals(planned, game.getAllScorableWords(3));
+
+      game.setSolveStrategy(SolvePlanner.Strategy.BOARD_DRIVEN);
+      assertEquals(planned, game.getAllScorableWords(3));
+   }
+
+}
@@ -0,0 +1,280 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/** Class SolverMetrics collects process-wide solver statistics and publishes them over JMX as
+ *  "WordSearch:type=SolverMetrics". Every solve of a board, by any solver, adds its counters (nodes
+ *  expanded, prefix lookups and rejects, words emitted, deepest path) and its latency; boards answered from
+ *  a cache are not solves, so they are not counted. WordSearch also records latency histograms for isOnBoard
+ *  and loadLexicon.
+ *
+ *  Collection is off by default; turn it on with -Dwordsearch.metrics=true, setEnabled(true), or the
+ *  Enabled attribute in a JMX console. While it is off, the only cost is one volatile read per call.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class SolverMetrics implements SolverMetricsMBean {
+
+   /** The JMX name the metrics are registered under. */
+   static final String OBJECT_NAME = "WordSearch:type=SolverMetrics";
+
+   /** The metrics' logger. */
+   static final Logger LOG = Logger.getLogger("WordSearch.metrics");
+
+   private static final SolverMetrics INSTANCE = new SolverMetrics();
+
+   private static volatile boolean enabled = Boolean.getBoolean("wordsearch.metrics");
+
+   static {
+      // metrics are a convenience: a JVM without a platform MBean server still plays the game
+      try {
+         ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+      }
+      catch (JMException | SecurityException e) {
+         LOG.log(Level.WARNING, "SolverMetrics could not be registered", e);
+      }
+   }
+
+   private final LongAdder solveCount = new LongAdder();
+   private final LongAdder nodesExpanded = new LongAdder();
+   private final LongAdder prefixLookups = new LongAdder();
+   private final LongAdder prefixRejects = new LongAdder();
+   private final LongAdder wordsEmitted = new LongAdder();
+   private final AtomicInteger maxDepth = new AtomicInteger();
+
+   /** The counters of the most recent solve, published together so a reader never mixes two solves. */
+   private static final class LastSolve {
+      final long nodesExpanded;
+      final long prefixLookups;
+      final long prefixRejects;
+      final long wordsEmitted;
+      final int maxDepth;
+
+      LastSolve(long expanded, long lookups, long rejects, long emitted, int depth) {
+         nodesExpanded = expanded;
+         prefixLookups = lookups;
+         prefixRejects = rejects;
+         wordsEmitted = emitted;
+         maxDepth = depth;
+      }
+   }
+
+   private static final LastSolve NO_SOLVE = new LastSolve(0, 0, 0, 0, 0);
+
+   private final AtomicReference<LastSolve> lastSolve = new AtomicReference<LastSolve>(NO_SOLVE);
+
+   private final LatencyHistogram solveLatency = new LatencyHistogram();
+   private final LatencyHistogram isOnBoardLatency = new LatencyHistogram();
+   private final LatencyHistogram loadLexiconLatency = new LatencyHistogram();
+
+
+   /** The metrics are a singleton - use get(). */
+   private SolverMetrics() {
+   }
+
+
+   /** get() returns the process-wide metrics. */
+   static SolverMetrics get() {
+      return INSTANCE;
+   }
+
+
+   /** isActive() is the cheap check callers make before collecting anything. */
+   static boolean isActive() {
+      return enabled;
+   }
+
+
+   /** startTimer() reads the clock, but only while metrics are enabled.
+    *
+    *  @return started - the current System.nanoTime(), or 0 if metrics are disabled.
+    */
+   static long startTimer() {
+      return enabled ? System.nanoTime() : 0L;
+   }
+
+
+   /** recordSolve() adds the counters and latency of one solve.
+    *
+    *  @param started - The startTimer() reading from the start of the solve.
+    *  @param expanded - The search nodes expanded (for a word-driven solve, the words whose path was looked
+    *     for).
+    *  @param lookups - The prefix lookups made (for a word-driven solve, the lexicon words considered).
+    *  @param rejects - The lookups that pruned the search (words ruled out by their length or letters).
+    *  @param emitted - The words found.
+    *  @param depth - The deepest path searched (the longest word looked for).
+    */
+   void recordSolve(long started, long expanded, long lookups, long rejects, long emitted, int depth) {
+      if (started != 0L) {
+         solveLatency.record(System.nanoTime() - started);
+      }
+      solveCount.increment();
+      nodesExpanded.add(expanded);
+      prefixLookups.add(lookups);
+      prefixRejects.add(rejects);
+      wordsEmitted.add(emitted);
+      maxDepth.accumulateAndGet(depth, Math::max);
+      lastSolve.set(new LastSolve(expanded, lookups, rejects, emitted, depth));
+   }
+
+
+   /** isOnBoardTimer() records an isOnBoard latency started with startTimer(). */
+   void isOnBoardTimer(long started) {
+      if (started != 0L) {
+         isOnBoardLatency.record(System.nanoTime() - started);
+      }
+   }
+
+
+   /** loadLexiconTimer() records a loadLexicon latency started with startTimer(). */
+   void loadLexiconTimer(long started) {
+      if (started != 0L) {
+         loadLexiconLatency.record(System.nanoTime() - started);
+      }
+   }
+
+
+   @Override
+   public boolean isEnabled() {
+      return enabled;
+   }
+
+   @Override
+   public void setEnabled(boolean enabledIn) {
+      enabled = enabledIn;
+   }
+
+   @Override
+   public long getSolveCount() {
+      return solveCount.sum();
+   }
+
+   @Override
+   public long getNodesExpanded() {
+      return nodesExpanded.sum();
+   }
+
+   @Override
+   public long getPrefixLookups() {
+      return prefixLookups.sum();
+   }
+
+   @Override
+   public long getPrefixRejects() {
+      return prefixRejects.sum();
+   }
+
+   @Override
+   public long getWordsEmitted() {
+      return wordsEmitted.sum();
+   }
+
+   @Override
+   public double getPruneRate() {
+      long lookups = prefixLookups.sum();
+      return lookups == 0 ? 0.0 : (double) prefixRejects.sum() / lookups;
+   }
+
+   @Override
+   public int getMaxDepth() {
+      return maxDepth.get();
+   }
+
+   @Override
+   public long getLastSolveNodesExpanded() {
+      return lastSolve.get().nodesExpanded;
+   }
+
+   @Override
+   public long getLastSolvePrefixLookups() {
+      return lastSolve.get().prefixLookups;
+   }
+
+   @Override
+   public long getLastSolvePrefixRejects() {
+      return lastSolve.get().prefixRejects;
+   }
+
+   @Override
+   public long getLastSolveWordsEmitted() {
+      return lastSolve.get().wordsEmitted;
+   }
+
+   @Override
+   public int getLastSolveMaxDepth() {
+      return lastSolve.get().maxDepth;
+   }
+
+   @Override
+   public long[] getLastSolve() {
+      LastSolve last = lastSolve.get();
+      return new long[] {last.nodesExpanded, last.prefixLookups, last.prefixRejects, last.wordsEmitted,
+         last.maxDepth};
+   }
+
+   @Override
+   public long getSolveLatencyP50Micros() {
+      return solveLatency.percentile(50) / 1000;
+   }
+
+   @Override
+   public long getSolveLatencyP99Micros() {
+      return solveLatency.percentile(99) / 1000;
+   }
+
+   @Override
+   public long getIsOnBoardLatencyP50Micros() {
+      return isOnBoardLatency.percentile(50) / 1000;
+   }
+
+   @Override
+   public long getIsOnBoardLatencyP99Micros() {
+      return isOnBoardLatency.percentile(99) / 1000;
+   }
+
+   @Override
+   public long getLoadLexiconLatencyP50Micros() {
+      return loadLexiconLatency.percentile(50) / 1000;
+   }
+
+   @Override
+   public long getLoadLexiconLatencyP99Micros() {
+      return loadLexiconLatency.percentile(99) / 1000;
+   }
+
+   @Override
+   public long[] getSolveLatencyHistogram() {
+      return solveLatency.snapshot();
+   }
+
+   @Override
+   public long[] getIsOnBoardLatencyHistogram() {
+      return isOnBoardLatency.snapshot();
+   }
+
+   @Override
+   public long[] getLoadLexiconLatencyHistogram() {
+      return loadLexiconLatency.snapshot();
+   }
+
+   @Override
+   public void reset() {
+      solveCount.reset();
+      nodesExpanded.reset();
+      prefixLookups.reset();
+      prefixRejects.reset();
+      wordsEmitted.reset();
+      maxDepth.set(0);
+      lastSolve.set(NO_SOLVE);
+      solveLatency.reset();
+      isOnBoardLatency.reset();
+      loadLexiconLatency.reset();
+   }
+
+}
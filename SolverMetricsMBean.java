@@ -0,0 +1,65 @@
+/**
+ * The JMX view of the solver metrics (see SolverMetrics). Counters are totals since
+ * start-up (or the last reset); the LastSolve attributes describe the most recent solve.
+ * Latencies are in microseconds. Only boards that were actually solved are counted and timed,
+ * not those answered from an already solved board.
+ *
+ * @version October 19th, 2026
+ */
+public interface SolverMetricsMBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getSolveCount();
+
+    long getNodesExpanded();
+
+    long getPrefixLookups();
+
+    long getPrefixRejects();
+
+    long getWordsEmitted();
+
+    /** The fraction of prefix lookups that were pruned, between 0 and 1. */
+    double getPruneRate();
+
+    int getMaxDepth();
+
+    long getLastSolveNodesExpanded();
+
+    long getLastSolvePrefixLookups();
+
+    long getLastSolvePrefixRejects();
+
+    long getLastSolveWordsEmitted();
+
+    int getLastSolveMaxDepth();
+
+    /** The five LastSolve attributes above, in order, all from the same solve. */
+    long[] getLastSolve();
+
+    long getSolveLatencyP50Micros();
+
+    long getSolveLatencyP99Micros();
+
+    long getIsOnBoardLatencyP50Micros();
+
+    long getIsOnBoardLatencyP99Micros();
+
+    long getLoadLexiconLatencyP50Micros();
+
+    long getLoadLexiconLatencyP99Micros();
+
+    /** Bucket b counts board solves that took under 2^b nanoseconds. */
+    long[] getSolveLatencyHistogram();
+
+    long[] getIsOnBoardLatencyHistogram();
+
+    long[] getLoadLexiconLatencyHistogram();
+
+    /** Clears every counter and histogram. */
+    void reset();
+
+}
@@ -0,0 +1,110 @@
+import org.junit.After;
+import org.junit.Assert;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+
+public class SolverMetricsTest {
+
+   private static Lexicon lexicon;
+   private static final String[] SMALL = {"R", "E", "S", "T", "S", "T", "Q", "B", "V"};
+   private static final String[] LARGE = {"E", "E", "C", "A", "A", "L", "E", "P", "H", "N", "B", "O", "Q", "T", "T", "Y"};
+
+
+   /** Fixture initialization - the lexicon is loaded once. **/
+   @BeforeClass public static void loadLexicon() {
+      lexicon = Lexicon.load("words_medium.txt");
+   }
+
+
+   @Before public void enable() {
+      SolverMetrics.get().setEnabled(true);
+      SolverMetrics.get().reset();
+   }
+
+
+   @After public void disable() {
+      SolverMetrics.get().setEnabled(false);
+      SolverMetrics.get().reset();
+   }
+
+
+   /** solve() solves a square board with a forced strategy. */
+   private static BitSet solve(String[] tiles, SolvePlanner.Strategy strategy) {
+      Board board = Board.square(tiles);
+      return SolvePlanner.solve(lexicon, board, NeighborTable.compile(Adjacencies.SQUARE, board.rows(),
+         board.cols()), 3, strategy);
+   }
+
+
+   /** A test that the MBean is registered and reports every solve, board-driven or word-driven. */
+   @Test public void mbeanTest() throws Exception {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(SolverMetrics.OBJECT_NAME);
+      Assert.assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+
+      BitSet board = solve(SMALL, SolvePlanner.Strategy.BOARD_DRIVEN);
+      Assert.assertEquals(1L, server.getAttribute(name, "SolveCount"));
+      assertTrue((Long) server.getAttribute(name, "LastSolveWordsEmitted") >= board.cardinality());
+
+      BitSet word = solve(SMALL, SolvePlanner.Strategy.WORD_DRIVEN);
+      Assert.assertEquals(board, word);
+      Assert.assertEquals(2L, server.getAttribute(name, "SolveCount"));
+      long[] last = (long[]) server.getAttribute(name, "LastSolve");
+      Assert.assertEquals(lexicon.size(), last[1]);
+      Assert.assertEquals(word.cardinality(), last[3]);
+      assertTrue(last[0] > 0 && last[2] > 0);
+      Assert.assertEquals(2L, Arrays.stream(SolverMetrics.get().getSolveLatencyHistogram()).sum());
+
+      server.invoke(name, "reset", null, null);
+      Assert.assertEquals(0L, server.getAttribute(name, "SolveCount"));
+      Assert.assertEquals(0L, server.getAttribute(name, "LastSolveNodesExpanded"));
+   }
+
+
+   /** A test that a board answered from an already solved board is not counted as a solve. */
+   @Test public void cachedTest() {
+      WordSearch game = new WordSearch();
+      game.useLexicon(lexicon);
+      game.setBoard(LARGE);
+      game.getAllScorableWords(3);
+      game.getAllScorableWords(4);
+      game.getAllScorableWords(3);
+      Assert.assertEquals(1, SolverMetrics.get().getSolveCount());
+      Assert.assertEquals(1, Arrays.stream(SolverMetrics.get().getSolveLatencyHistogram()).sum());
+   }
+
+
+   /** A test that concurrent solves never publish a last solve mixed from two solves. */
+   @Test public void lastSolveTest() throws InterruptedException {
+      solve(SMALL, SolvePlanner.Strategy.BOARD_DRIVEN);
+      long[] small = SolverMetrics.get().getLastSolve();
+      solve(LARGE, SolvePlanner.Strategy.BOARD_DRIVEN);
+      long[] large = SolverMetrics.get().getLastSolve();
+      assertFalse(Arrays.equals(small, large));
+
+      Thread[] solvers = new Thread[2];
+      for (int t = 0; t < solvers.length; t++) {
+         String[] tiles = t == 0 ? SMALL : LARGE;
+         solvers[t] = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+               solve(tiles, SolvePlanner.Strategy.BOARD_DRIVEN);
+            }
+         });
+         solvers[t].start();
+      }
+
+      while (solvers[0].isAlive() || solvers[1].isAlive()) {
+         long[] last = SolverMetrics.get().getLastSolve();
+         assertTrue(Arrays.toString(last), Arrays.equals(last, small) || Arrays.equals(last, large));
+      }
+   }
+
+}
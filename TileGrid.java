@@ -0,0 +1,34 @@
+/**
+ * A read-only R x C grid of tiles in row-major order, as the solver sees it: each cell is a packed
+ * code rather than a String. Board (tile strings plus one byte per cell) and PackedBoard (5 bits per
+ * cell) both implement it, so BoardSolver can search either one directly.
+ *
+ * @version October 19th, 2026
+ */
+interface TileGrid {
+
+    /** The number of rows. */
+    int rows();
+
+    /** The number of columns. */
+    int cols();
+
+    /** The number of cells (rows * cols). */
+    int size();
+
+    /**
+     * The code of a cell: a letter code (see alphabet()), Board.WILDCARD,
+     * Board.MULTI (see sequence()) or Lexicon.NO_LETTER.
+     */
+    int code(int cell);
+
+    /** The letter codes of a Board.MULTI cell (the array must not be modified). */
+    byte[] sequence(int cell);
+
+    /** The upper-cased tile at a cell. */
+    String tile(int cell);
+
+    /** The alphabet whose letter codes code() and sequence() return. */
+    Alphabet alphabet();
+
+}
@@ -0,0 +1,402 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/** Class TraceReplayer drives a recorded workload (see RecordingWordSearch and GameTrace) against a game
+ *  engine and reports throughput, latency percentiles per call and any answers that differ from the ones
+ *  recorded - for capacity planning, and for checking that a new engine gives the same results as the old
+ *  one before swapping it in.
+ *
+ *  Each session of the trace gets a fresh game from the engine and its calls are replayed in order;
+ *  sessions are spread over the threads. At speed 1 every call is issued at its recorded time after the
+ *  start of the replay (speed 2 twice as fast, and so on), so the load has the shape it had in production;
+ *  at speed 0 each thread issues its calls back to back, to find the most the engine can take.
+ *
+ *  Usage: java TraceReplayer [-l lexicon] [-t threads] [-s speed] [-e auto|board|word]... trace
+ *
+ *  Each -e engine replays the whole trace in turn (default auto - see SolvePlanner.Strategy).
+ *
+ *  @version October 19th, 2026
+ */
+
+class TraceReplayer {
+
+   /** The most differing calls listed in a report. */
+   static final int MAX_EXAMPLES = 10;
+
+   private final List<GameTrace.Call> calls;
+
+
+   /** Constructor for TraceReplayer.
+    *
+    *  @param callsIn - The recorded calls (see GameTrace.read()).
+    *  @throws IllegalArgumentException if callsIn is null.
+    */
+   TraceReplayer(List<GameTrace.Call> callsIn) {
+      if (callsIn == null) {
+         throw new IllegalArgumentException("Calls cannot be null");
+      }
+      calls = callsIn;
+   }
+
+
+   /** engine() makes the games of an engine: a WordSearch on a shared lexicon with a solve strategy.
+    *
+    *  @param name - "auto", "board" or "word".
+    *  @param lexicon - The lexicon the games share.
+    *  @throws IllegalArgumentException if the name is not an engine.
+    *  @return engine - a new game per call.
+    */
+   static Supplier<WordSearchGame> engine(String name, Lexicon lexicon) {
+      SolvePlanner.Strategy strategy;
+      if (name.equals("auto")) {
+         strategy = SolvePlanner.Strategy.AUTO;
+      }
+      else if (name.equals("board")) {
+         strategy = SolvePlanner.Strategy.BOARD_DRIVEN;
+      }
+      else if (name.equals("word")) {
+         strategy = SolvePlanner.Strategy.WORD_DRIVEN;
+      }
+      else {
+         throw new IllegalArgumentException("Unknown engine " + name + " (auto, board or word)");
+      }
+      return () -> {
+         WordSearch game = new WordSearch();
+         game.useLexicon(lexicon);
+         game.setSolveStrategy(strategy);
+         return game;
+      };
+   }
+
+
+   /** replay() runs the trace once against an engine.
+    *
+    *  @param engine - Makes one game per session.
+    *  @param threads - The number of threads to replay on (at least 1).
+    *  @param speed - How many times faster than recorded to issue the calls, or 0 for as fast as possible.
+    *  @throws IllegalArgumentException if threads is less than 1 or speed is negative.
+    *  @return report - the throughput, latencies and differences.
+    */
+   Report replay(Supplier<WordSearchGame> engine, int threads, double speed) throws InterruptedException {
+      if (threads < 1 || !(speed >= 0)) {
+         throw new IllegalArgumentException("Threads must be at least 1 and speed at least 0");
+      }
+
+      // deal the sessions out to the threads; each thread issues its calls in the order they started
+      List<List<Integer>> work = new ArrayList<List<Integer>>();
+      for (int t = 0; t < threads; t++) {
+         work.add(new ArrayList<Integer>());
+      }
+      for (int i = 0; i < calls.size(); i++) {
+         work.get(calls.get(i).session % threads).add(i);
+      }
+      for (List<Integer> indexes : work) {
+         indexes.sort((a, b) -> Long.compare(calls.get(a).start, calls.get(b).start));
+      }
+
+      Report report = new Report(calls);
+      ExecutorService pool = Executors.newFixedThreadPool(threads);
+      List<Future<?>> results = new ArrayList<Future<?>>();
+      long origin = System.nanoTime();
+      for (List<Integer> indexes : work) {
+         results.add(pool.submit(() -> replay(indexes, engine, speed, origin, report)));
+      }
+      try {
+         for (Future<?> result : results) {
+            result.get();
+         }
+      }
+      catch (ExecutionException e) {
+         throw new IllegalStateException("Replay failed", e.getCause());
+      }
+      finally {
+         pool.shutdown();
+      }
+      report.nanos = System.nanoTime() - origin;
+      return report;
+   }
+
+
+   /** replay() is one thread's share of a replay. */
+   private void replay(List<Integer> indexes, Supplier<WordSearchGame> engine, double speed, long origin,
+                       Report report) {
+      Map<Integer, Session> sessions = new HashMap<Integer, Session>();
+      for (int index : indexes) {
+         GameTrace.Call call = calls.get(index);
+         if (speed > 0) {
+            long due = origin + (long) (call.start / speed);
+            for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+               LockSupport.parkNanos(wait);
+            }
+         }
+         Session session = sessions.get(call.session);
+         if (session == null) {
+            session = new Session(engine.get());
+            sessions.put(call.session, session);
+         }
+         SortedSet<String> words = call.op == GameTrace.GET_SCORE_FOR_WORDS ? session.words(call) : null;
+
+         long started = System.nanoTime();
+         boolean failed = false;
+         long result = 0;
+         try {
+            result = session.execute(call, words);
+         }
+         catch (RuntimeException e) {
+            failed = true;
+         }
+         report.latencies[index] = System.nanoTime() - started;
+         report.compare(call, failed, result);
+      }
+   }
+
+
+   /** Class Session is one recorded game being replayed: its game, and the words the game last found. */
+   private static final class Session {
+
+      final WordSearchGame game;
+      private SortedSet<String> solved;
+
+      Session(WordSearchGame gameIn) {
+         game = gameIn;
+      }
+
+      /** words() returns the set a getScoreForWords() call scores. A client usually passes back the set
+       *  getAllScorableWords() gave it, which an engine may score faster than any other set with the same
+       *  words (see OrdinalWordSet); so if the call recorded the words last found, the game's own set is
+       *  scored again, and the replay times the same path the recording did. Otherwise a copy is scored.
+       */
+      SortedSet<String> words(GameTrace.Call call) {
+         if (call.words == null) {
+            return null;
+         }
+         if (solved != null && solved.size() == call.words.length) {
+            int i = 0;
+            for (String word : solved) {
+               if (!word.equals(call.words[i])) {
+                  break;
+               }
+               i++;
+            }
+            if (i == call.words.length) {
+               return solved;
+            }
+         }
+         return new TreeSet<String>(Arrays.asList(call.words));
+      }
+
+      /** execute() makes one recorded call on the game.
+       *
+       *  @param call - The call.
+       *  @param words - The set to score, for a getScoreForWords() call (see words()).
+       *  @return result - the digest of what the call returned, as RecordingWordSearch records it.
+       */
+      long execute(GameTrace.Call call, SortedSet<String> words) {
+         switch (call.op) {
+            case GameTrace.SET_BOARD:
+               solved = null;
+               game.setBoard(call.tiles);
+               return 0;
+            case GameTrace.SET_BOARD_RECTANGLE:
+               solved = null;
+               game.setBoard(call.tiles, call.rows, call.cols);
+               return 0;
+            case GameTrace.GET_ALL_SCORABLE_WORDS:
+               solved = game.getAllScorableWords(call.minimumWordLength);
+               return GameTrace.digest(solved);
+            case GameTrace.IS_ON_BOARD:
+               return game.isOnBoard(call.word).size();
+            case GameTrace.IS_VALID_WORD:
+               return game.isValidWord(call.word) ? 1 : 0;
+            case GameTrace.GET_SCORE_FOR_WORDS:
+               return game.getScoreForWords(words, call.minimumWordLength);
+            default:
+               throw new IllegalArgumentException("Unknown op " + call.op);
+         }
+      }
+   }
+
+
+   /** Class Report is the outcome of one replay. */
+   static final class Report {
+
+      private final List<GameTrace.Call> calls;
+
+      /** latencies[i] is the replayed latency of call i, in nanoseconds. */
+      private final long[] latencies;
+
+      private final AtomicLong diffs = new AtomicLong();
+      private final List<String> examples = Collections.synchronizedList(new ArrayList<String>());
+      private long nanos;
+
+      Report(List<GameTrace.Call> callsIn) {
+         calls = callsIn;
+         latencies = new long[callsIn.size()];
+      }
+
+      /** compare() checks a replayed call against the recording. */
+      private void compare(GameTrace.Call call, boolean failed, long result) {
+         if (failed == call.failed && (failed || result == call.result)) {
+            return;
+         }
+         diffs.incrementAndGet();
+         if (examples.size() < MAX_EXAMPLES) {
+            examples.add(String.format("session %d %s(%s): recorded %s, replayed %s", call.session,
+               call.opName(), argument(call), outcome(call.op, call.failed, call.result),
+               outcome(call.op, failed, result)));
+         }
+      }
+
+      /** argument() describes the main argument of a call. */
+      private static String argument(GameTrace.Call call) {
+         switch (call.op) {
+            case GameTrace.IS_ON_BOARD:
+            case GameTrace.IS_VALID_WORD:
+               return call.word;
+            case GameTrace.GET_ALL_SCORABLE_WORDS:
+               return String.valueOf(call.minimumWordLength);
+            case GameTrace.GET_SCORE_FOR_WORDS:
+               return (call.words == null ? "null" : call.words.length + " words") + ", " + call.minimumWordLength;
+            default:
+               return call.tiles == null ? "null" : call.tiles.length + " tiles";
+         }
+      }
+
+      /** outcome() describes the result of a call. */
+      private static String outcome(int op, boolean failed, long result) {
+         if (failed) {
+            return "an exception";
+         }
+         if (op == GameTrace.GET_ALL_SCORABLE_WORDS) {
+            return String.format("%d words (%012x)", result >>> 48, result & 0xFFFFFFFFFFFFL);
+         }
+         return String.valueOf(result);
+      }
+
+      /** calls() returns the number of calls replayed. */
+      int calls() {
+         return latencies.length;
+      }
+
+      /** diffs() returns the number of calls whose result differed from the recording. */
+      long diffs() {
+         return diffs.get();
+      }
+
+      /** examples() returns descriptions of the first differing calls (at most MAX_EXAMPLES). */
+      List<String> examples() {
+         return new ArrayList<String>(examples);
+      }
+
+      /** seconds() returns how long the replay took. */
+      double seconds() {
+         return nanos / 1e9;
+      }
+
+      /** latencies() returns the sorted replayed latencies of one op, or of every call for op 0. */
+      long[] latencies(int op) {
+         return sorted(op, true);
+      }
+
+      /** recordedLatencies() returns the sorted recorded latencies of one op, or of every call for op 0. */
+      long[] recordedLatencies(int op) {
+         return sorted(op, false);
+      }
+
+      private long[] sorted(int op, boolean replayed) {
+         long[] values = new long[latencies.length];
+         int count = 0;
+         for (int i = 0; i < latencies.length; i++) {
+            GameTrace.Call call = calls.get(i);
+            if (op == 0 || call.op == op || (op == GameTrace.SET_BOARD && call.op == GameTrace.SET_BOARD_RECTANGLE)) {
+               values[count++] = replayed ? latencies[i] : call.duration;
+            }
+         }
+         values = Arrays.copyOf(values, count);
+         Arrays.sort(values);
+         return values;
+      }
+
+      /** print() writes the report: throughput, then latency percentiles per call (recorded and replayed,
+       *  in microseconds), then the differences. */
+      void print(PrintStream out) {
+         out.printf("%d calls in %.2f s (%.0f calls/second), %d differ from the recording%n", calls(), seconds(),
+            calls() / Math.max(seconds(), 1e-9), diffs());
+         out.printf("%-32s %9s %10s %10s %10s %10s %10s%n", "call", "count", "p50 us", "p90 us", "p99 us",
+            "p99.9 us", "max us");
+         for (int op = 0; op < GameTrace.OPS; op++) {
+            if (op == GameTrace.SET_BOARD_RECTANGLE) {
+               continue;
+            }
+            long[] replayed = latencies(op);
+            if (replayed.length == 0) {
+               continue;
+            }
+            String name = op == 0 ? "all" : GameTrace.opName(op);
+            row(out, name + " (recorded)", recordedLatencies(op));
+            row(out, name, replayed);
+         }
+         for (String example : examples()) {
+            out.println("  " + example);
+         }
+      }
+
+      private static void row(PrintStream out, String name, long[] sorted) {
+         out.printf("%-32s %9d %10.1f %10.1f %10.1f %10.1f %10.1f%n", name, sorted.length,
+            LoadGenerator.percentile(sorted, 50) / 1e3, LoadGenerator.percentile(sorted, 90) / 1e3,
+            LoadGenerator.percentile(sorted, 99) / 1e3, LoadGenerator.percentile(sorted, 99.9) / 1e3,
+            LoadGenerator.percentile(sorted, 100) / 1e3);
+      }
+   }
+
+
+   public static void main(String[] args) throws IOException, InterruptedException {
+
+      String lexiconFile = "words_medium.txt";
+      String traceFile = null;
+      int threads = Runtime.getRuntime().availableProcessors();
+      double speed = 1.0;
+      List<String> engines = new ArrayList<String>();
+
+      for (int i = 0; i < args.length; i++) {
+         if (args[i].equals("-l") && i + 1 < args.length) {
+            lexiconFile = args[++i];
+         }
+         else if (args[i].equals("-t") && i + 1 < args.length) {
+            threads = Integer.parseInt(args[++i]);
+         }
+         else if (args[i].equals("-s") && i + 1 < args.length) {
+            String value = args[++i];
+            speed = value.equals("max") ? 0 : Double.parseDouble(value);
+         }
+         else if (args[i].equals("-e") && i + 1 < args.length) {
+            engines.add(args[++i]);
+         }
+         else {
+            traceFile = args[i];
+         }
+      }
+      if (traceFile == null) {
+         System.err.println("Usage: java TraceReplayer [-l lexicon] [-t threads] [-s speed|max] "
+            + "[-e auto|board|word]... trace");
+         System.exit(2);
+      }
+      if (engines.isEmpty()) {
+         engines.add("auto");
+      }
+
+      TraceReplayer replayer = new TraceReplayer(GameTrace.read(traceFile));
+      Lexicon lexicon = Lexicon.load(lexiconFile);
+      for (String name : engines) {
+         System.out.printf("%nEngine %s, %d threads, %s%n", name, threads,
+            speed == 0 ? "maximum speed" : speed + "x recorded speed");
+         replayer.replay(engine(name, lexicon), threads, speed).print(System.out);
+      }
+   }
+
+}
@@ -0,0 +1,164 @@
+import java.util.BitSet;
+
+/** Class WordDrivenSolver finds the words on a board the other way around from BoardSolver: instead of
+ *  walking every path on the board, it takes each lexicon word in turn and looks for one path that spells
+ *  it. The board is indexed once - which letters it has at all, and which cells each letter can start a
+ *  word from - so most words are rejected without touching the board, and the rest are searched from
+ *  their possible first cells only. That beats the board-driven search for a small lexicon (e.g. a themed
+ *  list of a few dozen words) on a large board, and loses badly for a full dictionary on a small one;
+ *  SolvePlanner decides which to use.
+ *
+ *  A solver is not thread-safe, but it is cheap to create; use one per thread.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class WordDrivenSolver implements GridSolver {
+
+   private final Lexicon lexicon;
+   private final BoardSolver paths;
+
+   /** One bit per letter code that appears anywhere on the board. */
+   private final long boardLetters;
+
+   /** True if the board has a wildcard, which can stand for a missing letter. */
+   private final boolean hasWildcard;
+
+   /** starts[c] holds the cells whose tile can begin a word starting with letter code c. */
+   private final int[][] starts;
+
+
+   /** Constructor for WordDrivenSolver.
+    *
+    *  @param lexiconIn - The lexicon to search against.
+    *  @param boardIn - The board to search.
+    *  @param neighborsIn - The neighbor table compiled for this board's size.
+    *  @throws IllegalArgumentException if the table was compiled for a different number of cells.
+    */
+   WordDrivenSolver(Lexicon lexiconIn, TileGrid boardIn, NeighborTable neighborsIn) {
+      lexicon = lexiconIn;
+      paths = new BoardSolver(lexiconIn, boardIn, neighborsIn);
+      boardIn = Board.inAlphabet(boardIn, lexiconIn.alphabet());
+
+      // which letters the board has at all
+      long letters = 0L;
+      boolean wildcard = false;
+      for (int cell = 0; cell < boardIn.size(); cell++) {
+         int code = boardIn.code(cell);
+         if (code == Board.WILDCARD) {
+            wildcard = true;
+         }
+         else if (code >= 0) {
+            letters |= 1L << code;
+         }
+         else if (code == Board.MULTI) {
+            for (byte letter : boardIn.sequence(cell)) {
+               letters |= 1L << letter;
+            }
+         }
+      }
+      boardLetters = letters;
+      hasWildcard = wildcard;
+      starts = startsByLetter(boardIn);
+   }
+
+
+   /** startsByLetter() buckets the cells of a board by the first letter of their tile.
+    *
+    *  @param board - The board.
+    *  @return starts - starts[c] holds, for each letter code c of the board's alphabet, the cells whose tile
+    *     can begin a word at letter code c (a wildcard is in every bucket), in cell order.
+    */
+   static int[][] startsByLetter(TileGrid board) {
+      // two passes: count, then fill
+      int[] counts = new int[board.alphabet().size()];
+      int wildcards = 0;
+      for (int cell = 0; cell < board.size(); cell++) {
+         int code = board.code(cell);
+         if (code == Board.WILDCARD) {
+            wildcards++;
+         }
+         else if (code >= 0) {
+            counts[code]++;
+         }
+         else if (code == Board.MULTI) {
+            counts[board.sequence(cell)[0]]++;
+         }
+      }
+
+      int[][] starts = new int[counts.length][];
+      for (int code = 0; code < starts.length; code++) {
+         starts[code] = new int[counts[code] + wildcards];
+         counts[code] = 0;
+      }
+      for (int cell = 0; cell < board.size(); cell++) {
+         int code = board.code(cell);
+         if (code == Board.WILDCARD) {
+            for (int letter = 0; letter < starts.length; letter++) {
+               starts[letter][counts[letter]] = cell;
+               counts[letter]++;
+            }
+         }
+         else if (code >= 0 || code == Board.MULTI) {
+            int first = code >= 0 ? code : board.sequence(cell)[0];
+            starts[first][counts[first]] = cell;
+            counts[first]++;
+         }
+      }
+      return starts;
+   }
+
+
+   /** solve() finds every lexicon word of at least minimumWordLength characters on the board.
+    *
+    *  @param minimumWordLength - The minimum number of characters per word.
+    *  @return found - a set of the ordinals of all words found on the board.
+    */
+   @Override
+   public BitSet solve(int minimumWordLength) {
+      long started = SolverMetrics.startTimer();
+      BitSet found = new BitSet();
+
+      // counted in locals, as in BoardSolver: a word looked for is a node expanded, a word ruled out by its
+      // length or letters a lookup rejected
+      long searched = 0;
+      long rejects = 0;
+      int longest = 0;
+      for (int ordinal = 0; ordinal < lexicon.size(); ordinal++) {
+         String word = lexicon.word(ordinal);
+         if (word.length() < minimumWordLength || !lettersOnBoard(word)) {
+            rejects++;
+            continue;
+         }
+         int[] cells = starts[lexicon.alphabet().code(word.charAt(0))];
+         if (cells.length > 0) {
+            searched++;
+            longest = Math.max(longest, word.length());
+            if (paths.findPath(word, cells) != null) {
+               found.set(ordinal);
+            }
+         }
+      }
+
+      if (SolverMetrics.isActive()) {
+         SolverMetrics.get().recordSolve(started, searched, lexicon.size(), rejects, found.cardinality(), longest);
+      }
+      return found;
+   }
+
+
+   /** lettersOnBoard() returns false if the word has a letter that appears nowhere on the board. */
+   private boolean lettersOnBoard(String word) {
+      if (hasWildcard) {
+         return true;
+      }
+      Alphabet alphabet = lexicon.alphabet();
+      for (int i = 0; i < word.length(); i++) {
+         if ((boardLetters & (1L << alphabet.code(word.charAt(i)))) == 0) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+}
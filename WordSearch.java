@@ -1,46 +1,58 @@
 import java.util.*;
-import java.io.*;
 
 /** Class WordSearch is the logic of a word search game, given a board of letters to make English
- *  words out of. This program uses recursive backtracking paired with both breadth-first and 
- *  depth-first search algorithms to find all possible words on the board. Other features include
- *  a custom node positioning system, the ability to search for a specific word, and scoring all
- *  found words.
+ *  words out of. Words are found with an iterative depth-first search (see BoardSolver) that walks
+ *  the board and a trie of the lexicon side by side, pruning every path that is not the prefix of a
+ *  word. Boards may be any R x C size; other features include the ability to search for a specific
+ *  word, and scoring all found words.
  *  
  *  @author Lyndsey Rice for Dean Hendrix of Auburn University (some structure provided by Dr Hendrix)
- *  @version Last updated: July 10th, 2022
+ *  @version Last updated: October 19th, 2026
  *
  */
 
 public class WordSearch implements WordSearchGame {
    
-   /** The lexicon is the collection of valid English words, stored in a TreeSet for efficient access. */
-   private TreeSet<String> lexicon;
+   /** The lexicon is the collection of valid English words, stored in a packed trie for efficient access. */
+   private Lexicon lexicon;
    
-   /** Double-layer string array "board" is the grid representation of the current word search board. */
-   private String[][] board;
+   /** When several word lists are loaded, they are merged here (and lexicon is their union). */
+   private MultiLexicon lexicons;
    
-   /** N is the integer representation of the size of the board. */
-   private int N;
+   /** The current word search board (R x C grid of tiles). */
+   private Board board;
    
-   /** SortedSet of type String "words" will contain all the possible words on the current board. */ 
-   private SortedSet<String> words;
+   /** The topology of the board - which cells a path may step to next. */
+   private Adjacency adjacency = Adjacencies.SQUARE;
+   
+   /** The adjacency compiled for the current board, rebuilt whenever the board or adjacency changes. */
+   private NeighborTable neighbors;
+   
+   /** Whether getAllScorableWords() walks the board or the lexicon (AUTO lets SolvePlanner choose). */
+   private SolvePlanner.Strategy strategy = SolvePlanner.defaultStrategy();
+   
+   /** Every word on the current board (solved at minimum length 1, so any minimum is a view of it), or
+    *  null until getAllScorableWords() is next called. */
+   private OrdinalWordSet words;
+   
+   /** How words are scored (one point per character unless setScoringRules() says otherwise). */
+   private ScoringRules scoringRules = ScoringRules.LENGTH;
+   
+   /** Every lexicon word's points under scoringRules, compiled whenever the lexicon or rules change. */
+   private ScoreTable scores;
+   
+   /** The premium cells of the current board, or null if it has none. */
+   private CellMultipliers multipliers;
+   
+   /** The lexicon's words by their letters, or null until getAnagrams() or getWordsFromLetters() is next
+    *  called. */
+   private AnagramIndex anagrams;
    
    /** Constructor method will load the default board to make the game immediately playable. **/
    public WordSearch() {
-      
-      N = 4;
-      board = new String[N][N]; // board is an N by N grid
       String[] charArr = {"E", "E", "C", "A", "A", "L", "E", "P", "H", "N", "B", "O", "Q", "T", "T", "Y"};
-      
-      // populate board values with the values of the char array above
-      int k = 0;
-      for (int i = 0; i < N; i++) {
-         for (int j = 0; j < N; j++) {
-            board[i][j] = charArr[k];
-            k++;
-         }
-      }   
+      board = new Board(charArr, 4, 4);
+      neighbors = NeighborTable.compile(adjacency, 4, 4);
    }
    
    
@@ -52,27 +64,75 @@ public class WordSearch implements WordSearchGame {
      * @throws IllegalArgumentException if fileName cannot be opened.
      */
    public void loadLexicon(String fileName) {
-      
-      if (fileName == null) {
-         throw new IllegalArgumentException("fileName must not be null");
-      } 
-      
-      // try: attempt to load file into TreeSet lexicon // catch: if file is not found
-      try {
-         File lexFile = new File(fileName);
-         Scanner scan = new Scanner(lexFile);
-         
-         lexicon = new TreeSet<String>();
-         
-         while (scan.hasNext()) {
-            lexicon.add(scan.next().toUpperCase()); // add all as upper case to help with comparisons later
-         }
-         
-         scan.close();
-      } 
-      catch (FileNotFoundException e) {
-         throw new IllegalArgumentException("The file could not be found");
-      } 
+      long started = SolverMetrics.startTimer();
+      lexicon = Lexicon.load(fileName);
+      lexicons = null;
+      words = null;
+      anagrams = null;
+      scores = scoringRules.compile(lexicon);
+      board = board.withAlphabet(lexicon.alphabet());
+      SolverMetrics.get().loadLexiconTimer(started);
+   }
+   
+   
+   /** loadLexicon() loads a word list in another language. Words, tiles and guesses are folded into its
+    *  alphabet (see Alphabet.fold()), and the board is re-encoded in it.
+    *
+    *  @param fileName - A string containing the name of the file to be opened (UTF-8).
+    *  @param alphabet - The language's alphabet, e.g. Alphabet.TURKISH.
+    *  @throws IllegalArgumentException if fileName or alphabet is null, or the file cannot be opened.
+    */
+   void loadLexicon(String fileName, Alphabet alphabet) {
+      long started = SolverMetrics.startTimer();
+      useLexicon(Lexicon.load(fileName, alphabet));
+      SolverMetrics.get().loadLexiconTimer(started);
+   }
+   
+   
+   /** useLexicon() plays with an already loaded lexicon instead of reading a file.
+    *
+    *  @param lexiconIn - The lexicon to use.
+    *  @throws IllegalArgumentException if lexiconIn is null.
+    */
+   void useLexicon(Lexicon lexiconIn) {
+      if (lexiconIn == null) {
+         throw new IllegalArgumentException("Lexicon cannot be null");
+      }
+      lexicon = lexiconIn;
+      lexicons = null;
+      words = null;
+      anagrams = null;
+      scores = scoringRules.compile(lexicon);
+      board = board.withAlphabet(lexicon.alphabet());
+   }
+   
+   
+   /** loadLexicons() loads several word lists at once, merged into one trie where each word remembers
+    *  which lists contain it. Afterwards the game plays with the union of the lists, and
+    *  getAllScorableWordsByLexicon() splits a single search's results by list.
+    *
+    *  @param fileNames - The word list files, at most MultiLexicon.MAX_LEXICONS.
+    *  @throws IllegalArgumentException if fileNames is null or empty, or a file cannot be opened.
+    */
+   public void loadLexicons(String... fileNames) {
+      loadLexicons(Alphabet.ENGLISH, fileNames);
+   }
+   
+   
+   /** loadLexicons() loads several word lists in another language, as loadLexicons(fileNames) does.
+    *
+    *  @param alphabet - The language's alphabet, e.g. Alphabet.GERMAN.
+    *  @param fileNames - The word list files (UTF-8), at most MultiLexicon.MAX_LEXICONS.
+    *  @throws IllegalArgumentException if alphabet or fileNames is null or empty, or a file cannot be
+    *     opened.
+    */
+   void loadLexicons(Alphabet alphabet, String... fileNames) {
+      lexicons = MultiLexicon.load(alphabet, fileNames);
+      lexicon = lexicons.merged();
+      words = null;
+      anagrams = null;
+      scores = scoringRules.compile(lexicon);
+      board = board.withAlphabet(lexicon.alphabet());
    }
    
    
@@ -89,30 +149,114 @@ public class WordSearch implements WordSearchGame {
      *     square.
      */
    public void setBoard(String[] letterArray) {
-      
-      if (letterArray == null) {
-         throw new IllegalArgumentException("LetterArray cannot be null");
-      } 
-      
-      // check if letterArray's length is a perfect square by calculating sq root then checking if it's an integer
-      double sqLA = Math.sqrt(letterArray.length);
-      int rounded = (int) Math.floor(sqLA); // round to nearest int and see if it's equal to sqLA
-      if (sqLA != rounded) {
-         throw new IllegalArgumentException("LetterArray must be a square array");   
+      board = Board.square(letterArray, alphabet());
+      neighbors = NeighborTable.compile(adjacency, board.rows(), board.cols());
+      words = null;
+      multipliers = null;
+   }
+   
+   
+   /**
+     * Stores the incoming array of Strings as a rectangular board.
+     * 
+     * @param letterArray This array of length rows * cols stores the contents of the
+     *     game board in row-major order.
+     * @param rows The number of rows on the board.
+     * @param cols The number of columns on the board.
+     * @throws IllegalArgumentException if letterArray is null, or does not hold
+     *     exactly rows * cols tiles.
+     */
+   public void setBoard(String[] letterArray, int rows, int cols) {
+      board = new Board(letterArray, rows, cols, alphabet());
+      neighbors = NeighborTable.compile(adjacency, rows, cols);
+      words = null;
+      multipliers = null;
+   }
+   
+   
+   /** alphabet() returns the alphabet boards are encoded in: the lexicon's, or English before one is
+    *  loaded. */
+   private Alphabet alphabet() {
+      return lexicon == null ? Alphabet.ENGLISH : lexicon.alphabet();
+   }
+   
+   
+   /** setAdjacency() changes the board topology (see Adjacencies for the built-in variants). The
+    *  topology is compiled into a neighbor table right away, so searching costs the same for all of them.
+    *
+    *  @param adjacencyIn - The new topology.
+    *  @throws IllegalArgumentException if adjacencyIn is null.
+    */
+   public void setAdjacency(Adjacency adjacencyIn) {
+      neighbors = NeighborTable.compile(adjacencyIn, board.rows(), board.cols());
+      adjacency = adjacencyIn;
+      words = null;
+   }
+   
+   
+   /** getAdjacency() returns the current board topology.
+    *
+    *  @return adjacency - the topology in use.
+    */
+   public Adjacency getAdjacency() {
+      return adjacency;
+   }
+   
+   
+   /** setSolveStrategy() overrides how getAllScorableWords() searches (see SolvePlanner). Either way
+    *  finds the same words; only the speed differs.
+    *
+    *  @param strategyIn - BOARD_DRIVEN, WORD_DRIVEN, or AUTO to let the planner choose per board.
+    *  @throws IllegalArgumentException if strategyIn is null.
+    */
+   void setSolveStrategy(SolvePlanner.Strategy strategyIn) {
+      if (strategyIn == null) {
+         throw new IllegalArgumentException("Strategy cannot be null");
       }
-      
-      // set the board and size N
-      board = new String[rounded][rounded];
-      N = rounded;
-      
-      // populate board values
-      int k = 0;
-      for (int i = 0; i < rounded; i++) {
-         for (int j = 0; j < rounded; j++) {
-            board[i][j] = letterArray[k].toUpperCase();
-            k++;
-         }
-      }     
+      strategy = strategyIn;
+      words = null;
+   }
+   
+   
+   /** getSolveStrategy() returns the strategy getAllScorableWords() uses. */
+   SolvePlanner.Strategy getSolveStrategy() {
+      return strategy;
+   }
+   
+   
+   /** setScoringRules() changes how getScoreForWords() scores words (see ScoringRules). Every lexicon
+    *  word's points are compiled into a table right away, so scoring stays one lookup per word.
+    *
+    *  @param rules - The new rules (ScoringRules.LENGTH for the original one point per character).
+    *  @throws IllegalArgumentException if rules is null.
+    */
+   void setScoringRules(ScoringRules rules) {
+      if (rules == null) {
+         throw new IllegalArgumentException("Scoring rules cannot be null");
+      }
+      scoringRules = rules;
+      scores = lexicon == null ? null : rules.compile(lexicon);
+   }
+   
+   
+   /** getScoringRules() returns the rules getScoreForWords() uses. */
+   ScoringRules getScoringRules() {
+      return scoringRules;
+   }
+   
+   
+   /** setCellMultipliers() gives the current board premium cells; setBoard() clears them again. A word
+    *  is scored along its best path: of all the paths spelling it, the one on which it scores the most (see
+    *  PathScorer), whichever path the player traced.
+    *
+    *  @param multipliersIn - The premium cells, or null for none.
+    *  @throws IllegalArgumentException if multipliersIn is not the size of the board.
+    */
+   void setCellMultipliers(CellMultipliers multipliersIn) {
+      if (multipliersIn != null && multipliersIn.size() != board.size()) {
+         throw new IllegalArgumentException("Multipliers must cover the " + board.size() + " cells of the board");
+      }
+      multipliers = multipliersIn;
    }
    
    
@@ -124,16 +268,7 @@ public class WordSearch implements WordSearchGame {
      * @return output - a formatted representation of the current board
      */
    public String getBoard() {
-      // print by row
-      int N = (int) Math.sqrt(board.length);
-      String output = "";
-      for (int i = 0; i < board.length; i++) {
-         if (i % N == 0) {
-            output += "\n";
-         }
-         output += board[i] + " ";
-      }  
-      return output;
+      return board.toString();
    }
    
    
@@ -144,7 +279,8 @@ public class WordSearch implements WordSearchGame {
      * @param minimumWordLength The minimum allowed length (i.e., number of
      *     characters) for any word found on the board.
      * @return java.util.SortedSet which contains all the words of minimum length
-     *     found on the game board and in the lexicon.
+     *     found on the game board and in the lexicon (an immutable view, see
+     *     OrdinalWordSet).
      * @throws IllegalArgumentException if minimumWordLength is less than 1.
      * @throws IllegalStateException if loadLexicon has not been called.
      */
@@ -158,117 +294,129 @@ public class WordSearch implements WordSearchGame {
          throw new IllegalStateException("loadLexicon() must be called first");
       }
       
-      // Set words of type SortedSet<String> to a TreeSet<String> for efficiency and ease of access.
-      words = new TreeSet<String>();
-      
-      // linked list of strings below will store strings at locations around the board
-      // after each additional string is added, it will check if the word is a valid word and meets min length
-      // if so, it will be added to "words". if valid prefix, use semi-recursive technique to search for words 
-      // using prefix.
-      LinkedList<Integer> current = new LinkedList<Integer>();
-      String currentWord = turnIntoWord(current).toUpperCase();
-      int k = 0;
-      for (int i = 0; i < (N * N); i++) {
-        current.add(i);
-        // update currentWord
-        currentWord = turnIntoWord(current).toUpperCase();
-            
-        if (isValidWord(currentWord) && currentWord.length() >= minimumWordLength) {
-           words.add(currentWord.toUpperCase());
-        }
-            
-        else if (isValidPrefix(currentWord)) {
-           searchBoardPrefix(current, minimumWordLength);
-        }    
-        
-      }
-      
-      // Run another check over each word to catch bad apples (special thanks to Dean Hendrix for suggestion
-      // to finalize "words").
-      for (String word : words) {
-         if (isValidWord(word) == false) {
-            words.remove(word);
-         }
+      // the board is solved once for every word length; each minimum length is then a view of the result
+      // (the solver hands back word ordinals, and the strings come straight from the lexicon)
+      if (words == null) {
+         words = OrdinalWordSet.of(lexicon, SolvePlanner.solve(lexicon, board, neighbors, 1, strategy));
       }
       
-      return words;
+      return words.withMinimumLength(minimumWordLength);
     }
     
     
-    /** A second version of searchBoard, to use for a given prefix (because there's no specific position 
-     *  like there is for the original searchBoard). 
+    /** getAllScorableWordsByLexicon() finds the scorable words of every loaded word list with a single
+     *  search of the board.
      *
-     *  @param intList - A linked list of integers representing the prefix to search for.
-     *  @param minLength - The minimum length of the prefix. Must be greater than or equal to 1.
-     *  @throws IllegalArgumentException if minLength is less than 1.
-     *  @return intList - The list of integers after searching is complete.
+     *  @param minimumWordLength The minimum allowed length (i.e., number of
+     *     characters) for any word found on the board.
+     *  @return results - one sorted set per word list, in the order the lists were loaded (a single
+     *     set if loadLexicon was used instead of loadLexicons).
+     *  @throws IllegalArgumentException if minimumWordLength is less than 1.
+     *  @throws IllegalStateException if no lexicon has been loaded.
      */
-    private LinkedList<Integer> searchBoardPrefix(LinkedList<Integer> intList, int minLength) {
-    
-      if (minLength < 1) {
-         throw new IllegalArgumentException();
+    public List<SortedSet<String>> getAllScorableWordsByLexicon(int minimumWordLength) {
+      
+      if (minimumWordLength < 1) {
+         throw new IllegalArgumentException("Word length must be at least 1");
       }
       
-      // basically, do what is done in searchBoard method but change to test for prefix instead of whole words
+      if (lexicon == null) {
+         throw new IllegalStateException("loadLexicon() must be called first");
+      }
       
-      // start with array of neighbors that contains all the neighbors of the latest int/position in intList
-      int lastInt = intList.getLast();
-      Position lastPosition = new Position(lastInt);
-      Position[] neighbors = lastPosition.findNeighbors(intList);
+      if (lexicons == null) {
+         return Collections.singletonList(getAllScorableWords(minimumWordLength));
+      }
       
-      // now iterate through all the neighbors and try to find valid ones
-      for (Position curr : neighbors) {
-         if (curr == null) {
-            break; // this means we've reached the end or we just don't have neighbors
-         }
-         
-         // add the index of curr to the visited list - intList
-         intList.add(curr.i);
-         String currentWord = turnIntoWord(intList);
-         
-         // now test if it's a valid prefix first, then check if it's a valid word and meets minLength
-         if (isValidPrefix(currentWord)) {
-            if (isValidWord(currentWord) && currentWord.length() >= minLength) {
-               words.add(currentWord);
-            } 
-            // to continue finding all words with this prefix, use recursion to run this method again
-            searchBoardPrefix(intList, minLength);   
-         } else {
-            // if it's not a valid prefix, then remove that index from intList (backtrack)
-            intList.removeLast();
-         }   
+      return lexicons.solve(board, neighbors, minimumWordLength);
+    }
+    
+    
+    /** getPathCount() counts the different paths on the board that spell a word. A word with a single
+     *  path is well hidden; one with many is hard to miss.
+     *
+     *  @param wordToCheck The word to count.
+     *  @return paths - the number of paths (0 if the word is not on the board).
+     *  @throws IllegalArgumentException if wordToCheck is null.
+     *  @throws IllegalStateException if loadLexicon has not been called.
+     */
+    public long getPathCount(String wordToCheck) {
+      
+      if (wordToCheck == null) {
+         throw new IllegalArgumentException("wordToCheck cannot be null");
       }
       
-      // after for loop finishes, remove the latest int from intList because we need to keep a correct record
-      intList.removeLast();
+      if (lexicon == null) {
+         throw new IllegalStateException("loadLexicon() must be called first");
+      }
       
-      return intList;
+      return new PathCounter(board, neighbors).count(lexicon.alphabet().fold(wordToCheck));
     }
     
     
-    /** Method to turn a linkedList of integers into one string representing the word.
-     *  
-     *  @param intList - a linked list of integers that represent a word together.
-     *  @return result - the result of turning the integers into a word. 
+    /** getPathCounts() counts the paths of every scorable word on the board in one pass, with each word's
+     *  difficulty and the board's (see PathCounter).
+     *
+     *  @param minimumWordLength The minimum number of characters per word.
+     *  @return counts - the paths and difficulty of each word of getAllScorableWords(minimumWordLength).
+     *  @throws IllegalArgumentException if minimumWordLength is less than 1.
+     *  @throws IllegalStateException if loadLexicon has not been called.
      */
-    private String turnIntoWord(LinkedList<Integer> intList) {
-      
-      String result = "";
+    PathCounter.Counts getPathCounts(int minimumWordLength) {
+      return new PathCounter(board, neighbors).countAll(getAllScorableWords(minimumWordLength));
+    }
+    
+    
+    /** getAnagrams() finds the lexicon words that use exactly the letters given, in any order.
+     *
+     *  @param letters - The letters, in either case; '?' stands for any letter.
+     *  @return words - the anagrams, sorted.
+     *  @throws IllegalArgumentException if letters is null or has a character that is not a letter or '?'.
+     *  @throws IllegalStateException if no lexicon has been loaded.
+     */
+    public SortedSet<String> getAnagrams(String letters) {
+      return anagramIndex().anagrams(letters);
+    }
+    
+    
+    /** getWordsFromLetters() finds the lexicon words that can be made from some of the letters given,
+     *  like the words playable from a rack of tiles.
+     *
+     *  @param letters - The letters, in either case; each can be used once, and '?' stands for any letter.
+     *  @param minimumWordLength The minimum number of characters per word.
+     *  @return words - the words, sorted.
+     *  @throws IllegalArgumentException if letters is null or has a character that is not a letter or '?',
+     *     or if minimumWordLength is less than 1.
+     *  @throws IllegalStateException if no lexicon has been loaded.
+     */
+    public SortedSet<String> getWordsFromLetters(String letters, int minimumWordLength) {
       
-      for (int pos : intList) {
-         Position tempPos = new Position(pos);
-         String currString = tempPos.current;
-         result += currString;
+      if (minimumWordLength < 1) {
+         throw new IllegalArgumentException("Word length must be at least 1");
       }
       
-      return result;
+      return anagramIndex().subwords(letters, minimumWordLength);
+    }
+    
+    
+    /** anagramIndex() indexes the lexicon by letters the first time it is needed (most games never are,
+     *  so loadLexicon() does not pay for it).
+     */
+    private AnagramIndex anagramIndex() {
+      if (lexicon == null) {
+         throw new IllegalStateException("loadLexicon() must be called first");
+      }
+      if (anagrams == null) {
+         anagrams = AnagramIndex.build(lexicon);
+      }
+      return anagrams;
     }
     
     
     /**
      * Determines if the given word is in the lexicon.
      * 
-     * @param wordToCheck The word to validate
+     * @param wordToCheck The word to validate (in any case; it is folded into the lexicon's alphabet)
      * @return true if wordToCheck appears in lexicon, false otherwise.
      * @throws IllegalArgumentException if wordToCheck is null.
      * @throws IllegalStateException if loadLexicon has not been called.
@@ -283,11 +431,7 @@ public class WordSearch implements WordSearchGame {
          throw new IllegalArgumentException("wordToCheck cannot be null");
       }
       
-      if (lexicon.contains(wordToCheck)) {
-         return true;
-      }
-            
-      return false;
+      return lexicon.contains(lexicon.alphabet().fold(wordToCheck));
    }
    
    
@@ -295,7 +439,7 @@ public class WordSearch implements WordSearchGame {
      * Determines if there is at least one word in the lexicon with the 
      * given prefix.
      * 
-     * @param prefixToCheck The prefix to validate
+     * @param prefixToCheck The prefix to validate (in any case; it is folded into the lexicon's alphabet)
      * @return true if prefixToCheck appears in lexicon, false otherwise.
      * @throws IllegalArgumentException if prefixToCheck is null.
      * @throws IllegalStateException if loadLexicon has not been called.
@@ -310,29 +454,7 @@ public class WordSearch implements WordSearchGame {
          throw new IllegalStateException("lexicon must be loaded first");
       }
       
-      // since using a TreeSet, use the ceiling() method to see if there's an element that has the prefix
-      String check = lexicon.ceiling(prefixToCheck);
-      if (check != null) {
-         // iterate through each character and see if check starts with the prefix given
-         boolean tfTest = false;
-         for (int i = 0; i < prefixToCheck.length(); i++) {
-            if (check.charAt(i) == prefixToCheck.charAt(i)) {
-               tfTest = true;
-            } else {
-               tfTest = false;
-               break;
-            }
-         }
-         
-         // assuming tfTest is true, then return true (there is at least one word with given prefix)
-         if (tfTest == true) {
-            return true;
-         }
-         
-         return false;    
-      }
-      
-      return false;
+      return lexicon.isPrefix(lexicon.alphabet().fold(prefixToCheck));
     }
 
    
@@ -341,9 +463,10 @@ public class WordSearch implements WordSearchGame {
     * To be scorable, a word must (1) have at least the minimum number of characters,
     * (2) be in the lexicon, and (3) be on the board. Each scorable word is
     * awarded one point for the minimum number of characters, and one point for 
-    * each character beyond the minimum number.
+    * each character beyond the minimum number (unless setScoringRules() and
+    * setCellMultipliers() say otherwise).
     *
-    * @param words The set of words that are to be scored.
+    * @param words The set of words that are to be scored (in any case).
     * @param minimumWordLength The minimum number of characters required per word
     * @return the cummulative score of all scorable words in the set
     * @throws IllegalArgumentException if minimumWordLength is less than 1.
@@ -359,18 +482,89 @@ public class WordSearch implements WordSearchGame {
          throw new IllegalStateException("lexicon must be loaded first");
       }
       
-      int points = 0;
+      PathScorer paths = multipliers == null ? null : new PathScorer(board, neighbors, multipliers);
       
-      // iterate through the set of words and check all the conditions to give points
-      Iterator<String> iterator = words.iterator();
-      while (iterator.hasNext()) {
-         String current = iterator.next();
-         if (isOnBoard(current) != null && isValidWord(current) && current.length() >= minimumWordLength) {
-            points += current.length();
+      // words straight from getAllScorableWords() on this board are all on it, so only their points count
+      // (and with the original rules those are already totalled by length)
+      if (words instanceof OrdinalWordSet && this.words != null && this.words.sharesSolve((OrdinalWordSet) words)) {
+         OrdinalWordSet found = ((OrdinalWordSet) words).withMinimumLength(minimumWordLength);
+         if (scoringRules == ScoringRules.LENGTH && paths == null) {
+            return (int) found.score();
          }
+         long[] total = new long[1];
+         found.forEachOrdinal(ordinal -> total[0] += paths == null ? scores.score(ordinal) : scores.score(ordinal, paths));
+         return (int) total[0];
       }
       
-      return points;
+      int[] scorable = scorableOrdinals(words, minimumWordLength);
+      return (int) (paths == null ? scores.score(scorable) : scores.scoreAll(new int[][] {scorable}, paths)[0]);
+    }
+    
+    
+    /** getScoresForPlayers() scores the end of a round: each player's words, like getScoreForWords(), in
+     *  one call. The board is solved once for all of them, and on a board with premium cells each word's
+     *  best path is worked out once, however many players found it.
+     *
+     *  @param wordsByPlayer - Each player's words.
+     *  @param minimumWordLength The minimum number of characters required per word.
+     *  @return points - each player's score, in the same order.
+     *  @throws IllegalArgumentException if wordsByPlayer is null or minimumWordLength is less than 1.
+     *  @throws IllegalStateException if loadLexicon has not been called.
+     */
+    public long[] getScoresForPlayers(List<? extends SortedSet<String>> wordsByPlayer, int minimumWordLength) {
+      
+      if (wordsByPlayer == null) {
+         throw new IllegalArgumentException("wordsByPlayer cannot be null");
+      }
+      
+      // solves the board (if it is not already), so every word below is checked against the solve
+      getAllScorableWords(minimumWordLength);
+      
+      int[][] ordinals = new int[wordsByPlayer.size()][];
+      for (int player = 0; player < ordinals.length; player++) {
+         ordinals[player] = scorableOrdinals(wordsByPlayer.get(player), minimumWordLength);
+      }
+      return scores.scoreAll(ordinals, multipliers == null ? null : new PathScorer(board, neighbors, multipliers));
+    }
+    
+    
+    /** scorableOrdinals() returns the lexicon ordinals of the scorable words of a set: at least the minimum
+     *  length, in the lexicon and on the board. Words are folded like any guess, and a word the set holds
+     *  in several spellings ("peace", "PEACE") is only counted once.
+     */
+    private int[] scorableOrdinals(SortedSet<String> words, int minimumWordLength) {
+      int[] ordinals = new int[words.size()];
+      int count = 0;
+      
+      // cheapest checks first, so the board is only searched for real candidates, and not at all once it
+      // has been solved
+      BoardSolver solver = null;
+      Set<String> refolded = null;
+      for (String submitted : words) {
+         String current = lexicon.alphabet().fold(submitted);
+         if (current.length() < minimumWordLength) {
+            continue;
+         }
+         if (!current.equals(submitted)) {
+            if (refolded == null) {
+               refolded = new HashSet<String>();
+            }
+            if (words.contains(current) || !refolded.add(current)) {
+               continue;
+            }
+         }
+         int ordinal = lexicon.ordinalOf(current);
+         if (ordinal < 0) {
+            continue;
+         }
+         if (this.words == null && solver == null) {
+            solver = new BoardSolver(lexicon, board, neighbors);
+         }
+         if (this.words != null ? this.words.indexOf(ordinal) >= 0 : solver.findPath(current) != null) {
+            ordinals[count++] = ordinal;
+         }
+      }
+      return count == ordinals.length ? ordinals : Arrays.copyOf(ordinals, count);
     }
  
    
@@ -397,178 +591,18 @@ public class WordSearch implements WordSearchGame {
          throw new IllegalStateException("loadLexicon() must be called first");
       }
       
-      LinkedList<Integer> intList = new LinkedList<Integer>();
-      
-      // Uses recursive method searchBoard() to find the word, if it exists.
-      List<Integer> path = searchBoard(wordToCheck, intList, 0);
-      
-      return path;
-    }
-
-
-   /** Recursive approach using depth-first search and tracking/backtracking
-    *  to find a given word on the board.
-    *  
-    *  @param wordToCheck - The word to find, if it exists on the board.
-    *  @param intList - If any part of the word has been found yet, its position lies here.
-    *  @param position - The current position (node) on the grid while searching.
-    *  @return intList - The most updated list of integers representing the position of the word.
-    */
-   private LinkedList<Integer> searchBoard(String wordToCheck, LinkedList<Integer> intList, int position) {
-      
-      // if the size of intList is 0, do this set instead (starting new)
-      if (intList.size() == 0) {
-         boolean tfTest = false;
-         int letterPosition = 0;
-         // while the position var is less than N^2, check recursively for words being on the board
-         while (position < (N * N) && !tfTest) {
-            
-            // see if wordToCheck starts with the current intList but as a word
-            String newString = new Position(position).current;
-            String wordToCheckString = Character.toString(wordToCheck.charAt(letterPosition));
-            if (wordToCheckString.equalsIgnoreCase(newString)) {
-               intList.add(position);
-               position++;
-               letterPosition++;
-               tfTest = true;
-               continue;
-            } else if (wordToCheckString.equalsIgnoreCase(newString) == false) {
-               position++;
-               tfTest = false;
-               continue;
-            }
-         }            
-         
-       }
-      
-      // if intList already has elements, start here
-      if (intList.size() > 0 && wordToCheck.equals(turnIntoWord(intList)) == false) {
-         
-         // use breadth-first to examine all the 1-radius neighbors for a match
-         Position[] neighbors = new Position(position).findNeighbors(intList);
-         
-         for (Position curr : neighbors) {    
-            if (curr == null) {
-               break;
-            }
-            
-            intList.add(curr.i); // add the index of curr to intList
-            String intListWord = turnIntoWord(intList); // turn intList into a string word
-            
-            // if they are equal, stop the for loop now
-            if (wordToCheck.equals(intListWord)) {
-               break;
-            }
-            
-            // see if wordToCheck starts with the current intList but as a word
-            for (int i = 0; i < intListWord.length(); i++) {
-               if (wordToCheck.charAt(i) != intListWord.charAt(i)) {
-                  break; // break loop because we know that wordToCheck does not start with intListWord
-               } 
-               else if (wordToCheck.charAt(i) == intListWord.charAt(i)) {
-                  if (i == (intListWord.length() - 1)) {
-                     searchBoard(wordToCheck, intList, curr.i); // search recursively again
-                  }
-               }
-            }
-            
-            // otherwise, backtrack and remove last element from intList
-            intList.removeLast();  
-         }
-      }      
-      
-      // if wordToCheck equals the current intListWord, then we found it and can return the intList
-      String intListWord = turnIntoWord(intList);
-      if (wordToCheck.equals(intListWord)) {
-         return intList;
-      }
-    
-      if (intList != null) {
-         intList.removeLast();
-      }
-      return searchBoard(wordToCheck, intList, position++);
-   }
-    
- 
-   /** Node class to represent position on the board and provide helpful structure for tracking and neighbors **/
-   private class Position {
-      private int x; // x-coord
-      private int y; // y-coord
-      private int i; // index
-      private String current; // will hold the string or letter at current position
-      
-      /** Constructor for position class objects.
-       *  
-       *  @param index - The index of the current position on the board.
-       */
-      Position(int index) {
-         i = index;
-         // if at first position, initialize x and y as zero.
-         if (i == 0) {
-            x = 0;
-            y = 0;
-         } 
-         else {
-            // otherwise, y will be the index / N (size of board), while x will be the remainder of that operation
-            x = i % N;
-            y = i / N;
-         }
-         
-         current = board[y][x];
-      }
-      
-      /** Second constructor - use if x and y values have already been initialized. 
-       *
-       *  @param xGiven - The current x value.
-       *  @param yGiven - The current y value.
-       */
-      Position(int xGiven, int yGiven) {
-         // set x and y to given values, then adjust i accordingly and set current
-         x = xGiven;
-         y = yGiven;
-         i = (y * N) + x;
-         current = board[y][x];
-      }
+      long started = SolverMetrics.startTimer();
+      int[] path = new BoardSolver(lexicon, board, neighbors).findPath(lexicon.alphabet().fold(wordToCheck));
       
-      /** findNeighbors() finds all adjacent/neighboring positions on board within a radius of 1.
-       *
-       *  @param visited - A linked list of the visited positions (tracking).
-       *  @return neighbors - An array of position objects that represent the positions within a 
-       *    radius of 1.  
-       */
-      Position[] findNeighbors(LinkedList<Integer> visited) {
-         Position[] neighbors = new Position[8]; // 8 is the maximum # of neighbors possible
-         int k = 0;
-         for (int i = x - 1; i <= x + 1; i++) {
-            for (int j = y - 1; j <= y + 1; j++) {
-               if (i != x || j != y) {
-                  if (posExists(i, j) && (visited.contains((j * N) + i) == false)) {
-                     Position temp = new Position(i, j);
-                     neighbors[k] = temp;
-                     k++;
-                  }
-               }
-            }
+      List<Integer> result = new ArrayList<Integer>();
+      if (path != null) {
+         for (int cell : path) {
+            result.add(cell);
          }
-         
-         return neighbors;
       }
       
-      /** posExists() checks to see if a given position (x, y) exists on the board.
-       *  
-       *  @param xCheck - An x value to check for existence.
-       *  @param yCheck - A y value to check for existence.
-       *  @return Returns a boolean whether the position exists or does not.
-       */
-      boolean posExists(int xCheck, int yCheck) {
-         if (xCheck >= 0 && xCheck < N) {
-            if (yCheck >= 0 && yCheck < N) {
-               return true;
-            }
-         }
-         
-         return false;
-      }
-   }
+      SolverMetrics.get().isOnBoardTimer(started);
+      return result;
+    }
    
 }
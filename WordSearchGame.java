@@ -30,6 +30,20 @@ public interface WordSearchGame {
      */
     void setBoard(String[] letterArray);
     
+    /**
+     * Stores the incoming array of Strings as a rectangular R x C board.
+     * 
+     * @param letterArray This array of length rows * cols stores the contents of
+     *     the game board in row-major order. Thus, index 0 stores the contents of
+     *     board position (0,0) and index length-1 stores the contents of board
+     *     position (rows-1,cols-1).
+     * @param rows The number of rows on the board (at least 1).
+     * @param cols The number of columns on the board (at least 1).
+     * @throws IllegalArgumentException if letterArray is null, or does not hold
+     *     exactly rows * cols tiles.
+     */
+    void setBoard(String[] letterArray, int rows, int cols);
+    
     /**
      * Creates a String representation of the board, suitable for printing to
      *   standard out. Note that this method can always be called since
@@ -97,7 +111,7 @@ public interface WordSearchGame {
      *     board, return an empty list. Positions on the board are numbered from zero
      *     top to bottom, left to right (i.e., in row-major order). Thus, on an NxN
      *     board, the upper left position is numbered 0 and the lower right position
-     *     is numbered N^2 - 1.
+     *     is numbered N^2 - 1 (rows * cols - 1 on a rectangular board).
      * @throws IllegalArgumentException if wordToCheck is null.
      * @throws IllegalStateException if loadLexicon has not been called.
      */
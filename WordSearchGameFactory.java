@@ -12,5 +12,27 @@ public class WordSearchGameFactory {
         return new WordSearch();
     }
 
+    /**
+     * Returns a game that plays with an already loaded lexicon, so several
+     * games (or a game and a randomBoard) can share one copy of it.
+     */
+    static WordSearchGame createGame(Lexicon lexicon) {
+        WordSearch game = new WordSearch();
+        game.useLexicon(lexicon);
+        return game;
+    }
+
+    /**
+     * Returns a solver for one board: the bit mask search of BitboardSolver
+     * for boards of at most 64 cells (every classic 4 x 4 to 8 x 8 game),
+     * otherwise the general BoardSolver.
+     */
+    static GridSolver createSolver(Lexicon lexicon, TileGrid board, NeighborTable neighbors) {
+        if (neighbors.hasMasks()) {
+            return new BitboardSolver(lexicon, board, neighbors);
+        }
+        return new BoardSolver(lexicon, board, neighbors);
+    }
+
 }
 
@@ -49,7 +49,76 @@ public class WordSearchTest {
       
       Assert.assertTrue(passIfTrue);
    }
-
    
    
+   /** A test for setBoard() and getAllScorableWords() on a rectangular board. */
+   @Test public void rectangularBoardTest() { 
+      
+      WordSearchGame game = WordSearchGameFactory.createGame();
+      game.loadLexicon("words_medium.txt");
+ 
+      game.setBoard(new String[]{"R", "E", "S", "T", "S", "T", "Q", "B"}, 2, 4);
+      java.util.SortedSet<String> words = game.getAllScorableWords(4);
+      
+      Assert.assertTrue(words.contains("REST"));
+      Assert.assertTrue(words.contains("TEST"));
+      Assert.assertEquals(java.util.Arrays.asList(0, 1, 2, 3), game.isOnBoard("REST"));
+   }
+   
+   
+   /** A test for isOnBoard() with a word that is not on the board. */
+   @Test public void isNotOnBoardTest() { 
+      
+      WordSearchGame game = WordSearchGameFactory.createGame();
+      game.loadLexicon("words_medium.txt");
+ 
+      game.setBoard(new String[]{"R", "E", "S", "T", "S", "T", "Q", "B", "V"});
+      
+      Assert.assertTrue(game.isOnBoard("BEST").isEmpty());
+   }
+   
+   
+   /** A test for setAdjacency() with a wrap-around board. */
+   @Test public void toroidalBoardTest() { 
+      
+      WordSearch game = new WordSearch();
+      game.loadLexicon("words_medium.txt");
+ 
+      // TEST only exists if the last T wraps around to the first E
+      game.setBoard(new String[]{"E", "S", "T", "T"}, 1, 4);
+      Assert.assertTrue(game.isOnBoard("TEST").isEmpty());
+      
+      game.setAdjacency(Adjacencies.TOROIDAL);
+      Assert.assertEquals(java.util.Arrays.asList(3, 0, 1, 2), game.isOnBoard("TEST"));
+      Assert.assertTrue(game.getAllScorableWords(4).contains("TEST"));
+   }
+   
+   
+   /** A test for multi-letter tiles, which advance a word by the whole tile. */
+   @Test public void multiLetterTileTest() { 
+      
+      WordSearchGame game = WordSearchGameFactory.createGame();
+      game.loadLexicon("words_medium.txt");
+ 
+      game.setBoard(new String[]{"QU", "I", "T", "E"});
+      
+      Assert.assertTrue(game.getAllScorableWords(5).contains("QUITE"));
+      Assert.assertEquals(java.util.Arrays.asList(0, 1, 2), game.isOnBoard("QUIT"));
+   }
+   
+   
+   /** A test for wildcard tiles, which stand for any one letter. */
+   @Test public void wildcardTileTest() { 
+      
+      WordSearchGame game = WordSearchGameFactory.createGame();
+      game.loadLexicon("words_medium.txt");
+ 
+      game.setBoard(new String[]{"?", "E", "S", "T"});
+      java.util.SortedSet<String> words = game.getAllScorableWords(4);
+      
+      Assert.assertTrue(words.contains("BEST"));
+      Assert.assertTrue(words.contains("REST"));
+      Assert.assertEquals(java.util.Arrays.asList(0, 1, 2, 3), game.isOnBoard("WEST"));
+   }
+   
 }
@@ -0,0 +1,28 @@
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Runs the benchmark suite with the GC profiler attached, so allocation rate (bytes/op) is reported
+ *  next to throughput and latency. Optional arguments are regular expressions selecting benchmarks.
+ *
+ *  @version October 19th, 2026
+ */
+
+public class BenchmarkRunner {
+
+   public static void main(String[] args) throws RunnerException {
+      OptionsBuilder options = new OptionsBuilder();
+      if (args.length == 0) {
+         options.include(".*Benchmark.*");
+      }
+      for (String pattern : args) {
+         options.include(pattern);
+      }
+
+      Options built = options.addProfiler(GCProfiler.class).shouldFailOnError(true).build();
+      new Runner(built).run();
+   }
+
+}
@@ -0,0 +1,73 @@
+import java.util.Random;
+
+/** Class BoardFixtures builds the fixed, seeded boards and word samples shared by the benchmarks, so every
+ *  run (and every engine change being compared) works on exactly the same input.
+ *
+ *  @version October 19th, 2026
+ */
+
+final class BoardFixtures {
+
+   /** Seed for every generated board and sample. */
+   static final long SEED = 20221007L;
+
+   /** The lexicon used by every benchmark. */
+   static final String LEXICON_FILE = "words_medium.txt";
+
+   /** The class only holds static helpers. */
+   private BoardFixtures() {
+   }
+
+
+   /** board() builds a seeded N x N board of single letters, weighted like English text so it holds a
+    *  realistic number of words.
+    *
+    *  @param size - The board size N.
+    *  @return board - N * N tiles in row-major order.
+    */
+   static String[] board(int size) {
+      // letter frequencies (per 1000) of English text, A - Z
+      final int[] weights = {82, 15, 28, 43, 127, 22, 20, 61, 70, 2, 8, 40, 24,
+                             67, 75, 19, 1, 60, 63, 91, 28, 10, 24, 2, 20, 1};
+      int total = 0;
+      for (int weight : weights) {
+         total += weight;
+      }
+
+      Random rand = new Random(SEED + size);
+      String[] board = new String[size * size];
+      for (int i = 0; i < board.length; i++) {
+         int pick = rand.nextInt(total);
+         int letter = 0;
+         while (pick >= weights[letter]) {
+            pick -= weights[letter];
+            letter++;
+         }
+         board[i] = String.valueOf((char) ('A' + letter));
+      }
+      return board;
+   }
+
+
+   /** words() samples lexicon words and misses for lookup benchmarks.
+    *
+    *  @param lexicon - The lexicon to sample from.
+    *  @param count - The number of words to return.
+    *  @param hitPercent - Roughly how many of the words (0 - 100) should be in the lexicon.
+    *  @return words - the sample, in upper case.
+    */
+   static String[] words(Lexicon lexicon, int count, int hitPercent) {
+      Random rand = new Random(SEED);
+      String[] words = new String[count];
+      for (int i = 0; i < count; i++) {
+         String word = lexicon.word(rand.nextInt(lexicon.size()));
+         if (rand.nextInt(100) >= hitPercent) {
+            // a miss that still shares a long prefix with a real word
+            word = word + "QX";
+         }
+         words[i] = word;
+      }
+      return words;
+   }
+
+}
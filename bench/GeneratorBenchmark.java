@@ -0,0 +1,36 @@
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Benchmark for randomBoard.generateBoard, which generates boards until one holds enough words.
+ *
+ *  @version October 19th, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+   /** The board size N of an N x N board. */
+   @Param({"4", "10", "20"})
+   public int size;
+
+   private randomBoard generator;
+
+
+   @Setup(Level.Trial)
+   public void setUp() {
+      generator = new randomBoard(size, 15);
+      generator.generateBoard();   // loads the lexicon outside of the measurement
+   }
+
+
+   @Benchmark
+   public String[] generateBoard() {
+      return generator.generateBoard();
+   }
+
+}
@@ -0,0 +1,80 @@
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Benchmarks for loading the lexicon and for isValidWord / isValidPrefix lookups with different mixes of
+ *  hits and misses.
+ *
+ *  @version October 19th, 2026
+ */
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexiconBenchmark {
+
+   /** Percentage of looked-up words that are in the lexicon. */
+   @Param({"0", "50", "100"})
+   public int hitPercent;
+
+   private WordSearchGame game;
+   private String[] words;
+   private String[] prefixes;
+   private int next;
+
+
+   @Setup(Level.Trial)
+   public void setUp() {
+      game = WordSearchGameFactory.createGame();
+      game.loadLexicon(BoardFixtures.LEXICON_FILE);
+
+      words = BoardFixtures.words(Lexicon.load(BoardFixtures.LEXICON_FILE), 4096, hitPercent);
+      prefixes = new String[words.length];
+      for (int i = 0; i < words.length; i++) {
+         prefixes[i] = words[i].substring(0, Math.max(1, words[i].length() - 2));
+      }
+   }
+
+
+   /** Cold load: a fresh JVM fork per measurement, one call each. */
+   @Benchmark
+   @BenchmarkMode(Mode.SingleShotTime)
+   @OutputTimeUnit(TimeUnit.MILLISECONDS)
+   @Warmup(iterations = 0)
+   @Measurement(iterations = 1)
+   @Fork(5)
+   public WordSearchGame loadLexiconCold() {
+      WordSearchGame fresh = WordSearchGameFactory.createGame();
+      fresh.loadLexicon(BoardFixtures.LEXICON_FILE);
+      return fresh;
+   }
+
+
+   /** Warm load: repeated loads in a JIT-compiled JVM. */
+   @Benchmark
+   @BenchmarkMode(Mode.AverageTime)
+   @OutputTimeUnit(TimeUnit.MILLISECONDS)
+   public WordSearchGame loadLexiconWarm() {
+      WordSearchGame fresh = WordSearchGameFactory.createGame();
+      fresh.loadLexicon(BoardFixtures.LEXICON_FILE);
+      return fresh;
+   }
+
+
+   @Benchmark
+   @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+   public boolean isValidWord() {
+      next = (next + 1) & (words.length - 1);
+      return game.isValidWord(words[next]);
+   }
+
+
+   @Benchmark
+   @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+   public boolean isValidPrefix() {
+      next = (next + 1) & (prefixes.length - 1);
+      return game.isValidPrefix(prefixes[next]);
+   }
+
+}
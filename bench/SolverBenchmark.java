@@ -0,0 +1,69 @@
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/** Benchmarks for the solver hot paths - getAllScorableWords, isOnBoard and getScoreForWords - on fixed,
+ *  seeded boards from 4 x 4 up to 20 x 20.
+ *
+ *  @version October 19th, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark {
+
+   /** The board size N of an N x N board. */
+   @Param({"4", "5", "8", "10", "15", "20"})
+   public int size;
+
+   /** The minimum word length used by the game. */
+   @Param({"3"})
+   public int minimumWordLength;
+
+   private WordSearchGame game;
+   private String[] board;
+   private SortedSet<String> found;
+   private String[] onBoard;
+   private int next;
+
+
+   @Setup(Level.Trial)
+   public void setUp() {
+      game = WordSearchGameFactory.createGame();
+      game.loadLexicon(BoardFixtures.LEXICON_FILE);
+      board = BoardFixtures.board(size);
+      game.setBoard(board);
+
+      // a plain copy, so getScoreForWords() cannot take the fast path for the game's own solve
+      found = new TreeSet<String>(game.getAllScorableWords(minimumWordLength));
+      onBoard = found.isEmpty() ? new String[] {"ZZZZ"} : found.toArray(new String[0]);
+   }
+
+
+   /** The board is set again first, so every call solves it instead of returning the cached solve. */
+   @Benchmark
+   public SortedSet<String> getAllScorableWords() {
+      game.setBoard(board);
+      return game.getAllScorableWords(minimumWordLength);
+   }
+
+
+   @Benchmark
+   public List<Integer> isOnBoard() {
+      next = (next + 1) % onBoard.length;
+      return game.isOnBoard(onBoard[next]);
+   }
+
+
+   /** The board is set again first, so every word is searched for rather than looked up in a solve. */
+   @Benchmark
+   public int getScoreForWords() {
+      game.setBoard(board);
+      return game.getScoreForWords(found, minimumWordLength);
+   }
+
+}
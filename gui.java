@@ -3,50 +3,118 @@ import java.awt.*;
 import java.awt.event.*;
 import java.util.*;
 import java.io.*;
+import java.util.concurrent.*;
 
 /** Class gui() is the front end for class WordSearchGame, turning the logical program into
  *  a playable game with a simple user interface and multiple board options. It uses the 
  *  breadth and depth first search algorithms, recursive backtracking, and custom positioning
  *  system defined in the class WordSearch(), to provide a fast and reliable game. 
+ *
+ *  Slow work never runs on the Swing event thread: the lexicon loads while the window is built, boards
+ *  are solved by a SwingWorker (with a progress bar and Cancel button in the menu bar), and the next
+ *  random board is always being generated in the background so "Random Board" can show it at once.
+ *  Boards are drawn by a BoardView, which paints only the visible cells, so even the 500 x 500 "Large
+ *  Random Board" scrolls and zooms smoothly; each word found is highlighted on the board.
  *  
  *  @author Lyndsey Rice
- *  @version July 10th, 2022
+ *  @version October 19th, 2026
  */
 
 class gui implements ActionListener {
     
-    /** Creates new instance of WordSearchGame to use for logical side of game. */    
-    WordSearchGame activeWordSearch = WordSearchGameFactory.createGame();
+    /** Lexicon file courtesy of Dean Hendrix, Auburn University. */
+    static final String LEXICON_FILE = "words_medium.txt";
+    
+    /** Size and minimum word count of the random boards. */
+    static final int RANDOM_BOARD_SIZE = 10;
+    static final int RANDOM_BOARD_MIN_WORDS = 15;
+    
+    /** Size of the "Large Random Board" - big enough that it has to be scrolled and zoomed. */
+    static final int LARGE_RANDOM_BOARD_SIZE = 500;
+    
+    /** Runs the slow work (loading the lexicon, generating random boards) off the Swing event thread. */
+    private final ExecutorService background = Executors.newFixedThreadPool(2, new ThreadFactory() {
+       @Override
+       public Thread newThread(Runnable task) {
+          Thread thread = new Thread(task, "gui-background");
+          thread.setDaemon(true);
+          return thread;
+       }
+    });
+    
+    /** The lexicon, loaded in the background while the window is being built. */
+    private final Future<Lexicon> lexiconLoad;
+    
+    /** The next random board, generated in the background before it is asked for (event thread only). */
+    private Future<randomBoard> nextRandomBoard;
+    
+    /** The board being generated or solved, if any (event thread only) - see the Cancel button. */
+    private SwingWorker<SortedSet<String>, String> boardTask;
+    
+    /** Guards activeWordSearch, which board tasks use from background threads. */
+    private final Object gameLock = new Object();
+    
+    /** Instance of WordSearchGame used for the logical side of game - created once the lexicon is loaded. */
+    WordSearchGame activeWordSearch;
     
     /** Creates TreeSet for efficient access to all possible words on board. */
     java.util.SortedSet<String> allWordsOnBoard = new TreeSet<String>();
     
     /** Creates string array that will hold all words found by the user during a game. */
     String[] wordsFoundByUser = new String[10];
+    
+    /** The words on the current board by prefix, for as-you-type feedback (null while a board loads). */
+    private BoardPrefixIndex prefixIndex;
+    
+    /** Reused to read the guess being typed without making a String on each keystroke. */
+    private final javax.swing.text.Segment typed = new javax.swing.text.Segment();
+    
+    // Components that board tasks update when they finish
+    private final JFrame frame;
+    private final JTextArea mainTextArea;
+    private final BoardView boardView;
+    private final JScrollPane boardScrollPane;
+    private final JPanel bottomPanel;
+    private final JProgressBar progressBar;
+    private final JButton cancelButton;
+    private final JButton checkIsValidButton;
+    private final JTextField foundWordTextField;
+    private final JLabel prefixFeedbackLabel;
         
     /** Main method - creates new instance of gui class. 
      *  
      *  @param args - not used.
      */
     public static void main(String args[]) {
-        gui newGui = new gui();
+        SwingUtilities.invokeLater(new Runnable() {
+           @Override
+           public void run() {
+              gui newGui = new gui();
+           }
+        });
     }
         
     /** Constructor for gui class (contains logic for buttons and actions). 
      */    
     public gui() {
         
-        // Loads the English language lexicon into the active word search object (fail-fast measure).
-        // lexicon file courtesy of Dean Hendrix, Auburn University
-        activeWordSearch.loadLexicon("words_medium.txt");
+        // Loads the English language lexicon in the background while the window is built, then
+        // starts generating the first random board so it is ready before it is asked for.
+        lexiconLoad = background.submit(new Callable<Lexicon>() {
+           @Override
+           public Lexicon call() {
+              return Lexicon.load(LEXICON_FILE);
+           }
+        });
+        prefetchRandomBoard();
     
         // Frame container
-        JFrame frame = new JFrame("Add-One Word Search Game");
+        frame = new JFrame("Add-One Word Search Game");
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.setSize(650, 700);
         
         // Primary text area - where the word search boards will be shown
-        JTextArea mainTextArea = new JTextArea();
+        mainTextArea = new JTextArea();
         String welcomeMessageOriginal = "\n\n\n\t\t   Welcome to Add-One Word Search!\n\n\t  Please choose a board from the drop down "
          + "menu \n\t  above, or click Help to read full instructions.\n\n\t\t\t      Thanks for playing!";
         mainTextArea.setFont(new Font("Times", Font.BOLD, 20));
@@ -55,17 +123,69 @@ class gui implements ActionListener {
         mainTextArea.setLineWrap(true);
         mainTextArea.setWrapStyleWord(true);
         mainTextArea.setText(welcomeMessageOriginal);
+        
+        // Board view - replaces the welcome text while a board is shown (scrolls, and zooms with Ctrl + wheel)
+        boardView = new BoardView();
+        boardScrollPane = new JScrollPane(boardView);
                 
         // The bottom panel - used for taking user input and showing found words
-        JPanel bottomPanel = new JPanel(); 
+        bottomPanel = new JPanel(); 
         JLabel enterWordLabel = new JLabel("Enter Found Word");
-        JTextField foundWordTextField = new JTextField(10); // accepts up to 10 characters
+        foundWordTextField = new JTextField(10); // accepts up to 10 characters
+        prefixFeedbackLabel = new JLabel(" ");
+        
+        // Guesses are folded into the lexicon's alphabet as they are typed, and each keystroke is checked against the board's words
+        ((javax.swing.text.AbstractDocument) foundWordTextField.getDocument()).setDocumentFilter(
+           new javax.swing.text.DocumentFilter() {
+              @Override
+              public void insertString(FilterBypass bypass, int offset, String text,
+                    javax.swing.text.AttributeSet attributes) throws javax.swing.text.BadLocationException {
+                 super.insertString(bypass, offset, fold(text), attributes);
+              }
+              
+              @Override
+              public void replace(FilterBypass bypass, int offset, int length, String text,
+                    javax.swing.text.AttributeSet attributes) throws javax.swing.text.BadLocationException {
+                 super.replace(bypass, offset, length, text == null ? null : fold(text), attributes);
+              }
+           });
+        foundWordTextField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+           @Override
+           public void insertUpdate(javax.swing.event.DocumentEvent e) {
+              showPrefixFeedback();
+           }
+           
+           @Override
+           public void removeUpdate(javax.swing.event.DocumentEvent e) {
+              showPrefixFeedback();
+           }
+           
+           @Override
+           public void changedUpdate(javax.swing.event.DocumentEvent e) {
+           }
+        });
                 
         // Top MenuBar - structure: 3 menus with dropdown options (options have action listeners)
         JMenuBar menuBar = new JMenuBar();
         JMenu menuWordSearch = new JMenu("Word Search");
         JMenu menuHelp = new JMenu("Help");
         JMenu menuHome = new JMenu("Home");
+        JMenu menuView = new JMenu("View");
+        
+        // Progress indicator (right of the menus) - shown while a board is being generated or solved
+        progressBar = new JProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setStringPainted(true);
+        progressBar.setVisible(false);
+        cancelButton = new JButton(new AbstractAction("Cancel") {
+           @Override
+           public void actionPerformed(ActionEvent e) {
+              if (boardTask != null) {
+                 boardTask.cancel(true);
+              }
+           }
+        });
+        cancelButton.setVisible(false);
         
         // Add menuBar and mainTextArea to frame then set to visible
         // note: bottomPanel will be added only when word search boards are visible
@@ -93,6 +213,10 @@ class gui implements ActionListener {
         JMenuItem menuItemHome = new JMenuItem(new AbstractAction("Welcome") {
            @Override
            public void actionPerformed(ActionEvent e) {
+              if (boardTask != null) {
+                 boardTask.cancel(true);
+              }
+              
               mainTextArea.setFont(new Font("Times", Font.BOLD, 20));
               mainTextArea.setTabSize(3);
               mainTextArea.setEditable(false);
@@ -100,7 +224,11 @@ class gui implements ActionListener {
               mainTextArea.setWrapStyleWord(true);
               mainTextArea.setText(welcomeMessageOriginal);
                
+               frame.getContentPane().remove(boardScrollPane);
+               frame.getContentPane().add(BorderLayout.CENTER, mainTextArea);
                frame.getContentPane().remove(bottomPanel);
+               frame.revalidate();
+               frame.repaint();
            }
         });
         
@@ -109,21 +237,7 @@ class gui implements ActionListener {
         JMenuItem menuItemBoard1 = new JMenuItem(new AbstractAction("Board 1") {
            @Override
            public void actionPerformed(ActionEvent e) {
-              mainTextArea.setColumns(10);
-              mainTextArea.setRows(10);
-              mainTextArea.setText(boardLettersString1);
-              Font font = new Font("Times", mainTextArea.getFont().getStyle(), 20);
-              mainTextArea.setFont(font);
-              mainTextArea.setTabSize(3);
-              mainTextArea.setEditable(false);
-              
-              frame.getContentPane().add(BorderLayout.SOUTH, bottomPanel);
-              
-              activeWordSearch.setBoard(boardLetters1);
-              allWordsOnBoard = activeWordSearch.getAllScorableWords(4);   
-              
-              // reset this to empty string array to prepare for user to play
-              wordsFoundByUser = new String[10];  
+              startBoardTask(boardLetters1, RANDOM_BOARD_SIZE);
            }
         });
         
@@ -132,58 +246,53 @@ class gui implements ActionListener {
         JMenuItem menuItemBoard2 = new JMenuItem(new AbstractAction("Board 2") {
            @Override
            public void actionPerformed(ActionEvent e) {
-              mainTextArea.setColumns(10);
-              mainTextArea.setRows(10);
-              mainTextArea.setText(boardLettersString2);
-              Font font = new Font("Times", mainTextArea.getFont().getStyle(), 20);
-              mainTextArea.setFont(font);
-              mainTextArea.setTabSize(3);
-              mainTextArea.setEditable(false);
-              
-              frame.getContentPane().add(BorderLayout.SOUTH, bottomPanel);
-              
-              activeWordSearch.setBoard(boardLetters2);
-              allWordsOnBoard = activeWordSearch.getAllScorableWords(4);
-              
-              // reset this to empty string array to prepare for user to play
-              wordsFoundByUser = new String[10];
+              startBoardTask(boardLetters2, RANDOM_BOARD_SIZE);
            }
         });
 
        
-        // On click, generates and displays a random board using the randomBoard class.
+        // On click, displays a random board using the randomBoard class (usually already generated
+        // in the background, so it appears at once).
         JMenuItem menuItemRandomBoard = new JMenuItem(new AbstractAction("Random Board") {
            @Override
            public void actionPerformed(ActionEvent e) {
-              mainTextArea.setColumns(10);
-              mainTextArea.setRows(10);
-              
-              // create a new dynamically generated 10 x 10 board with at least 15 valid words
-              randomBoard randomBoardObj = new randomBoard(10, 15);
-              randomBoardObj.generateBoard();
-              
-              mainTextArea.setText(randomBoardObj.getBoard());
-              
-              Font font = new Font("Times", mainTextArea.getFont().getStyle(), 20);
-              mainTextArea.setFont(font);
-              mainTextArea.setTabSize(3);
-              mainTextArea.setEditable(false);
-              
-              frame.getContentPane().add(BorderLayout.SOUTH, bottomPanel);
-              
-              activeWordSearch.setBoard(randomBoardObj.getBoardArray());
-              allWordsOnBoard = activeWordSearch.getAllScorableWords(4);
-              
-              // reset this to empty string array to prepare for user to play
-              wordsFoundByUser = new String[10];
+              startBoardTask(null, RANDOM_BOARD_SIZE);
+           }
+        });
+        
+        // On click, generates and displays a very large random board (use the scroll bars and zoom).
+        JMenuItem menuItemLargeRandomBoard = new JMenuItem(new AbstractAction("Large Random Board") {
+           @Override
+           public void actionPerformed(ActionEvent e) {
+              startBoardTask(null, LARGE_RANDOM_BOARD_SIZE);
+           }
+        });
+        
+        // Zoom the board view in and out (Ctrl + mouse wheel does the same).
+        JMenuItem menuItemZoomIn = new JMenuItem(new AbstractAction("Zoom In") {
+           @Override
+           public void actionPerformed(ActionEvent e) {
+              boardView.setCellSize(boardView.getCellSize() * 5 / 4);
            }
         });
+        menuItemZoomIn.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_EQUALS, InputEvent.CTRL_DOWN_MASK));
+        JMenuItem menuItemZoomOut = new JMenuItem(new AbstractAction("Zoom Out") {
+           @Override
+           public void actionPerformed(ActionEvent e) {
+              boardView.setCellSize(boardView.getCellSize() * 4 / 5);
+           }
+        });
+        menuItemZoomOut.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_MINUS, InputEvent.CTRL_DOWN_MASK));
 
        
         // Add menus to menuBar        
         menuBar.add(menuWordSearch);
         menuBar.add(menuHelp);
         menuBar.add(menuHome);
+        menuBar.add(menuView);
+        menuBar.add(Box.createHorizontalGlue());
+        menuBar.add(progressBar);
+        menuBar.add(cancelButton);
                 
         // Add menu items to each menu
         menuHelp.add(menuItemHelp);
@@ -193,15 +302,19 @@ class gui implements ActionListener {
         menuWordSearch.add(menuItemBoard1);
         menuWordSearch.add(menuItemBoard2);
         menuWordSearch.add(menuItemRandomBoard);
+        menuWordSearch.add(menuItemLargeRandomBoard);
+        
+        menuView.add(menuItemZoomIn);
+        menuView.add(menuItemZoomOut);
         
         // On click, checks user input for conditions then checks if valid word on board,
         // and adding word to first available place in wordsFoundByUser array.
         // Various popup messages possible depending on user input and conditions.
-        JButton checkIsValidButton = new JButton(new AbstractAction("Check Word") {
+        checkIsValidButton = new JButton(new AbstractAction("Check Word") {
            @Override
            public void actionPerformed(ActionEvent e) {
               
-              String wordToTest = foundWordTextField.getText().toUpperCase();
+              String wordToTest = fold(foundWordTextField.getText());
               System.out.println(wordToTest);
               
               if (wordsFoundByUser[wordsFoundByUser.length - 1] != null) {
@@ -224,6 +337,7 @@ class gui implements ActionListener {
                     }
                     else if (wordsFoundByUser[i] == null) {
                        wordsFoundByUser[i] = wordToTest;
+                       highlightWord(wordToTest);
                        
                        if (wordsFoundByUser[wordsFoundByUser.length - 1] != null) {
                           JOptionPane.showMessageDialog(frame, "Congratulations, you won! Please return home or open a new board.",
@@ -274,12 +388,231 @@ class gui implements ActionListener {
         bottomPanel.add(foundWordTextField);
         bottomPanel.add(checkIsValidButton);
         bottomPanel.add(showAllFoundButton);
+        bottomPanel.add(prefixFeedbackLabel);
         
         // set frame to visible
         frame.setVisible(true);                       
     }
     
     
+
+    /** startBoardTask() shows a board once it is ready, generating (random boards only) and solving it on a
+     *  background thread while a progress bar and Cancel button are shown. Any board task still running is
+     *  cancelled first. Called on the event thread.
+     *
+     *  @param letters - The board, or null for a random board.
+     *  @param size - The board is size x size.
+     */
+    private void startBoardTask(final String[] letters, final int size) {
+       if (boardTask != null) {
+          boardTask.cancel(true);
+       }
+       
+       // the usual random board size is generated ahead of time
+       final Future<randomBoard> randomSource = letters == null && size == RANDOM_BOARD_SIZE
+          ? takeRandomBoard() : null;
+       
+       boardTask = new SwingWorker<SortedSet<String>, String>() {
+          private String[] boardLetters = letters;
+          private Board board;
+          
+          @Override
+          protected SortedSet<String> doInBackground() throws Exception {
+             if (boardLetters == null) {
+                publish("Generating board...");
+                randomBoard randomBoardObj = randomSource != null ? randomSource.get() : generateRandomBoard(size);
+                // a generator that gave up (too few words five times running) returns a 1-tile board
+                while (randomBoardObj.getBoardArray().length != size * size) {
+                   if (isCancelled()) {
+                      return null;
+                   }
+                   randomBoardObj = generateRandomBoard(size);
+                }
+                boardLetters = randomBoardObj.getBoardArray();
+             }
+             board = new Board(boardLetters, size, size);
+             
+             publish("Finding words...");
+             synchronized (gameLock) {
+                if (activeWordSearch == null) {
+                   publish("Loading words...");
+                   activeWordSearch = WordSearchGameFactory.createGame(lexiconLoad.get());
+                }
+                activeWordSearch.setBoard(boardLetters);
+                return activeWordSearch.getAllScorableWords(4);
+             }
+          }
+          
+          @Override
+          protected void process(java.util.List<String> statuses) {
+             if (boardTask == this) {
+                progressBar.setString(statuses.get(statuses.size() - 1));
+             }
+          }
+          
+          @Override
+          protected void done() {
+             if (boardTask != this) {
+                return;
+             }
+             boardTask = null;
+             showBusy(false);
+             if (isCancelled()) {
+                return;
+             }
+             
+             try {
+                allWordsOnBoard = get();
+                prefixIndex = new BoardPrefixIndex(allWordsOnBoard);
+             }
+             catch (InterruptedException | ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                JOptionPane.showMessageDialog(frame, "Could not load the board: " + cause.getMessage(), "Error",
+                   JOptionPane.PLAIN_MESSAGE);
+                return;
+             }
+             
+             boardView.setBoard(board);
+             frame.getContentPane().remove(mainTextArea);
+             frame.getContentPane().add(BorderLayout.CENTER, boardScrollPane);
+             frame.getContentPane().add(BorderLayout.SOUTH, bottomPanel);
+             frame.revalidate();
+             frame.repaint();
+             
+             // reset this to empty string array to prepare for user to play
+             wordsFoundByUser = new String[10];
+          }
+       };
+       
+       progressBar.setString(letters == null ? "Generating board..." : "Finding words...");
+       showBusy(true);
+       boardTask.execute();
+    }
+    
+    
+    /** showPrefixFeedback() tells the player, as they type, whether the guess so far can still become a
+     *  word on this board and how many words it could become (and how many of those are still to find).
+     */
+    private void showPrefixFeedback() {
+       javax.swing.text.Document document = foundWordTextField.getDocument();
+       if (prefixIndex == null || document.getLength() == 0) {
+          prefixFeedbackLabel.setText(" ");
+          foundWordTextField.setForeground(Color.BLACK);
+          return;
+       }
+       
+       try {
+          document.getText(0, document.getLength(), typed);
+       }
+       catch (javax.swing.text.BadLocationException e) {
+          return;
+       }
+       
+       int from = prefixIndex.from(typed);
+       int to = prefixIndex.to(typed);
+       if (from == to) {
+          prefixFeedbackLabel.setText("No words here start like that");
+          foundWordTextField.setForeground(Color.RED);
+          return;
+       }
+       
+       int found = 0;
+       for (String word : wordsFoundByUser) {
+          int index = word == null ? -1 : prefixIndex.indexOf(word);
+          if (index >= from && index < to) {
+             found++;
+          }
+       }
+       foundWordTextField.setForeground(Color.BLACK);
+       prefixFeedbackLabel.setText((to - from) + (to - from == 1 ? " word" : " words") + " (" + (to - from - found)
+          + " to find)" + (prefixIndex.isWord(typed) ? " - this is one!" : ""));
+    }
+    
+    
+    /** highlightWord() highlights where a word is on the board. Called on the event thread, only while no
+     *  board task is running (Check Word is disabled until then), so the game is not busy.
+     *
+     *  @param word - A word on the current board.
+     */
+    private void highlightWord(String word) {
+       java.util.List<Integer> path;
+       synchronized (gameLock) {
+          path = activeWordSearch.isOnBoard(word);
+       }
+       boardView.highlight(path);
+       boardView.scrollToPath();
+    }
+    
+    
+    /** showBusy() shows or hides the progress bar and Cancel button, and disables guessing while a board is
+     *  loading (the words of the old board no longer count).
+     */
+    private void showBusy(boolean busy) {
+       if (busy) {
+          prefixIndex = null;
+       }
+       showPrefixFeedback();
+       progressBar.setVisible(busy);
+       cancelButton.setVisible(busy);
+       checkIsValidButton.setEnabled(!busy);
+       frame.revalidate();
+    }
+    
+    
+    /** takeRandomBoard() hands out the prefetched random board and starts generating the next one. Called on
+     *  the event thread.
+     *
+     *  @return board - the prefetched board (it may still be generating).
+     */
+    private Future<randomBoard> takeRandomBoard() {
+       Future<randomBoard> next = nextRandomBoard;
+       prefetchRandomBoard();
+       return next;
+    }
+    
+    
+    /** prefetchRandomBoard() starts generating a random board in the background. */
+    private void prefetchRandomBoard() {
+       nextRandomBoard = background.submit(new Callable<randomBoard>() {
+          @Override
+          public randomBoard call() throws Exception {
+             return generateRandomBoard(RANDOM_BOARD_SIZE);
+          }
+       });
+    }
+    
+    
+    /** fold() spells typed text the way the lexicon does (see Alphabet.fold()), so the default locale
+     *  cannot change a guess - e.g. a Turkish locale turning "quit" into "QU\u0130T". Until the lexicon has
+     *  loaded, text is folded as English.
+     */
+    private String fold(String text) {
+       Alphabet alphabet = Alphabet.ENGLISH;
+       if (lexiconLoad.isDone()) {
+          try {
+             alphabet = lexiconLoad.get().alphabet();
+          }
+          catch (InterruptedException | ExecutionException e) {
+             // the load failed and is reported when a board is played; fold as English meanwhile
+          }
+       }
+       return alphabet.fold(text);
+    }
+    
+    
+    /** generateRandomBoard() generates a random board, waiting for the lexicon if it is still loading.
+     *
+     *  @param size - The board is size x size.
+     *  @return randomBoardObj - a new board with at least RANDOM_BOARD_MIN_WORDS words (or a 1-tile board if
+     *     the generator gave up).
+     */
+    private randomBoard generateRandomBoard(int size) throws InterruptedException, ExecutionException {
+       randomBoard randomBoardObj = new randomBoard(size, size, RANDOM_BOARD_MIN_WORDS, lexiconLoad.get());
+       randomBoardObj.generateBoard();
+       return randomBoardObj;
+    }
+    
+    
     /** Default method actionPerformed() - does nothing except print to standard output **/
     public void actionPerformed(ActionEvent e) {
        System.out.println("The default"); 
@@ -297,19 +630,6 @@ class gui implements ActionListener {
                                            "L", "A", "M", "R", "E", "H", "S", "I", "F", "J",
                                            "W", "T", "J", "G", "P", "O", "P", "P", "E", "D",
                                            "D", "E", "C", "I", "D", "P", "O", "R", "T", "Z"};
-    
-    /** Interface-format representation of board 1 - displayed to user. */
-    String boardLettersString1 = "\n\tS\tT\tA\tR\tM\tL\tR\tC\tE\tG\t" +
-                               "\n\n\tM\tN\tA\tO\tD\tO\tK\tV\tG\tT\t" +
-                               "\n\n\tD\tE\tI\tW\tZ\tJ\tP\tI\tW\tU\t" +
-                               "\n\n\tE\tR\tB\tI\tT\tE\tO\tH\tV\tS\t" +
-                               "\n\n\tG\tR\tI\tV\tE\tR\tH\tL\tA\tC\t" +
-                               "\n\n\tG\tO\tE\tT\tT\tP\tQ\tM\tL\tI\t" +
-                               "\n\n\tO\tT\tW\tX\tU\tS\tL\tD\tZ\tY\t" +
-                               "\n\n\tL\tA\tM\tR\tE\tH\tS\tI\tF\tJ\t" +
-                               "\n\n\tW\tT\tJ\tG\tP\tO\tP\tP\tE\tD\t" +
-                               "\n\n\tD\tE\tC\tI\tD\tP\tO\tR\tT\tZ\t";
-         
              
     /** Logical representation of board 2 - used in getAllScorableWords(). */                           
     String[] boardLetters2 = new String[] {"B", "S", "A", "D", "W", "A", "T", "E", "R", "L",
@@ -322,17 +642,5 @@ class gui implements ActionListener {
                                            "A", "E", "R", "B", "R", "B", "L", "R", "N", "M",
                                            "R", "K", "H", "A", "R", "Y", "A", "R", "Y", "O",
                                            "L", "I", "M", "E", "W", "H", "N", "Y", "A", "N"};
-        
-    /** Interface-format representation of board 2 - displayed to user. */             
-    String boardLettersString2 = "\n\tB\tS\tA\tD\tW\tA\tT\tE\tR\tL\t" +
-                               "\n\n\tB\tL\tA\tC\tK\tB\tE\tR\tR\tY\t" +
-                               "\n\n\tK\tI\tU\tO\tE\tT\tN\tA\tH\tE\t" +
-                               "\n\n\tC\tI\tI\tE\tA\tT\tT\tS\tA\tJ\t" +
-                               "\n\n\tS\tH\tW\tN\tB\tS\tI\tP\tE\tA\t" +
-                               "\n\n\tS\tF\tE\tI\tI\tE\tO\tB\tY\tL\t" +
-                               "\n\n\tK\tT\tO\tR\tO\tI\tR\tE\tC\tE\t" +
-                               "\n\n\tA\tE\tR\tB\tR\tB\tL\tR\tN\tM\t" +
-                               "\n\n\tR\tK\tH\tA\tR\tY\tA\tR\tY\tO\t" +
-                               "\n\n\tL\tI\tM\tE\tW\tH\tN\tY\tA\tN\t";                   
 
 }
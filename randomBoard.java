@@ -1,29 +1,38 @@
+import java.util.BitSet;
 import java.util.Random;
-import java.util.List;
-import java.util.ArrayList;
-import java.util.TreeSet;
 
 /** A class to generate "random" boards for "Add One Word Search Game." 
  *
  *  @author Lyndsey Rice
- *  @version July 8th, 2022
+ *  @version October 19th, 2026
  *
  */
 
 class randomBoard {
    
+   // the largest number of rows or columns a generated board may have
+   private static final int MAX_BOARD_SIZE = 1000;
+   
    // boardSize is N, where the grid is an N x N board. (must be at least 2)
+   // boardRows x boardCols is the actual grid, which may be rectangular.
    private int boardSize = 0;
+   private int boardRows = 0;
+   private int boardCols = 0;
    
    // minWordsPossible is the minimum number of words that a board should contain (of length > 3)
    private int minWordsPossible = 0;
    
-   // the alphabet in a handy format (for int -> letter conversions)
-   private final String[] ALPHABET = new String[] {"A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M",
-                                             "N", "O", "P", "Q", "R", "S", "T", "U", "V", "W", "X", "Y", "Z"};
+   // the source of the letters drawn for new boards
+   private final Random rand = new Random();
                        
    // currentBoard holds the current board for the game
    private String[] currentBoard = new String[boardSize * boardSize];
+   
+   // the lexicon used to validate boards - loaded once, on first use, unless one is shared in
+   private Lexicon lexicon = null;
+   
+   // the difficulty of the current board (see getDifficulty())
+   private double currentDifficulty = 0;
                                              
 
    /** Constructor for randomBoard class. 
@@ -33,10 +42,23 @@ class randomBoard {
     *  @throws IllegalArgumentException - If either parameter is erroneous.
     */
    public randomBoard(int boardSizeIn, int minWordsPossibleIn) {
+      this(boardSizeIn, boardSizeIn, minWordsPossibleIn);
+   }
+   
+   
+   /** Constructor for randomBoard class with a rectangular R x C board. 
+    *  
+    *  @param rowsIn - The number of rows (between 2 and MAX_BOARD_SIZE, inclusive)
+    *  @param colsIn - The number of columns (between 2 and MAX_BOARD_SIZE, inclusive)
+    *  @param minWordsPossibleIn - The lower bound for a board to qualify as valid.
+    *  @throws IllegalArgumentException - If any parameter is erroneous.
+    */
+   public randomBoard(int rowsIn, int colsIn, int minWordsPossibleIn) {
       
-      // boardSize - min: 2 x 2 / max: 20 x 20
-      if (boardSizeIn < 2 || boardSizeIn > 20) {
-         throw new IllegalArgumentException("Error: boardSizeIn must be between 2 and 20 (inclusive)");
+      // rows and cols - min: 2 / max: MAX_BOARD_SIZE
+      if (rowsIn < 2 || rowsIn > MAX_BOARD_SIZE || colsIn < 2 || colsIn > MAX_BOARD_SIZE) {
+         throw new IllegalArgumentException("Error: board dimensions must be between 2 and " + MAX_BOARD_SIZE
+            + " (inclusive)");
       }
       
       // can specify a min amount of words for the board to be valid (reasonable range since it's only
@@ -45,11 +67,32 @@ class randomBoard {
          throw new IllegalArgumentException("Error: minWordsPossibleIn must be between 1 and 20 (inclusive)");
       }
       
-      boardSize = boardSizeIn;
+      boardSize = rowsIn;
+      boardRows = rowsIn;
+      boardCols = colsIn;
       minWordsPossible = minWordsPossibleIn;
    }
    
    
+   /** Constructor for randomBoard class that validates against an already loaded lexicon, so many
+    *  generators (e.g. one per server request) can share one copy of it. 
+    *  
+    *  @param rowsIn - The number of rows (between 2 and MAX_BOARD_SIZE, inclusive)
+    *  @param colsIn - The number of columns (between 2 and MAX_BOARD_SIZE, inclusive)
+    *  @param minWordsPossibleIn - The lower bound for a board to qualify as valid.
+    *  @param lexiconIn - The lexicon to validate boards with.
+    *  @throws IllegalArgumentException - If any parameter is erroneous.
+    */
+   randomBoard(int rowsIn, int colsIn, int minWordsPossibleIn, Lexicon lexiconIn) {
+      this(rowsIn, colsIn, minWordsPossibleIn);
+      
+      if (lexiconIn == null) {
+         throw new IllegalArgumentException("Error: lexiconIn cannot be null");
+      }
+      lexicon = lexiconIn;
+   }
+   
+   
    /** getBoardSize() returns the current board size (one direction/length).
     * 
     *  @return boardSize - an int representing the board size N, in an N x N board.
@@ -58,20 +101,41 @@ class randomBoard {
       return boardSize;
    }
    
+   
+   /** getRows() returns the number of rows on the board.
+    * 
+    *  @return boardRows - the number of rows.
+    */
+   public int getRows() {
+      return boardRows;
+   }
+   
+   
+   /** getCols() returns the number of columns on the board.
+    * 
+    *  @return boardCols - the number of columns.
+    */
+   public int getCols() {
+      return boardCols;
+   }
+   
 
    /** setBoardSize() sets the board size variable to a new integer.
     *  
-    *  @param boardSizeIn - an integer N for an N x N board (must be between 2 and 20, inclusive)
+    *  @param boardSizeIn - an integer N for an N x N board (must be between 2 and MAX_BOARD_SIZE, inclusive)
     *  @throws IllegalArgumentException() if boardSizeIn is outside of bounds
     *  @return boolean - true if successful.
     */
    public boolean setBoardSize(int boardSizeIn) {
-      // boardSize - min: 2 x 2 / max: 20 x 20
-      if (boardSizeIn < 2 || boardSizeIn > 20) {
-         throw new IllegalArgumentException("Error: boardSizeIn must be between 2 and 20 (inclusive)");
+      // boardSize - min: 2 x 2 / max: MAX_BOARD_SIZE x MAX_BOARD_SIZE
+      if (boardSizeIn < 2 || boardSizeIn > MAX_BOARD_SIZE) {
+         throw new IllegalArgumentException("Error: boardSizeIn must be between 2 and " + MAX_BOARD_SIZE
+            + " (inclusive)");
       }
       else {
          boardSize = boardSizeIn;
+         boardRows = boardSizeIn;
+         boardCols = boardSizeIn;
          return true;
       }
    }
@@ -106,41 +170,41 @@ class randomBoard {
    }
 
    
-   /** generateRow() randomly generates a single row of letters for the board.
+   /** getAlphabet() returns the alphabet boards are drawn from: the lexicon's, or English if it has not
+    *  been loaded yet (the default lexicon is English).
+    *  
+    *  @return alphabet - the alphabet of the generated boards.
+    */
+   Alphabet getAlphabet() {
+      return lexicon == null ? Alphabet.ENGLISH : lexicon.alphabet();
+   }
+
+   
+   /** generateRow() randomly generates a single row of letters for the board, each letter drawn as often
+    *  as it turns up in the language (see Alphabet.draw()).
     *  
-    *  @return newRow - a string array of letters of size N representing a single board row.
+    *  @return newRow - a string array of letters of size C representing a single board row.
     */
    private String[] generateRow() {
       
-      String[] newRow = new String[boardSize];
-      List<Integer> rowInts = new ArrayList<Integer>(boardSize);
-      
-      Random rand = new Random();
-      final int UPPER_BOUND = 25;
+      String[] newRow = new String[boardCols];
+      Alphabet alphabet = getAlphabet();
       
-      for (int i = 0; i < boardSize; i++) {
-         int newInt = rand.nextInt(UPPER_BOUND);
-         rowInts.add(newInt);
-      }
-      
-      int tracker = 0;
-      for (int integer : rowInts) {
-         String newLetter = ALPHABET[integer];
-         newRow[tracker] = newLetter;
-         tracker++;
+      for (int i = 0; i < boardCols; i++) {
+         newRow[i] = String.valueOf(alphabet.letter(alphabet.draw(rand)));
       }
       
       return newRow;
    }
    
    
-   /** generateBoard() creates a new random board using the generateRow method to make N rows.
+   /** generateBoard() creates a new random board using the generateRow method to make R rows.
     *
-    *  @return currentBoard - a randomly generated unique board of size N x N.
+    *  @return currentBoard - a randomly generated unique board of size R x C.
     */
    public String[] generateBoard() {
       
-      String[] newBoard = new String[boardSize * boardSize];
+      String[] newBoard = new String[boardRows * boardCols];
       String[] emptyBoard = new String[1];
       boolean isValid = false;
       
@@ -150,7 +214,7 @@ class randomBoard {
       while (!isValid) {
   
          int tracker = 0;
-         for (int i = 1; i <= boardSize; i++) {
+         for (int i = 1; i <= boardRows; i++) {
             String[] newRow = generateRow();
             for (int j = 0; j < newRow.length; j++) {
                newBoard[tracker] = newRow[j];
@@ -165,7 +229,8 @@ class randomBoard {
          
          FAILSAFE++;
          
-         if (FAILSAFE >= 5) {
+         // also stop if the thread generating the board has been cancelled (e.g. by the gui)
+         if (FAILSAFE >= 5 || Thread.currentThread().isInterrupted()) {
             break;
          }
       }
@@ -174,7 +239,7 @@ class randomBoard {
    }
    
    
-   /** validateBoard() uses validation logic and WordSearch methods to ensure the randomly
+   /** validateBoard() uses validation logic and the board solver to ensure the randomly
     *  generated board has at least the minimum specified number of possible words on the board.
     *
     *  @param boardToCheck - a string array representing a board
@@ -182,20 +247,21 @@ class randomBoard {
     */
    private boolean validateBoard(String[] boardToCheck) {
       
-      /** Uses an instance of WordSearchGame to validate the board. */
-      WordSearchGame wordSearchObj = WordSearchGameFactory.createGame();
-      wordSearchObj.loadLexicon("words_medium.txt");
-    
-      /** Creates TreeSet for efficient access to all possible words on board. */
-      java.util.SortedSet<String> allWordsOnBoard = new TreeSet<String>();
+      /** Loads the lexicon on first use (only once per generator). */
+      if (lexicon == null) {
+         lexicon = Lexicon.load("words_medium.txt");
+      }
       
-      // find all possible words of length >= 4 on boardToCheck
-      wordSearchObj.setBoard(boardToCheck);
-      allWordsOnBoard = wordSearchObj.getAllScorableWords(4);
-      System.out.println(allWordsOnBoard);
+      // count all possible words of length >= 4 on boardToCheck (only the count is needed, not the words)
+      Board board = new Board(boardToCheck, boardRows, boardCols, lexicon.alphabet());
+      NeighborTable neighbors = NeighborTable.compile(Adjacencies.SQUARE, boardRows, boardCols);
+      BitSet found = WordSearchGameFactory.createSolver(lexicon, board, neighbors).solve(4);
+      int wordsOnBoard = found.cardinality();
       
-      // test if length of allWordsOnBoard is at least minWordsPossible (if yes, return true)
-      if (allWordsOnBoard.size() >= minWordsPossible) {
+      // test if the number of words is at least minWordsPossible (if yes, rate the board and return true)
+      if (wordsOnBoard >= minWordsPossible) {
+         currentDifficulty = new PathCounter(board, neighbors).countAll(OrdinalWordSet.of(lexicon, found))
+            .boardDifficulty();
          return true;
       }
       
@@ -208,16 +274,29 @@ class randomBoard {
     *  @return currentBoard - the current random board in a grid format
     */
    public String getBoard() {
-      String output = "\n\t";
+      // a StringBuilder, since the board may have up to a million cells
+      StringBuilder output = new StringBuilder(currentBoard.length * 3 + boardRows * 3 + 2);
+      output.append("\n\t");
       
       for (int i = 0; i < currentBoard.length; i++) {
-         if (i % boardSize == 0 && i != 0) {
-            output += "\n\n\t";
+         if (i % boardCols == 0 && i != 0) {
+            output.append("\n\n\t");
          } 
-         output += currentBoard[i] + "\t";
+         output.append(currentBoard[i]).append('\t');
       }
       
-      return output;
+      return output.toString();
+   }
+   
+   
+   /** getDifficulty() returns how hard the words on the current board are to find: the average, over
+    *  its words of 4 or more letters, of each word's length divided by 1 + log2 of the number of paths that
+    *  spell it (see PathCounter).
+    *
+    *  @return currentDifficulty - the difficulty of the current board (0 before a board is generated)
+    */
+   public double getDifficulty() {
+      return currentDifficulty;
    }
    
    